@@ -247,6 +247,26 @@ public abstract class ConfigFile implements Map<String,Section> {
 	 */
 	protected abstract <T> T parse(String s, Parser parser, Type type, Type...args) throws ParseException;
 
+	/**
+	 * Returns the value of the specified entry converted to an object of the specified type.
+	 * 
+	 * <p>
+	 * Subclasses can override this method to cache converted values.
+	 * 
+	 * @param sectionName The section name.
+	 * @param sectionKey The section key.
+	 * @param parser
+	 * 	The parser to use for parsing the object.
+	 * 	If <jk>null</jk>, then uses the predefined parser on the config file.
+	 * @param type The data type to create.
+	 * @param args The generic type arguments if the type is a {@link Collection} or {@link Map}
+	 * @return The parsed object, or <jk>null</jk> if the section or key does not exist.
+	 * @throws ParseException
+	 */
+	protected <T> T getTyped(String sectionName, String sectionKey, Parser parser, Type type, Type...args) throws ParseException {
+		return parse(get(sectionName, sectionKey), parser, type, args);
+	}
+
 	/**
 	 * Places a read lock on this config file.
 	 */
@@ -379,7 +399,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObject(String key, Parser parser, Type type, Type...args) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "type");
-		return parse(getString(key), parser, type, args);
+		return getTyped(getSectionName(key), getSectionKey(key), parser, type, args);
 	}
 
 	/**
@@ -437,7 +457,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObject(String key, Parser parser, Class<T> type) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "c");
-		return parse(getString(key), parser, type);
+		return getTyped(getSectionName(key), getSectionKey(key), parser, type);
 	}
 
 	/**
@@ -472,7 +492,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObjectWithDefault(String key, Parser parser, T def, Class<T> type) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "c");
-		T t = parse(getString(key), parser, type);
+		T t = getTyped(getSectionName(key), getSectionKey(key), parser, type);
 		return (t == null ? def : t);
 	}
 
@@ -524,7 +544,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObjectWithDefault(String key, Parser parser, T def, Type type, Type...args) throws ParseException {
 		assertFieldNotNull(key, "key");
 		assertFieldNotNull(type, "type");
-		T t = parse(getString(key), parser, type, args);
+		T t = getTyped(getSectionName(key), getSectionKey(key), parser, type, args);
 		return (t == null ? def : t);
 	}
 
@@ -559,7 +579,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 	public final <T> T getObject(String sectionName, String sectionKey, Parser parser, Class<T> c) throws ParseException {
 		assertFieldNotNull(sectionName, "sectionName");
 		assertFieldNotNull(sectionKey, "sectionKey");
-		return parse(get(sectionName, sectionKey), parser, c);
+		return getTyped(sectionName, sectionKey, parser, c);
 	}
 
 	/**
@@ -611,7 +631,7 @@ public abstract class ConfigFile implements Map<String,Section> {
 			throws ParseException {
 		assertFieldNotNull(sectionName, "sectionName");
 		assertFieldNotNull(sectionKey, "sectionKey");
-		return parse(get(sectionName, sectionKey), parser, type, args);
+		return getTyped(sectionName, sectionKey, parser, type, args);
 	}
 
 	/**
@@ -750,6 +770,26 @@ public abstract class ConfigFile implements Map<String,Section> {
 		return StringUtils.isEmpty(s) ? def : Boolean.parseBoolean(s);
 	}
 
+	/**
+	 * Returns a handle for reading the entry with the specified key as an object of the specified type.
+	 * 
+	 * <p>
+	 * The handle keeps a parsed snapshot of the value that is refreshed whenever the entry is changed through this
+	 * config file or the config file is reloaded, so reading it requires no locking or parsing.
+	 * 
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	ConfigFileHandle&lt;Integer&gt; port = cf.getHandle(<js>"MySection/port"</js>, <jk>int</jk>.<jk>class</jk>);
+	 * 	<jk>int</jk> p = port.get();
+	 * </p>
+	 * 
+	 * @param key The key.  See {@link #getString(String)} for a description of the key.
+	 * @param type The class to convert the value to.
+	 * @return A new handle bound to the specified entry.
+	 * @throws ParseException If the current value could not be parsed.
+	 */
+	public abstract <T> ConfigFileHandle<T> getHandle(String key, Class<T> type) throws ParseException;
+
 	/**
 	 * Adds or replaces an entry with the specified key with a POJO serialized to a string using the registered
 	 * serializer.
@@ -1175,6 +1215,24 @@ public abstract class ConfigFile implements Map<String,Section> {
 	 */
 	public abstract ConfigFile addListener(ConfigFileListener listener);
 
+	/**
+	 * Registers a var resolver whose cached var values should be discarded whenever this config file is loaded or
+	 * modified.
+	 * 
+	 * <p>
+	 * {@link ConfigFileVar} values are only cached by resolvers that have been registered through this method.
+	 * <br>Resolvers are weakly referenced, so registering a resolver doesn't prevent it from being garbage collected.
+	 * 
+	 * @param vr The var resolver to invalidate.
+	 * @return This object (for method chaining).
+	 */
+	public abstract ConfigFile addDependentResolver(VarResolver vr);
+
+	/*
+	 * Returns true if the resolver with the specified context was registered through addDependentResolver().
+	 */
+	abstract boolean isDependentResolver(VarResolverContext ctx);
+
 	/**
 	 * Merges the contents of the specified config file into this config file.
 	 * 
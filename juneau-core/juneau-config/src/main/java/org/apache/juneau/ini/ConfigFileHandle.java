@@ -0,0 +1,147 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.ini;
+
+import static org.apache.juneau.ini.ConfigUtils.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * A live, typed view of a single entry in a config file.
+ * 
+ * <p>
+ * Created through {@link ConfigFile#getHandle(String, Class)}.
+ * The value is parsed once and then re-parsed only when the entry changes (or the config file is reloaded), so
+ * {@link #get()} is a simple volatile read that doesn't lock or parse anything.
+ * 
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	<jc>// Create once...</jc>
+ * 	ConfigFileHandle&lt;Integer&gt; timeout = cf.getHandle(<js>"MySection/timeout"</js>, <jk>int</jk>.<jk>class</jk>);
+ * 
+ * 	<jc>// ...and read as often as needed.</jc>
+ * 	<jk>int</jk> t = timeout.get();
+ * </p>
+ * 
+ * <p>
+ * Handles should be created once and reused.
+ * <br>The config file only keeps weak references to its handles, so a handle stops being refreshed and is discarded
+ * once it's no longer referenced.
+ * <br>The same value object is returned to all callers, so mutable values such as maps and beans must be treated as
+ * read-only.
+ * 
+ * @param <T> The value type.
+ */
+public final class ConfigFileHandle<T> {
+
+	private final ConfigFile cf;
+	private final String sectionName, sectionKey, fullKey;
+	private final Class<T> type;
+	private final ClassMeta<T> cm;
+	private final boolean refreshOnAnyChange;
+	private volatile Object value;
+
+	// Refreshes can run concurrently on different writer threads.
+	// Each refresh gets a sequence number, and a value is only published if no later refresh has published one yet.
+	private long refreshCount, publishedRefresh;  // Guarded by this.
+
+	ConfigFileHandle(ConfigFile cf, String key, Class<T> type, boolean refreshOnAnyChange) throws ParseException {
+		this.cf = cf;
+		this.sectionName = getSectionName(key);
+		this.sectionKey = getSectionKey(key);
+		this.fullKey = getFullKey(sectionName.isEmpty() ? "default" : sectionName, sectionKey);
+		this.type = type;
+		this.cm = cf.getBeanSession().getClassMeta(type);
+		this.refreshOnAnyChange = refreshOnAnyChange;
+		this.value = load();
+	}
+
+	/**
+	 * Returns the current value of the entry.
+	 * 
+	 * @return 
+	 * 	The current value of the entry.
+	 * 	<br>If the entry doesn't exist, this is <jk>null</jk>, or the default value for primitive types.
+	 * @throws RuntimeException
+	 * 	If the latest value of the entry could not be converted to the handle type.
+	 * 	<br>Parse errors are wrapped in a {@link BeanRuntimeException}.
+	 */
+	@SuppressWarnings("unchecked")
+	public T get() {
+		Object v = value;
+		if (v instanceof Failure) {
+			Exception e = ((Failure)v).e;
+			if (e instanceof RuntimeException)
+				throw (RuntimeException)e;
+			throw new BeanRuntimeException(e);
+		}
+		return (T)v;
+	}
+
+	/**
+	 * Returns the key of the entry this handle is bound to.
+	 * 
+	 * @return The full key (e.g. <js>"MySection/myKey"</js>).
+	 */
+	public String getKey() {
+		return fullKey;
+	}
+
+	/*
+	 * Re-reads the value if the specified changes affect it.
+	 * A null set means the entire config file has changed.
+	 */
+	void refresh(Set<String> changes) {
+		if (changes != null && ! refreshOnAnyChange && ! changes.contains(fullKey))
+			return;
+		long n;
+		synchronized (this) {
+			n = ++refreshCount;
+		}
+		Object v;
+		try {
+			v = load();
+		} catch (Exception e) {
+			v = new Failure(e);
+		}
+		synchronized (this) {
+			if (n > publishedRefresh) {
+				publishedRefresh = n;
+				value = v;
+			}
+		}
+	}
+
+	private Object load() throws ParseException {
+		T t = cf.getObject(sectionName, sectionKey, type);
+		if (t == null && cm.isPrimitive())
+			return cm.getPrimitiveDefault();
+		return t;
+	}
+
+	private static final class Failure {
+		final Exception e;
+
+		Failure(Exception e) {
+			this.e = e;
+		}
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return fullKey + '=' + value;
+	}
+}
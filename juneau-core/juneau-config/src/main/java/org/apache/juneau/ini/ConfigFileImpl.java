@@ -17,9 +17,12 @@ import static org.apache.juneau.internal.ThrowableUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
+import java.lang.ref.*;
 import java.lang.reflect.*;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.concurrent.locks.*;
 
 import org.apache.juneau.*;
@@ -42,8 +45,20 @@ public final class ConfigFileImpl extends ConfigFile {
 	private final BeanSession pBeanSession;
 	private final Charset charset;
 	final List<ConfigFileListener> listeners = Collections.synchronizedList(new ArrayList<ConfigFileListener>());
+	private volatile VarResolverInvalidator invalidator;
 
-	Map<String,Section> sections;  // The actual data.
+	// Converted values keyed by full key and type, and the handles bound to entries.
+	// Both are updated by signalChanges() and load().
+	// Handles are weakly referenced so that they can be discarded by their users.
+	private final ConcurrentHashMap<String,ConcurrentHashMap<ClassMeta<?>,Object>> typedValues = new ConcurrentHashMap<>();
+	private final AtomicLong typedValuesVersion = new AtomicLong();
+	private final List<WeakReference<ConfigFileHandle<?>>> handles = new CopyOnWriteArrayList<>();
+	private static final Object NULL = new Object();
+
+	// The actual data.
+	// Published maps are never modified, so readers use them without locking.
+	// Writers copy the current map, modify the copy, and publish it while holding the write lock.
+	volatile Map<String,Section> sections = Collections.emptyMap();
 
 	private static final String DEFAULT = "default";
 
@@ -92,11 +107,9 @@ public final class ConfigFileImpl extends ConfigFile {
 		this.charset = charset == null ? Charset.defaultCharset() : charset;
 		load();
 		this.readOnly = readOnly;
-		if (readOnly) {
-			this.sections = Collections.unmodifiableMap(this.sections);
+		if (readOnly)
 			for (Section s : sections.values())
 				s.setReadOnly();
-		}
 		this.pBeanSession = this.parser.createSession();
 	}
 
@@ -149,19 +162,24 @@ public final class ConfigFileImpl extends ConfigFile {
 		return this;
 	}
 
+	/*
+	 * The new contents are parsed into a separate map and then published all at once, so readers never see a partially
+	 * loaded file.
+	 * Listeners are notified of the keys whose values differ from the previous contents.
+	 */
 	@Override /* ConfigFile */
 	public ConfigFileImpl load(Reader r) throws IOException {
 		assertFieldNotNull(r, "r");
+		Set<String> changes = createChanges();
 		writeLock();
 		try {
-			this.sections = Collections.synchronizedMap(new LinkedHashMap<String,Section>());
+			Map<String,Section> m = new LinkedHashMap<>();
 			try (BufferedReader in = new BufferedReader(r)) {
 				writeLock();
 				hasBeenModified = false;
 				try {
-					sections.clear();
 					String line = null;
-					Section section = getSection(null, true);
+					Section section = newSection(m, DEFAULT);
 					ArrayList<String> lines = new ArrayList<>();
 					boolean canAppend = false;
 					while ((line = in.readLine()) != null) {
@@ -170,7 +188,11 @@ public final class ConfigFileImpl extends ConfigFile {
 							lines.clear();
 							canAppend = false;
 							String sn = replaceUnicodeSequences(line.substring(line.indexOf('[')+1, line.indexOf(']')).trim());
-							section = getSection(sn, true).addHeaderComments(section.removeTrailingComments());
+							Section prev = section;
+							section = m.get(sn);
+							if (section == null)
+								section = newSection(m, sn);
+							section.addHeaderComments(prev.removeTrailingComments());
 						} else {
 							char c = line.isEmpty() ? 0 : line.charAt(0);
 							if ((c == ' ' || c == '\t') && canAppend && ! (isComment(line) || isAssignment(line)))
@@ -186,6 +208,15 @@ public final class ConfigFileImpl extends ConfigFile {
 					}
 					section.addLines(null, lines.toArray(new String[lines.size()]));
 					in.close();
+
+					Map<String,Section> old = sections;
+					sections = Collections.unmodifiableMap(m);
+					for (Map.Entry<String,Section> e : old.entrySet())
+						findChanges(changes, e.getValue(), m.get(e.getKey()));
+					for (Map.Entry<String,Section> e : m.entrySet())
+						if (! old.containsKey(e.getKey()))
+							findChanges(changes, null, e.getValue());
+
 					if (hasBeenModified)  // Set when values need to be encoded.
 						save();
 					if (file != null)
@@ -197,11 +228,21 @@ public final class ConfigFileImpl extends ConfigFile {
 		} finally {
 			writeUnlock();
 		}
+		// Everything was re-read, so refresh all the handles once instead of again for the changed keys.
+		invalidate(null);
 		for (ConfigFileListener l : listeners)
 			l.onLoad(this);
+		if (! changes.isEmpty())
+			notifyListeners(changes);
 		return this;
 	}
 
+	private Section newSection(Map<String,Section> m, String name) {
+		Section s = new Section().setParent(this).setName(name);
+		m.put(name, s);
+		return s;
+	}
+
 	@Override /* ConfigFile */
 	protected String serialize(Object value, Serializer serializer, boolean newline) throws SerializeException {
 		if (value == null)
@@ -245,6 +286,87 @@ public final class ConfigFileImpl extends ConfigFile {
 		return parser.parse(s, type, args);
 	}
 
+	/*
+	 * Values of simple immutable types parsed with the default parser are cached until the entry changes.
+	 */
+	@Override /* ConfigFile */
+	@SuppressWarnings("unchecked")
+	protected <T> T getTyped(String sectionName, String sectionKey, Parser parser, Type type, Type...args) throws ParseException {
+		if (parser != null || ! (type instanceof Class))
+			return super.getTyped(sectionName, sectionKey, parser, type, args);
+
+		ClassMeta<?> cm = pBeanSession.getClassMeta((Class<?>)type);
+		if (! (cm.isPrimitive() || cm.isString() || cm.isNumber() || cm.isBoolean() || cm.isChar() || cm.isEnum()))
+			return super.getTyped(sectionName, sectionKey, parser, type, args);
+
+		String fullKey = getFullKey(StringUtils.isEmpty(sectionName) ? DEFAULT : sectionName, sectionKey);
+		ConcurrentHashMap<ClassMeta<?>,Object> m = typedValues.get(fullKey);
+		if (m != null) {
+			Object o = m.get(cm);
+			if (o != null)
+				return (T)(o == NULL ? null : o);
+		}
+
+		long version = typedValuesVersion.get();
+		T t = super.getTyped(sectionName, sectionKey, parser, type, args);
+
+		if (m == null) {
+			m = new ConcurrentHashMap<>();
+			ConcurrentHashMap<ClassMeta<?>,Object> m2 = typedValues.putIfAbsent(fullKey, m);
+			if (m2 != null)
+				m = m2;
+		}
+		Object o = (t == null ? NULL : t);
+		m.put(cm, o);
+
+		// The entry may have changed while we were parsing it.
+		if (typedValuesVersion.get() != version)
+			m.remove(cm, o);
+		return t;
+	}
+
+	/*
+	 * Discards the cached values of the specified keys and refreshes the handles bound to them.
+	 * A null set means all entries may have changed.
+	 */
+	private void invalidate(Set<String> changes) {
+		typedValuesVersion.incrementAndGet();
+		if (changes == null)
+			typedValues.clear();
+		else
+			for (String k : changes)
+				typedValues.remove(k);
+		List<WeakReference<ConfigFileHandle<?>>> released = null;
+		for (WeakReference<ConfigFileHandle<?>> r : handles) {
+			ConfigFileHandle<?> h = r.get();
+			if (h != null) {
+				h.refresh(changes);
+			} else {
+				if (released == null)
+					released = new ArrayList<>();
+				released.add(r);
+			}
+		}
+		if (released != null)
+			handles.removeAll(released);
+	}
+
+	<T> ConfigFileHandle<T> addHandle(ConfigFileHandle<T> h) {
+		handles.add(new WeakReference<ConfigFileHandle<?>>(h));
+		return h;
+	}
+
+	/*
+	 * Returns the number of handles still bound to this config file.
+	 */
+	int getHandleCount() {
+		int i = 0;
+		for (WeakReference<ConfigFileHandle<?>> r : handles)
+			if (r.get() != null)
+				i++;
+		return i;
+	}
+
 	private static boolean isSimpleType(Type t) {
 		if (! (t instanceof Class))
 			return false;
@@ -268,12 +390,7 @@ public final class ConfigFileImpl extends ConfigFile {
 	public Section get(Object key) {
 		if (StringUtils.isEmpty(key))
 			key = DEFAULT;
-		readLock();
-		try {
-			return sections.get(key);
-		} finally {
-			readUnlock();
-		}
+		return sections.get(key);
 	}
 
 	@Override /* Map */
@@ -289,7 +406,9 @@ public final class ConfigFileImpl extends ConfigFile {
 			key = DEFAULT;
 		writeLock();
 		try {
-			Section prev = sections.put(key, section);
+			Map<String,Section> m = new LinkedHashMap<>(sections);
+			Section prev = m.put(key, section);
+			sections = Collections.unmodifiableMap(m);
 			findChanges(changes, prev, section);
 			return prev;
 		} finally {
@@ -317,7 +436,7 @@ public final class ConfigFileImpl extends ConfigFile {
 		try {
 			for (Section s : values())
 				findChanges(changes, s, null);
-			sections.clear();
+			sections = Collections.emptyMap();
 		} finally {
 			writeUnlock();
 		}
@@ -360,10 +479,7 @@ public final class ConfigFileImpl extends ConfigFile {
 
 					@Override /* Iterator */
 					public void remove() {
-						Set<String> changes = createChanges();
-						findChanges(changes, i2.getValue(), null);
-						i.remove();
-						signalChanges(changes);
+						ConfigFileImpl.this.remove(i2.getKey());
 					}
 				};
 			}
@@ -404,10 +520,7 @@ public final class ConfigFileImpl extends ConfigFile {
 
 					@Override /* Iterator */
 					public void remove() {
-						Set<String> changes = createChanges();
-						findChanges(changes, sections.get(i2), null);
-						i.remove();
-						signalChanges(changes);
+						ConfigFileImpl.this.remove(i2);
 					}
 				};
 			}
@@ -430,8 +543,8 @@ public final class ConfigFileImpl extends ConfigFile {
 			@Override /* Collection */
 			public Iterator<Section> iterator() {
 				return new Iterator<Section>() {
-					Iterator<Section> i = sections.values().iterator();
-					Section i2;
+					Iterator<Map.Entry<String,Section>> i = sections.entrySet().iterator();
+					Map.Entry<String,Section> i2;
 
 					@Override /* Iterator */
 					public boolean hasNext() {
@@ -441,15 +554,12 @@ public final class ConfigFileImpl extends ConfigFile {
 					@Override /* Iterator */
 					public Section next() {
 						i2 = i.next();
-						return i2;
+						return i2.getValue();
 					}
 
 					@Override /* Iterator */
 					public void remove() {
-						Set<String> changes = createChanges();
-						findChanges(changes, i2, null);
-						i.remove();
-						signalChanges(changes);
+						ConfigFileImpl.this.remove(i2.getKey());
 					}
 				};
 			}
@@ -471,7 +581,11 @@ public final class ConfigFileImpl extends ConfigFile {
 	private Section remove(Object key, Set<String> changes) {
 		writeLock();
 		try {
-			Section prev = sections.remove(key);
+			if (! sections.containsKey(key))
+				return null;
+			Map<String,Section> m = new LinkedHashMap<>(sections);
+			Section prev = m.remove(key);
+			sections = Collections.unmodifiableMap(m);
 			findChanges(changes, prev, null);
 			return prev;
 		} finally {
@@ -567,14 +681,24 @@ public final class ConfigFileImpl extends ConfigFile {
 		if (StringUtils.isEmpty(name))
 			name = DEFAULT;
 		Section s = sections.get(name);
-		if (s != null)
+		if (s != null || ! create)
 			return s;
-		if (create) {
-			s = new Section().setParent(this).setName(name);
-			sections.put(name, s);
+		if (readOnly)
+			throw new UnsupportedOperationException("Cannot modify read-only ConfigFile.");
+		// Adding an empty section isn't a modification, so don't use writeLock() here.
+		lock.writeLock().lock();
+		try {
+			s = sections.get(name);
+			if (s == null) {
+				s = new Section().setParent(this).setName(name);
+				Map<String,Section> m = new LinkedHashMap<>(sections);
+				m.put(name, s);
+				sections = Collections.unmodifiableMap(m);
+			}
 			return s;
+		} finally {
+			lock.writeLock().unlock();
 		}
-		return null;
 	}
 
 	@Override /* ConfigFile */
@@ -602,18 +726,18 @@ public final class ConfigFileImpl extends ConfigFile {
 	@Override /* ConfigFile */
 	public ConfigFileImpl removeSection(String name) {
 		Set<String> changes = createChanges();
-		writeLock();
-		try {
-			Section prev = sections.remove(name);
-			if (changes != null && prev != null)
-				findChanges(changes, prev, null);
-		} finally {
-			writeUnlock();
-		}
+		remove(name, changes);
 		signalChanges(changes);
 		return this;
 	}
 
+	@Override /* ConfigFile */
+	public <T> ConfigFileHandle<T> getHandle(String key, Class<T> type) throws ParseException {
+		assertFieldNotNull(key, "key");
+		assertFieldNotNull(type, "type");
+		return addHandle(new ConfigFileHandle<>(this, key, type, false));
+	}
+
 	@Override /* ConfigFile */
 	public Set<String> getSectionKeys(String sectionName) {
 		Section s = get(sectionName);
@@ -653,20 +777,19 @@ public final class ConfigFileImpl extends ConfigFile {
 
 	@Override /* ConfigFile */
 	public ConfigFileImpl serializeTo(Writer out, ConfigFileFormat format) throws IOException {
-		readLock();
-		try {
-			PrintWriter pw = (out instanceof PrintWriter ? (PrintWriter)out : new PrintWriter(out));
-			for (Section s : sections.values())
-				s.writeTo(pw, format);
-			pw.flush();
-			pw.close();
-			out.close();
-		} finally {
-			readUnlock();
-		}
+		PrintWriter pw = (out instanceof PrintWriter ? (PrintWriter)out : new PrintWriter(out));
+		for (Section s : sections.values())
+			s.writeTo(pw, format);
+		pw.flush();
+		pw.close();
+		out.close();
 		return this;
 	}
 
+	File getFile() {
+		return file;
+	}
+
 	void setHasBeenModified() {
 		hasBeenModified = true;
 	}
@@ -694,6 +817,26 @@ public final class ConfigFileImpl extends ConfigFile {
 		}
 	}
 
+	@Override /* ConfigFile */
+	public ConfigFile addDependentResolver(VarResolver vr) {
+		assertFieldNotNull(vr, "vr");
+		// Allowed on read-only config files since it doesn't modify the contents.
+		synchronized (listeners) {
+			if (invalidator == null) {
+				invalidator = new VarResolverInvalidator();
+				listeners.add(invalidator);
+			}
+			invalidator.add(vr);
+		}
+		return this;
+	}
+
+	@Override /* ConfigFile */
+	boolean isDependentResolver(VarResolverContext ctx) {
+		VarResolverInvalidator i = invalidator;
+		return i != null && i.contains(ctx);
+	}
+
 	List<ConfigFileListener> getListeners() {
 		return listeners;
 	}
@@ -804,12 +947,19 @@ public final class ConfigFileImpl extends ConfigFile {
 	}
 
 	final Set<String> createChanges() {
-		return (listeners.size() > 0 ? new LinkedHashSet<String>() : null);
+		// Changes are always tracked so that cached values can be invalidated.
+		return new LinkedHashSet<>();
 	}
 
 	final void signalChanges(Set<String> changes) {
-		if (changes != null && ! changes.isEmpty())
-			for (ConfigFileListener l : listeners)
-				l.onChange(this, changes);
+		if (changes != null && ! changes.isEmpty()) {
+			invalidate(changes);
+			notifyListeners(changes);
+		}
+	}
+
+	private void notifyListeners(Set<String> changes) {
+		for (ConfigFileListener l : listeners)
+			l.onChange(this, changes);
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
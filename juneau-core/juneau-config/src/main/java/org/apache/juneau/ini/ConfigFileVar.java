@@ -39,6 +39,11 @@ import org.apache.juneau.svl.*;
  * </p>
  * 
  * <p>
+ * If the resolver has been registered through {@link ConfigFile#addDependentResolver(VarResolver)}, values are cached
+ * per config file until the config file is loaded or modified.
+ * <br>Otherwise, values are read from the config file every time.
+ * 
+ * <p>
  * Since this is a {@link SimpleVar}, any variables contained in the result will be recursively resolved.
  * Likewise, if the arguments contain any variables, those will be resolved before they are passed to this var.
  * 
@@ -66,4 +71,16 @@ public class ConfigFileVar extends DefaultingVar {
 	public String resolve(VarResolverSession session, String key) {
 		return session.getSessionObject(ConfigFile.class, SESSION_config).getString(key);
 	}
-}
+
+	@Override /* Var */
+	protected VarCacheMode getCacheMode(VarResolverSession session) {
+		// Only resolvers that are invalidated when the config file changes can cache values.
+		ConfigFile cf = session.getSessionObject(ConfigFile.class, SESSION_config);
+		return cf.isDependentResolver(session.getContext()) ? VarCacheMode.UNTIL_INVALIDATED : VarCacheMode.NEVER;
+	}
+
+	@Override /* Var */
+	protected Object getCacheScope(VarResolverSession session) {
+		return session.getSessionObject(ConfigFile.class, SESSION_config);
+	}
+}
\ No newline at end of file
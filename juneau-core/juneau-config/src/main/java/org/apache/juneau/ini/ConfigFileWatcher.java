@@ -0,0 +1,188 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.ini;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+import static org.apache.juneau.internal.ThrowableUtils.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+/**
+ * Reloads config files when they're modified on the file system.
+ * 
+ * <p>
+ * Uses a {@link WatchService} on the directories containing the config files, so modifications are picked up as soon
+ * as they're written instead of having to poll the files or call {@link ConfigFile#loadIfModified()}.
+ * 
+ * <p>
+ * A file is reloaded once no further modifications have been seen for the configured delay, so that editors that
+ * write a file in several steps only cause a single reload.
+ * <br>Reloading is done through {@link ConfigFile#load()}, which replaces the contents of the config file in a single
+ * step and notifies listeners of the changed keys through {@link ConfigFileListener#onChange(ConfigFile, Set)}.
+ * 
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	ConfigFileWatcher w = <jk>new</jk> ConfigFileWatcher(500).watch(cf);
+ * 	...
+ * 	w.close();
+ * </p>
+ */
+public class ConfigFileWatcher implements Closeable {
+
+	private static final Logger logger = Logger.getLogger(ConfigFileWatcher.class.getName());
+
+	private final long delay;
+	private final WatchService watchService;
+	private final Set<Path> dirs = new HashSet<>();
+	private final Map<Path,List<ConfigFileImpl>> files = new ConcurrentHashMap<>();
+	private final Thread thread;
+	private volatile boolean closed;
+
+	/**
+	 * Constructor.
+	 * 
+	 * <p>
+	 * Starts a daemon thread that waits for file system events until {@link #close()} is called.
+	 * 
+	 * @param delay How long to wait (in milliseconds) for further modifications before reloading a file.
+	 * @throws IOException If the watch service could not be created.
+	 */
+	public ConfigFileWatcher(long delay) throws IOException {
+		this.delay = delay;
+		this.watchService = FileSystems.getDefault().newWatchService();
+		this.thread = new Thread("ConfigFileWatcher") {
+			@Override /* Thread */
+			public void run() {
+				ConfigFileWatcher.this.run();
+			}
+		};
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Starts watching the file backing the specified config file.
+	 * 
+	 * <p>
+	 * Config files that aren't backed by a file are ignored.
+	 * 
+	 * @param cf The config file to reload when its file is modified.
+	 * @return This object (for method chaining).
+	 * @throws IOException If the directory containing the file could not be watched.
+	 */
+	public synchronized ConfigFileWatcher watch(ConfigFile cf) throws IOException {
+		assertFieldNotNull(cf, "cf");
+		ConfigFileImpl cfi = (cf instanceof ConfigFileWrapped ? ((ConfigFileWrapped)cf).getConfigFileImpl() : (ConfigFileImpl)cf);
+		File f = cfi.getFile();
+		if (f == null)
+			return this;
+		Path p = f.getAbsoluteFile().toPath().normalize();
+		Path dir = p.getParent();
+		if (! dirs.contains(dir)) {
+			dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+			dirs.add(dir);
+		}
+		List<ConfigFileImpl> l = files.get(p);
+		if (l == null) {
+			l = new CopyOnWriteArrayList<>();
+			files.put(p, l);
+		}
+		l.add(cfi);
+		return this;
+	}
+
+	/**
+	 * Stops watching all files and stops the watcher thread.
+	 */
+	@Override /* Closeable */
+	public void close() {
+		closed = true;
+		try {
+			watchService.close();
+		} catch (IOException e) {
+			// Nothing we can do.
+		}
+	}
+
+	/**
+	 * Called when a config file could not be reloaded.
+	 * 
+	 * <p>
+	 * Subclasses can override this method to handle the error differently.
+	 * <br>The default implementation logs the error as a warning to the logger for this class.
+	 * 
+	 * @param cf The config file being reloaded.
+	 * @param e The error that occurred.
+	 */
+	protected void onError(ConfigFile cf, Exception e) {
+		File f = cf instanceof ConfigFileImpl ? ((ConfigFileImpl)cf).getFile() : null;
+		logger.log(Level.WARNING, "Could not reload config file '" + f + "'.", e);
+	}
+
+	private void run() {
+		// Files waiting to be reloaded, and the time at which to reload them.
+		Map<Path,Long> pending = new LinkedHashMap<>();
+		while (! closed) {
+			try {
+				WatchKey key;
+				if (pending.isEmpty())
+					key = watchService.take();
+				else
+					key = watchService.poll(Math.max(1, Collections.min(pending.values()) - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+
+				if (key != null) {
+					Path dir = (Path)key.watchable();
+					long time = System.currentTimeMillis() + delay;
+					for (WatchEvent<?> e : key.pollEvents()) {
+						if (e.kind() == OVERFLOW) {
+							// Events were lost, so reload everything in this directory.
+							for (Path p : files.keySet())
+								if (p.getParent().equals(dir))
+									pending.put(p, time);
+						} else {
+							Path p = dir.resolve((Path)e.context());
+							if (files.containsKey(p))
+								pending.put(p, time);
+						}
+					}
+					key.reset();
+				}
+
+				long now = System.currentTimeMillis();
+				for (Iterator<Map.Entry<Path,Long>> i = pending.entrySet().iterator(); i.hasNext();) {
+					Map.Entry<Path,Long> e = i.next();
+					if (e.getValue() <= now) {
+						i.remove();
+						reload(e.getKey());
+					}
+				}
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				return;
+			}
+		}
+	}
+
+	private void reload(Path p) {
+		for (ConfigFileImpl cf : files.get(p)) {
+			try {
+				cf.load();
+			} catch (Exception e) {
+				onError(cf, e);
+			}
+		}
+	}
+}
@@ -41,11 +41,12 @@ public final class ConfigFileWrapped extends ConfigFile {
 
 	ConfigFileWrapped(ConfigFileImpl cf, VarResolver vr) {
 		this.cf = cf;
-		this.vs = vr.builder()
+		VarResolver vr2 = vr.builder()
 			.vars(ConfigFileVar.class)
 			.contextObject(ConfigFileVar.SESSION_config, cf)
-			.build()
-			.createSession();
+			.build();
+		cf.addDependentResolver(vr2);
+		this.vs = vr2.createSession();
 	}
 
 	ConfigFileWrapped(ConfigFileImpl cf, VarResolverSession vs) {
@@ -53,6 +54,10 @@ public final class ConfigFileWrapped extends ConfigFile {
 		this.vs = vs;
 	}
 
+	ConfigFileImpl getConfigFileImpl() {
+		return cf;
+	}
+
 	@Override /* ConfigFile */
 	public void clear() {
 		cf.clear();
@@ -223,6 +228,17 @@ public final class ConfigFileWrapped extends ConfigFile {
 		return this;
 	}
 
+	@Override /* ConfigFile */
+	public ConfigFile addDependentResolver(VarResolver vr) {
+		cf.addDependentResolver(vr);
+		return this;
+	}
+
+	@Override /* ConfigFile */
+	boolean isDependentResolver(VarResolverContext ctx) {
+		return cf.isDependentResolver(ctx);
+	}
+
 	@Override /* ConfigFile */
 	public Writable toWritable() {
 		return cf.toWritable();
@@ -244,6 +260,23 @@ public final class ConfigFileWrapped extends ConfigFile {
 		return vs.resolve(cf.get(sectionName, sectionKey));
 	}
 
+	@Override /* ConfigFile */
+	protected <T> T getTyped(String sectionName, String sectionKey, Parser parser, Type type, Type...args) throws ParseException {
+		String s = cf.get(sectionName, sectionKey);
+		// Values without variables resolve to themselves, so they can use the cache on the inner config file.
+		if (s == null || s.indexOf('$') == -1)
+			return cf.getTyped(sectionName, sectionKey, parser, type, args);
+		return parse(vs.resolve(s), parser, type, args);
+	}
+
+	@Override /* ConfigFile */
+	public <T> ConfigFileHandle<T> getHandle(String key, Class<T> type) throws ParseException {
+		assertFieldNotNull(key, "key");
+		assertFieldNotNull(type, "type");
+		// Resolved values can depend on other entries, so refresh on any change.
+		return cf.addHandle(new ConfigFileHandle<>(this, key, type, true));
+	}
+
 	@Override /* ConfigFile */
 	public String put(String sectionName, String sectionKey, String value, boolean encoded) {
 		return cf.put(sectionName, sectionKey, value, encoded);
@@ -30,20 +30,19 @@ public final class Section implements Map<String,String> {
 	private ConfigFileImpl configFile;
 	String name;   // The config section name, or "default" if the default section.  Never null.
 
-	// The data structures that make up this object.
-	// These must be kept synchronized.
-	private LinkedList<String> lines = new LinkedList<>();
-	private List<String> headerComments = new LinkedList<>();
-	Map<String,String> entries;
+	// The contents of this section.
+	// Published snapshots are never modified, so readers use them without locking.
+	// Writers copy the current snapshot, modify the copy, and publish it while holding the write lock.
+	private volatile Data data;
 
-	private ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Lock lock = new ReentrantLock();
 	private boolean readOnly;
 
 	/**
 	 * Constructor.
 	 */
 	public Section() {
-		this.entries = new LinkedHashMap<>();
+		this.data = new Data(new LinkedList<String>(), new LinkedList<String>(), new LinkedHashMap<String,String>());
 	}
 
 	/**
@@ -52,13 +51,12 @@ public final class Section implements Map<String,String> {
 	 * @param contents Predefined contents to copy into this section.
 	 */
 	public Section(Map<String,String> contents) {
-		this.entries = new LinkedHashMap<>(contents);
+		this.data = new Data(new LinkedList<String>(), new LinkedList<String>(), new LinkedHashMap<>(contents));
 	}
 
 	Section setReadOnly() {
 		// This method is only called once from ConfigFileImpl constructor.
 		this.readOnly = true;
-		this.entries = Collections.unmodifiableMap(entries);
 		return this;
 	}
 
@@ -97,11 +95,9 @@ public final class Section implements Map<String,String> {
 		writeLock();
 		try {
 			if (changes != null)
-				for (String k : keySet())
+				for (String k : data.entries.keySet())
 					changes.add(getFullKey(name, k));
-			entries.clear();
-			lines.clear();
-			headerComments.clear();
+			data = new Data(new LinkedList<String>(), new LinkedList<String>(), new LinkedHashMap<String,String>());
 		} finally {
 			writeUnlock();
 		}
@@ -110,12 +106,12 @@ public final class Section implements Map<String,String> {
 
 	@Override /* Map */
 	public boolean containsKey(Object key) {
-		return entries.containsKey(key);
+		return data.entries.containsKey(key);
 	}
 
 	@Override /* Map */
 	public boolean containsValue(Object value) {
-		return entries.containsValue(value);
+		return data.entries.containsValue(value);
 	}
 
 	@Override /* Map */
@@ -126,7 +122,7 @@ public final class Section implements Map<String,String> {
 			@Override /* Set */
 			public Iterator<Map.Entry<String,String>> iterator() {
 				return new Iterator<Map.Entry<String,String>>() {
-					Iterator<Map.Entry<String,String>> i = entries.entrySet().iterator();
+					Iterator<Map.Entry<String,String>> i = data.entriesView.entrySet().iterator();
 					Map.Entry<String,String> i2;
 
 					@Override /* Iterator */
@@ -142,37 +138,26 @@ public final class Section implements Map<String,String> {
 
 					@Override /* Iterator */
 					public void remove() {
-						Set<String> changes = createChanges();
-						String key = i2.getKey(), val = i2.getValue();
-						addChange(changes, key, val, null);
-						writeLock();
-						try {
-							i.remove();
-							removeLine(key);
-						} finally {
-							writeUnlock();
-						}
-						signalChanges(changes);
+						Section.this.remove(i2.getKey());
 					}
 				};
 			}
 
 			@Override /* Set */
 			public int size() {
-				return entries.size();
+				return data.entries.size();
 			}
 		};
 	}
 
 	@Override /* Map */
 	public String get(Object key) {
-		String s = entries.get(key);
-		return s;
+		return data.entries.get(key);
 	}
 
 	@Override /* Map */
 	public boolean isEmpty() {
-		return entries.isEmpty();
+		return data.entries.isEmpty();
 	}
 
 	@Override /* Map */
@@ -183,7 +168,7 @@ public final class Section implements Map<String,String> {
 			@Override /* Set */
 			public Iterator<String> iterator() {
 				return new Iterator<String>() {
-					Iterator<String> i = entries.keySet().iterator();
+					Iterator<String> i = data.entriesView.keySet().iterator();
 					String i2;
 
 					@Override /* Iterator */
@@ -199,25 +184,14 @@ public final class Section implements Map<String,String> {
 
 					@Override /* Iterator */
 					public void remove() {
-						Set<String> changes = createChanges();
-						String key = i2;
-						String val = entries.get(key);
-						addChange(changes, key, val, null);
-						writeLock();
-						try {
-							i.remove();
-							removeLine(key);
-						} finally {
-							writeUnlock();
-						}
-						signalChanges(changes);
+						Section.this.remove(i2);
 					}
 				};
 			}
 
 			@Override /* Set */
 			public int size() {
-				return entries.size();
+				return data.entries.size();
 			}
 		};
 	}
@@ -245,8 +219,9 @@ public final class Section implements Map<String,String> {
 	String put(String key, String value, boolean encoded, Set<String> changes) {
 		writeLock();
 		try {
-			addLine(key, encoded);
-			String prev = entries.put(key, value);
+			Data d = data.copy();
+			String prev = d.put(key, value, encoded);
+			data = d;
 			addChange(changes, key, prev, value);
 			return prev;
 		} finally {
@@ -257,8 +232,15 @@ public final class Section implements Map<String,String> {
 	@Override /* Map */
 	public void putAll(Map<? extends String,? extends String> map) {
 		Set<String> changes = createChanges();
-		for (Map.Entry<? extends String,? extends String> e : map.entrySet())
-			put(e.getKey(), e.getValue(), false, changes);
+		writeLock();
+		try {
+			Data d = data.copy();
+			for (Map.Entry<? extends String,? extends String> e : map.entrySet())
+				addChange(changes, e.getKey(), d.put(e.getKey(), e.getValue(), false), e.getValue());
+			data = d;
+		} finally {
+			writeUnlock();
+		}
 		signalChanges(changes);
 	}
 
@@ -273,35 +255,25 @@ public final class Section implements Map<String,String> {
 	String remove(Object key, Set<String> changes) {
 		writeLock();
 		try {
-			String prev = entries.remove(key);
+			Data d = data.copy();
+			String prev = d.entries.remove(key);
 			addChange(changes, key.toString(), prev, null);
-			removeLine(key.toString());
+			d.removeLine(key.toString());
+			data = d;
 			return prev;
 		} finally {
 			writeUnlock();
 		}
 	}
 
-	void removeLine(String key) {
-		for (Iterator<String> i = lines.iterator(); i.hasNext();) {
-			String k = i.next();
-			if (k.startsWith("*") || k.startsWith(">")) {
-				if (k.substring(1).equals(key)) {
-					i.remove();
-					break;
-				}
-			}
-		}
-	}
-
 	@Override /* Map */
 	public int size() {
-		return entries.size();
+		return data.entries.size();
 	}
 
 	@Override /* Map */
 	public Collection<String> values() {
-		return Collections.unmodifiableCollection(entries.values());
+		return data.entriesView.values();
 	}
 
 
@@ -316,16 +288,11 @@ public final class Section implements Map<String,String> {
 	 * @return <jk>true</jk> if the specified entry is encoded.
 	 */
 	public boolean isEncoded(String key) {
-		readLock();
-		try {
-			for (String s : lines)
-				if (s.length() > 1)
-					if (s.substring(1).equals(key))
-						return s.charAt(0) == '*';
-			return false;
-		} finally {
-			readUnlock();
-		}
+		for (String s : data.lines)
+			if (s.length() > 1)
+				if (s.substring(1).equals(key))
+					return s.charAt(0) == '*';
+		return false;
 	}
 
 	/**
@@ -338,13 +305,15 @@ public final class Section implements Map<String,String> {
 	public Section addHeaderComments(List<String> comments) {
 		writeLock();
 		try {
+			Data d = data.copy();
 			for (String c : comments) {
 				if (c == null)
 					c = "";
 				if (! c.startsWith("#"))
 					c = "#" + c;
-				this.headerComments.add(c);
+				d.headerComments.add(c);
 			}
+			data = d;
 			return this;
 		} finally {
 			writeUnlock();
@@ -357,7 +326,9 @@ public final class Section implements Map<String,String> {
 	public void clearHeaderComments() {
 		writeLock();
 		try {
-			this.headerComments.clear();
+			Data d = data.copy();
+			d.headerComments.clear();
+			data = d;
 		} finally {
 			writeUnlock();
 		}
@@ -370,91 +341,89 @@ public final class Section implements Map<String,String> {
 	 * @param format The format (e.g. INI, BATCH, SHELL).
 	 */
 	public void writeTo(PrintWriter out, ConfigFileFormat format) {
-		readLock();
-		try {
-			if (format == INI) {
-				for (String s : headerComments)
-					out.append(s).println();
-				if (! name.equals("default"))
-					out.append('[').append(name).append(']').println();
-				for (String l : lines) {
-					char c = (l.length() > 0 ? l.charAt(0) : 0);
-					if (c == '>' || c == '*'){
-						boolean encode = c == '*';
-						String key = l.substring(1);
-						String val = entries.get(key);
-						if (val.indexOf('\n') != -1)
-							val = val.replaceAll("(\\r?\\n)", "$1\t");
-						if (val.indexOf('=') != -1)
-							val = val.replace("=", "\\u003D");
-						if (val.indexOf('#') != -1)
-							val = val.replace("#", "\\u0023");
-						out.append(key);
-						if (encode)
-							out.append('*');
-						out.append(" = ");
-						if (encode)
-							out.append('{').append(configFile.getEncoder().encode(key, val)).append('}');
-						else
-							out.append(val);
-						out.println();
-					} else {
-						out.append(l).println();
-					}
+		Data d = data;
+		List<String> lines = d.lines, headerComments = d.headerComments;
+		Map<String,String> entries = d.entries;
+		if (format == INI) {
+			for (String s : headerComments)
+				out.append(s).println();
+			if (! name.equals("default"))
+				out.append('[').append(name).append(']').println();
+			for (String l : lines) {
+				char c = (l.length() > 0 ? l.charAt(0) : 0);
+				if (c == '>' || c == '*'){
+					boolean encode = c == '*';
+					String key = l.substring(1);
+					String val = entries.get(key);
+					if (val.indexOf('\n') != -1)
+						val = val.replaceAll("(\\r?\\n)", "$1\t");
+					if (val.indexOf('=') != -1)
+						val = val.replace("=", "\\u003D");
+					if (val.indexOf('#') != -1)
+						val = val.replace("#", "\\u0023");
+					out.append(key);
+					if (encode)
+						out.append('*');
+					out.append(" = ");
+					if (encode)
+						out.append('{').append(configFile.getEncoder().encode(key, val)).append('}');
+					else
+						out.append(val);
+					out.println();
+				} else {
+					out.append(l).println();
 				}
+			}
 
-			} else if (format == BATCH) {
-				String section = name.replaceAll("\\.\\/", "_");
-				for (String l : headerComments) {
+		} else if (format == BATCH) {
+			String section = name.replaceAll("\\.\\/", "_");
+			for (String l : headerComments) {
+				l = trimComment(l);
+				if (! l.isEmpty())
+					out.append("rem ").append(l);
+				out.println();
+			}
+			for (String l : lines) {
+				char c = (l.length() > 0 ? l.charAt(0) : 0);
+				if (c == '>' || c == '*') {
+					String key = l.substring(1);
+					String val = entries.get(key);
+					out.append("set ");
+					if (! name.equals("default"))
+						out.append(section).append('_');
+					out.append(key.replaceAll("\\.\\/", "_")).append(" = ").append(val).println();
+				} else {
 					l = trimComment(l);
 					if (! l.isEmpty())
 						out.append("rem ").append(l);
 					out.println();
 				}
-				for (String l : lines) {
-					char c = (l.length() > 0 ? l.charAt(0) : 0);
-					if (c == '>' || c == '*') {
-						String key = l.substring(1);
-						String val = entries.get(key);
-						out.append("set ");
-						if (! name.equals("default"))
-							out.append(section).append('_');
-						out.append(key.replaceAll("\\.\\/", "_")).append(" = ").append(val).println();
-					} else {
-						l = trimComment(l);
-						if (! l.isEmpty())
-							out.append("rem ").append(l);
-						out.println();
-					}
-				}
+			}
 
-			} else if (format == SHELL) {
-				String section = name.replaceAll("\\.\\/", "_");
-				for (String l : headerComments) {
+		} else if (format == SHELL) {
+			String section = name.replaceAll("\\.\\/", "_");
+			for (String l : headerComments) {
+				l = trimComment(l);
+				if (! l.isEmpty())
+					out.append("# ").append(l);
+				out.println();
+			}
+			for (String l : lines) {
+				char c = (l.length() > 0 ? l.charAt(0) : 0);
+				if (c == '>' || c == '*'){
+					String key = l.substring(1);
+					String val = entries.get(key).replaceAll("\\\\", "\\\\\\\\");
+					out.append("export ");
+					if (! name.equals("default"))
+						out.append(section).append('_');
+					out.append(key.replaceAll("\\.\\/", "_")).append('=').append('"').append(val).append('"').println();
+				} else {
 					l = trimComment(l);
 					if (! l.isEmpty())
 						out.append("# ").append(l);
 					out.println();
 				}
-				for (String l : lines) {
-					char c = (l.length() > 0 ? l.charAt(0) : 0);
-					if (c == '>' || c == '*'){
-						String key = l.substring(1);
-						String val = entries.get(key).replaceAll("\\\\", "\\\\\\\\");
-						out.append("export ");
-						if (! name.equals("default"))
-							out.append(section).append('_');
-						out.append(key.replaceAll("\\.\\/", "_")).append('=').append('"').append(val).append('"').println();
-					} else {
-						l = trimComment(l);
-						if (! l.isEmpty())
-							out.append("# ").append(l);
-						out.println();
-					}
-				}
 			}
-		} finally {
-			readUnlock();
 		}
 	}
 
@@ -471,12 +440,13 @@ public final class Section implements Map<String,String> {
 		try {
 			if (l == null)
 				l = new String[0];
+			Data d = data.copy();
 			for (int i = 0; i < l.length; i++) {
 				String line = l[i];
 				if (line == null)
 					line = "";
 				if (isComment(line))
-					this.lines.add(line);
+					d.lines.add(line);
 				else if (isAssignment(line)) {
 					// Key/value pairs are stored as either ">key" or "*key";
 					String key = replaceUnicodeSequences(line.substring(0, line.indexOf('=')).trim());
@@ -490,17 +460,18 @@ public final class Section implements Map<String,String> {
 						else
 							configFile.setHasBeenModified();
 					}
-					if (containsKey(key)) {
-						entries.remove(key);
-						lines.remove('*' + key);
-						lines.remove('>' + key);
+					if (d.entries.containsKey(key)) {
+						d.entries.remove(key);
+						d.lines.remove('*' + key);
+						d.lines.remove('>' + key);
 					}
-					lines.add((encoded ? '*' : '>') + key);
-					addChange(changes, key, entries.put(key, val), val);
+					d.lines.add((encoded ? '*' : '>') + key);
+					addChange(changes, key, d.entries.put(key, val), val);
 				} else {
-					this.lines.add(line);
+					d.lines.add(line);
 				}
 			}
+			data = d;
 			return this;
 		} finally {
 			writeUnlock();
@@ -512,10 +483,17 @@ public final class Section implements Map<String,String> {
 	 * be associated with the next section.
 	 */
 	List<String> removeTrailingComments() {
-		LinkedList<String> l = new LinkedList<>();
-		while ((! lines.isEmpty()) && lines.getLast().startsWith("#"))
-			l.addFirst(lines.removeLast());
-		return l;
+		writeLock();
+		try {
+			Data d = data.copy();
+			LinkedList<String> l = new LinkedList<>();
+			while ((! d.lines.isEmpty()) && d.lines.getLast().startsWith("#"))
+				l.addFirst(d.lines.removeLast());
+			data = d;
+			return l;
+		} finally {
+			writeUnlock();
+		}
 	}
 
 
@@ -523,34 +501,14 @@ public final class Section implements Map<String,String> {
 	// Private methods
 	//--------------------------------------------------------------------------------
 
-	private void addLine(String key, boolean encoded) {
-		for (Iterator<String> i = lines.iterator(); i.hasNext();) {
-			String k = i.next();
-			if ((k.startsWith("*") || k.startsWith(">")) && k.substring(1).equals(key)) {
-				if (k.startsWith("*") && encoded || k.startsWith(">") && ! encoded)
-					return;
-				i.remove();
-			}
-		}
-		lines.add((encoded ? "*" : ">") + key);
-	}
-
-	void readLock() {
-		lock.readLock().lock();
-	}
-
-	void readUnlock() {
-		lock.readLock().unlock();
-	}
-
 	void writeLock() {
 		if (readOnly)
 			throw new UnsupportedOperationException("Cannot modify read-only ConfigFile.");
-		lock.writeLock().lock();
+		lock.lock();
 	}
 
 	void writeUnlock() {
-		lock.writeLock().unlock();
+		lock.unlock();
 	}
 
 	private static String trimComment(String s) {
@@ -558,13 +516,12 @@ public final class Section implements Map<String,String> {
 	}
 
 	Set<String> createChanges() {
-		return (configFile != null && configFile.getListeners().size() > 0 ? new LinkedHashSet<String>() : null);
+		return (configFile != null ? configFile.createChanges() : null);
 	}
 
 	void signalChanges(Set<String> changes) {
-		if (changes != null && ! changes.isEmpty())
-			for (ConfigFileListener l : configFile.getListeners())
-				l.onChange(configFile, changes);
+		if (configFile != null)
+			configFile.signalChanges(changes);
 	}
 
 	void addChange(Set<String> changes, String key, String oldVal, String newVal) {
@@ -572,4 +529,55 @@ public final class Section implements Map<String,String> {
 			if (! isEquals(oldVal, newVal))
 				changes.add(getFullKey(name, key));
 	}
-}
\ No newline at end of file
+
+
+	//--------------------------------------------------------------------------------
+	// Snapshot of the section contents
+	//--------------------------------------------------------------------------------
+
+	private static final class Data {
+		final LinkedList<String> lines;
+		final List<String> headerComments;
+		final Map<String,String> entries, entriesView;
+
+		Data(LinkedList<String> lines, List<String> headerComments, Map<String,String> entries) {
+			this.lines = lines;
+			this.headerComments = headerComments;
+			this.entries = entries;
+			this.entriesView = Collections.unmodifiableMap(entries);
+		}
+
+		Data copy() {
+			return new Data(new LinkedList<>(lines), new LinkedList<>(headerComments), new LinkedHashMap<>(entries));
+		}
+
+		String put(String key, String value, boolean encoded) {
+			addLine(key, encoded);
+			return entries.put(key, value);
+		}
+
+		void addLine(String key, boolean encoded) {
+			for (Iterator<String> i = lines.iterator(); i.hasNext();) {
+				String k = i.next();
+				if ((k.startsWith("*") || k.startsWith(">")) && k.substring(1).equals(key)) {
+					if (k.startsWith("*") && encoded || k.startsWith(">") && ! encoded)
+						return;
+					i.remove();
+				}
+			}
+			lines.add((encoded ? "*" : ">") + key);
+		}
+
+		void removeLine(String key) {
+			for (Iterator<String> i = lines.iterator(); i.hasNext();) {
+				String k = i.next();
+				if (k.startsWith("*") || k.startsWith(">")) {
+					if (k.substring(1).equals(key)) {
+						i.remove();
+						break;
+					}
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.ini;
+
+import java.util.*;
+
+import org.apache.juneau.svl.*;
+
+/**
+ * Listener that discards the cached var values of dependent var resolvers when a config file changes.
+ * 
+ * <p>
+ * Registered through {@link ConfigFile#addDependentResolver(VarResolver)}.
+ */
+final class VarResolverInvalidator extends ConfigFileListener {
+
+	// The contexts of the resolvers, which live as long as their resolvers.
+	private final Set<VarResolverContext> contexts = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<VarResolverContext,Boolean>()));
+
+	void add(VarResolver vr) {
+		contexts.add(vr.getContext());
+	}
+
+	boolean contains(VarResolverContext ctx) {
+		return contexts.contains(ctx);
+	}
+
+	@Override /* ConfigFileListener */
+	public void onLoad(ConfigFile cf) {
+		invalidate();
+	}
+
+	@Override /* ConfigFileListener */
+	public void onChange(ConfigFile cf, Set<String> changes) {
+		invalidate();
+	}
+
+	private void invalidate() {
+		synchronized (contexts) {
+			for (VarResolverContext ctx : contexts)
+				ctx.invalidate();
+		}
+	}
+}
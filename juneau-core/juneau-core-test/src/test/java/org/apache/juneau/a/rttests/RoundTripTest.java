@@ -13,6 +13,7 @@
 package org.apache.juneau.a.rttests;
 
 import static org.apache.juneau.a.rttests.RoundTripTest.Flags.*;
+import static org.junit.Assert.*;
 
 import java.lang.reflect.*;
 import java.util.*;
@@ -296,6 +297,16 @@ public abstract class RoundTripTest {
 		if (validateXmlWhitespace)
 			TestUtils.checkXmlWhitespace(out.toString());
 
+		// Serializing with compiled codecs must produce the same output as serializing dynamically.
+		if (s instanceof MsgPackSerializer || (s instanceof JsonSerializer && ! (s instanceof JsonSchemaSerializer))) {
+			String name = (s instanceof MsgPackSerializer ? MsgPackSerializer.MSGPACK_compiledCodecs : JsonSerializer.JSON_compiledCodecs);
+			Serializer s2 = s.builder().set(name, true).build();
+			if (s2.isWriterSerializer())
+				assertEquals(label, out, ((WriterSerializer)s2).serialize(object));
+			else
+				assertEquals(label, TestUtils.toReadableBytes((byte[])out), TestUtils.toReadableBytes(((OutputStreamSerializer)s2).serialize(object)));
+		}
+
 		if (validateXml)
 			TestUtils.validateXml(object, (XmlSerializer)s);
 
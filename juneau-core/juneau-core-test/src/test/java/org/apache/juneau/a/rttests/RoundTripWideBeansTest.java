@@ -0,0 +1,108 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.a.rttests;
+
+import static org.apache.juneau.TestUtils.*;
+import static org.apache.juneau.internal.StringUtils.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+/**
+ * Round-trip tests on beans with many properties.
+ * 
+ * <p>
+ * Property names are encoded once per serializer configuration and cached on the bean property metadata, so these
+ * tests also make sure the cached names are correct for all serializers.
+ */
+@SuppressWarnings("javadoc")
+public class RoundTripWideBeansTest extends RoundTripTest {
+
+	private static final int NUM_RUNS = 10000;
+
+	public RoundTripWideBeansTest(String label, SerializerBuilder s, ParserBuilder p, int flags) throws Exception {
+		super(label, s, p, flags);
+	}
+
+	//====================================================================================================
+	// test
+	//====================================================================================================
+	@Test
+	public void test() throws Exception {
+		A t = A.create(), t2;
+		t2 = roundTrip(t, A.class);
+		assertEqualObjects(t, t2);
+
+		// Second time uses the cached property names.
+		t2 = roundTrip(t, A.class);
+		assertEqualObjects(t, t2);
+
+		// Different serializer settings use different cached property names.
+		Serializer s = getSerializer().builder().trimStrings().build();
+		t2 = roundTrip(t, s, getParser());
+		assertEqualObjects(t, t2);
+	}
+
+	//====================================================================================================
+	// testSpeed - Benchmark for serializing wide beans.
+	//====================================================================================================
+	@Test
+	@Ignore
+	public void testSpeed() throws Exception {
+		A a = A.create();
+		Serializer s = getSerializer();
+		Parser p = getParser();
+		System.err.println("\n---Speed test on " + label + "---"); // NOT DEBUG
+
+		// Initialization runs.
+		Object r = null;
+		for (int i = 0; i < 1000; i++)
+			r = s.serialize(a);
+		System.err.println(format("Serialized size: {0,number} ", (r instanceof String ? r.toString().length() : ((byte[])r).length))); // NOT DEBUG
+
+		long startTime = System.nanoTime();
+		for (int i = 0; i < NUM_RUNS; i++)
+			r = s.serialize(a);
+		System.err.println(format("Average serialize time: {0,number}us", (System.nanoTime()-startTime)/NUM_RUNS/1000)); // NOT DEBUG
+		if (! isValidationOnly())
+			p.parse(r, A.class);
+	}
+
+	public static class A {
+		public int f00, f01, f02, f03, f04, f05, f06, f07, f08, f09;
+		public String s00, s01, s02, s03, s04, s05, s06, s07, s08, s09;
+		public boolean b00, b01, b02, b03, b04, b05, b06, b07, b08, b09;
+		public long aVeryLongPropertyNameNumber00, aVeryLongPropertyNameNumber01, aVeryLongPropertyNameNumber02;
+		public String aVeryLongPropertyNameString00, aVeryLongPropertyNameString01, aVeryLongPropertyNameString02;
+
+		// Names that need quoting or encoding in some languages.
+		@BeanProperty(name="default") public int reserved;
+		@BeanProperty(name="$dollar") public int dollar;
+		@BeanProperty(name="under_score") public int underscore;
+		@BeanProperty(name="\u00e9t\u00e9") public String unicode;
+
+		static A create() {
+			A a = new A();
+			a.f00 = 0; a.f01 = 1; a.f02 = 2; a.f03 = 300; a.f04 = 40000; a.f05 = 5; a.f06 = 6; a.f07 = 7; a.f08 = 8; a.f09 = 9;
+			a.s00 = "s0"; a.s01 = "s1"; a.s02 = "s 2"; a.s03 = "s3"; a.s04 = "s4"; a.s05 = "s5"; a.s06 = "s6"; a.s07 = "s7";
+			a.s08 = "s8"; a.s09 = "s9";
+			a.b00 = true; a.b03 = true; a.b06 = true; a.b09 = true;
+			a.aVeryLongPropertyNameNumber00 = 1; a.aVeryLongPropertyNameNumber01 = 2; a.aVeryLongPropertyNameNumber02 = 3;
+			a.aVeryLongPropertyNameString00 = "a"; a.aVeryLongPropertyNameString01 = "b"; a.aVeryLongPropertyNameString02 = "c";
+			a.reserved = 1; a.dollar = 2; a.underscore = 3; a.unicode = "\u00e9t\u00e9";
+			return a;
+		}
+	}
+}
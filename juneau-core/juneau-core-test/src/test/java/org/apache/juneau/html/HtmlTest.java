@@ -43,6 +43,41 @@ public class HtmlTest {
 		public String f1 = "f1";
 	}
 
+	//====================================================================================================
+	// Verifies that tables are written one row at a time when streaming is enabled.
+	//====================================================================================================
+	@Test
+	public void testStreamTables() throws Exception {
+		HtmlSerializer s = HtmlSerializer.create().sq().streamTables().build();
+
+		// Same output as the default mode for uniform rows.
+		Object[] t = new Object[] {new A1(), new A1()};
+		assertEquals(HtmlSerializer.DEFAULT_SQ.serialize(t), s.serialize(t));
+		List<Map<String,Object>> l = new ArrayList<>();
+		l.add(new ObjectMap("{a:1,b:'x'}"));
+		l.add(new ObjectMap("{a:2,b:'y'}"));
+		assertEquals(HtmlSerializer.DEFAULT_SQ.serialize(l), s.serialize(l));
+
+		// Columns come from the first element.
+		t = new Object[] {null, new A2(), new A1()};
+		assertEquals("<table _type='array'><tr><th>f1</th><th>f2</th></tr><tr><null/></tr><tr><td>f1</td><td>2</td></tr><tr><td>f1</td><td></td></tr></table>", s.serialize(t));
+
+		// Iterators.
+		assertEquals("<table _type='array'><tr><th>f1</th></tr><tr><td>f1</td></tr><tr><td>f1</td></tr></table>", s.serialize(Arrays.asList(new A1(), new A2()).iterator()));
+		assertEquals("<ul><li>a</li><li>b</li></ul>", s.serialize(Arrays.asList("a", "b").iterator()));
+		assertEquals("<ul></ul>", s.serialize(new ArrayList<>().iterator()));
+
+		// Round trip.
+		List<A2> l2 = Arrays.asList(new A2(), new A2());
+		HtmlParser p = HtmlParser.DEFAULT;
+		assertEquals(HtmlSerializer.DEFAULT_SQ.serialize(l2), s.serialize(p.parse(s.serialize(l2), List.class, A2.class)));
+	}
+
+	public static class A2 {
+		public String f1 = "f1";
+		public Integer f2 = 2;
+	}
+
 	//====================================================================================================
 	// Test URI_ANCHOR_SET options
 	//====================================================================================================
@@ -283,4 +318,4 @@ public class HtmlTest {
 	@Html(noTables=true, noTableHeaders=true)
 	public static class MyMap extends LinkedHashMap<String,String> {}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -16,11 +16,13 @@ import static org.apache.juneau.TestUtils.*;
 import static org.junit.Assert.*;
 import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.internal.FileUtils.*;
+import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
 import java.net.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -2153,4 +2155,399 @@ public class ConfigFileTest {
 		assertEquals("a,#b,=c", cf.getString("a"));
 		assertEquals("a,#b,=c", cf.getString("A/a"));
 	}
-}
\ No newline at end of file
+
+	//====================================================================================================
+	// Cached typed values are discarded when entries change.
+	//====================================================================================================
+	@Test
+	public void testTypedValueCache() throws Exception {
+		File f = getFreshFile();
+		ConfigFile cf = configFileBuilder.build(f).addLines(null, "a1=1").addLines("A", "a2=2", "a3=true");
+		ConfigFile cfw = cf.getResolving(VarResolver.DEFAULT);
+
+		assertEquals(1, (int)cf.getObject("a1", int.class));
+		assertEquals(2, (int)cf.getObject("A/a2", Integer.class));
+		assertEquals(true, cf.getObject("A/a3", boolean.class));
+		assertEquals(2, (int)cfw.getObject("A/a2", int.class));
+
+		cf.put("a1", 11);
+		cf.put("A/a2", 12);
+		assertEquals(11, (int)cf.getObject("a1", int.class));
+		assertEquals(11, (int)cf.getObject("/a1", int.class));
+		assertEquals(12, (int)cf.getObject("A/a2", Integer.class));
+		assertEquals(12, (int)cfw.getObject("A/a2", int.class));
+
+		cf.removeString("A/a3");
+		assertNull(cf.getObject("A/a3", Boolean.class));
+
+		cf.getSection("A").put("a2", "22");
+		assertEquals(22, (int)cf.getObject("A/a2", int.class));
+
+		cf.removeSection("A");
+		assertNull(cf.getObject("A/a2", Integer.class));
+
+		// Reloading discards all cached values.
+		write(f, new StringReader("a1=21\n[A]\na2=23"));
+		cf.load();
+		assertEquals(21, (int)cf.getObject("a1", int.class));
+		assertEquals(23, (int)cf.getObject("A/a2", int.class));
+
+		// Values containing variables are resolved every time.
+		cf.put("A/a4", "$S{testTypedValueCache}");
+		System.setProperty("testTypedValueCache", "1");
+		try {
+			assertEquals(1, (int)cfw.getObject("A/a4", int.class));
+			System.setProperty("testTypedValueCache", "2");
+			assertEquals(2, (int)cfw.getObject("A/a4", int.class));
+		} finally {
+			System.clearProperty("testTypedValueCache");
+		}
+	}
+
+	//====================================================================================================
+	// Handles follow changes to their entries.
+	//====================================================================================================
+	@Test
+	public void testHandles() throws Exception {
+		File f = getFreshFile();
+		ConfigFile cf = configFileBuilder.build(f).addLines(null, "a1=1").addLines("A", "a2=2", "a3=x");
+		ConfigFile cfw = cf.getResolving(VarResolver.DEFAULT);
+
+		ConfigFileHandle<Integer> h1 = cf.getHandle("a1", int.class);
+		ConfigFileHandle<Integer> h2 = cf.getHandle("A/a2", int.class);
+		ConfigFileHandle<Integer> h3 = cf.getHandle("A/xxx", int.class);
+		ConfigFileHandle<Integer> h4 = cf.getHandle("A/xxx", Integer.class);
+		ConfigFileHandle<String[]> h5 = cf.getHandle("A/a3", String[].class);
+		ConfigFileHandle<Integer> h6 = cfw.getHandle("A/a4", int.class);
+
+		assertEquals("A/a2", h2.getKey());
+		assertEquals(1, (int)h1.get());
+		assertEquals(2, (int)h2.get());
+		assertEquals(0, (int)h3.get());
+		assertNull(h4.get());
+		assertObjectEquals("['x']", h5.get());
+		assertEquals(0, (int)h6.get());
+
+		cf.put("a1", 11);
+		cf.put("A/xxx", 13);
+		cf.put("A/a3", "x,y");
+		cf.put("A/a4", "$C{A/a2}");
+		assertEquals(11, (int)h1.get());
+		assertEquals(2, (int)h2.get());
+		assertEquals(13, (int)h3.get());
+		assertEquals(13, (int)h4.get());
+		assertObjectEquals("['x','y']", h5.get());
+		assertEquals(2, (int)h6.get());
+
+		// Handles on resolving config files follow the entries they refer to.
+		cf.put("A/a2", 12);
+		assertEquals(12, (int)h2.get());
+		assertEquals(12, (int)h6.get());
+
+		cf.removeSection("A");
+		assertEquals(0, (int)h3.get());
+		assertNull(h4.get());
+		assertNull(h5.get());
+
+		write(f, new StringReader("a1=21\n[A]\na2=22\nxxx=foo"));
+		cf.load();
+		assertEquals(21, (int)h1.get());
+		assertEquals(22, (int)h2.get());
+		try {
+			h3.get();
+			fail();
+		} catch (InvalidDataConversionException e) {
+			assertTrue(e.getMessage().contains("Value='foo'"));
+		}
+
+		cf.put("A/xxx", 3);
+		assertEquals(3, (int)h3.get());
+	}
+
+	//====================================================================================================
+	// Handles are refreshed once per reload, and are released when no longer referenced.
+	//====================================================================================================
+	@Test
+	public void testHandleRefreshesAndRelease() throws Exception {
+		File f = getFreshFile();
+		ConfigFileImpl cf = (ConfigFileImpl)configFileBuilder.build(f).addLines("A", "a1={f:1}");
+		cf.save();
+
+		ConfigFileHandle<HandleBean> h1 = cf.getHandle("A/a1", HandleBean.class);
+		HandleBean.instances = 0;
+		write(f, new StringReader("[A]\na1={f:2}"));
+		cf.load();
+		assertEquals(2, h1.get().f);
+		assertEquals(1, HandleBean.instances);
+
+		ConfigFileHandle<Integer> h2 = cf.getHandle("A/a2", int.class);
+		assertEquals(2, cf.getHandleCount());
+		h2 = null;
+		for (int i = 0; i < 20 && cf.getHandleCount() > 1; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertEquals(1, cf.getHandleCount());
+
+		// The remaining handle still follows changes.
+		cf.put("A/a1", "{f:3}");
+		assertEquals(3, h1.get().f);
+	}
+
+	public static class HandleBean {
+		static int instances;
+		public int f;
+
+		public HandleBean() {
+			instances++;
+		}
+	}
+
+	//====================================================================================================
+	// A slow refresh doesn't overwrite the value published by a later refresh.
+	//====================================================================================================
+	@Test
+	public void testHandleRefreshOrder() throws Exception {
+		final ConfigFile cf = configFileBuilder.build(getFreshFile()).addLines("A", "a1={f:1}");
+		ConfigFileHandle<SlowBean> h = cf.getHandle("A/a1", SlowBean.class);
+		assertEquals(1, h.get().getF());
+
+		SlowBean.entered = new CountDownLatch(1);
+		SlowBean.release = new CountDownLatch(1);
+		final AtomicReference<Exception> error = new AtomicReference<>();
+		Thread t = new Thread() {
+			@Override /* Thread */
+			public void run() {
+				try {
+					cf.put("A/a1", "{f:2}");
+				} catch (Exception e) {
+					error.set(e);
+				}
+			}
+		};
+		t.start();
+
+		// Change the entry again while the first refresh is still parsing the old value.
+		assertTrue(SlowBean.entered.await(10, TimeUnit.SECONDS));
+		cf.put("A/a1", "{f:3}");
+		assertEquals(3, h.get().getF());
+
+		SlowBean.release.countDown();
+		t.join(10000);
+		assertNull(error.get());
+		assertEquals(3, h.get().getF());
+	}
+
+	public static class SlowBean {
+		static volatile CountDownLatch entered, release;
+		private int f;
+
+		public int getF() {
+			return f;
+		}
+
+		public void setF(int f) throws InterruptedException {
+			if (f == 2 && entered != null) {
+				entered.countDown();
+				release.await(10, TimeUnit.SECONDS);
+			}
+			this.f = f;
+		}
+	}
+
+	//====================================================================================================
+	// Loading a config file notifies listeners of the changed keys.
+	//====================================================================================================
+	@Test
+	public void testLoadChanges() throws Exception {
+		File f = getFreshFile();
+		ConfigFile cf = configFileBuilder.build(f).addLines(null, "a1=1", "a2=1").addLines("B", "b1=1").addLines("C", "c1=1");
+		cf.save();
+		ConfigFile cfw = cf.getResolving(VarResolver.DEFAULT);
+
+		final Set<String> changes = new TreeSet<>();
+		cfw.addListener(
+			new ConfigFileListener() {
+				@Override /* ConfigFileListener */
+				public void onChange(ConfigFile f2, Set<String> ss) {
+					changes.addAll(ss);
+				}
+			}
+		);
+
+		cf.load();
+		assertObjectEquals("[]", changes);
+
+		write(f, new StringReader("a1=1\na2=2\n[C]\nc1=1\n[D]\nd1=1"));
+		cf.load();
+		assertObjectEquals("['B/b1','D/d1','a2']", changes);
+		assertEquals("2", cfw.getString("a2"));
+		assertNull(cfw.getSection("B"));
+	}
+
+	//====================================================================================================
+	// Cached $C values are discarded when the config file changes.
+	//====================================================================================================
+	@Test
+	public void testDependentResolver() throws Exception {
+		File f = getFreshFile();
+		ConfigFile cf = configFileBuilder.build(f).addLines("A", "a1=1");
+		cf.save();
+		VarResolverBuilder vrb = new VarResolverBuilder().vars(ConfigFileVar.class).contextObject(ConfigFileVar.SESSION_config, cf);
+		VarResolver vr = vrb.build(), vr2 = vrb.build();
+		cf.addDependentResolver(vr);
+
+		assertEquals("1", vr.resolve("$C{A/a1}"));
+		assertEquals("1", vr2.resolve("$C{A/a1}"));
+		cf.put("A/a1", 2);
+		assertEquals("2", vr.resolve("$C{A/a1}"));
+
+		write(f, new StringReader("[A]\na1=3"));
+		cf.load();
+		assertEquals("3", vr.resolve("$C{A/a1}"));
+
+		// Resolvers that weren't registered don't cache values.
+		assertEquals("3", vr2.resolve("$C{A/a1}"));
+	}
+
+	//====================================================================================================
+	// $C values of resolvers that weren't registered as dependent resolvers follow changes to the config file.
+	//====================================================================================================
+	@Test
+	public void testUnregisteredResolver() throws Exception {
+		ConfigFile cf = configFileBuilder.build().addLines("A", "a1=1", "a2=$C{A/a1}");
+		VarResolver vr = new VarResolverBuilder().vars(ConfigFileVar.class).contextObject(ConfigFileVar.SESSION_config, cf).build();
+		ConfigFile cfw = cf.getResolving(vr.createSession());
+
+		assertEquals("1", vr.resolve("$C{A/a1}"));
+		assertEquals("1", cfw.getString("A/a2"));
+		cf.put("A/a1", 2);
+		assertEquals("2", vr.resolve("$C{A/a1}"));
+		assertEquals("2", cfw.getString("A/a2"));
+	}
+
+	//====================================================================================================
+	// Cached $C values aren't shared between sessions with different config files.
+	//====================================================================================================
+	@Test
+	public void testCachedValuesPerConfigFile() throws Exception {
+		ConfigFile cf1 = configFileBuilder.build().addLines("A", "a1=1");
+		ConfigFile cf2 = configFileBuilder.build().addLines("A", "a1=2");
+		VarResolver vr = new VarResolverBuilder().vars(ConfigFileVar.class).build();
+		cf1.addDependentResolver(vr);
+		cf2.addDependentResolver(vr);
+
+		assertEquals("1", vr.createSession().sessionObject(ConfigFileVar.SESSION_config, cf1).resolve("$C{A/a1}"));
+		assertEquals("2", vr.createSession().sessionObject(ConfigFileVar.SESSION_config, cf2).resolve("$C{A/a1}"));
+		assertEquals("1", vr.createSession().sessionObject(ConfigFileVar.SESSION_config, cf1).resolve("$C{A/a1}"));
+
+		cf1.put("A/a1", 3);
+		assertEquals("3", vr.createSession().sessionObject(ConfigFileVar.SESSION_config, cf1).resolve("$C{A/a1}"));
+		assertEquals("2", vr.createSession().sessionObject(ConfigFileVar.SESSION_config, cf2).resolve("$C{A/a1}"));
+	}
+
+	//====================================================================================================
+	// ConfigFileWatcher reloads config files when they're modified.
+	//====================================================================================================
+	@Test
+	public void testWatcher() throws Exception {
+		File f = getFreshFile();
+		ConfigFile cf = configFileBuilder.build(f).addLines(null, "a1=1");
+		cf.save();
+
+		final BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+		cf.addListener(
+			new ConfigFileListener() {
+				@Override /* ConfigFileListener */
+				public void onChange(ConfigFile f2, Set<String> ss) {
+					changes.add(ss);
+				}
+			}
+		);
+
+		try (ConfigFileWatcher w = new ConfigFileWatcher(10).watch(cf)) {
+			write(f, new StringReader("a1=2\na2=2"));
+			Set<String> ss = changes.poll(30, TimeUnit.SECONDS);
+			assertObjectEquals("['a1','a2']", ss);
+			assertEquals(2, cf.getInt("a1"));
+		}
+	}
+
+	//====================================================================================================
+	// Readers see consistent values while the config file is being modified.
+	//====================================================================================================
+	@Test
+	public void testConcurrentReadsAndWrites() throws Exception {
+		final ConfigFile cf = configFileBuilder.build().addLines("A", "a1=x", "a2=x");
+		ExecutorService es = Executors.newFixedThreadPool(4);
+		try {
+			final AtomicBoolean done = new AtomicBoolean();
+			List<Future<Boolean>> l = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				l.add(es.submit(new Callable<Boolean>() {
+					@Override
+					public Boolean call() throws Exception {
+						while (! done.get()) {
+							String v = cf.getString("A/a1");
+							if (! ("x".equals(v) || "y".equals(v)))
+								return false;
+							for (String k : cf.getSectionKeys("A"))
+								if (! k.startsWith("a"))
+									return false;
+							if (! cf.toString().startsWith("[A]"))
+								return false;
+						}
+						return true;
+					}
+				}));
+			}
+			for (int i = 0; i < 2000; i++) {
+				cf.put("A/a1", i % 2 == 0 ? "y" : "x");
+				cf.put("A/a" + (i % 10 + 3), i);
+				cf.removeString("A/a" + ((i + 5) % 10 + 3));
+			}
+			done.set(true);
+			for (Future<Boolean> f : l)
+				assertTrue(f.get());
+		} finally {
+			es.shutdown();
+		}
+		assertEquals("x", cf.getString("A/a1"));
+	}
+
+	//====================================================================================================
+	// testReadSpeed - Benchmark for reading entries from multiple threads.
+	//====================================================================================================
+	@Test
+	@Ignore
+	public void testReadSpeed() throws Exception {
+		final ConfigFile cf = configFileBuilder.build().addLines("A", "a1=foo", "a2=1", "a3=true");
+		final int numReads = 1000000;
+		for (int numThreads = 1; numThreads <= Runtime.getRuntime().availableProcessors(); numThreads *= 2) {
+			ExecutorService es = Executors.newFixedThreadPool(numThreads);
+			try {
+				List<Callable<Object>> l = new ArrayList<>();
+				for (int i = 0; i < numThreads; i++) {
+					l.add(new Callable<Object>() {
+						@Override
+						public Object call() throws Exception {
+							for (int j = 0; j < numReads; j++) {
+								cf.getString("A/a1");
+								cf.getInt("A/a2");
+								cf.getBoolean("A/a3");
+							}
+							return null;
+						}
+					});
+				}
+				es.invokeAll(l);  // Warm up.
+				long startTime = System.nanoTime();
+				es.invokeAll(l);
+				long time = System.nanoTime() - startTime;
+				System.err.println(format("{0} threads: {1} reads/us", numThreads, numThreads * numReads * 3L * 1000 / time)); // NOT DEBUG
+			} finally {
+				es.shutdown();
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,213 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.internal.StringUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.transforms.*;
+import org.junit.*;
+
+/**
+ * Tests that serializing with {@link JsonSerializer#JSON_compiledCodecs} produces the same output as without it.
+ */
+@SuppressWarnings({"javadoc","serial"})
+public class JsonCompiledCodecsTest {
+
+	private static final int NUM_RUNS = 10000;
+
+	private static JsonSerializer[] serializers = {
+		JsonSerializer.DEFAULT,
+		JsonSerializer.DEFAULT_LAX,
+		JsonSerializer.DEFAULT_LAX_READABLE,
+		JsonSerializer.create().sq().trimNullProperties(false).build(),
+		JsonSerializer.create().sq().trimStrings().sortMaps().sortCollections().build(),
+		JsonSerializer.create().sq().trimEmptyCollections().trimEmptyMaps().build(),
+		JsonSerializer.create().sq().pojoSwaps(DateSwap.ISO8601DT.class).build(),
+		JsonSerializer.create().sq().detectRecursions().ignoreRecursions().build(),
+		JsonSerializer.create().sq().addBeanTypeProperties(false).build(),
+	};
+
+	private static void test(Object o) throws Exception {
+		for (JsonSerializer s : serializers) {
+			JsonSerializer s2 = s.builder().compiledCodecs().build();
+			assertEquals(s.serialize(o), s2.serialize(o));
+		}
+	}
+
+	//====================================================================================================
+	// Beans, maps, collections, and arrays.
+	//====================================================================================================
+	@Test
+	public void testBeans() throws Exception {
+		test(A.create());
+		test(new A());
+		test(Arrays.asList(A.create(), A.create()));
+		test(new A[]{A.create()});
+		test(new AMap(){{put("x", A.create()); put("y", null);}});
+		test(new B(1));
+		test(new B2(2));
+	}
+
+	//====================================================================================================
+	// Simple values.
+	//====================================================================================================
+	@Test
+	public void testSimpleValues() throws Exception {
+		test(null);
+		test(1);
+		test(" foo ");
+		test(new int[]{1,2});
+		test(new Date(0));
+		test(E.X);
+	}
+
+	//====================================================================================================
+	// Recursive models.
+	//====================================================================================================
+	@Test
+	public void testRecursion() throws Exception {
+		R r = new R();
+		r.f1 = "x";
+		r.f2 = new R();
+		r.f2.f1 = "y";
+		r.f2.f2 = r;
+		JsonSerializer s = JsonSerializer.create().simple().sq().detectRecursions().ignoreRecursions().build();
+		assertEquals("{f1:'x',f2:{f1:'y'}}", s.builder().compiledCodecs().build().serialize(r));
+	}
+
+	//====================================================================================================
+	// Codecs are cached on the serializer.
+	//====================================================================================================
+	@Test
+	public void testCodecsCached() throws Exception {
+		JsonSerializer s = JsonSerializer.create().compiledCodecs().build();
+		JsonCodec c = s.getCodec(s.getClassMeta(A.class));
+		assertSame(c, s.getCodec(s.getClassMeta(A.class)));
+		assertEquals(JsonCodec.BEAN, c.kind);
+		assertEquals(JsonCodec.DYNAMIC, s.getCodec(null).kind);
+	}
+
+	//====================================================================================================
+	// testSpeed - Benchmark for serializing with and without compiled codecs.
+	//====================================================================================================
+	@Test
+	@Ignore
+	public void testSpeed() throws Exception {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			l.add(A.create());
+		JsonSerializer[] serializers = {
+			JsonSerializer.DEFAULT_LAX,
+			JsonSerializer.DEFAULT_LAX.builder().compiledCodecs().build()
+		};
+		String[] labels = { "Dynamic", "Compiled codecs" };
+
+		for (int j = 0; j < serializers.length; j++) {
+			JsonSerializer s = serializers[j];
+			System.err.println("\n---Speed test: " + labels[j] + "---"); // NOT DEBUG
+			for (int i = 0; i < 1000; i++)
+				s.serialize(l);
+			long startTime = System.nanoTime();
+			for (int i = 0; i < NUM_RUNS; i++)
+				s.serialize(l);
+			System.err.println(format("Average serialize time: {0}us", (System.nanoTime()-startTime)/NUM_RUNS/1000)); // NOT DEBUG
+		}
+	}
+
+	@Bean(beanDictionary={B2.class})
+	public static class A {
+		public int f1;
+		public String f2;
+		public List<B> f3;
+		public Map<String,B> f4;
+		public B[] f5;
+		public Object f6;
+		public B f7;
+		public Date f8;
+		public java.net.URI f9;
+		public char f10;
+		public Map<String,Object> f11;
+		public E f12;
+		public List<Integer> f13;
+		public Number f14;
+		public Map<Integer,List<B>> f15;
+		public Collection<?> f16;
+
+		@Swap(DateSwap.ISO8601DT.class)
+		public Date f17;
+
+		public static A create() throws Exception {
+			A a = new A();
+			a.f1 = 1;
+			a.f2 = " foo ";
+			a.f3 = Arrays.asList(new B(1), null, new B2(2));
+			a.f4 = new LinkedHashMap<>();
+			a.f4.put("b", new B(3));
+			a.f4.put("a", new B2(4));
+			a.f4.put("c", null);
+			a.f5 = new B[]{new B(5), new B2(6)};
+			a.f6 = new B(7);
+			a.f7 = new B2(8);
+			a.f8 = new Date(0);
+			a.f9 = new java.net.URI("http://foo");
+			a.f10 = 'x';
+			a.f11 = new LinkedHashMap<>();
+			a.f11.put("x", new B(9));
+			a.f11.put("y", Arrays.asList(2, 1));
+			a.f11.put("z", new ArrayList<>());
+			a.f12 = E.Y;
+			a.f13 = new LinkedList<>(Arrays.asList(3, 1, 2));
+			a.f14 = 1.5f;
+			a.f15 = new TreeMap<>();
+			a.f15.put(1, Arrays.asList(new B(10)));
+			a.f16 = new HashSet<>(Arrays.asList("x"));
+			a.f17 = new Date(0);
+			return a;
+		}
+	}
+
+	public static class B {
+		public int f1;
+		public String f2 = "";
+
+		public B() {}
+
+		public B(int f1) {
+			this.f1 = f1;
+		}
+	}
+
+	@Bean(typeName="B2")
+	public static class B2 extends B {
+		public int f3 = 3;
+
+		public B2() {}
+
+		public B2(int f1) {
+			super(f1);
+		}
+	}
+
+	public static class AMap extends LinkedHashMap<String,A> {}
+
+	public static enum E { X, Y }
+
+	public static class R {
+		public String f1;
+		public R f2;
+	}
+}
@@ -310,6 +310,38 @@ public class JsonParserTest {
 		}
 	}
 
+	//====================================================================================================
+	// testParseIterator
+	// Array elements are parsed one at a time.
+	//====================================================================================================
+	@Test
+	public void testParseIterator() throws Exception {
+		ParserIterator<A> i = p.parseIterator(" /*x*/ [ {fa:'a'} , {fa:'b'},{fa:'c'} ] ", A.class);
+		assertTrue(i.hasNext());
+		assertEquals("a", i.next().fa);
+		assertEquals("b", i.next().fa);
+		assertEquals("c", i.next().fa);
+		assertFalse(i.hasNext());
+
+		assertFalse(sp.parseIterator("[]", A.class).hasNext());
+
+		i = sp.parseIterator("[{\"fa\":\"a\"},]", A.class);
+		assertEquals("a", i.next().fa);
+		try {
+			i.hasNext();
+			fail("Exception expected");
+		} catch (BeanRuntimeException e) {
+			assertTrue(e.getCause().getMessage().contains("Unexpected trailing comma in array"));
+		}
+
+		try {
+			p.parseIterator("{fa:'a'}", A.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Expected '[' at beginning of JSON array"));
+		}
+	}
+
 	public static class C {
 		String f;
 		public static C valueOf(String s) {
@@ -15,6 +15,7 @@ package org.apache.juneau.json;
 import static org.apache.juneau.TestUtils.*;
 import static org.junit.Assert.*;
 
+import java.nio.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -189,6 +190,33 @@ public class JsonTest {
 		assertEquals("x'x\"x", p.parse(r, ObjectMap.class).getString("f1"));
 	}
 
+	//====================================================================================================
+	// Escaping characters at the start, middle, and end of strings
+	//====================================================================================================
+	@Test
+	public void testEscapingRuns() throws Exception {
+		JsonSerializer s = JsonSerializer.DEFAULT;
+		JsonParser p = JsonParser.DEFAULT;
+		String[][] tests = {
+			{"abc", "\"abc\""},
+			{"", "\"\""},
+			{"\n", "\"\\n\""},
+			{"\nabc", "\"\\nabc\""},
+			{"abc\n", "\"abc\\n\""},
+			{"a\tb\\c\"d", "\"a\\tb\\\\c\\\"d\""},
+			{"\"\"ab\\\\", "\"\\\"\\\"ab\\\\\\\\\""},
+			{"a\rb", "\"ab\""},
+		};
+		for (String[] t : tests) {
+			String r = s.serialize(t[0]);
+			assertEquals(t[1], r);
+			if (t[0].indexOf('\r') == -1)
+				assertEquals(t[0], p.parse(r, String.class));
+		}
+		s = JsonSerializer.create().escapeSolidus().build();
+		assertEquals("\"\\/a\\/b\\/\"", s.serialize("/a/b/"));
+	}
+
 	//====================================================================================================
 	// testWrapperAttrAnnotationOnBean
 	//====================================================================================================
@@ -307,4 +335,27 @@ public class JsonTest {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
-}
\ No newline at end of file
+
+	//====================================================================================================
+	// Serializing to and parsing from ByteBuffers.
+	//====================================================================================================
+	@Test
+	public void testByteBuffers() throws Exception {
+		ByteBuffer bb = ByteBuffer.allocateDirect(100);
+		JsonSerializer.DEFAULT_LAX.serialize(new ObjectMap("{a:'\u00e9'}"), bb);
+		bb.flip();
+		assertEquals(8, bb.remaining());
+		assertObjectEquals("{a:'\u00e9'}", JsonParser.DEFAULT.parse(bb, ObjectMap.class));
+		assertEquals(0, bb.position());
+
+		byte[] b = "xx{a:1}xx".getBytes("UTF-8");
+		assertObjectEquals("{a:1}", JsonParser.DEFAULT.parse(ByteBuffer.wrap(b, 2, 5), ObjectMap.class));
+
+		try {
+			JsonSerializer.DEFAULT_LAX.serialize(new ObjectMap("{a:'foobar'}"), ByteBuffer.allocate(5));
+			fail();
+		} catch (SerializeException e) {
+			// OK.
+		}
+	}
+}
@@ -0,0 +1,99 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.msgpack;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.json.JsonCompiledCodecsTest.*;
+import org.apache.juneau.transforms.*;
+import org.junit.*;
+
+/**
+ * Tests that serializing with {@link MsgPackSerializer#MSGPACK_compiledCodecs} produces the same output as without it.
+ */
+@SuppressWarnings({"javadoc","serial"})
+public class MsgPackCompiledCodecsTest {
+
+	private static MsgPackSerializer[] serializers = {
+		MsgPackSerializer.DEFAULT,
+		MsgPackSerializer.create().trimNullProperties(false).build(),
+		MsgPackSerializer.create().trimStrings().sortMaps().sortCollections().build(),
+		MsgPackSerializer.create().pojoSwaps(DateSwap.ISO8601DT.class).build(),
+		MsgPackSerializer.create().detectRecursions().ignoreRecursions().build(),
+		MsgPackSerializer.create().addBeanTypeProperties(false).build(),
+	};
+
+	private static void test(Object o) throws Exception {
+		for (MsgPackSerializer s : serializers) {
+			MsgPackSerializer s2 = s.builder().compiledCodecs().build();
+			assertEquals(s.serializeToHex(o), s2.serializeToHex(o));
+		}
+	}
+
+	//====================================================================================================
+	// Beans, maps, collections, and arrays.
+	//====================================================================================================
+	@Test
+	public void testBeans() throws Exception {
+		test(A.create());
+		test(new A());
+		test(Arrays.asList(A.create(), A.create()));
+		test(new A[]{A.create()});
+		test(new AMap(){{put("x", A.create()); put("y", null);}});
+		test(new B(1));
+		test(new B2(2));
+	}
+
+	//====================================================================================================
+	// Simple values.
+	//====================================================================================================
+	@Test
+	public void testSimpleValues() throws Exception {
+		test(null);
+		test(true);
+		test(1);
+		test(" foo ");
+		test(new int[]{1,2});
+		test(new Date(0));
+		test(E.X);
+	}
+
+	//====================================================================================================
+	// Recursive models.
+	//====================================================================================================
+	@Test
+	public void testRecursion() throws Exception {
+		R r = new R();
+		r.f1 = "x";
+		r.f2 = new R();
+		r.f2.f1 = "y";
+		r.f2.f2 = r;
+		MsgPackSerializer s = MsgPackSerializer.create().detectRecursions().ignoreRecursions().build();
+		assertEquals("82A26631A178A2663282A26631A179A26632C0", s.serializeToHex(r));
+		assertEquals("82A26631A178A2663282A26631A179A26632C0", s.builder().compiledCodecs().build().serializeToHex(r));
+	}
+
+	//====================================================================================================
+	// Codecs are cached on the serializer.
+	//====================================================================================================
+	@Test
+	public void testCodecsCached() throws Exception {
+		MsgPackSerializer s = MsgPackSerializer.create().compiledCodecs().build();
+		MsgPackCodec c = s.getCodec(s.getClassMeta(A.class));
+		assertSame(c, s.getCodec(s.getClassMeta(A.class)));
+		assertEquals(MsgPackCodec.BEAN, c.kind);
+		assertEquals(MsgPackCodec.DYNAMIC, s.getCodec(null).kind);
+	}
+}
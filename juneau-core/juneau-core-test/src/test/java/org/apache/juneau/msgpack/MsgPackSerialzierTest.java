@@ -14,7 +14,13 @@ package org.apache.juneau.msgpack;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
 import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
 import org.junit.*;
 
 @SuppressWarnings({"javadoc"})
@@ -203,6 +209,63 @@ public class MsgPackSerialzierTest {
 		test(new ObjectMap("{1:1,2:1,3:1,4:1,5:1,6:1,7:1,8:1,9:1,a:1,b:1,c:1,d:1,e:1,f:1,g:1}"), "DE 00 10 A1 31 01 A1 32 01 A1 33 01 A1 34 01 A1 35 01 A1 36 01 A1 37 01 A1 38 01 A1 39 01 A1 61 01 A1 62 01 A1 63 01 A1 64 01 A1 65 01 A1 66 01 A1 67 01");
 	}
 
+	//====================================================================================================
+	// testParseIterator
+	//====================================================================================================
+	@Test
+	public void testParseIterator() throws Exception {
+		Person p1 = new Person(), p2 = new Person();
+		p2.name = "Jane Smith";
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(new Person[]{p1, p2});
+
+		ParserIterator<Person> i = MsgPackParser.DEFAULT.parseIterator(b, Person.class);
+		assertEquals("John Smith", i.next().name);
+		assertTrue(i.hasNext());
+		assertEquals("Jane Smith", i.next().name);
+		assertFalse(i.hasNext());
+
+		try {
+			MsgPackParser.DEFAULT.parseIterator(MsgPackSerializer.DEFAULT.serialize(p1), Person.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Invalid data type MAP"));
+		}
+	}
+
+	//====================================================================================================
+	// testStrings - Strings are UTF-8 encoded directly into the output buffer.
+	//====================================================================================================
+	@Test
+	public void testStrings() throws Exception {
+		test("\u00e9", "A2 C3 A9");
+		test("\u20ac", "A3 E2 82 AC");
+		test("\ud83d\ude00", "A4 F0 9F 98 80");
+		test("\ud83d", "A1 3F");
+
+		// Header sizes where the worst-case length is in a larger size class than the actual length.
+		for (int len : new int[]{10, 11, 31, 32, 85, 86, 255, 256, 1365, 1366, 5000, 21845, 21846, 70000}) {
+			for (String c : new String[]{"a", "\u00e9", "\u20ac"}) {
+				StringBuilder sb = new StringBuilder();
+				for (int i = 0; i < len; i++)
+					sb.append(c);
+				String in = sb.toString();
+				byte[] b = MsgPackSerializer.DEFAULT.serialize(in), e = in.getBytes("UTF-8");
+				int n = e.length, h = n < 32 ? 1 : n < 256 ? 2 : n < 65536 ? 3 : 5;
+				assertEquals(h + n, b.length);
+				assertEquals(n < 32 ? 0xA0 + n : n < 256 ? 0xD9 : n < 65536 ? 0xDA : 0xDB, b[0] & 0xFF);
+				assertArrayEquals(e, Arrays.copyOfRange(b, h, b.length));
+				assertEquals(in, MsgPackParser.DEFAULT.parse(b, String.class));
+			}
+		}
+
+		// Many strings spanning buffer boundaries.
+		List<String> l = new ArrayList<>();
+		for (int i = 0; i < 5000; i++)
+			l.add("x\u00e9\u20ac" + i);
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(l);
+		assertEquals(l, MsgPackParser.DEFAULT.parse(b, List.class, String.class));
+	}
+
 	public static class Person {
 		public String name = "John Smith";
 		public int age = 21;
@@ -212,4 +275,46 @@ public class MsgPackSerialzierTest {
 		byte[] b = MsgPackSerializer.DEFAULT.serialize(input);
 		assertEquals(expected, TestUtils.toReadableBytes2(b));
 	}
-}
\ No newline at end of file
+
+	//====================================================================================================
+	// Serializing to and parsing from ByteBuffers.
+	//====================================================================================================
+	@Test
+	public void testByteBuffers() throws Exception {
+		Person p = new Person();
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(p);
+
+		for (ByteBuffer bb : new ByteBuffer[]{ByteBuffer.allocate(100), ByteBuffer.allocateDirect(100)}) {
+			bb.put((byte)0);
+			MsgPackSerializer.DEFAULT.serialize(p, bb);
+			assertEquals(b.length + 1, bb.position());
+			bb.flip().position(1);
+			Person p2 = MsgPackParser.DEFAULT.parse(bb, Person.class);
+			assertEquals(p.name, p2.name);
+			assertEquals(p.age, p2.age);
+			assertEquals(1, bb.position());
+		}
+
+		// Slices of byte arrays.
+		byte[] b2 = new byte[b.length + 4];
+		System.arraycopy(b, 0, b2, 2, b.length);
+		assertEquals("John Smith", MsgPackParser.DEFAULT.parse(ByteBuffer.wrap(b2, 2, b.length), Person.class).name);
+
+		// Debug mode shows the remaining bytes as hex, regardless of what's done with the caller's buffer afterwards.
+		ByteBuffer bb = ByteBuffer.wrap(b2, 2, b.length);
+		try (ParserPipe pipe = new ParserPipe(bb, true, false, null, null)) {
+			InputStream is = pipe.getInputStream();
+			while (is.read() != -1) {}
+			assertEquals(2, bb.position());
+			bb.position(bb.limit());
+			assertEquals(TestUtils.toReadableBytes2(b).replace(" ", ""), pipe.getInputAsString());
+		}
+
+		try {
+			MsgPackSerializer.DEFAULT.serialize(p, ByteBuffer.allocate(b.length - 1));
+			fail();
+		} catch (SerializeException e) {
+			// OK.
+		}
+	}
+}
@@ -12,7 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.transforms;
 
+import static org.junit.Assert.*;
+
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.json.*;
@@ -54,6 +57,50 @@ public class DateSwapTest {
 		data.getSwapped("birthday", dateSwap);
 	}
 
+	//====================================================================================================
+	// Millisecond precision formats include the milliseconds exactly once.
+	//====================================================================================================
+	@Test
+	public void testMillisecondPrecision() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		Date d = new Date(994260645123L);
+		assertEquals("2001-07-04T10:30:45.123-05:00", new DateSwap.ISO8601DTP().swap(session, d));
+		assertEquals("2001-07-04T15:30:45.123Z", new DateSwap.ISO8601DTPZ().swap(session, d));
+		assertEquals("2001-07-04T15:30:45.123Z", new DateSwap.ISO8601DTZ().swap(session, d));
+		assertEquals("2001-07-04T15:30:45.000Z", new DateSwap.ISO8601DTPZ().swap(session, new Date(994260645000L)));
+		assertEquals("2001-07-04T15:30:45Z", new DateSwap.ISO8601DTZ().swap(session, new Date(994260645000L)));
+	}
+
+	//====================================================================================================
+	// Date formats are safe to use from multiple threads.
+	//====================================================================================================
+	@Test
+	public void testConcurrentUse() throws Exception {
+		final BeanSession session = BeanContext.DEFAULT.createSession();
+		final DateSwap swap = new DateSwap.RFC2822DTZ();
+		ExecutorService es = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> l = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				final Date d = new Date(994260645000L + i * 86400000L);
+				final String expected = swap.swap(session, d);
+				l.add(es.submit(new Callable<Boolean>() {
+					@Override
+					public Boolean call() throws Exception {
+						for (int j = 0; j < 1000; j++)
+							if (! expected.equals(swap.swap(session, d)) || ! d.equals(swap.unswap(session, expected, null)))
+								return false;
+						return true;
+					}
+				}));
+			}
+			for (Future<Boolean> f : l)
+				assertTrue(f.get());
+		} finally {
+			es.shutdown();
+		}
+	}
+
 	public static class A {
 		public Date birthday;
 
@@ -62,4 +109,4 @@ public class DateSwapTest {
 			return this;
 		}
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -183,6 +183,47 @@ public class UonParserReaderTest {
 		assertEquals(-1, r.readCodePoint());
 	}
 
+	//====================================================================================================
+	// String input decoded in a single pass.
+	//====================================================================================================
+	@Test
+	public void testDecodedStrings() throws Exception {
+		StringBuilder sb = new StringBuilder(), sb2 = new StringBuilder();
+		for (int i = 0; i < 500; i++) {
+			sb.append("a+").append(escape("¢€𤭢")).append("&=");
+			sb2.append("a ¢€𤭢\u0001\u0002");
+		}
+		String in = sb.toString(), expected = sb2.toString();
+
+		// Same result as when streaming from a reader.
+		assertEquals(expected, readAll(r(in, true)));
+		assertEquals(expected, readAll(new UonReader(new ParserPipe(new SlowStringReader(in)), true)));
+		assertEquals(in, readAll(r(in, false)));
+
+		// Marked strings span the entire input.
+		UonReader r = r(in, true);
+		r.read();
+		r.mark();
+		while (r.read() != -1) {}
+		assertEquals(expected.substring(1), r.getMarked());
+
+		for (String bad : new String[]{"%", "a%2", "%C2", "%C2%A", "%C2x2", "%zz", "%80", "%F8"}) {
+			try {
+				readAll(r(bad, true));
+				fail("Exception expected for '"+bad+"'");
+			} catch (IOException e) {
+				// OK
+			}
+		}
+	}
+
+	private static String readAll(UonReader r) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for (int c = r.read(); c != -1; c = r.read())
+			sb.append((char)c);
+		return sb.toString();
+	}
+
 	private String escape(String s) throws UnsupportedEncodingException {
 		StringBuilder sb = new StringBuilder();
 		byte[] b = s.getBytes("UTF-8");
@@ -217,4 +258,4 @@ public class UonParserReaderTest {
 		}
 
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
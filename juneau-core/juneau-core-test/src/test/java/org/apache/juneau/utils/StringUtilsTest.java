@@ -637,6 +637,12 @@ public class StringUtilsTest {
 		} catch (IllegalArgumentException e) {
 			// OK.
 		}
+		try {
+			base64Decode("aa\u00e9a");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid BASE64 character '\u00e9'.", e.getLocalizedMessage());
+		}
 	}
 
 	//====================================================================================================
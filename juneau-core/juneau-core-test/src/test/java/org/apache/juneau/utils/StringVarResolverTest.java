@@ -13,8 +13,11 @@
 package org.apache.juneau.utils;
 
 import static org.junit.Assert.*;
+import static org.apache.juneau.TestUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
+import java.util.*;
+
 import org.apache.juneau.svl.*;
 import org.junit.*;
 
@@ -334,4 +337,157 @@ public class StringVarResolverTest {
 			super("|");
 		}
 	}
+
+	//====================================================================================================
+	// Test that strings resolved more than once give the same results.
+	//====================================================================================================
+	@Test
+	public void testRepeatedResolution() throws Exception {
+		VarResolver vr = new VarResolverBuilder().defaultVars().vars(XMultipartVar.class).build();
+		System.setProperty("a", "a1");
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals("xa1+$S{b}+y", vr.resolve("x$X{$S{a},\\\\\\$S{b},y}"));
+			assertEquals("$Y{$S{a}}", vr.resolve("$Y{$S{a}}"));
+			assertEquals("a1", vr.resolve("$S{a}"));
+			assertEquals("foo", vr.resolve("$S{b,foo}"));
+		}
+
+		// Values are not cached unless constant folding is enabled.
+		System.setProperty("a", "a2");
+		assertEquals("a2", vr.resolve("$S{a}"));
+		assertEquals("xa2+y", vr.resolve("x$X{$S{a},y}"));
+	}
+
+	//====================================================================================================
+	// Test constant folding.
+	//====================================================================================================
+	@Test
+	public void testFoldConstants() throws Exception {
+		VarResolver vr = new VarResolverBuilder().defaultVars().vars(CountingVar.class).foldConstants().build();
+		System.setProperty("a", "a1");
+		CountingVar.COUNT = 0;
+
+		assertEquals("a1", vr.resolve("$S{a}"));
+		assertEquals("xa1", vr.resolve("x$IF{true,$S{a}}"));
+		System.setProperty("a", "a2");
+		assertEquals("a1", vr.resolve("$S{a}"));
+		assertEquals("xa1", vr.resolve("x$IF{true,$S{a}}"));
+
+		// Vars that aren't constant are always resolved, even when they contain constant vars.
+		assertEquals("1a2", vr.resolve("$C{$S{a}}"));
+		assertEquals("2a2", vr.resolve("$C{$S{a}}"));
+
+		// Constant vars containing vars that aren't constant are always resolved.
+		assertEquals("3", vr.resolve("$IF{true,$C{}}"));
+		assertEquals("4", vr.resolve("$IF{true,$C{}}"));
+
+		// New strings see the new value.
+		assertEquals("a2", vr.resolve("$S{a}$S{zzz}"));
+	}
+
+	public static class CountingVar extends SimpleVar {
+		static int COUNT;
+		public CountingVar() {
+			super("C");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String key) {
+			return ++COUNT + key;
+		}
+	}
+
+	//====================================================================================================
+	// Test var cache modes.
+	//====================================================================================================
+	@Test
+	public void testCacheModes() throws Exception {
+		VarResolver vr = new VarResolverBuilder().vars(NeverVar.class, SessionVar.class, TtlVar.class, InvalidatedVar.class).build();
+		COUNTS.clear();
+
+		VarResolverSession s1 = vr.createSession(), s2 = vr.createSession();
+		for (VarResolverSession s : new VarResolverSession[]{s1, s1, s2, s2}) {
+			assertEquals("a", s.resolve("$N{a}"));
+			assertEquals("a", s.resolve("$SN{a}"));
+			assertEquals("a", s.resolve("$T{a}"));
+			assertEquals("a", s.resolve("$I{a}"));
+			assertEquals("b", s.resolve("$I{b}"));
+		}
+		assertObjectEquals("{N:4,SN:2,T:1,I:2}", COUNTS);
+
+		// TTL values expire.
+		Thread.sleep(150);
+		assertEquals("a", s1.resolve("$T{a}"));
+		assertObjectEquals("{N:4,SN:2,T:2,I:2}", COUNTS);
+
+		vr.invalidate();
+		assertEquals("a", s1.resolve("$I{a}"));
+		assertEquals("a", s1.resolve("$SN{a}"));
+		assertObjectEquals("{N:4,SN:2,T:2,I:3}", COUNTS);
+	}
+
+	static final Map<String,Integer> COUNTS = new LinkedHashMap<>();
+
+	public static class CountedVar extends SimpleVar {
+		private final VarCacheMode mode;
+		public CountedVar(String name, VarCacheMode mode) {
+			super(name);
+			this.mode = mode;
+		}
+		@Override
+		public String resolve(VarResolverSession session, String key) {
+			Integer i = COUNTS.get(getName());
+			COUNTS.put(getName(), i == null ? 1 : i+1);
+			return key;
+		}
+		@Override
+		protected VarCacheMode getCacheMode() {
+			return mode;
+		}
+		@Override
+		protected long getCacheTtl() {
+			return 100;
+		}
+	}
+	public static class NeverVar extends CountedVar {
+		public NeverVar() {
+			super("N", VarCacheMode.NEVER);
+		}
+	}
+	public static class SessionVar extends CountedVar {
+		public SessionVar() {
+			super("SN", VarCacheMode.SESSION);
+		}
+	}
+	public static class TtlVar extends CountedVar {
+		public TtlVar() {
+			super("T", VarCacheMode.TTL);
+		}
+	}
+	public static class InvalidatedVar extends CountedVar {
+		public InvalidatedVar() {
+			super("I", VarCacheMode.UNTIL_INVALIDATED);
+		}
+	}
+
+	//====================================================================================================
+	// Measures the speed of resolving the same string repeatedly.
+	//====================================================================================================
+	@Ignore
+	@Test
+	public void testSpeed() throws Exception {
+		System.setProperty("a", "a1");
+		String in = "foo $S{a} bar $IF{true,$S{a},baz} $S{b,qux}";
+		for (boolean foldConstants : new boolean[]{false, true}) {
+			VarResolver vr = VarResolver.DEFAULT.builder().foldConstants(foldConstants).build();
+			int count = 1000000;
+			for (int i = 0; i < count; i++)
+				vr.resolve(in);
+			long t = System.currentTimeMillis();
+			for (int i = 0; i < count; i++)
+				vr.resolve(in);
+			t = System.currentTimeMillis() - t;
+			System.err.println(format("foldConstants={0}: {1} resolutions/ms", foldConstants, count/Math.max(1, t))); // NOT DEBUG
+		}
+	}
 }
@@ -0,0 +1,225 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.xml;
+
+import static org.apache.juneau.internal.StringUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.xml.annotation.*;
+import org.junit.*;
+
+/**
+ * Tests for auto-detection of namespaces in the XML serializer.
+ */
+@SuppressWarnings("javadoc")
+public class XmlNamespacesTest {
+
+	private static final int NUM_RUNS = 10000;
+
+	private static XmlSerializer s = XmlSerializer.create().sq().enableNamespaces(true).addNamespaceUrisToRoot()
+		.autoDetectNamespaces(true).build();
+
+	//====================================================================================================
+	// Objects whose namespaces have already been found aren't walked again.
+	//====================================================================================================
+	@Test
+	public void testGettersCalledOnce() throws Exception {
+		assertEquals("<foo:A xmlns='http://www.apache.org/2013/Juneau' xmlns:foo='http://foo' xmlns:bar='http://bar'><foo:f1>0</foo:f1><foo:f2><foo:B><bar:f1>0</bar:f1></foo:B><foo:B><bar:f1>1</bar:f1></foo:B></foo:f2></foo:A>", s.serialize(A.create(2)));
+
+		// Only the first entry in the list is walked to find namespaces, and its 'int' getter isn't needed for that.
+		A t = A.create(10);
+		B.getterCalls = 0;
+		String r = s.serialize(t);
+		assertEquals(10, B.getterCalls);
+
+		// Namespaces specified up front.
+		XmlSerializer s2 = s.builder().namespaces(Namespace.create("foo", "http://foo"), Namespace.create("bar", "http://bar")).build();
+		B.getterCalls = 0;
+		assertEquals(r, s2.serialize(t));
+		assertEquals(10, B.getterCalls);
+	}
+
+	//====================================================================================================
+	// Values in untyped slots are always inspected.
+	//====================================================================================================
+	@Test
+	public void testUntypedSlots() throws Exception {
+		C t = new C();
+		t.f1 = new B(1);
+		t.f2 = new ArrayList<Object>(Arrays.asList(new B(2)));
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:bar='http://bar'><bar:f1 _type='B'><bar:f1>1</bar:f1></bar:f1><f2><bar:B><bar:f1>2</bar:f1></bar:B></f2></object>", s.serialize(t));
+	}
+
+	//====================================================================================================
+	// Values in slots of non-final types can be subclasses with other namespaces.
+	//====================================================================================================
+	@Test
+	public void testSubclassSlots() throws Exception {
+		D d1 = new D(), d2 = new D();
+		d1.f1 = new E();
+		d2.f1 = new F();
+		String r = s.serialize(Arrays.asList(d1, d2));
+		assertTrue(r, r.contains("xmlns:baz='http://baz'"));
+
+		assertFalse(s.getClassMeta(D.class).getExtendedMeta(XmlClassMeta.class).isClosed());
+		assertTrue(s.getClassMeta(G.class).getExtendedMeta(XmlClassMeta.class).isClosed());
+	}
+
+	//====================================================================================================
+	// Getters of properties with final declared types aren't called while searching for namespaces.
+	//====================================================================================================
+	@Test
+	public void testGettersOfNonFinalBean() throws Exception {
+		List<I> l = new ArrayList<>();
+		for (int i = 0; i < 10; i++)
+			l.add(new I("i" + i, new E()));
+		I.nameCalls = I.childCalls = 0;
+		String r = s.serialize(l);
+		assertTrue(r, r.contains("xmlns:foo='http://foo'"));
+		assertTrue(r, r.contains("xmlns:bar='http://bar'"));
+		assertTrue(r, r.contains("<foo:name>i9</foo:name>"));
+
+		// 'name' is only called during serialization.
+		assertEquals(10, I.nameCalls);
+
+		// 'child' can hold subclasses of E with other namespaces, so it's also called during the search.
+		assertEquals(20, I.childCalls);
+	}
+
+	//====================================================================================================
+	// testSpeed - Benchmark for serializing with and without namespaces.
+	//====================================================================================================
+	@Test
+	@Ignore
+	public void testSpeed() throws Exception {
+		A a = A.create(1000);
+		XmlSerializer[] serializers = {
+			XmlSerializer.DEFAULT_SQ,
+			s,
+			s.builder().namespaces(Namespace.create("foo", "http://foo"), Namespace.create("bar", "http://bar")).build()
+		};
+		String[] labels = { "Without namespaces", "Auto-detected namespaces", "Specified namespaces" };
+
+		for (int j = 0; j < serializers.length; j++) {
+			XmlSerializer s = serializers[j];
+			System.err.println("\n---Speed test: " + labels[j] + "---"); // NOT DEBUG
+			for (int i = 0; i < 100; i++)
+				s.serialize(a);
+			long startTime = System.nanoTime();
+			for (int i = 0; i < NUM_RUNS / 100; i++)
+				s.serialize(a);
+			System.err.println(format("Average serialize time: {0}us", (System.nanoTime()-startTime)/(NUM_RUNS/100)/1000)); // NOT DEBUG
+		}
+	}
+
+	@Bean(typeName="A")
+	@Xml(prefix="foo", namespace="http://foo")
+	public static class A {
+		public int f1;
+		public List<B> f2;
+
+		static A create(int size) {
+			A a = new A();
+			a.f2 = new ArrayList<>();
+			for (int i = 0; i < size; i++)
+				a.f2.add(new B(i));
+			return a;
+		}
+	}
+
+	@Bean(typeName="B")
+	@Xml(prefix="bar", namespace="http://bar")
+	public static class B {
+		static int getterCalls;
+		private int f1;
+
+		public B() {}
+
+		B(int f1) {
+			this.f1 = f1;
+		}
+
+		public int getF1() {
+			getterCalls++;
+			return f1;
+		}
+
+		public void setF1(int f1) {
+			this.f1 = f1;
+		}
+	}
+
+	public static class C {
+		public Object f1;
+		public List<Object> f2;
+	}
+
+	public static class D {
+		public E f1;
+	}
+
+	@Xml(prefix="bar", namespace="http://bar")
+	public static class E {
+		public int f1;
+	}
+
+	public static class F extends E {
+		@Xml(prefix="baz", namespace="http://baz")
+		public int f2;
+	}
+
+	public static class G {
+		public String f1;
+		public H f2;
+	}
+
+	@Xml(prefix="bar", namespace="http://bar")
+	public static final class H {
+		public int f1;
+	}
+
+	@Xml(prefix="foo", namespace="http://foo")
+	public static class I {
+		static int nameCalls, childCalls;
+		private String name;
+		private E child;
+
+		public I() {}
+
+		I(String name, E child) {
+			this.name = name;
+			this.child = child;
+		}
+
+		public String getName() {
+			nameCalls++;
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public E getChild() {
+			childCalls++;
+			return child;
+		}
+
+		public void setChild(E child) {
+			this.child = child;
+		}
+	}
+}
@@ -16,6 +16,7 @@ import static org.apache.juneau.TestUtils.*;
 import static org.apache.juneau.xml.annotation.XmlFormat.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
 import java.net.*;
 import java.util.*;
 
@@ -1029,4 +1030,25 @@ public class XmlTest {
 			f3 = "f3";
 		}
 	}
-}
\ No newline at end of file
+
+	//====================================================================================================
+	// Encoding characters at the start, middle, and end of text and attribute values.
+	//====================================================================================================
+	@Test
+	public void testEncodingRuns() throws Exception {
+		XmlSerializer s = XmlSerializer.DEFAULT_SQ;
+		XmlParser p = XmlParser.DEFAULT;
+		String[][] tests = {
+			{"abc", "abc", "abc"},
+			{" a<b>&c_x0020_d'\"\u0001 ", "_x0020_a&lt;b&gt;&amp;c_x005F_x0020_d'\"_x0001__x0020_", "_x0020_a&lt;b&gt;&amp;c_x005F_x0020_d&apos;&quot;_x0001__x0020_"},
+			{"<<&&>>", "&lt;&lt;&amp;&amp;&gt;&gt;", "&lt;&lt;&amp;&amp;&gt;&gt;"},
+			{"a\tb\nc", "a&#x0009;b&#x000a;c", "a&#x0009;b&#x000a;c"},
+		};
+		for (String[] t : tests) {
+			String r = s.serialize(t[0]);
+			assertEquals("<string>" + t[1] + "</string>", r);
+			assertEquals(t[0], p.parse(r, String.class));
+			assertEquals(t[2], XmlUtils.encodeAttrValue(new StringWriter(), t[0], false).toString());
+		}
+	}
+}
\ No newline at end of file
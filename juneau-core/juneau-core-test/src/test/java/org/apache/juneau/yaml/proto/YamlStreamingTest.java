@@ -0,0 +1,151 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.yaml.proto;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+/**
+ * Tests for streaming multi-document YAML input and output.
+ */
+@SuppressWarnings("javadoc")
+public class YamlStreamingTest {
+
+	private static final YamlParser p = YamlParser.DEFAULT;
+	private static final YamlSerializer s = YamlSerializer.DEFAULT;
+
+	//====================================================================================================
+	// Documents separated by '---' markers.
+	//====================================================================================================
+	@Test
+	public void testParseDocuments() throws Exception {
+		assertEquals("[{a:1},[2,3],'foo']", parseAll("{a:1}\n---\n[2,3]\n---\n'foo'"));
+		assertEquals("[{a:1},[2,3],'foo']", parseAll("--- {a:1}\n--- [2,3]\n--- 'foo'\n"));
+		assertEquals("[{a:1},-1]", parseAll("---\n{a:1}\n...\n---\n-1\n...\n"));
+		assertEquals("[{a:1},'b']", parseAll("{a:1}\n...\n'b'"));
+		assertEquals("[{a:1}]", parseAll("\n---\n{a:1}\n---\n"));
+		assertEquals("[]", parseAll(""));
+		assertEquals("[]", parseAll(null));
+	}
+
+	//====================================================================================================
+	// Documents parsed into typed beans.
+	//====================================================================================================
+	@Test
+	public void testParseDocumentsTyped() throws Exception {
+		try (ParserIterator<A> i = p.parseDocuments("{f1:1}\n---\n{f1:2}", A.class)) {
+			assertEquals(1, i.next().f1);
+			assertEquals(2, i.next().f1);
+			assertFalse(i.hasNext());
+		}
+	}
+
+	//====================================================================================================
+	// Missing separators between documents.
+	//====================================================================================================
+	@Test
+	public void testMissingSeparator() throws Exception {
+		try (ParserIterator<Object> i = p.parseDocuments("{a:1}\n{b:2}", Object.class)) {
+			i.next();
+			i.next();
+			fail("Exception expected");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause().getMessage().contains("Expected '---' between YAML documents."));
+		}
+	}
+
+	//====================================================================================================
+	// Elements of a top-level array parsed one at a time.
+	//====================================================================================================
+	@Test
+	public void testParseIterator() throws Exception {
+		List<Integer> l = new ArrayList<>();
+		try (ParserIterator<Integer> i = p.parseIterator(" [1, 2, 3] ", Integer.class)) {
+			while (i.hasNext())
+				l.add(i.next());
+		}
+		assertEquals(Arrays.asList(1, 2, 3), l);
+	}
+
+	//====================================================================================================
+	// Documents written with serializeDocuments().
+	//====================================================================================================
+	@Test
+	public void testSerializeDocuments() throws Exception {
+		StringWriter sw = new StringWriter();
+		s.serializeDocuments(Arrays.asList(new ObjectMap("{a:'b'}"), "foo", 123).iterator(), sw);
+		assertEquals("---\n{\n\ta: \"b\"\n}\n---\n\"foo\"\n---\n123\n", sw.toString());
+
+		sw = new StringWriter();
+		s.serializeDocuments(Collections.emptyIterator(), sw);
+		assertEquals("", sw.toString());
+	}
+
+	//====================================================================================================
+	// Round trip through serializeDocuments() and parseDocuments().
+	//====================================================================================================
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<Object> in = new ArrayList<>();
+		in.add(new ObjectList("[1,'x',[2,3]]"));
+		in.add(new ObjectMap("{a:'b',c:{d:1},e:[1,{f:2}]}"));
+		in.add(new B().init());
+		in.add("foo");
+		in.add(123);
+
+		StringWriter sw = new StringWriter();
+		s.serializeDocuments(in.iterator(), sw);
+
+		try (ParserIterator<Object> i = p.parseDocuments(sw.toString(), Object.class)) {
+			for (Object o : in)
+				assertEquals(JsonSerializer.DEFAULT_LAX.toString(o), JsonSerializer.DEFAULT_LAX.toString(i.next()));
+			assertFalse(i.hasNext());
+		}
+	}
+
+	private static String parseAll(String in) throws Exception {
+		ObjectList l = new ObjectList();
+		try (ParserIterator<Object> i = p.parseDocuments(in, Object.class)) {
+			while (i.hasNext())
+				l.add(i.next());
+		}
+		return l.toString();
+	}
+
+	public static class A {
+		public int f1;
+	}
+
+	public static class B {
+		public int f1;
+		public String f2;
+		public List<Integer> f3;
+		public Map<String,A> f4;
+
+		B init() {
+			f1 = 1;
+			f2 = "x";
+			f3 = Arrays.asList(2, 3);
+			f4 = new TreeMap<>();
+			f4.put("a", new A());
+			return this;
+		}
+	}
+}
@@ -792,6 +792,16 @@ public final class ClassMeta<T> implements Type {
 		return childPojoSwaps != null;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this class or any child classes has a {@link PojoSwap} associated with it, regardless
+	 * of the media types the swaps apply to.
+	 * 
+	 * @return <jk>true</jk> if this class or any child classes has a {@link PojoSwap} associated with it.
+	 */
+	public boolean hasPojoSwaps() {
+		return pojoSwaps != null || childPojoSwaps != null;
+	}
+
 	/**
 	 * Returns the {@link PojoSwap} where the specified class is the same/subclass of the normal class of one of the
 	 * child POJO swaps associated with this class.
@@ -397,6 +397,40 @@ public class HtmlSerializer extends XmlSerializer {
 	 */
 	public static final String HTML_detectLabelParameters = PREFIX + "detectLabelParameters.b";
 
+	/**
+	 * Configuration property:  Stream tables.
+	 * 
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"HtmlSerializer.streamTables.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b>  <jk>true</jk>
+	 * 	<li><b>Methods:</b> 
+	 * 		<ul>
+	 * 			<li class='jm'>{@link HtmlSerializerBuilder#streamTables(boolean)}
+	 * 			<li class='jm'>{@link HtmlSerializerBuilder#streamTables()}
+	 * 		</ul>
+	 * </ul>
+	 * 
+	 * <p>
+	 * When enabled, collections and arrays of beans and maps are written to tables one row at a time.
+	 * 
+	 * <p>
+	 * By default, every element is inspected before the table is written so that columns that are <jk>null</jk> in
+	 * every row can be left out and collections of mixed types can be rendered as lists instead.
+	 * When this setting is enabled, the table columns are determined from the first non-null element (all the
+	 * properties of a bean, or all the keys of a map), and the swaps and type names of each row class are looked up
+	 * only once per table.
+	 * This avoids inspecting large collections twice, and also allows {@link Iterator Iterators} to be serialized as
+	 * tables or lists without first being copied into a collection.
+	 * 
+	 * <p>
+	 * Rows are assumed to be of the same kind as the first element.
+	 * Bean rows without one of the column properties get empty cells.
+	 */
+	public static final String HTML_streamTables = PREFIX + "streamTables.b";
+
 	/**
 	 * Configuration property:  Anchor text source.
 	 * 
@@ -634,7 +668,8 @@ public class HtmlSerializer extends XmlSerializer {
 		lookForLabelParameters,
 		detectLinksInStrings,
 		addKeyValueTableHeaders,
-		addBeanTypeProperties;
+		addBeanTypeProperties,
+		streamTables;
 	final String labelParameter;
 
 	private volatile HtmlSchemaDocSerializer schemaSerializer;
@@ -681,6 +716,7 @@ public class HtmlSerializer extends XmlSerializer {
 		detectLinksInStrings = getProperty(HTML_detectLinksInStrings, boolean.class, true);
 		labelParameter = getProperty(HTML_labelParameter, String.class, "label");
 		addKeyValueTableHeaders = getProperty(HTML_addKeyValueTableHeaders, boolean.class, false);
+		streamTables = getProperty(HTML_streamTables, boolean.class, false);
 		addBeanTypeProperties = getProperty(HTML_addBeanTypeProperties, boolean.class, getProperty(SERIALIZER_addBeanTypeProperties, boolean.class, true));
 	}
 
@@ -726,6 +762,7 @@ public class HtmlSerializer extends XmlSerializer {
 				.append("detectLinksInStrings", detectLinksInStrings)
 				.append("labelParameter", labelParameter)
 				.append("addKeyValueTableHeaders", addKeyValueTableHeaders)
+				.append("streamTables", streamTables)
 				.append("addBeanTypeProperties", addBeanTypeProperties)
 			);
 	}
@@ -148,6 +148,44 @@ public class HtmlSerializerBuilder extends XmlSerializerBuilder {
 		return set(HTML_detectLabelParameters, value);
 	}
 
+	/**
+	 * Configuration property:  Stream tables.
+	 * 
+	 * <p>
+	 * When enabled, collections, arrays, and iterators of beans and maps are written to tables one row at a time, with
+	 * the columns determined from the first element.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link HtmlSerializer#HTML_streamTables}
+	 * </ul>
+	 * 
+	 * @param value 
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public HtmlSerializerBuilder streamTables(boolean value) {
+		return set(HTML_streamTables, value);
+	}
+
+	/**
+	 * Configuration property:  Stream tables.
+	 * 
+	 * <p>
+	 * Shortcut for calling <code>streamTables(<jk>true</jk>)</code>.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link HtmlSerializer#HTML_streamTables}
+	 * </ul>
+	 * 
+	 * @return This object (for method chaining).
+	 */
+	public HtmlSerializerBuilder streamTables() {
+		return set(HTML_streamTables, true);
+	}
+
 	/**
 	 * Configuration property:  Anchor text source.
 	 * 
@@ -41,7 +41,8 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		detectLinksInStrings,
 		lookForLabelParameters,
 		addKeyValueTableHeaders,
-		addBeanTypeProperties;
+		addBeanTypeProperties,
+		streamTables;
 	private final Pattern urlPattern = Pattern.compile("http[s]?\\:\\/\\/.*");
 	private final Pattern labelPattern;
 
@@ -65,6 +66,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		lookForLabelParameters = getProperty(HTML_detectLabelParameters, boolean.class, ctx.lookForLabelParameters);
 		addKeyValueTableHeaders = getProperty(HTML_addKeyValueTableHeaders, boolean.class, ctx.addKeyValueTableHeaders);
 		addBeanTypeProperties = getProperty(HTML_addBeanTypeProperties, boolean.class, ctx.addBeanTypeProperties);
+		streamTables = getProperty(HTML_streamTables, boolean.class, ctx.streamTables);
 		String labelParameter = getProperty(HTML_labelParameter, String.class, ctx.labelParameter);
 		labelPattern = Pattern.compile("[\\?\\&]" + Pattern.quote(labelParameter) + "=([^\\&]*)");
 	}
@@ -79,6 +81,7 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 				.append("detectLinksInStrings", detectLinksInStrings)
 				.append("labelPattern", labelPattern)
 				.append("lookForLabelParameters", lookForLabelParameters)
+				.append("streamTables", streamTables)
 			);
 	}
 
@@ -175,6 +178,15 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		return addKeyValueTableHeaders;
 	}
 
+	/**
+	 * Returns the {@link HtmlSerializer#HTML_streamTables} setting value for this session.
+	 * 
+	 * @return The {@link HtmlSerializer#HTML_streamTables} setting value for this session.
+	 */
+	public final boolean isStreamTables() {
+		return streamTables;
+	}
+
 	/**
 	 * Returns the {@link HtmlSerializer#HTML_addBeanTypeProperties} setting value for this session.
 	 * 
@@ -329,6 +341,10 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 					out.sTag("boolean").append(o).eTag("boolean");
 				cr = CR_SIMPLE;
 
+			} else if (streamTables && o instanceof Iterator) {
+				out.nlIf(! isRoot, xIndent+1);
+				serializeRows(out, (Iterator)o, eType, "array", name, pMeta);
+
 			} else if (sType.isMap() || (wType != null && wType.isMap())) {
 				out.nlIf(! isRoot, xIndent+1);
 				if (o instanceof BeanMap)
@@ -538,6 +554,11 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 
 		c = sort(c);
 
+		if (streamTables) {
+			serializeRows(out, c.iterator(), eType, type2, name, ppMeta);
+			return;
+		}
+
 		HtmlBeanPropertyMeta hbpMeta = (ppMeta == null ? null : ppMeta.getExtendedMeta(HtmlBeanPropertyMeta.class));
 		String btpn = getBeanTypePropertyName(eType);
 
@@ -548,8 +569,108 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		Object[] th = getTableHeaders(c, hbpMeta);
 
 		if (th != null) {
+			serializeTable(out, c, Collections.emptyIterator(), th, false, btpn, type2, eType.getElementType());
+
+		} else {
+			out.oTag(i, "ul");
+			if (! type2.equals("array"))
+				out.attr(btpn, type2);
+			out.append('>').nl(i+1);
+			for (Object o : c)
+				serializeListItem(out, o, eType, name, ppMeta);
+			out.ie(i).eTag("ul").nl(i);
+		}
+	}
+
+	private void serializeListItem(HtmlWriter out, Object o, ClassMeta<?> eType, String name,
+			BeanPropertyMeta ppMeta) throws Exception {
+		int i = indent;
+		out.oTag(i+1, "li");
+		String style = getStyle(this, ppMeta, o);
+		String link = getLink(ppMeta);
+		if (style != null)
+			out.attr("style", style);
+		out.cTag();
+		if (link != null)
+			out.oTag(i+2, "a").attrUri("href", link.replace("{#}", StringUtils.toString(o))).cTag();
+		ContentResult cr = serializeAnything(out, o, eType.getElementType(), name, 1, null, false);
+		if (link != null)
+			out.eTag("a");
+		if (cr == CR_NORMAL)
+			out.ie(i+1);
+		out.eTag("li").nl(i+1);
+	}
+
+	/*
+	 * Serializes the elements of a collection, array, or iterator one at a time.
+	 * The table columns are determined from the first non-null element, and the swaps and type names of the rows are
+	 * looked up only once for each row class.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void serializeRows(HtmlWriter out, Iterator<?> it, ClassMeta<?> eType, String type2, String name,
+			BeanPropertyMeta ppMeta) throws Exception {
+
+		int i = indent;
+
+		// The elements up to and including the first non-null one.
+		List<Object> head = new ArrayList<>();
+		Object o1 = null;
+		while (o1 == null && it.hasNext())
+			head.add(o1 = it.next());
+
+		if (head.isEmpty()) {
+			out.appendln(i, "<ul></ul>");
+			return;
+		}
+
+		HtmlBeanPropertyMeta hbpMeta = (ppMeta == null ? null : ppMeta.getExtendedMeta(HtmlBeanPropertyMeta.class));
+		String btpn = getBeanTypePropertyName(eType);
+
+		Object[] th = null;
+		boolean noHeaders = false;
+		ClassMeta<?> cm1 = (o1 == null ? null : getClassMetaForObject(o1));
+		RowMeta rm1 = (cm1 == null ? null : new RowMeta(cm1, null));
+		if (rm1 != null) {
+			ClassMeta<?> cm = rm1.cm;
+			Object s1 = (rm1.swap == null ? o1 : rm1.swap.swap(this, o1));
+			HtmlClassMeta h = cm.getExtendedMeta(HtmlClassMeta.class);
+			if (cm.isMapOrBean() && ! cm.getInnerClass().isAnnotationPresent(HtmlLink.class)
+					&& ! (h.isNoTables() || (hbpMeta != null && hbpMeta.isNoTables()))
+					&& ! canIgnoreValue(cm, null, s1)) {
+				if (cm.isMap() && ! cm.isBeanMap())
+					th = sort((Map)s1).keySet().toArray();
+				else
+					th = (s1 instanceof BeanMap ? (BeanMap)s1 : toBeanMap(s1)).keySet().toArray();
+				noHeaders = h.isNoTableHeaders() || (hbpMeta != null && hbpMeta.isNoTableHeaders());
+			}
+		}
+
+		if (th != null) {
+			serializeTable(out, head, it, th, noHeaders, btpn, type2, eType.getElementType());
 
-			out.oTag(i, "table").attr(btpn, type2).append('>').nl(i+1);
+		} else {
+			out.oTag(i, "ul");
+			if (! type2.equals("array"))
+				out.attr(btpn, type2);
+			out.append('>').nl(i+1);
+			for (Object o : head)
+				serializeListItem(out, o, eType, name, ppMeta);
+			while (it.hasNext())
+				serializeListItem(out, it.next(), eType, name, ppMeta);
+			out.ie(i).eTag("ul").nl(i);
+		}
+	}
+
+	/*
+	 * Serializes the elements of a collection, array, or iterator as the rows of a table with the specified columns.
+	 * The elements in head are serialized first, followed by the remaining elements of tail.
+	 */
+	private void serializeTable(HtmlWriter out, Iterable<?> head, Iterator<?> tail, Object[] th, boolean noHeaders,
+			String btpn, String type2, ClassMeta<?> elementType) throws Exception {
+		int i = indent;
+
+		out.oTag(i, "table").attr(btpn, type2).append('>').nl(i+1);
+		if (! noHeaders) {
 			out.sTag(i+1, "tr").nl(i+2);
 			for (Object key : th) {
 				out.sTag(i+2, "th");
@@ -557,101 +678,121 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 				out.eTag("th").nl(i+2);
 			}
 			out.ie(i+1).eTag("tr").nl(i+1);
+		}
 
-			for (Object o : c) {
-				ClassMeta<?> cm = getClassMetaForObject(o);
+		Map<ClassMeta<?>,RowMeta> rowMetas = new HashMap<>();
+		for (Object o : head)
+			serializeRow(out, o, th, rowMetas, elementType);
+		while (tail.hasNext())
+			serializeRow(out, tail.next(), th, rowMetas, elementType);
+		out.ie(i).eTag("table").nl(i);
+	}
 
-				if (cm != null && cm.getPojoSwap(this) != null) {
-					PojoSwap swap = cm.getPojoSwap(this);
-					o = swap.swap(this, o);
-					cm = swap.getSwapClassMeta(this);
-				}
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void serializeRow(HtmlWriter out, Object o, Object[] th, Map<ClassMeta<?>,RowMeta> rowMetas,
+			ClassMeta<?> elementType) throws Exception {
+		int i = indent;
+
+		RowMeta rm = getRowMeta(rowMetas, getClassMetaForObject(o), th);
+		ClassMeta<?> cm = null;
+		if (rm != null) {
+			cm = rm.cm;
+			if (rm.swap != null)
+				o = rm.swap.swap(this, o);
+		}
+
+		out.oTag(i+1, "tr");
+		if (rm != null && rm.typeName != null && elementType != cm)
+			out.attr(rm.typeProperty, rm.typeName);
+		out.cTag().nl(i+2);
 
-				out.oTag(i+1, "tr");
-				String typeName = (cm == null ? null : cm.getDictionaryName());
-				String typeProperty = getBeanTypePropertyName(cm);
+		if (cm == null || ! cm.isMapOrBean()) {
+			out.i(i+2);
+			serializeAnything(out, o, null, null, 1, null, false);
+			out.nl(0);
 
-				if (typeName != null && eType.getElementType() != cm)
-					out.attr(typeProperty, typeName);
-				out.cTag().nl(i+2);
+		} else if (cm.isMap() && ! cm.isBeanMap()) {
+			Map m2 = sort((Map)o);
 
-				if (cm == null) {
+			for (Object k : th) {
+				out.sTag(i+2, "td");
+				ContentResult cr = serializeAnything(out, m2.get(k), elementType, toString(k), 2, null, false);
+				if (cr == CR_NORMAL)
 					out.i(i+2);
-					serializeAnything(out, o, null, null, 1, null, false);
-					out.nl(0);
-
-				} else if (cm.isMap() && ! (cm.isBeanMap())) {
-					Map m2 = sort((Map)o);
-
-					for (Object k : th) {
-						out.sTag(i+2, "td");
-						ContentResult cr = serializeAnything(out, m2.get(k), eType.getElementType(), toString(k), 2, null, false);
-						if (cr == CR_NORMAL)
-							out.i(i+2);
-						out.eTag("td").nl(i+2);
-					}
-				} else {
-					BeanMap m2 = null;
-					if (o instanceof BeanMap)
-						m2 = (BeanMap)o;
-					else
-						m2 = toBeanMap(o);
-
-					for (Object k : th) {
-						BeanMapEntry p = m2.getProperty(toString(k));
-						BeanPropertyMeta pMeta = p.getMeta();
-						Object value = p.getValue();
-
-						String link = null, anchorText = null;
-						if (! pMeta.getClassMeta().isCollectionOrArray()) {
-							link = m2.resolveVars(getLink(pMeta));
-							anchorText = m2.resolveVars(getAnchorText(pMeta));
-						}
-
-						if (anchorText != null)
-							value = anchorText;
-
-						String style = getStyle(this, pMeta, value);
-						out.oTag(i+2, "td");
-						if (style != null)
-							out.attr("style", style);
-						out.cTag();
-						if (link != null)
-							out.oTag("a").attrUri("href", link).cTag();
-						ContentResult cr = serializeAnything(out, value, pMeta.getClassMeta(), p.getKey().toString(), 2, pMeta, false);
-						if (cr == CR_NORMAL)
-							out.i(i+2);
-						if (link != null)
-							out.eTag("a");
-						out.eTag("td").nl(i+2);
-					}
-				}
-				out.ie(i+1).eTag("tr").nl(i+1);
+				out.eTag("td").nl(i+2);
 			}
-			out.ie(i).eTag("table").nl(i);
-
 		} else {
-			out.oTag(i, "ul");
-			if (! type2.equals("array"))
-				out.attr(btpn, type2);
-			out.append('>').nl(i+1);
-			for (Object o : c) {
-				out.oTag(i+1, "li");
-				String style = getStyle(this, ppMeta, o);
-				String link = getLink(ppMeta);
+			BeanMap m2 = (o instanceof BeanMap ? (BeanMap)o : toBeanMap(o));
+
+			for (int j = 0; j < th.length; j++) {
+				String key = toString(th[j]);
+				BeanPropertyMeta pMeta = (rm.pMetas == null ? m2.getPropertyMeta(key) : rm.pMetas[j]);
+				if (pMeta == null) {
+					out.sTag(i+2, "td").eTag("td").nl(i+2);
+					continue;
+				}
+				Object value = pMeta.get(m2, key);
+
+				String link = null, anchorText = null;
+				if (! pMeta.getClassMeta().isCollectionOrArray()) {
+					link = m2.resolveVars(getLink(pMeta));
+					anchorText = m2.resolveVars(getAnchorText(pMeta));
+				}
+
+				if (anchorText != null)
+					value = anchorText;
+
+				String style = getStyle(this, pMeta, value);
+				out.oTag(i+2, "td");
 				if (style != null)
 					out.attr("style", style);
 				out.cTag();
 				if (link != null)
-					out.oTag(i+2, "a").attrUri("href", link.replace("{#}", StringUtils.toString(o))).cTag();
-				ContentResult cr = serializeAnything(out, o, eType.getElementType(), name, 1, null, false);
+					out.oTag("a").attrUri("href", link).cTag();
+				ContentResult cr = serializeAnything(out, value, pMeta.getClassMeta(), key, 2, pMeta, false);
+				if (cr == CR_NORMAL)
+					out.i(i+2);
 				if (link != null)
 					out.eTag("a");
-				if (cr == CR_NORMAL)
-					out.ie(i+1);
-				out.eTag("li").nl(i+1);
+				out.eTag("td").nl(i+2);
+			}
+		}
+		out.ie(i+1).eTag("tr").nl(i+1);
+	}
+
+	private RowMeta getRowMeta(Map<ClassMeta<?>,RowMeta> rowMetas, ClassMeta<?> aType, Object[] th) {
+		if (aType == null)
+			return null;
+		RowMeta rm = rowMetas.get(aType);
+		if (rm == null) {
+			rm = new RowMeta(aType, th);
+			rowMetas.put(aType, rm);
+		}
+		return rm;
+	}
+
+	/*
+	 * Metadata about a row class of a streamed table.
+	 */
+	@SuppressWarnings("rawtypes")
+	private final class RowMeta {
+		final PojoSwap swap;
+		final ClassMeta<?> cm;
+		final String typeName, typeProperty;
+		final BeanPropertyMeta[] pMetas;  // The bean properties of the table columns.
+
+		RowMeta(ClassMeta<?> aType, Object[] th) {
+			swap = aType.getPojoSwap(HtmlSerializerSession.this);
+			cm = (swap == null ? aType : swap.getSwapClassMeta(HtmlSerializerSession.this));
+			typeName = cm.getDictionaryName();
+			typeProperty = getBeanTypePropertyName(cm);
+			if (th != null && cm.isBean()) {
+				pMetas = new BeanPropertyMeta[th.length];
+				for (int j = 0; j < th.length; j++)
+					pMetas[j] = cm.getBeanMeta().getPropertyMeta(HtmlSerializerSession.this.toString(th[j]));
+			} else {
+				pMetas = null;
 			}
-			out.ie(i).eTag("ul").nl(i);
 		}
 	}
 
@@ -0,0 +1,67 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.*;
+
+/**
+ * An {@link InputStream} that reads directly from the remaining bytes of a {@link ByteBuffer}.
+ * 
+ * <p>
+ * Works with both heap and direct buffers without copying their contents.
+ * <br>The position of the buffer passed in is not changed.
+ */
+public final class ByteBufferInputStream extends InputStream {
+
+	private final ByteBuffer buffer;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param buffer The buffer to read from.
+	 */
+	public ByteBufferInputStream(ByteBuffer buffer) {
+		this.buffer = buffer.duplicate();
+	}
+
+	@Override /* InputStream */
+	public int read() {
+		return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+	}
+
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) {
+		if (len == 0)
+			return 0;
+		if (! buffer.hasRemaining())
+			return -1;
+		int n = Math.min(len, buffer.remaining());
+		buffer.get(b, off, n);
+		return n;
+	}
+
+	@Override /* InputStream */
+	public long skip(long n) {
+		if (n <= 0)
+			return 0;
+		int i = (int)Math.min(n, buffer.remaining());
+		buffer.position(buffer.position() + i);
+		return i;
+	}
+
+	@Override /* InputStream */
+	public int available() {
+		return buffer.remaining();
+	}
+}
@@ -0,0 +1,55 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.*;
+
+/**
+ * An {@link OutputStream} that writes directly into a {@link ByteBuffer}.
+ * 
+ * <p>
+ * Works with both heap and direct buffers.
+ * <br>Bytes are written starting at the current position of the buffer, and the position is advanced past them.
+ */
+public final class ByteBufferOutputStream extends OutputStream {
+
+	private final ByteBuffer buffer;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param buffer The buffer to write to.
+	 */
+	public ByteBufferOutputStream(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		if (! buffer.hasRemaining())
+			throw overflow(1);
+		buffer.put((byte)b);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len > buffer.remaining())
+			throw overflow(len);
+		buffer.put(b, off, len);
+	}
+
+	private IOException overflow(int len) {
+		return new IOException("Buffer overflow.  Could not write "+len+" bytes to buffer with "+buffer.remaining()+" bytes remaining.");
+	}
+}
@@ -12,9 +12,9 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.internal;
 
-import java.lang.ref.*;
 import java.text.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import javax.xml.bind.*;
 
@@ -96,12 +96,17 @@ public final class DateUtils {
 			v = v.substring(1, v.length() - 1);
 		}
 		for (final String dateFormat : localDateFormats) {
-			final SimpleDateFormat dateParser = DateFormatHolder.formatFor(dateFormat);
-			dateParser.set2DigitYearStart(localStartDate);
-			final ParsePosition pos = new ParsePosition(0);
-			final Date result = dateParser.parse(v, pos);
-			if (pos.getIndex() != 0) {
-				return result;
+			final ObjectPool<SimpleDateFormat> pool = DateFormatHolder.poolFor(dateFormat);
+			final SimpleDateFormat dateParser = pool.borrow();
+			try {
+				dateParser.set2DigitYearStart(localStartDate);
+				final ParsePosition pos = new ParsePosition(0);
+				final Date result = dateParser.parse(v, pos);
+				if (pos.getIndex() != 0) {
+					return result;
+				}
+			} finally {
+				pool.release(dateParser);
 			}
 		}
 		return null;
@@ -143,62 +148,52 @@ public final class DateUtils {
 	 * @see SimpleDateFormat
 	 */
 	public static String formatDate(final Date date, final String pattern) {
-		final SimpleDateFormat formatter = DateFormatHolder.formatFor(pattern);
-		return formatter.format(date);
-	}
-
-	/**
-	 * Clears thread-local variable containing {@link java.text.DateFormat} cache.
-	 */
-	public static void clearThreadLocal() {
-		DateFormatHolder.clearThreadLocal();
+		final ObjectPool<SimpleDateFormat> pool = DateFormatHolder.poolFor(pattern);
+		final SimpleDateFormat formatter = pool.borrow();
+		try {
+			return formatter.format(date);
+		} finally {
+			pool.release(formatter);
+		}
 	}
 
 	/**
 	 * A factory for {@link SimpleDateFormat}s.
 	 * 
 	 * <p>
-	 * The instances are stored in a thread-local way because SimpleDateFormat is not thread-safe as noted in
-	 * {@link SimpleDateFormat its javadoc}.
+	 * SimpleDateFormat is not thread-safe as noted in {@link SimpleDateFormat its javadoc}, so instances are kept in
+	 * per-pattern pools shared by all threads and borrowed for the duration of a single format or parse.
 	 */
 	static final class DateFormatHolder {
-		private static final ThreadLocal<SoftReference<Map<String,SimpleDateFormat>>> THREADLOCAL_FORMATS =
-				new ThreadLocal<SoftReference<Map<String,SimpleDateFormat>>>() {
-			@Override
-			protected SoftReference<Map<String,SimpleDateFormat>> initialValue() {
-				return new SoftReference<Map<String,SimpleDateFormat>>(new HashMap<String,SimpleDateFormat>());
-			}
-		};
+		private static final ConcurrentHashMap<String,ObjectPool<SimpleDateFormat>> POOLS = new ConcurrentHashMap<>();
 
 		/**
-		 * Creates a {@link SimpleDateFormat} for the requested format string.
+		 * Returns the pool of {@link SimpleDateFormat SimpleDateFormats} for the requested format string.
 		 * 
 		 * @param pattern
 		 * 	A non-<code>null</code> format String according to {@link SimpleDateFormat}.
 		 * 	The format is not checked against <code>null</code> since all paths go through {@link DateUtils}.
 		 * @return
-		 * 	The requested format.
-		 * 	This simple date-format should not be used to {@link SimpleDateFormat#applyPattern(String) apply} to a
-		 * 	different pattern.
+		 * 	The pool of formats for the requested pattern.
+		 * 	The simple date-formats borrowed from this pool should not be used to
+		 * 	{@link SimpleDateFormat#applyPattern(String) apply} to a different pattern.
 		 */
-		public static SimpleDateFormat formatFor(final String pattern) {
-			final SoftReference<Map<String,SimpleDateFormat>> ref = THREADLOCAL_FORMATS.get();
-			Map<String,SimpleDateFormat> formats = ref.get();
-			if (formats == null) {
-				formats = new HashMap<>();
-				THREADLOCAL_FORMATS.set(new SoftReference<>(formats));
-			}
-			SimpleDateFormat format = formats.get(pattern);
-			if (format == null) {
-				format = new SimpleDateFormat(pattern, Locale.US);
-				format.setTimeZone(TimeZone.getTimeZone("GMT"));
-				formats.put(pattern, format);
+		public static ObjectPool<SimpleDateFormat> poolFor(final String pattern) {
+			ObjectPool<SimpleDateFormat> pool = POOLS.get(pattern);
+			if (pool == null) {
+				pool = new ObjectPool<SimpleDateFormat>(16) {
+					@Override
+					protected SimpleDateFormat create() {
+						SimpleDateFormat format = new SimpleDateFormat(pattern, Locale.US);
+						format.setTimeZone(GMT);
+						return format;
+					}
+				};
+				ObjectPool<SimpleDateFormat> pool2 = POOLS.putIfAbsent(pattern, pool);
+				if (pool2 != null)
+					pool = pool2;
 			}
-			return format;
-		}
-
-		public static void clearThreadLocal() {
-			THREADLOCAL_FORMATS.remove();
+			return pool;
 		}
 	}
 
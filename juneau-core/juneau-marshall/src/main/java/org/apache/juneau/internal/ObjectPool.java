@@ -0,0 +1,91 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A small thread-safe pool of reusable objects that are expensive to create but not themselves thread-safe, such as
+ * {@link java.text.DateFormat DateFormats}.
+ * 
+ * <p>
+ * Unlike thread-locals, idle objects are shared between all threads, so the number of objects created is bounded by
+ * the number of concurrent users instead of the number of threads that have ever used the pool.
+ * 
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	DateFormat df = pool.borrow();
+ * 	<jk>try</jk> {
+ * 		<jk>return</jk> df.format(date);
+ * 	} <jk>finally</jk> {
+ * 		pool.release(df);
+ * 	}
+ * </p>
+ * 
+ * @param <T> The pooled object type.
+ */
+public abstract class ObjectPool<T> {
+
+	private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger idleCount = new AtomicInteger();
+	private final int maxIdle;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param maxIdle The maximum number of idle objects to keep in this pool.
+	 */
+	protected ObjectPool(int maxIdle) {
+		this.maxIdle = maxIdle;
+	}
+
+	/**
+	 * Creates a new object when the pool doesn't have an idle one.
+	 * 
+	 * @return A new object.  Never <jk>null</jk>.
+	 */
+	protected abstract T create();
+
+	/**
+	 * Takes an idle object from this pool, or creates a new one if there aren't any.
+	 * 
+	 * <p>
+	 * The object is owned by the caller until it's passed to {@link #release(Object)}.
+	 * 
+	 * @return An object for the exclusive use of the caller.
+	 */
+	public final T borrow() {
+		T t = idle.poll();
+		if (t == null)
+			return create();
+		idleCount.decrementAndGet();
+		return t;
+	}
+
+	/**
+	 * Returns an object borrowed through {@link #borrow()} to this pool.
+	 * 
+	 * <p>
+	 * The object is discarded if the pool already holds the maximum number of idle objects.
+	 * 
+	 * @param t The object to return.
+	 */
+	public final void release(T t) {
+		if (idleCount.incrementAndGet() > maxIdle)
+			idleCount.decrementAndGet();
+		else
+			idle.offer(t);
+	}
+}
@@ -1006,14 +1006,15 @@ public final class StringUtils {
 		if (in == null)
 			return null;
 
-		byte bIn[] = in.getBytes(IOUtils.UTF8);
+		// Decode straight from the characters of the string.
+		int length = in.length();
 
-		if (bIn.length % 4 != 0)
+		if (length % 4 != 0)
 			illegalArg("Invalid BASE64 string length.  Must be multiple of 4.");
 
 		// Strip out any trailing '=' filler characters.
-		int inLength = bIn.length;
-		while (inLength > 0 && bIn[inLength - 1] == '=')
+		int inLength = length;
+		while (inLength > 0 && in.charAt(inLength - 1) == '=')
 			inLength--;
 
 		int outLength = (inLength * 3) / 4;
@@ -1021,14 +1022,10 @@ public final class StringUtils {
 		int iIn = 0;
 		int iOut = 0;
 		while (iIn < inLength) {
-			int i0 = bIn[iIn++];
-			int i1 = bIn[iIn++];
-			int i2 = iIn < inLength ? bIn[iIn++] : 'A';
-			int i3 = iIn < inLength ? bIn[iIn++] : 'A';
-			int b0 = base64m2[i0];
-			int b1 = base64m2[i1];
-			int b2 = base64m2[i2];
-			int b3 = base64m2[i3];
+			int b0 = base64Nibble(in.charAt(iIn++));
+			int b1 = base64Nibble(in.charAt(iIn++));
+			int b2 = iIn < inLength ? base64Nibble(in.charAt(iIn++)) : 0;
+			int b3 = iIn < inLength ? base64Nibble(in.charAt(iIn++)) : 0;
 			int o0 = (b0 << 2) | (b1 >>> 4);
 			int o1 = ((b1 & 0xf) << 4) | (b2 >>> 2);
 			int o2 = ((b2 & 3) << 6) | b3;
@@ -1041,6 +1038,12 @@ public final class StringUtils {
 		return out;
 	}
 
+	private static int base64Nibble(char c) {
+		if (c >= 128)
+			illegalArg("Invalid BASE64 character ''{0}''.", c);
+		return base64m2[c];
+	}
+
 	/**
 	 * Generated a random UUID with the specified number of characters.
 	 * 
@@ -1367,6 +1370,24 @@ public final class StringUtils {
 		return sb.toString();
 	}
 
+	/**
+	 * Converts the remaining bytes in a buffer into a simple hexadecimal character string.
+	 * 
+	 * <p>
+	 * The position of the buffer is not changed.
+	 * 
+	 * @param bytes The bytes to convert to hexadecimal.
+	 * @return A new string consisting of hexadecimal characters.
+	 */
+	public static String toHex(ByteBuffer bytes) {
+		StringBuilder sb = new StringBuilder(bytes.remaining() * 2);
+		for (int j = bytes.position(); j < bytes.limit(); j++) {
+			int v = bytes.get(j) & 0xFF;
+			sb.append(HEX[v >>> 4]).append(HEX[v & 0x0F]);
+		}
+		return sb.toString();
+	}
+
 	/**
 	 * Same as {@link #toHex(byte[])} but puts spaces between the byte strings.
 	 * 
@@ -0,0 +1,70 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Metadata on bean properties specific to the JSON serializers.
+ * 
+ * <p>
+ * Caches the property name encoded as a JSON attribute name (quoted and escaped as needed, followed by a colon) for
+ * each combination of writer settings that affect the encoding, so that {@link JsonWriter} can write it with a single
+ * bulk write.
+ */
+public final class JsonBeanPropertyMeta extends BeanPropertyMetaExtended {
+
+	private final AtomicReferenceArray<char[]> attrs = new AtomicReferenceArray<>(JsonWriter.ATTR_VARIANTS);
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param bpm The metadata of the bean property of this additional metadata.
+	 */
+	public JsonBeanPropertyMeta(BeanPropertyMeta bpm) {
+		super(bpm);
+	}
+
+	/**
+	 * Returns the name of this bean property.
+	 * 
+	 * @return The name of this bean property.
+	 */
+	public String getName() {
+		return getBeanPropertyMeta().getName();
+	}
+
+	/**
+	 * Returns the cached encoded attribute name for the specified writer settings.
+	 * 
+	 * @param variant The writer settings identifier.
+	 * @return The cached encoded attribute name, or <jk>null</jk> if it hasn't been cached yet.
+	 */
+	char[] getAttr(int variant) {
+		return attrs.get(variant);
+	}
+
+	/**
+	 * Caches the encoded attribute name for the specified writer settings.
+	 * 
+	 * @param variant The writer settings identifier.
+	 * @param attr The encoded attribute name.
+	 * @return The same attribute name.
+	 */
+	char[] setAttr(int variant, char[] attr) {
+		attrs.set(variant, attr);
+		return attr;
+	}
+}
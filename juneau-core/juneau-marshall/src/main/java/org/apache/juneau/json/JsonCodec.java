@@ -0,0 +1,153 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * A node in a tree of serialization instructions compiled for a {@link ClassMeta} by {@link JsonSerializer}.
+ * 
+ * <p>
+ * Determines once how values of the expected type are serialized (as numbers, strings, beans, maps, or collections),
+ * so that {@link JsonSerializerSession} doesn't have to work it out again for every value.
+ * Child nodes for bean properties, map values and collection elements are linked the first time they're needed,
+ * which allows recursive models.
+ * 
+ * <p>
+ * Values whose actual type differs from the expected type in a way that affects the output (for example, bean
+ * subclasses that may need a type name, or types with swaps) fall back to dynamic serialization.
+ */
+final class JsonCodec {
+
+	static final int
+		DYNAMIC = 0,
+		SIMPLE = 1,
+		STRING = 2,
+		BEAN = 3,
+		MAP = 4,
+		COLLECTION = 5,
+		ARRAY = 6;
+
+	final JsonSerializer ctx;
+	final ClassMeta<?> type;
+	final int kind;
+
+	// Lazily-linked child nodes.
+	private JsonCodec elementCodec, valueCodec;
+	private Property[] properties;
+
+	// The last subtype found to be serialized the same way as the expected type.
+	private volatile ClassMeta<?> altType;
+
+	JsonCodec(JsonSerializer ctx, ClassMeta<?> type, boolean dynamic) {
+		this.ctx = ctx;
+		this.type = type;
+		this.kind = dynamic ? DYNAMIC : kindOf(type);
+	}
+
+	/*
+	 * Determines how values of the specified type are serialized when they don't have swaps.
+	 * Mirrors the order of checks in JsonSerializerSession.serializeAnything().
+	 */
+	private static int kindOf(ClassMeta<?> cm) {
+		if (cm.getExtendedMeta(JsonClassMeta.class).getWrapperAttr() != null)
+			return DYNAMIC;
+		if (cm.isChar() || cm.isObject())
+			return DYNAMIC;
+		if (cm.isNumber() || cm.isBoolean())
+			return SIMPLE;
+		if (cm.isBean()) {
+			for (BeanPropertyMeta pMeta : cm.getBeanMeta().getPropertyMetas())
+				if (pMeta.isDyna())
+					return DYNAMIC;
+			return BEAN;
+		}
+		if (cm.isUri())
+			return DYNAMIC;
+		if (cm.isMap())
+			return cm.isBeanMap() ? DYNAMIC : MAP;
+		if (cm.isCollection())
+			return COLLECTION;
+		if (cm.isArray())
+			return ARRAY;
+		if (cm.isReader() || cm.isInputStream())
+			return DYNAMIC;
+		return STRING;
+	}
+
+	/**
+	 * Returns the actual type of the specified value if it can be serialized using this node.
+	 * 
+	 * @param session The current session.
+	 * @param o The value being serialized.  Never <jk>null</jk>.
+	 * @return The actual type of the value, or <jk>null</jk> if it must be serialized dynamically.
+	 */
+	ClassMeta<?> resolve(JsonSerializerSession session, Object o) {
+		if (kind == DYNAMIC)
+			return null;
+		Class<?> c = o.getClass();
+		if (c == type.getInnerClass())
+			return type;
+		if (kind == BEAN)
+			return null;
+		ClassMeta<?> alt = altType;
+		if (alt != null && alt.getInnerClass() == c)
+			return alt;
+		alt = session.getClassMeta(c);
+		if (kindOf(alt) != kind)
+			return null;
+		altType = alt;
+		return alt;
+	}
+
+	JsonCodec getElementCodec() {
+		if (elementCodec == null)
+			elementCodec = ctx.getCodec(type.getElementType());
+		return elementCodec;
+	}
+
+	JsonCodec getValueCodec() {
+		if (valueCodec == null)
+			valueCodec = ctx.getCodec(type.getValueType());
+		return valueCodec;
+	}
+
+	Property[] getProperties() {
+		if (properties == null) {
+			Collection<BeanPropertyMeta> l = type.getBeanMeta().getPropertyMetas();
+			Property[] p = new Property[l.size()];
+			int i = 0;
+			for (BeanPropertyMeta pMeta : l)
+				p[i++] = new Property(ctx, pMeta);
+			properties = p;
+		}
+		return properties;
+	}
+
+	/**
+	 * A bean property of a compiled bean.
+	 */
+	static final class Property {
+		final BeanPropertyMeta meta;
+		final JsonBeanPropertyMeta jsonMeta;
+		final JsonCodec codec;
+
+		Property(JsonSerializer ctx, BeanPropertyMeta meta) {
+			this.meta = meta;
+			this.jsonMeta = meta.getExtendedMeta(JsonBeanPropertyMeta.class);
+			this.codec = meta.isUri() ? new JsonCodec(ctx, meta.getClassMeta(), true) : ctx.getCodec(meta.getClassMeta());
+		}
+	}
+}
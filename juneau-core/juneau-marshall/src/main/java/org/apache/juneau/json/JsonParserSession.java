@@ -108,6 +108,27 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, final ClassMeta<E> elementType) throws Exception {
+		return new ArrayParserIterator<E>(this, pipe, pipe.getParserReader()) {
+
+			@Override /* ArrayParserIterator */
+			protected void skipCommentsAndSpace(ParserReader r) throws Exception {
+				JsonParserSession.this.skipCommentsAndSpace(r);
+			}
+
+			@Override /* ArrayParserIterator */
+			protected void validateEnd(ParserReader r) throws Exception {
+				JsonParserSession.this.validateEnd(r);
+			}
+
+			@Override /* ArrayParserIterator */
+			protected E parseElement(ParserReader r) throws Exception {
+				return parseAnything(elementType, r, getOuter(), null);
+			}
+		}.start("JSON array");
+	}
+
 	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
@@ -13,6 +13,7 @@
 package org.apache.juneau.json;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.serializer.*;
@@ -122,6 +123,36 @@ public class JsonSerializer extends WriterSerializer {
 	 */
 	public static final String JSON_addBeanTypeProperties = PREFIX + "addBeanTypeProperties.b";
 
+	/**
+	 * Configuration property:  Use compiled codecs.
+	 * 
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"JsonSerializer.compiledCodecs.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b>  <jk>true</jk>
+	 * 	<li><b>Methods:</b> 
+	 * 		<ul>
+	 * 			<li class='jm'>{@link JsonSerializerBuilder#compiledCodecs(boolean)}
+	 * 			<li class='jm'>{@link JsonSerializerBuilder#compiledCodecs()}
+	 * 		</ul>
+	 * </ul>
+	 * 
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, beans are serialized using trees of serialization instructions that are compiled once per bean
+	 * class and cached on this serializer.
+	 * 
+	 * <p>
+	 * The way each bean property is serialized is determined from its declared type when the tree is compiled instead
+	 * of being worked out again for every value.
+	 * Only values whose actual type may change the output (such as bean subclasses, types with swaps, or values of
+	 * properties declared as {@link Object}) are inspected at serialization time.
+	 * The output is the same either way.
+	 */
+	public static final String JSON_compiledCodecs = PREFIX + "compiledCodecs.b";
+
 	/**
 	 * Configuration property:  Prefix solidus <js>'/'</js> characters with escapes.
 	 * 
@@ -363,7 +394,10 @@ public class JsonSerializer extends WriterSerializer {
 	final boolean
 		simpleMode,
 		escapeSolidus,
-		addBeanTypeProperties;
+		addBeanTypeProperties,
+		compiledCodecs;
+
+	private final ConcurrentHashMap<ClassMeta<?>,JsonCodec> codecs = new ConcurrentHashMap<>();
 
 	private volatile JsonSchemaSerializer schemaSerializer;
 
@@ -408,6 +442,7 @@ public class JsonSerializer extends WriterSerializer {
 		simpleMode = getProperty(JSON_simpleMode, boolean.class, false);
 		escapeSolidus = getProperty(JSON_escapeSolidus, boolean.class, false);
 		addBeanTypeProperties = getProperty(JSON_addBeanTypeProperties, boolean.class, getProperty(SERIALIZER_addBeanTypeProperties, boolean.class, true));
+		compiledCodecs = getProperty(JSON_compiledCodecs, boolean.class, false);
 	}
 
 	@Override /* Context */
@@ -442,6 +477,25 @@ public class JsonSerializer extends WriterSerializer {
 		return schemaSerializer;
 	}
 
+	/**
+	 * Returns the compiled codec for the specified type, compiling it if it hasn't been already.
+	 * 
+	 * @param cm The expected type, or <jk>null</jk> if not known.
+	 * @return The compiled codec.  Never <jk>null</jk>.
+	 */
+	JsonCodec getCodec(ClassMeta<?> cm) {
+		if (cm == null)
+			cm = object();
+		JsonCodec c = codecs.get(cm);
+		if (c == null) {
+			c = new JsonCodec(this, cm, false);
+			JsonCodec c2 = codecs.putIfAbsent(cm, c);
+			if (c2 != null)
+				c = c2;
+		}
+		return c;
+	}
+
 	//--------------------------------------------------------------------------------
 	// Entry point methods
 	//--------------------------------------------------------------------------------
@@ -458,6 +512,7 @@ public class JsonSerializer extends WriterSerializer {
 				.append("simpleMode", simpleMode)
 				.append("escapeSolidus", escapeSolidus)
 				.append("addBeanTypeProperties", addBeanTypeProperties)
+				.append("compiledCodecs", compiledCodecs)
 			);
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -51,6 +51,43 @@ public class JsonSerializerBuilder extends SerializerBuilder {
 	// Properties
 	//--------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Use compiled codecs.
+	 * 
+	 * <p>
+	 * If <jk>true</jk>, beans are serialized using trees of serialization instructions compiled once per bean class.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link JsonSerializer#JSON_compiledCodecs}
+	 * </ul>
+	 * 
+	 * @param value 
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public JsonSerializerBuilder compiledCodecs(boolean value) {
+		return set(JSON_compiledCodecs, value);
+	}
+
+	/**
+	 * Configuration property:  Use compiled codecs.
+	 * 
+	 * <p>
+	 * Shortcut for calling <code>compiledCodecs(<jk>true</jk>)</code>.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link JsonSerializer#JSON_compiledCodecs}
+	 * </ul>
+	 * 
+	 * @return This object (for method chaining).
+	 */
+	public JsonSerializerBuilder compiledCodecs() {
+		return set(JSON_compiledCodecs, true);
+	}
+
 	/**
 	 * Configuration property:  Prefix solidus <js>'/'</js> characters with escapes.
 	 * 
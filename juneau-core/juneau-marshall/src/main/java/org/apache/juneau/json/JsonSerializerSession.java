@@ -30,10 +30,12 @@ import org.apache.juneau.transform.*;
  */
 public class JsonSerializerSession extends WriterSerializerSession {
 
+	private final JsonSerializer ctx;
 	private final boolean
 		simpleMode,
 		escapeSolidus,
-		addBeanTypeProperties;
+		addBeanTypeProperties,
+		compiledCodecs;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -49,9 +51,11 @@ public class JsonSerializerSession extends WriterSerializerSession {
 	 */
 	protected JsonSerializerSession(JsonSerializer ctx, SerializerSessionArgs args) {
 		super(ctx, args);
+		this.ctx = ctx;
 		simpleMode = getProperty(JSON_simpleMode, boolean.class, ctx.simpleMode);
 		escapeSolidus = getProperty(JSON_escapeSolidus, boolean.class, ctx.escapeSolidus);
 		addBeanTypeProperties = getProperty(JSON_addBeanTypeProperties, boolean.class, ctx.addBeanTypeProperties);
+		compiledCodecs = getProperty(JSON_compiledCodecs, boolean.class, ctx.compiledCodecs);
 	}
 
 	@Override /* Session */
@@ -59,6 +63,7 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return super.asMap()
 			.append("JsonSerializerSession", new ObjectMap()
 				.append("addBeanTypeProperties", addBeanTypeProperties)
+				.append("compiledCodecs", compiledCodecs)
 				.append("escapeSolidus", escapeSolidus)
 				.append("simpleMode", simpleMode)
 			);
@@ -66,7 +71,10 @@ public class JsonSerializerSession extends WriterSerializerSession {
 
 	@Override /* SerializerSesssion */
 	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
-		serializeAnything(getJsonWriter(out), o, getExpectedRootType(o), "root", null);
+		if (compiledCodecs)
+			serializeCompiled(getJsonWriter(out), o, ctx.getCodec(getExpectedRootType(o)), "root", null);
+		else
+			serializeAnything(getJsonWriter(out), o, getExpectedRootType(o), "root", null);
 	}
 
 	/*
@@ -123,18 +131,19 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		} else if (sType.isNumber() || sType.isBoolean()) {
 			out.append(o);
 		} else if (sType.isBean()) {
-			serializeBeanMap(out, toBeanMap(o), typeName);
+			JsonCodec c = (compiledCodecs && swap == null ? ctx.getCodec(sType) : null);
+			serializeBeanMap(out, toBeanMap(o), typeName, (c != null && c.kind == JsonCodec.BEAN ? c : null));
 		} else if (sType.isUri() || (pMeta != null && pMeta.isUri())) {
 			out.uriValue(o);
 		} else if (sType.isMap()) {
 			if (o instanceof BeanMap)
-				serializeBeanMap(out, (BeanMap)o, typeName);
+				serializeBeanMap(out, (BeanMap)o, typeName, null);
 			else
-				serializeMap(out, (Map)o, eType);
+				serializeMap(out, (Map)o, eType, null);
 		} else if (sType.isCollection()) {
-			serializeCollection(out, (Collection) o, eType);
+			serializeCollection(out, (Collection) o, eType, null);
 		} else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			serializeCollection(out, toList(sType.getInnerClass(), o), eType, null);
 		} else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
 		} else {
@@ -152,9 +161,10 @@ public class JsonSerializerSession extends WriterSerializerSession {
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private SerializerWriter serializeMap(JsonWriter out, Map m, ClassMeta<?> type) throws Exception {
+	private SerializerWriter serializeMap(JsonWriter out, Map m, ClassMeta<?> type, JsonCodec c) throws Exception {
 
 		ClassMeta<?> keyType = type.getKeyType(), valueType = type.getValueType();
+		JsonCodec valueCodec = (c == null ? null : c.getValueCodec());
 
 		m = sort(m);
 
@@ -171,7 +181,7 @@ public class JsonSerializerSession extends WriterSerializerSession {
 
 			out.cr(i).attr(toString(key)).append(':').s(i);
 
-			serializeAnything(out, value, valueType, (key == null ? null : toString(key)), null);
+			serializeValue(out, value, valueType, valueCodec, (key == null ? null : toString(key)), null);
 
 			if (mapEntries.hasNext())
 				out.append(',').smi(i);
@@ -182,40 +192,85 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
-	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName) throws Exception {
+	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName, JsonCodec c) throws Exception {
 		int i = indent;
 		out.append('{');
 
 		boolean addComma = false;
-		for (BeanPropertyValue p : m.getValues(isTrimNulls(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null)) {
-			BeanPropertyMeta pMeta = p.getMeta();
-			ClassMeta<?> cMeta = p.getClassMeta();
-			String key = p.getName();
-			Object value = p.getValue();
-			Throwable t = p.getThrown();
-			if (t != null)
-				onBeanGetterException(pMeta, t);
-
-			if (canIgnoreValue(cMeta, key, value))
-				continue;
-
-			if (addComma)
-				out.append(',').smi(i);
-
-			out.cr(i).attr(key).append(':').s(i);
-
-			serializeAnything(out, value, cMeta, key, pMeta);
-
-			addComma = true;
+		if (c == null) {
+			for (BeanPropertyValue p : m.getValues(isTrimNulls(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null)) {
+				BeanPropertyMeta pMeta = p.getMeta();
+				Throwable t = p.getThrown();
+				if (t != null)
+					onBeanGetterException(pMeta, t);
+				if (serializeBeanProperty(out, p.getName(), p.getValue(), p.getClassMeta(), pMeta, null, null, addComma))
+					addComma = true;
+			}
+		} else {
+			// Same as above, but the properties and the codecs of their values were looked up when the codec was
+			// compiled.
+			if (typeName != null) {
+				BeanPropertyValue p = createBeanTypeNameProperty(m, typeName);
+				addComma = serializeBeanProperty(out, p.getName(), p.getValue(), p.getClassMeta(), p.getMeta(), null, null, false);
+			}
+
+			boolean trimNulls = isTrimNulls();
+			for (JsonCodec.Property p : c.getProperties()) {
+				BeanPropertyMeta pMeta = p.meta;
+				Object value;
+				try {
+					value = pMeta.get(m, null);
+				} catch (Error e) {
+					// Errors should always be uncaught.
+					throw e;
+				} catch (Throwable t) {
+					onBeanGetterException(pMeta, t);
+					value = null;
+				}
+
+				if (value == null && trimNulls)
+					continue;
+
+				if (serializeBeanProperty(out, pMeta.getName(), value, pMeta.getClassMeta(), pMeta, p.jsonMeta, p.codec, addComma))
+					addComma = true;
+			}
 		}
 		out.cre(i-1).append('}');
 		return out;
 	}
 
+	/*
+	 * Serializes a single bean property.
+	 * Returns false if the property was skipped.
+	 */
+	private boolean serializeBeanProperty(JsonWriter out, String key, Object value, ClassMeta<?> cMeta,
+			BeanPropertyMeta pMeta, JsonBeanPropertyMeta jsonMeta, JsonCodec c, boolean addComma) throws Exception {
+
+		if (canIgnoreValue(cMeta, key, value))
+			return false;
+
+		int i = indent;
+		if (addComma)
+			out.append(',').smi(i);
+
+		out.cr(i);
+		if (jsonMeta != null)
+			out.attr(jsonMeta);
+		else if (key == pMeta.getName())
+			out.attr(pMeta.getExtendedMeta(JsonBeanPropertyMeta.class));
+		else
+			out.attr(key).append(':');
+		out.s(i);
+
+		serializeValue(out, value, cMeta, c, key, pMeta);
+		return true;
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	private SerializerWriter serializeCollection(JsonWriter out, Collection c, ClassMeta<?> type) throws Exception {
+	private SerializerWriter serializeCollection(JsonWriter out, Collection c, ClassMeta<?> type, JsonCodec codec) throws Exception {
 
 		ClassMeta<?> elementType = type.getElementType();
+		JsonCodec elementCodec = (codec == null ? null : codec.getElementCodec());
 
 		c = sort(c);
 
@@ -224,7 +279,7 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		for (Iterator i = c.iterator(); i.hasNext();) {
 			Object value = i.next();
 			out.cr(indent);
-			serializeAnything(out, value, elementType, "<iterator>", null);
+			serializeValue(out, value, elementType, elementCodec, "<iterator>", null);
 			if (i.hasNext())
 				out.append(',').smi(indent);
 		}
@@ -232,6 +287,60 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	/*
+	 * Serializes a child value using its compiled codec if there is one, or dynamically otherwise.
+	 */
+	private SerializerWriter serializeValue(JsonWriter out, Object o, ClassMeta<?> eType, JsonCodec c, String attrName,
+			BeanPropertyMeta pMeta) throws Exception {
+		if (c == null)
+			return serializeAnything(out, o, eType, attrName, pMeta);
+		return serializeCompiled(out, o, c, attrName, pMeta);
+	}
+
+	/*
+	 * Serializes a value using a compiled codec.
+	 * Falls back to serializeAnything() for values that the codec can't handle.
+	 */
+	@SuppressWarnings("rawtypes")
+	private SerializerWriter serializeCompiled(JsonWriter out, Object o, JsonCodec c, String attrName, BeanPropertyMeta pMeta) throws Exception {
+
+		if (o == null) {
+			out.append("null");
+			return out;
+		}
+
+		ClassMeta<?> aType = c.resolve(this, o);
+		if (aType == null || aType.getPojoSwap(this) != null)
+			return serializeAnything(out, o, c.type, attrName, pMeta);
+
+		if (push(attrName, o, aType) == null) {
+			out.append("null");
+			return out;
+		}
+
+		switch (c.kind) {
+			case JsonCodec.SIMPLE:
+				out.append(o);
+				break;
+			case JsonCodec.BEAN:
+				serializeBeanMap(out, toBeanMap(o), null, c);
+				break;
+			case JsonCodec.MAP:
+				serializeMap(out, (Map)o, c.type, c);
+				break;
+			case JsonCodec.COLLECTION:
+				serializeCollection(out, (Collection)o, c.type, c);
+				break;
+			case JsonCodec.ARRAY:
+				serializeCollection(out, toList(aType.getInnerClass(), o), c.type, c);
+				break;
+			default:
+				out.stringValue(toString(o));
+		}
+
+		pop();
+		return out;
+	}
 
 	/**
 	 * Returns the {@link JsonSerializer#JSON_addBeanTypeProperties} setting value for this session.
@@ -54,6 +54,12 @@ public final class JsonWriter extends SerializerWriter {
 
 	private final AsciiSet ec;
 
+	// Number of combinations of settings that affect how attribute names are encoded.
+	static final int ATTR_VARIANTS = 16;
+
+	// Identifies the settings that affect how attribute names are encoded, or -1 if encoded names can't be cached.
+	private final int attrVariant;
+
 	/**
 	 * Constructor.
 	 * 
@@ -72,6 +78,10 @@ public final class JsonWriter extends SerializerWriter {
 		this.simpleMode = simpleMode;
 		this.escapeSolidus = escapeSolidus;
 		this.ec = escapeSolidus ? encodedChars2 : encodedChars;
+		if (quoteChar == '"' || quoteChar == '\'')
+			this.attrVariant = (simpleMode ? 1 : 0) | (escapeSolidus ? 2 : 0) | (trimStrings ? 4 : 0) | (quoteChar == '"' ? 8 : 0);
+		else
+			this.attrVariant = -1;
 	}
 
 	/**
@@ -84,39 +94,40 @@ public final class JsonWriter extends SerializerWriter {
 	public JsonWriter stringValue(String s) throws IOException {
 		if (s == null)
 			return this;
-		boolean doConvert = false;
-		for (int i = 0; i < s.length() && ! doConvert; i++) {
-			char c = s.charAt(i);
-			doConvert |= ec.contains(c);
-		}
 		q();
-		if (! doConvert) {
-			out.append(s);
-		} else {
-			for (int i = 0; i < s.length(); i++) {
-				char c = s.charAt(i);
-				if (ec.contains(c)) {
-					if (c == '\n')
-						out.append('\\').append('n');
-					else if (c == '\t')
-						out.append('\\').append('t');
-					else if (c == '\b')
-						out.append('\\').append('b');
-					else if (c == '\f')
-						out.append('\\').append('f');
-					else if (c == quoteChar)
-						out.append('\\').append(quoteChar);
-					else if (c == '\\')
-						out.append('\\').append('\\');
-					else if (c == '/' && escapeSolidus)
-						out.append('\\').append('/');
-					else if (c != '\r')
-						out.append(c);
-				} else {
+
+		// Write runs of characters that don't need escaping in bulk.
+		final int len = s.length();
+		int start = 0;
+		for (int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			if (ec.contains(c)) {
+				if (i > start)
+					out.write(s, start, i - start);
+				start = i + 1;
+				if (c == '\n')
+					out.append('\\').append('n');
+				else if (c == '\t')
+					out.append('\\').append('t');
+				else if (c == '\b')
+					out.append('\\').append('b');
+				else if (c == '\f')
+					out.append('\\').append('f');
+				else if (c == quoteChar)
+					out.append('\\').append(quoteChar);
+				else if (c == '\\')
+					out.append('\\').append('\\');
+				else if (c == '/' && escapeSolidus)
+					out.append('\\').append('/');
+				else if (c != '\r')
 					out.append(c);
-				}
 			}
 		}
+		if (start == 0)
+			out.write(s);
+		else if (start < len)
+			out.write(s, start, len - start);
+
 		q();
 		return this;
 	}
@@ -169,6 +180,30 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Serializes the name of the specified bean property as a JSON attribute name followed by a colon.
+	 * 
+	 * <p>
+	 * Same as <code>attr(name).append(<js>':'</js>)</code>, except the encoded name is cached on the bean property
+	 * metadata so that it only needs to be computed once.
+	 * 
+	 * @param pMeta The JSON metadata of the bean property being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public JsonWriter attr(JsonBeanPropertyMeta pMeta) throws IOException {
+		if (attrVariant == -1)
+			return attr(pMeta.getName()).append(':');
+		char[] c = pMeta.getAttr(attrVariant);
+		if (c == null) {
+			StringWriter sw = new StringWriter();
+			new JsonWriter(sw, false, 0, escapeSolidus, quoteChar, simpleMode, trimStrings, null).attr(pMeta.getName()).append(':');
+			c = pMeta.setAttr(attrVariant, sw.toString().toCharArray());
+		}
+		out.write(c);
+		return this;
+	}
+
 	/**
 	 * Appends a URI to the output.
 	 * 
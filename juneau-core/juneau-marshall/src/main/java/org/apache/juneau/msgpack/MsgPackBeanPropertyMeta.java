@@ -0,0 +1,63 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.msgpack;
+
+import java.io.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Metadata on bean properties specific to the MessagePack serializers.
+ * 
+ * <p>
+ * Holds the property name pre-encoded as a MessagePack string (data type flag, length, and UTF-8 bytes), so that
+ * {@link MsgPackOutputStream} can write it with a single bulk write.
+ */
+public final class MsgPackBeanPropertyMeta extends BeanPropertyMetaExtended {
+
+	private final byte[] name, trimmedName;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param bpm The metadata of the bean property of this additional metadata.
+	 */
+	public MsgPackBeanPropertyMeta(BeanPropertyMeta bpm) {
+		super(bpm);
+		String n = bpm.getName();
+		this.name = encode(n);
+		this.trimmedName = n.trim().equals(n) ? name : encode(n.trim());
+	}
+
+	/**
+	 * Returns the property name encoded as a MessagePack string.
+	 * 
+	 * @param trimStrings Whether the serializer trims strings.
+	 * @return The encoded property name.
+	 */
+	byte[] getEncodedName(boolean trimStrings) {
+		return trimStrings ? trimmedName : name;
+	}
+
+	private static byte[] encode(String s) {
+		try {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try (MsgPackOutputStream os = new MsgPackOutputStream(baos)) {
+				os.appendString(s);
+			}
+			return baos.toByteArray();
+		} catch (IOException e) {
+			throw new RuntimeException(e); // Never happens
+		}
+	}
+}
@@ -0,0 +1,160 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.msgpack;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * A node in a tree of serialization instructions compiled for a {@link ClassMeta} by {@link MsgPackSerializer}.
+ * 
+ * <p>
+ * Determines once how values of the expected type are serialized (as booleans, numbers, strings, beans, maps, or
+ * arrays), so that {@link MsgPackSerializerSession} doesn't have to work it out again for every value.
+ * Child nodes for bean properties, map keys and values, and collection elements are linked the first time they're
+ * needed, which allows recursive models.
+ * 
+ * <p>
+ * Values whose actual type differs from the expected type in a way that affects the output (for example, bean
+ * subclasses that may need a type name, or types with swaps) fall back to dynamic serialization.
+ */
+final class MsgPackCodec {
+
+	static final int
+		DYNAMIC = 0,
+		BOOLEAN = 1,
+		NUMBER = 2,
+		STRING = 3,
+		BEAN = 4,
+		MAP = 5,
+		COLLECTION = 6,
+		ARRAY = 7;
+
+	final MsgPackSerializer ctx;
+	final ClassMeta<?> type;
+	final int kind;
+
+	// Lazily-linked child nodes.
+	private MsgPackCodec elementCodec, keyCodec, valueCodec;
+	private Property[] properties;
+
+	// The last subtype found to be serialized the same way as the expected type.
+	private volatile ClassMeta<?> altType;
+
+	MsgPackCodec(MsgPackSerializer ctx, ClassMeta<?> type, boolean dynamic) {
+		this.ctx = ctx;
+		this.type = type;
+		this.kind = dynamic ? DYNAMIC : kindOf(type);
+	}
+
+	/*
+	 * Determines how values of the specified type are serialized when they don't have swaps.
+	 * Mirrors the order of checks in MsgPackSerializerSession.serializeAnything().
+	 */
+	private static int kindOf(ClassMeta<?> cm) {
+		if (cm.isChar() || cm.isObject())
+			return DYNAMIC;
+		if (cm.isBoolean())
+			return BOOLEAN;
+		if (cm.isNumber())
+			return NUMBER;
+		if (cm.isBean()) {
+			for (BeanPropertyMeta pMeta : cm.getBeanMeta().getPropertyMetas())
+				if (pMeta.isDyna())
+					return DYNAMIC;
+			return BEAN;
+		}
+		if (cm.isUri())
+			return DYNAMIC;
+		if (cm.isMap())
+			return cm.isBeanMap() ? DYNAMIC : MAP;
+		if (cm.isCollection())
+			return COLLECTION;
+		if (cm.isArray())
+			return ARRAY;
+		if (cm.isReader() || cm.isInputStream())
+			return DYNAMIC;
+		return STRING;
+	}
+
+	/**
+	 * Returns the actual type of the specified value if it can be serialized using this node.
+	 * 
+	 * @param session The current session.
+	 * @param o The value being serialized.  Never <jk>null</jk>.
+	 * @return The actual type of the value, or <jk>null</jk> if it must be serialized dynamically.
+	 */
+	ClassMeta<?> resolve(MsgPackSerializerSession session, Object o) {
+		if (kind == DYNAMIC)
+			return null;
+		Class<?> c = o.getClass();
+		if (c == type.getInnerClass())
+			return type;
+		if (kind == BEAN)
+			return null;
+		ClassMeta<?> alt = altType;
+		if (alt != null && alt.getInnerClass() == c)
+			return alt;
+		alt = session.getClassMeta(c);
+		if (kindOf(alt) != kind)
+			return null;
+		altType = alt;
+		return alt;
+	}
+
+	MsgPackCodec getElementCodec() {
+		if (elementCodec == null)
+			elementCodec = ctx.getCodec(type.getElementType());
+		return elementCodec;
+	}
+
+	MsgPackCodec getKeyCodec() {
+		if (keyCodec == null)
+			keyCodec = ctx.getCodec(type.getKeyType());
+		return keyCodec;
+	}
+
+	MsgPackCodec getValueCodec() {
+		if (valueCodec == null)
+			valueCodec = ctx.getCodec(type.getValueType());
+		return valueCodec;
+	}
+
+	Property[] getProperties() {
+		if (properties == null) {
+			Collection<BeanPropertyMeta> l = type.getBeanMeta().getPropertyMetas();
+			Property[] p = new Property[l.size()];
+			int i = 0;
+			for (BeanPropertyMeta pMeta : l)
+				p[i++] = new Property(ctx, pMeta);
+			properties = p;
+		}
+		return properties;
+	}
+
+	/**
+	 * A bean property of a compiled bean.
+	 */
+	static final class Property {
+		final BeanPropertyMeta meta;
+		final MsgPackBeanPropertyMeta msgPackMeta;
+		final MsgPackCodec codec;
+
+		Property(MsgPackSerializer ctx, BeanPropertyMeta meta) {
+			this.meta = meta;
+			this.msgPackMeta = meta.getExtendedMeta(MsgPackBeanPropertyMeta.class);
+			this.codec = meta.isUri() ? new MsgPackCodec(ctx, meta.getClassMeta(), true) : ctx.getCodec(meta.getClassMeta());
+		}
+	}
+}
@@ -22,6 +22,10 @@ import org.apache.juneau.parser.*;
 /**
  * Specialized input stream for parsing MessagePack streams.
  * 
+ * <p>
+ * Input is read from the underlying stream in blocks into an internal buffer, so multi-byte values and strings are
+ * decoded directly from the buffer.
+ * 
  * 
  * <h5 class='topic'>Notes</h5>
  * <ul>
@@ -32,6 +36,8 @@ public final class MsgPackInputStream extends InputStream {
 
 	private final ParserPipe pipe;
 	private final InputStream is;
+	private final byte[] buf = new byte[0x2000];
+	private int bufPos, bufLen;
 	private DataType currentDataType;
 	private long length;
 	private int lastByte;
@@ -71,12 +77,74 @@ public final class MsgPackInputStream extends InputStream {
 
 	@Override /* InputStream */
 	public int read() throws IOException {
-		int i = is.read();
-		if (i > 0)
-			pos++;
+		if (bufPos == bufLen && ! fill())
+			return -1;
+		pos++;
+		return buf[bufPos++] & 0xFF;
+	}
+
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		if (bufPos == bufLen) {
+			// Large reads bypass the buffer.
+			if (len >= buf.length) {
+				int i = is.read(b, off, len);
+				if (i > 0)
+					pos += i;
+				return i;
+			}
+			if (! fill())
+				return -1;
+		}
+		int i = Math.min(len, bufLen - bufPos);
+		System.arraycopy(buf, bufPos, b, off, i);
+		bufPos += i;
+		pos += i;
 		return i;
 	}
 
+	@Override /* InputStream */
+	public int available() throws IOException {
+		return bufLen - bufPos + is.available();
+	}
+
+	/**
+	 * Refills the empty internal buffer.
+	 * 
+	 * @return <jk>false</jk> if the end of the stream was reached.
+	 */
+	private boolean fill() throws IOException {
+		bufPos = bufLen = 0;
+		int i;
+		do {
+			i = is.read(buf, 0, buf.length);
+		} while (i == 0);
+		if (i == -1)
+			return false;
+		bufLen = i;
+		return true;
+	}
+
+	/**
+	 * Makes sure the specified number of bytes are available in the internal buffer.
+	 */
+	private void require(int len) throws IOException {
+		int remaining = bufLen - bufPos;
+		if (remaining >= len)
+			return;
+		System.arraycopy(buf, bufPos, buf, 0, remaining);
+		bufPos = 0;
+		bufLen = remaining;
+		while (bufLen < len) {
+			int i = is.read(buf, bufLen, buf.length - bufLen);
+			if (i == -1)
+				throw new IOException("Unexpected end of file found at position " + pos);
+			bufLen += i;
+		}
+	}
+
 	/**
 	 * Reads the data type flag from the stream.
 	 * 
@@ -341,7 +409,7 @@ public final class MsgPackInputStream extends InputStream {
 						length = readUInt2();
 				else if (i == EXT32)
 					length = readUInt4();
-				extType = is.read();
+				extType = read();
 
 				break;
 			}
@@ -405,7 +473,14 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
-		return new String(readBinary(), UTF8);
+		int len = (int)length;
+		if (len > buf.length)
+			return new String(readBinary(), UTF8);
+		require(len);
+		String s = new String(buf, bufPos, len, UTF8);
+		bufPos += len;
+		pos += len;
+		return s;
 	}
 
 	/**
@@ -413,7 +488,13 @@ public final class MsgPackInputStream extends InputStream {
 	 */
 	byte[] readBinary() throws IOException {
 		byte[] b = new byte[(int)length];
-		is.read(b);
+		int off = 0;
+		while (off < b.length) {
+			int i = read(b, off, b.length - off);
+			if (i == -1)
+				throw new IOException("Unexpected end of file found at position " + pos);
+			off += i;
+		}
 		return b;
 	}
 
@@ -424,11 +505,10 @@ public final class MsgPackInputStream extends InputStream {
 		if (length == 0)
 			return lastByte;
 		if (length == 1)
-			return is.read();
+			return readUInt1();
 		if (length == 2)
-			return (is.read() << 8) | is.read();
-		int i = is.read(); i <<= 8; i |= is.read(); i <<= 8; i |= is.read(); i <<= 8; i |= is.read();
-		return i;
+			return readUInt2();
+		return (int)readUInt4();
 	}
 
 	/**
@@ -451,7 +531,10 @@ public final class MsgPackInputStream extends InputStream {
 	long readLong() throws IOException {
 		if (length == 4)
 			return readUInt4();
-		long l = is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read();
+		require(8);
+		long l = (get4(bufPos) << 32) | get4(bufPos+4);
+		bufPos += 8;
+		pos += 8;
 		return l;
 	}
 
@@ -467,24 +550,41 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read one byte from the stream.
 	 */
 	private int readUInt1() throws IOException {
-		return is.read();
+		require(1);
+		pos++;
+		return buf[bufPos++] & 0xFF;
 	}
 
 	/**
 	 * Read two bytes from the stream.
 	 */
 	private int readUInt2() throws IOException {
-		return (is.read() << 8) | is.read();
+		require(2);
+		int i = ((buf[bufPos] & 0xFF) << 8) | (buf[bufPos+1] & 0xFF);
+		bufPos += 2;
+		pos += 2;
+		return i;
 	}
 
 	/**
 	 * Read four bytes from the stream.
 	 */
 	private long readUInt4() throws IOException {
-		long l = is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read(); l <<= 8; l |= is.read();
+		require(4);
+		long l = get4(bufPos);
+		bufPos += 4;
+		pos += 4;
 		return l;
 	}
 
+	/**
+	 * Decodes an unsigned 32-bit big-endian value from the internal buffer at the specified position.
+	 */
+	private long get4(int p) {
+		byte[] b = buf;
+		return ((long)(b[p] & 0xFF) << 24) | ((b[p+1] & 0xFF) << 16) | ((b[p+2] & 0xFF) << 8) | (b[p+3] & 0xFF);
+	}
+
 	/**
 	 * Return the current read position in the stream (i.e. number of bytes we've read so far).
 	 */
@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
@@ -21,6 +22,10 @@ import java.util.concurrent.atomic.*;
 /**
  * Specialized output stream for serializing MessagePack streams.
  * 
+ * <p>
+ * Output is accumulated in an internal buffer and written to the underlying stream in blocks when the buffer fills up
+ * or when {@link #flush()} is called.
+ * 
  * 
  * <h5 class='topic'>Notes</h5>
  * <ul>
@@ -29,7 +34,13 @@ import java.util.concurrent.atomic.*;
  */
 public final class MsgPackOutputStream extends OutputStream {
 
+	// Strings whose worst-case UTF-8 length exceeds this are encoded using String.getBytes() instead of in the buffer.
+	// Must be smaller than the buffer size minus the largest possible header.
+	private static final int MAX_DIRECT_STRING = 0x1000;
+
 	private final OutputStream os;
+	private final byte[] buf = new byte[0x2000];
+	private int count;
 
 	/**
 	 * Constructor.
@@ -42,14 +53,59 @@ public final class MsgPackOutputStream extends OutputStream {
 
 	@Override /* OutputStream */
 	public void write(int b) throws IOException {
-		os.write(b);
+		if (count == buf.length)
+			flushBuffer();
+		buf[count++] = (byte)b;
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len > buf.length - count) {
+			flushBuffer();
+			if (len > buf.length / 2) {
+				os.write(b, off, len);
+				return;
+			}
+		}
+		System.arraycopy(b, off, buf, count, len);
+		count += len;
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		flushBuffer();
+		os.flush();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		flush();
+		os.close();
+	}
+
+	/**
+	 * Writes the contents of the internal buffer to the underlying stream.
+	 */
+	private void flushBuffer() throws IOException {
+		if (count > 0) {
+			os.write(buf, 0, count);
+			count = 0;
+		}
+	}
+
+	/**
+	 * Makes sure there's room for the specified number of bytes in the internal buffer.
+	 */
+	private void ensure(int len) throws IOException {
+		if (len > buf.length - count)
+			flushBuffer();
 	}
 
 	/**
 	 * Same as {@link #write(int)}.
 	 */
 	final MsgPackOutputStream append(byte b) throws IOException {
-		os.write(b);
+		write(b);
 		return this;
 	}
 
@@ -57,7 +113,7 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Same as {@link #write(byte[])}.
 	 */
 	final MsgPackOutputStream append(byte[] b) throws IOException {
-		os.write(b);
+		write(b, 0, b.length);
 		return this;
 	}
 
@@ -65,7 +121,7 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends one byte to the stream.
 	 */
 	final MsgPackOutputStream append1(int i) throws IOException {
-		os.write(i);
+		write(i);
 		return this;
 	}
 
@@ -73,21 +129,45 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends two bytes to the stream.
 	 */
 	final MsgPackOutputStream append2(int i) throws IOException {
-		return append1(i>>8).append1(i);
+		ensure(2);
+		byte[] b = buf;
+		int c = count;
+		b[c] = (byte)(i>>8);
+		b[c+1] = (byte)i;
+		count = c+2;
+		return this;
 	}
 
 	/**
 	 * Appends four bytes to the stream.
 	 */
 	final MsgPackOutputStream append4(int i) throws IOException {
-		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+		ensure(4);
+		put4(count, i);
+		count += 4;
+		return this;
 	}
 
 	/**
 	 * Appends eight bytes to the stream.
 	 */
 	final MsgPackOutputStream append8(long l) throws IOException {
-		return append1((int)(l>>56)).append1((int)(l>>48)).append1((int)(l>>40)).append1((int)(l>>32)).append1((int)(l>>24)).append1((int)(l>>16)).append1((int)(l>>8)).append1((int)(l));
+		ensure(8);
+		put4(count, (int)(l>>32));
+		put4(count+4, (int)l);
+		count += 8;
+		return this;
+	}
+
+	/**
+	 * Writes a 32-bit big-endian value into the internal buffer at the specified position.
+	 */
+	private void put4(int pos, int i) {
+		byte[] b = buf;
+		b[pos] = (byte)(i>>24);
+		b[pos+1] = (byte)(i>>16);
+		b[pos+2] = (byte)(i>>8);
+		b[pos+3] = (byte)i;
 	}
 
 	/**
@@ -215,14 +295,93 @@ public final class MsgPackOutputStream extends OutputStream {
 		// * AAAAAAAA_AAAAAAAA_AAAAAAAA_AAAAAAAA is a 32-bit big-endian unsigned integer which represents N
 		// * N is the length of data
 
-		byte[] b = cs.toString().getBytes("UTF-8");
-		if (b.length < 32)
-			return append1(0xA0 + b.length).append(b);
-		if (b.length < (1<<8))
-			return append1(STR8).append1(b.length).append(b);
-		if (b.length < (1<<16))
-			return append1(STR16).append2(b.length).append(b);
-		return append1(STR32).append4(b.length).append(b);
+		int len = cs.length();
+
+		// Large strings are encoded in a separate array.
+		if (len > MAX_DIRECT_STRING / 3) {
+			byte[] b = cs.toString().getBytes(UTF8);
+			return appendStringHeader(b.length).append(b);
+		}
+
+		// Otherwise encode the string directly into the buffer after a header big enough for the worst-case length,
+		// then back-patch the header once the actual length is known.
+		int maxHeader = stringHeaderSize(len * 3);
+		ensure(maxHeader + len * 3);
+		int start = count + maxHeader;
+		int n = encodeUtf8(cs, len, buf, start) - start;
+		int header = stringHeaderSize(n);
+		if (header != maxHeader)
+			System.arraycopy(buf, start, buf, count + header, n);
+		int c = count;
+		if (header == 1)
+			buf[c] = (byte)(0xA0 + n);
+		else if (header == 2) {
+			buf[c] = (byte)STR8;
+			buf[c+1] = (byte)n;
+		} else {
+			buf[c] = (byte)STR16;
+			buf[c+1] = (byte)(n>>8);
+			buf[c+2] = (byte)n;
+		}
+		count = c + header + n;
+		return this;
+	}
+
+	/**
+	 * Appends the data type flag and length of a string to the stream.
+	 */
+	private MsgPackOutputStream appendStringHeader(int len) throws IOException {
+		if (len < 32)
+			return append1(0xA0 + len);
+		if (len < (1<<8))
+			return append1(STR8).append1(len);
+		if (len < (1<<16))
+			return append1(STR16).append2(len);
+		return append1(STR32).append4(len);
+	}
+
+	/**
+	 * Returns the size of the data type flag and length of a string with the specified number of bytes.
+	 */
+	private static int stringHeaderSize(int len) {
+		return len < 32 ? 1 : len < (1<<8) ? 2 : len < (1<<16) ? 3 : 5;
+	}
+
+	/**
+	 * Encodes the specified characters as UTF-8 into the specified array.
+	 * 
+	 * <p>
+	 * Unpaired surrogates are encoded as <js>'?'</js> the same as {@link String#getBytes(java.nio.charset.Charset)}.
+	 * 
+	 * @return The position in the array after the last byte written.
+	 */
+	private static int encodeUtf8(CharSequence cs, int len, byte[] b, int pos) {
+		for (int i = 0; i < len; i++) {
+			char c = cs.charAt(i);
+			if (c < 0x80) {
+				b[pos++] = (byte)c;
+			} else if (c < 0x800) {
+				b[pos++] = (byte)(0xC0 | (c>>6));
+				b[pos++] = (byte)(0x80 | (c & 0x3F));
+			} else if (Character.isSurrogate(c)) {
+				char c2 = i+1 < len ? cs.charAt(i+1) : 0;
+				if (Character.isHighSurrogate(c) && Character.isLowSurrogate(c2)) {
+					int cp = Character.toCodePoint(c, c2);
+					b[pos++] = (byte)(0xF0 | (cp>>18));
+					b[pos++] = (byte)(0x80 | ((cp>>12) & 0x3F));
+					b[pos++] = (byte)(0x80 | ((cp>>6) & 0x3F));
+					b[pos++] = (byte)(0x80 | (cp & 0x3F));
+					i++;
+				} else {
+					b[pos++] = '?';
+				}
+			} else {
+				b[pos++] = (byte)(0xE0 | (c>>12));
+				b[pos++] = (byte)(0x80 | ((c>>6) & 0x3F));
+				b[pos++] = (byte)(0x80 | (c & 0x3F));
+			}
+		}
+		return pos;
 	}
 
 	/**
@@ -322,4 +481,4 @@ public final class MsgPackOutputStream extends OutputStream {
 			return append1(MAP16).append2(size);
 		return append1(MAP32).append4(size);
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
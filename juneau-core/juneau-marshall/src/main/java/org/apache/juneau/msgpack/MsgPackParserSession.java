@@ -50,6 +50,30 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, final ClassMeta<E> elementType) throws Exception {
+		final MsgPackInputStream is = new MsgPackInputStream(pipe);
+		DataType dt = is.readDataType();
+		if (dt != ARRAY)
+			throw new ParseException(loc(is), "Invalid data type {0} encountered for parse type {1}", dt, elementType);
+		final long length = is.readLength();
+
+		return new ParserIterator<E>(this, pipe) {
+			long i = 0;
+
+			@Override /* ParserIterator */
+			protected boolean advance() {
+				return i < length;
+			}
+
+			@Override /* ParserIterator */
+			protected E parseNext() throws Exception {
+				i++;
+				return parseAnything(elementType, is, getOuter(), null);
+			}
+		};
+	}
+
 	/*
 	 * Workhorse method.
 	 */
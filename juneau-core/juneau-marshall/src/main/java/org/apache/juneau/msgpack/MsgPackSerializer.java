@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import java.util.concurrent.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.serializer.*;
 
@@ -59,6 +61,33 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 	 */
 	public static final String MSGPACK_addBeanTypeProperties = PREFIX + "addBeanTypeProperties.b";
 
+	/**
+	 * Configuration property:  Use compiled codecs.
+	 * 
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"MsgPackSerializer.compiledCodecs.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b>  <jk>true</jk>
+	 * 	<li><b>Methods:</b> 
+	 * 		<ul>
+	 * 			<li class='jm'>{@link MsgPackSerializerBuilder#compiledCodecs(boolean)}
+	 * 			<li class='jm'>{@link MsgPackSerializerBuilder#compiledCodecs()}
+	 * 		</ul>
+	 * </ul>
+	 * 
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, beans are serialized using trees of serialization instructions that are compiled once per bean
+	 * class and cached on this serializer.
+	 * 
+	 * <p>
+	 * Same as {@link org.apache.juneau.json.JsonSerializer#JSON_compiledCodecs}, but for MessagePack.
+	 * The output is the same either way.
+	 */
+	public static final String MSGPACK_compiledCodecs = PREFIX + "compiledCodecs.b";
+
 
 	//-------------------------------------------------------------------------------------------------------------------
 	// Predefined instances
@@ -73,7 +102,10 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 	//-------------------------------------------------------------------------------------------------------------------
 
 	final boolean
-		addBeanTypeProperties;
+		addBeanTypeProperties,
+		compiledCodecs;
+
+	private final ConcurrentHashMap<ClassMeta<?>,MsgPackCodec> codecs = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor.
@@ -83,6 +115,7 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 	public MsgPackSerializer(PropertyStore ps) {
 		super(ps, "octal/msgpack");
 		this.addBeanTypeProperties = getProperty(MSGPACK_addBeanTypeProperties, boolean.class, getProperty(SERIALIZER_addBeanTypeProperties, boolean.class, true));
+		this.compiledCodecs = getProperty(MSGPACK_compiledCodecs, boolean.class, false);
 	}
 
 	@Override /* Context */
@@ -106,6 +139,25 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 		return new MsgPackSerializerBuilder();
 	}
 	
+	/**
+	 * Returns the compiled codec for the specified type, compiling it if it hasn't been already.
+	 * 
+	 * @param cm The expected type, or <jk>null</jk> if not known.
+	 * @return The compiled codec.  Never <jk>null</jk>.
+	 */
+	MsgPackCodec getCodec(ClassMeta<?> cm) {
+		if (cm == null)
+			cm = object();
+		MsgPackCodec c = codecs.get(cm);
+		if (c == null) {
+			c = new MsgPackCodec(this, cm, false);
+			MsgPackCodec c2 = codecs.putIfAbsent(cm, c);
+			if (c2 != null)
+				c = c2;
+		}
+		return c;
+	}
+
 	@Override /* Serializer */
 	public OutputStreamSerializerSession createSession(SerializerSessionArgs args) {
 		return new MsgPackSerializerSession(this, args);
@@ -116,6 +168,7 @@ public class MsgPackSerializer extends OutputStreamSerializer {
 		return super.asMap()
 			.append("MsgPackSerializer", new ObjectMap()
 				.append("addBeanTypeProperties", addBeanTypeProperties)
+				.append("compiledCodecs", compiledCodecs)
 			);
 	}
 }
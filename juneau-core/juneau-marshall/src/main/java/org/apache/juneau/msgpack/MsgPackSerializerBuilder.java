@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import static org.apache.juneau.msgpack.MsgPackSerializer.*;
+
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -49,6 +51,43 @@ public class MsgPackSerializerBuilder extends SerializerBuilder {
 	// Properties
 	//--------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Use compiled codecs.
+	 * 
+	 * <p>
+	 * If <jk>true</jk>, beans are serialized using trees of serialization instructions compiled once per bean class.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link MsgPackSerializer#MSGPACK_compiledCodecs}
+	 * </ul>
+	 * 
+	 * @param value 
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public MsgPackSerializerBuilder compiledCodecs(boolean value) {
+		return set(MSGPACK_compiledCodecs, value);
+	}
+
+	/**
+	 * Configuration property:  Use compiled codecs.
+	 * 
+	 * <p>
+	 * Shortcut for calling <code>compiledCodecs(<jk>true</jk>)</code>.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link MsgPackSerializer#MSGPACK_compiledCodecs}
+	 * </ul>
+	 * 
+	 * @return This object (for method chaining).
+	 */
+	public MsgPackSerializerBuilder compiledCodecs() {
+		return set(MSGPACK_compiledCodecs, true);
+	}
+
 	@Override /* SerializerBuilder */
 	public MsgPackSerializerBuilder abridged(boolean value) {
 		super.abridged(value);
@@ -30,8 +30,10 @@ import org.apache.juneau.transform.*;
  */
 public final class MsgPackSerializerSession extends OutputStreamSerializerSession {
 
+	private final MsgPackSerializer ctx;
 	private final boolean
-		addBeanTypeProperties;
+		addBeanTypeProperties,
+		compiledCodecs;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -47,7 +49,9 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 	 */
 	protected MsgPackSerializerSession(MsgPackSerializer ctx, SerializerSessionArgs args) {
 		super(ctx, args);
+		this.ctx = ctx;
 		addBeanTypeProperties = getProperty(MSGPACK_addBeanTypeProperties, boolean.class, ctx.addBeanTypeProperties);
+		compiledCodecs = getProperty(MSGPACK_compiledCodecs, boolean.class, ctx.compiledCodecs);
 	}
 
 	@Override /* Session */
@@ -55,6 +59,7 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		return super.asMap()
 			.append("MsgPackSerializerSession", new ObjectMap()
 				.append("addBeanTypeProperties", addBeanTypeProperties)
+				.append("compiledCodecs", compiledCodecs)
 			);
 	}
 
@@ -70,7 +75,10 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 
 	@Override /* SerializerSession */
 	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
-		serializeAnything(getMsgPackOutputStream(out), o, getExpectedRootType(o), "root", null);
+		if (compiledCodecs)
+			serializeCompiled(getMsgPackOutputStream(out), o, ctx.getCodec(getExpectedRootType(o)), "root", null);
+		else
+			serializeAnything(getMsgPackOutputStream(out), o, getExpectedRootType(o), "root", null);
 	}
 
 	/*
@@ -78,8 +86,11 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 	 */
 	private static final MsgPackOutputStream getMsgPackOutputStream(SerializerPipe out) throws Exception {
 		Object output = out.getRawOutput();
-		if (output instanceof MsgPackOutputStream)
+		if (output instanceof MsgPackOutputStream) {
+			// Make sure buffered output gets flushed when the pipe is closed.
+			out.setOutputStream((MsgPackOutputStream)output);
 			return (MsgPackOutputStream)output;
+		}
 		MsgPackOutputStream os = new MsgPackOutputStream(out.getOutputStream());
 		out.setOutputStream(os);
 		return os;
@@ -132,21 +143,23 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 			out.appendBoolean((Boolean)o);
 		else if (sType.isNumber())
 			out.appendNumber((Number)o);
-		else if (sType.isBean())
-			serializeBeanMap(out, toBeanMap(o), typeName);
+		else if (sType.isBean()) {
+			MsgPackCodec c = (compiledCodecs && swap == null ? ctx.getCodec(sType) : null);
+			serializeBeanMap(out, toBeanMap(o), typeName, (c != null && c.kind == MsgPackCodec.BEAN ? c : null));
+		}
 		else if (sType.isUri() || (pMeta != null && pMeta.isUri()))
 			out.appendString(resolveUri(o.toString()));
 		else if (sType.isMap()) {
 			if (o instanceof BeanMap)
-				serializeBeanMap(out, (BeanMap)o, typeName);
+				serializeBeanMap(out, (BeanMap)o, typeName, null);
 			else
-				serializeMap(out, (Map)o, eType);
+				serializeMap(out, (Map)o, eType, null);
 		}
 		else if (sType.isCollection()) {
-			serializeCollection(out, (Collection) o, eType);
+			serializeCollection(out, (Collection) o, eType, null);
 		}
 		else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			serializeCollection(out, toList(sType.getInnerClass(), o), eType, null);
 		}
 		else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
@@ -160,9 +173,10 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
-	private void serializeMap(MsgPackOutputStream out, Map m, ClassMeta<?> type) throws Exception {
+	private void serializeMap(MsgPackOutputStream out, Map m, ClassMeta<?> type, MsgPackCodec c) throws Exception {
 
 		ClassMeta<?> keyType = type.getKeyType(), valueType = type.getValueType();
+		MsgPackCodec keyCodec = (c == null ? null : c.getKeyCodec()), valueCodec = (c == null ? null : c.getValueCodec());
 
 		m = sort(m);
 
@@ -178,36 +192,138 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 			Object value = e.value;
 			Object key = generalize(e.key, keyType);
 
-			serializeAnything(out, key, keyType, null, null);
-			serializeAnything(out, value, valueType, null, null);
+			serializeValue(out, key, keyType, keyCodec, null, null);
+			serializeValue(out, value, valueType, valueCodec, null, null);
 		}
 	}
 
-	private void serializeBeanMap(MsgPackOutputStream out, final BeanMap<?> m, String typeName) throws Exception {
+	private void serializeBeanMap(MsgPackOutputStream out, final BeanMap<?> m, String typeName, MsgPackCodec c) throws Exception {
 
-		List<BeanPropertyValue> values = m.getValues(isTrimNulls(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null);
+		if (c == null) {
+			List<BeanPropertyValue> values = m.getValues(isTrimNulls(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null);
 
-		int size = values.size();
-		for (BeanPropertyValue p : values)
-			if (p.getThrown() != null)
-				size--;
-		out.startMap(size);
+			int size = values.size();
+			for (BeanPropertyValue p : values)
+				if (p.getThrown() != null)
+					size--;
+			out.startMap(size);
 
-		for (BeanPropertyValue p : values) {
-			BeanPropertyMeta pMeta = p.getMeta();
-			ClassMeta<?> cMeta = p.getClassMeta();
-			String key = p.getName();
-			Object value = p.getValue();
-			Throwable t = p.getThrown();
-			if (t != null)
+			for (BeanPropertyValue p : values) {
+				Throwable t = p.getThrown();
+				if (t != null)
+					onBeanGetterException(p.getMeta(), t);
+				else
+					serializeBeanProperty(out, p.getName(), p.getValue(), p.getClassMeta(), p.getMeta(), null, null);
+			}
+			return;
+		}
+
+		// Same as above, but the properties and the codecs of their values were looked up when the codec was compiled.
+		MsgPackCodec.Property[] properties = c.getProperties();
+		boolean trimNulls = isTrimNulls();
+
+		// The map size must be known up front, so get all the values first.
+		Object[] values = new Object[properties.length];
+		boolean[] skip = new boolean[properties.length];
+		int size = typeName == null ? 0 : 1;
+		for (int i = 0; i < properties.length; i++) {
+			BeanPropertyMeta pMeta = properties[i].meta;
+			try {
+				values[i] = pMeta.get(m, null);
+				skip[i] = values[i] == null && trimNulls;
+			} catch (Error e) {
+				// Errors should always be uncaught.
+				throw e;
+			} catch (Throwable t) {
 				onBeanGetterException(pMeta, t);
-			else {
-				serializeAnything(out, key, null, null, null);
-				serializeAnything(out, value, cMeta, key, pMeta);
+				skip[i] = true;
 			}
+			if (! skip[i])
+				size++;
+		}
+		out.startMap(size);
+
+		if (typeName != null) {
+			BeanPropertyValue p = createBeanTypeNameProperty(m, typeName);
+			serializeBeanProperty(out, p.getName(), p.getValue(), p.getClassMeta(), p.getMeta(), null, null);
+		}
+
+		for (int i = 0; i < properties.length; i++) {
+			if (skip[i])
+				continue;
+			MsgPackCodec.Property p = properties[i];
+			serializeBeanProperty(out, p.meta.getName(), values[i], p.meta.getClassMeta(), p.meta, p.msgPackMeta, p.codec);
 		}
 	}
 
+	/*
+	 * Serializes the name and value of a single bean property.
+	 */
+	private void serializeBeanProperty(MsgPackOutputStream out, String key, Object value, ClassMeta<?> cMeta,
+			BeanPropertyMeta pMeta, MsgPackBeanPropertyMeta msgPackMeta, MsgPackCodec c) throws Exception {
+		if (msgPackMeta != null)
+			out.append(msgPackMeta.getEncodedName(isTrimStrings()));
+		else if (key == pMeta.getName())
+			out.append(pMeta.getExtendedMeta(MsgPackBeanPropertyMeta.class).getEncodedName(isTrimStrings()));
+		else
+			serializeAnything(out, key, null, null, null);
+		serializeValue(out, value, cMeta, c, key, pMeta);
+	}
+
+	/*
+	 * Serializes a child value using its compiled codec if there is one, or dynamically otherwise.
+	 */
+	private MsgPackOutputStream serializeValue(MsgPackOutputStream out, Object o, ClassMeta<?> eType, MsgPackCodec c,
+			String attrName, BeanPropertyMeta pMeta) throws Exception {
+		if (c == null)
+			return serializeAnything(out, o, eType, attrName, pMeta);
+		return serializeCompiled(out, o, c, attrName, pMeta);
+	}
+
+	/*
+	 * Serializes a value using a compiled codec.
+	 * Falls back to serializeAnything() for values that the codec can't handle.
+	 */
+	@SuppressWarnings("rawtypes")
+	private MsgPackOutputStream serializeCompiled(MsgPackOutputStream out, Object o, MsgPackCodec c, String attrName, BeanPropertyMeta pMeta) throws Exception {
+
+		if (o == null)
+			return out.appendNull();
+
+		ClassMeta<?> aType = c.resolve(this, o);
+		if (aType == null || aType.getPojoSwap(this) != null)
+			return serializeAnything(out, o, c.type, attrName, pMeta);
+
+		if (push(attrName, o, aType) == null)
+			return out.appendNull();
+
+		switch (c.kind) {
+			case MsgPackCodec.BOOLEAN:
+				out.appendBoolean((Boolean)o);
+				break;
+			case MsgPackCodec.NUMBER:
+				out.appendNumber((Number)o);
+				break;
+			case MsgPackCodec.BEAN:
+				serializeBeanMap(out, toBeanMap(o), null, c);
+				break;
+			case MsgPackCodec.MAP:
+				serializeMap(out, (Map)o, c.type, c);
+				break;
+			case MsgPackCodec.COLLECTION:
+				serializeCollection(out, (Collection)o, c.type, c);
+				break;
+			case MsgPackCodec.ARRAY:
+				serializeCollection(out, toList(aType.getInnerClass(), o), c.type, c);
+				break;
+			default:
+				out.appendString(toString(o));
+		}
+
+		pop();
+		return out;
+	}
+
 	private static final class SimpleMapEntry {
 		final Object key;
 		final Object value;
@@ -219,9 +335,10 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	private void serializeCollection(MsgPackOutputStream out, Collection c, ClassMeta<?> type) throws Exception {
+	private void serializeCollection(MsgPackOutputStream out, Collection c, ClassMeta<?> type, MsgPackCodec codec) throws Exception {
 
 		ClassMeta<?> elementType = type.getElementType();
+		MsgPackCodec elementCodec = (codec == null ? null : codec.getElementCodec());
 		List<Object> l = new ArrayList<>(c.size());
 
 		c = sort(c);
@@ -230,6 +347,6 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		out.startArray(l.size());
 
 		for (Object o : l)
-			serializeAnything(out, o, elementType, "<iterator>", null);
+			serializeValue(out, o, elementType, elementCodec, "<iterator>", null);
 	}
 }
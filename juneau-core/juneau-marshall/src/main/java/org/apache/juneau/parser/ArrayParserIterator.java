@@ -0,0 +1,116 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+/**
+ * {@link ParserIterator} over the elements of a <js>"[a,b,c]"</js> array read from a character stream.
+ * 
+ * <p>
+ * Contains the array syntax shared by the JSON-like parsers.
+ * <br>Subclasses provide the handling of whitespace and comments, the check for the end of input, and the parsing of
+ * the individual elements.
+ * 
+ * <p>
+ * This class is NOT thread safe.
+ * 
+ * @param <E> The element type.
+ */
+public abstract class ArrayParserIterator<E> extends ParserIterator<E> {
+
+	private final ParserSession session;
+	private final ParserReader r;
+	private boolean first = true;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param session The session doing the parsing.
+	 * @param pipe The input being parsed.
+	 * @param r The reader of the input, or <jk>null</jk> if the input was <jk>null</jk>.
+	 */
+	protected ArrayParserIterator(ParserSession session, ParserPipe pipe, ParserReader r) {
+		super(session, pipe);
+		this.session = session;
+		this.r = r;
+	}
+
+	/**
+	 * Consumes the opening <js>'['</js> of the array.
+	 * 
+	 * @param name The name of the array used in the error message (e.g. <js>"JSON array"</js>).
+	 * @return This object (for method chaining).
+	 * @throws Exception If the input does not start with an array.
+	 */
+	public ArrayParserIterator<E> start(String name) throws Exception {
+		if (r == null)
+			throw new ParseException(session.getLastLocation(), "Expected '[' at beginning of " + name + ".");
+		skipCommentsAndSpace(r);
+		if (r.read() != '[')
+			throw new ParseException(r.getLocation(session), "Expected '[' at beginning of " + name + ".");
+		return this;
+	}
+
+	/**
+	 * Skips any whitespace and comments at the current position of the reader.
+	 * 
+	 * @param r The reader.
+	 * @throws Exception If a problem occurred trying to read from the reader.
+	 */
+	protected abstract void skipCommentsAndSpace(ParserReader r) throws Exception;
+
+	/**
+	 * Validates that the remainder of the input after the closing <js>']'</js> is empty.
+	 * 
+	 * @param r The reader.
+	 * @throws Exception If the remainder of the input is not empty.
+	 */
+	protected abstract void validateEnd(ParserReader r) throws Exception;
+
+	/**
+	 * Parses the element at the current position of the reader.
+	 * 
+	 * @param r The reader.
+	 * @return The parsed element.
+	 * @throws Exception If the input contains a syntax error or is malformed, or is not valid for the element type.
+	 */
+	protected abstract E parseElement(ParserReader r) throws Exception;
+
+	@Override /* ParserIterator */
+	protected boolean advance() throws Exception {
+		skipCommentsAndSpace(r);
+		int c = r.read();
+		if (c == ']') {
+			validateEnd(r);
+			return false;
+		}
+		if (first) {
+			first = false;
+		} else if (c == ',') {
+			skipCommentsAndSpace(r);
+			c = r.read();
+			if (c == ']')
+				throw new ParseException(r.getLocation(session), "Unexpected trailing comma in array.");
+		} else {
+			throw new ParseException(r.getLocation(session), "Expected ',' or ']'.");
+		}
+		if (c == -1)
+			throw new ParseException(r.getLocation(session), "Expected ',' or ']'.");
+		r.unread();
+		return true;
+	}
+
+	@Override /* ParserIterator */
+	protected E parseNext() throws Exception {
+		return parseElement(r);
+	}
+}
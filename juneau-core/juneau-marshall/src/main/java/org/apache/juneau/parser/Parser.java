@@ -527,6 +527,8 @@ public abstract class Parser extends BeanContext {
 	 * 			{@link #PARSER_inputStreamCharset} property value).
 	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text (or charset defined by
 	 * 			{@link #PARSER_inputStreamCharset} property value).
+	 * 		<li>{@link java.nio.ByteBuffer} containing UTF-8 encoded text (or charset defined by
+	 * 			{@link #PARSER_inputStreamCharset} property value).
 	 * 		<li>{@link File} containing system encoded text (or charset defined by
 	 * 			{@link #PARSER_fileCharset} property value).
 	 * 	</ul>
@@ -535,6 +537,7 @@ public abstract class Parser extends BeanContext {
 	 * 		<li><jk>null</jk>
 	 * 		<li>{@link InputStream}
 	 * 		<li><code><jk>byte</jk>[]</code>
+	 * 		<li>{@link java.nio.ByteBuffer}
 	 * 		<li>{@link File}
 	 * 	</ul>
 	 * @param type
@@ -680,6 +683,23 @@ public abstract class Parser extends BeanContext {
 		return createSession().parseIntoCollection(input, c, elementType);
 	}
 
+	/**
+	 * Returns an iterator that parses the elements of an array in the specified input one at a time.
+	 * 
+	 * <p>
+	 * See {@link ParserSession#parseIterator(Object, Type)} for details.
+	 * 
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the elements, or <jk>null</jk> to default to whatever is being parsed.
+	 * @return A new iterator over the array elements.
+	 * @throws ParseException If the input does not start with an array.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> ParserIterator<E> parseIterator(Object input, Type elementType) throws ParseException {
+		return createSession().parseIterator(input, elementType);
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
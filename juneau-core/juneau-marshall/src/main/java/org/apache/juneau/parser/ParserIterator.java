@@ -0,0 +1,124 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Iterator over the elements of an array that parses each element from the underlying input only when it's requested.
+ * 
+ * <p>
+ * Instances are created through the {@link ParserSession#parseIterator(Object, java.lang.reflect.Type)} method and
+ * allow very large arrays to be processed without having to hold the entire array in memory.
+ * 
+ * <p>
+ * The underlying input is closed once the end of the array has been reached, an error occurs, or {@link #close()} is
+ * called.
+ * <br>Parse errors are thrown from {@link #hasNext()} and {@link #next()} as
+ * {@link BeanRuntimeException BeanRuntimeExceptions} whose cause is the original {@link ParseException}.
+ * 
+ * <p>
+ * This class is NOT thread safe.
+ * 
+ * @param <E> The element type.
+ */
+public abstract class ParserIterator<E> implements Iterator<E>, Closeable {
+
+	private final ParserSession session;
+	private final ParserPipe pipe;
+	private boolean peeked, more, closed;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param session The session doing the parsing.
+	 * @param pipe The input being parsed.
+	 */
+	protected ParserIterator(ParserSession session, ParserPipe pipe) {
+		this.session = session;
+		this.pipe = pipe;
+	}
+
+	/**
+	 * Moves the input past any separators to the start of the next element.
+	 * 
+	 * @return <jk>true</jk> if there is another element, <jk>false</jk> if the end of the array was reached.
+	 * @throws Exception If the input contains a syntax error or is malformed.
+	 */
+	protected abstract boolean advance() throws Exception;
+
+	/**
+	 * Parses the element at the current position of the input.
+	 * 
+	 * @return The parsed element.
+	 * @throws Exception If the input contains a syntax error or is malformed, or is not valid for the element type.
+	 */
+	protected abstract E parseNext() throws Exception;
+
+	@Override /* Iterator */
+	public boolean hasNext() {
+		if (! peeked) {
+			peeked = true;
+			try {
+				more = ! closed && advance();
+			} catch (Exception e) {
+				throw fail(e);
+			}
+			if (! more)
+				close();
+		}
+		return more;
+	}
+
+	@Override /* Iterator */
+	public E next() {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		peeked = false;
+		try {
+			return parseNext();
+		} catch (Exception e) {
+			throw fail(e);
+		}
+	}
+
+	@Override /* Iterator */
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override /* Closeable */
+	public void close() {
+		if (! closed) {
+			closed = true;
+			more = false;
+			pipe.close();
+		}
+	}
+
+	private BeanRuntimeException fail(Exception e) {
+		close();
+		if (! (e instanceof ParseException)) {
+			if (e instanceof IOException)
+				e = new ParseException(session.getLastLocation(), "I/O exception occurred.  exception={0}, message={1}.",
+					e.getClass().getSimpleName(), e.getLocalizedMessage()).initCause(e);
+			else
+				e = new ParseException(session.getLastLocation(), "Exception occurred.  exception={0}, message={1}.",
+					e.getClass().getSimpleName(), e.getLocalizedMessage()).initCause(e);
+		}
+		return new BeanRuntimeException(e);
+	}
+}
@@ -16,6 +16,7 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
+import java.nio.*;
 import java.nio.charset.*;
 
 import org.apache.juneau.*;
@@ -31,6 +32,7 @@ import org.apache.juneau.internal.*;
  * 	<li>{@link CharSequence}
  * 	<li>{@link InputStream}
  * 	<li><code><jk>byte</jk>[]</code>
+ * 	<li>{@link ByteBuffer}
  * 	<li>{@link File}
  * 	<li><code><jk>null</jk></code>
  * </ul>
@@ -40,12 +42,18 @@ import org.apache.juneau.internal.*;
  * <ul>
  * 	<li>{@link InputStream}
  * 	<li><code><jk>byte</jk>[]</code>
+ * 	<li>{@link ByteBuffer}
  * 	<li>{@link File}
  * 	<li>{@link String} - Hex-encoded bytes.  (not BASE-64!)
  * 	<li><code><jk>null</jk></code>
  * </ul>
  * 
  * <p>
+ * {@link ByteBuffer ByteBuffers} (heap or direct) are read in place from their current position to their limit
+ * without copying their contents, and their positions are not changed.
+ * <br>Use {@link ByteBuffer#wrap(byte[],int,int)} to parse a slice of a byte array.
+ * 
+ * <p>
  * Note that Readers and InputStreams will NOT be automatically closed when {@link #close()} is called, but
  * streams and readers created from other types (e.g. Files) WILL be automatically closed.
  */
@@ -56,6 +64,7 @@ public final class ParserPipe implements Closeable {
 	private final String fileCharset, inputStreamCharset;
 
 	private String inputString;
+	private Object inputBytes;
 	private InputStream inputStream;
 	private Reader reader;
 
@@ -116,22 +125,27 @@ public final class ParserPipe implements Closeable {
 		if (input instanceof InputStream) {
 			if (debug) {
 				byte[] b = readBytes((InputStream)input, 1024);
-				inputString = toHex(b);
+				inputBytes = b;
 				inputStream = new ByteArrayInputStream(b);
 			} else {
 				inputStream = (InputStream)input;
 			}
 		} else if (input instanceof byte[]) {
 			if (debug)
-				inputString = toHex((byte[])input);
+				inputBytes = input;
 			inputStream = new ByteArrayInputStream((byte[])input);
+		} else if (input instanceof ByteBuffer) {
+			// Keep our own view of the buffer so that reading the stream doesn't move the debug position.
+			if (debug)
+				inputBytes = ((ByteBuffer)input).duplicate();
+			inputStream = new ByteBufferInputStream((ByteBuffer)input);
 		} else if (input instanceof String) {
 			inputString = (String)input;
 			inputStream = new ByteArrayInputStream(fromHex((String)input));
 		} else if (input instanceof File) {
 			if (debug) {
 				byte[] b = readBytes((File)input);
-				inputString = toHex(b);
+				inputBytes = b;
 				inputStream = new ByteArrayInputStream(b);
 			} else {
 				inputStream = new FileInputStream((File)input);
@@ -167,11 +181,13 @@ public final class ParserPipe implements Closeable {
 		} else if (input instanceof CharSequence) {
 			inputString = input.toString();
 			reader = new ParserReader(this);
-		} else if (input instanceof InputStream || input instanceof byte[]) {
+		} else if (input instanceof InputStream || input instanceof byte[] || input instanceof ByteBuffer) {
 			InputStream is = (
 				input instanceof InputStream
 				? (InputStream)input
-				: new ByteArrayInputStream((byte[])input)
+				: input instanceof byte[]
+				? new ByteArrayInputStream((byte[])input)
+				: new ByteBufferInputStream((ByteBuffer)input)
 			);
 			CharsetDecoder cd = (
 				"default".equalsIgnoreCase(inputStreamCharset)
@@ -234,10 +250,19 @@ public final class ParserPipe implements Closeable {
 	 * <p>
 	 * This method only returns a value if {@link BeanContext#BEAN_debug} is enabled.
 	 * 
+	 * <p>
+	 * Binary input is returned as a hex-encoded string that's only created when this method is called.
+	 * 
 	 * @return The input as a string, or <jk>null</jk> if debug mode not enabled.
 	 */
 	public String getInputAsString() {
-		return inputString;
+		if (inputString != null)
+			return inputString;
+		if (inputBytes instanceof byte[])
+			return toHex((byte[])inputBytes);
+		if (inputBytes instanceof ByteBuffer)
+			return toHex((ByteBuffer)inputBytes);
+		return null;
 	}
 
 	/**
@@ -51,18 +51,40 @@ public class ParserReader extends Reader {
 	 * @throws IOException
 	 */
 	public ParserReader(ParserPipe pipe) throws IOException {
+		this(pipe, null, 0);
+	}
+
+	/**
+	 * Constructor for input that may have already been loaded into memory.
+	 * 
+	 * <p>
+	 * If specified, the array is used directly as the internal buffer, so characters are read and marked strings are
+	 * created straight from it without any further reads against the underlying input.
+	 * 
+	 * @param pipe The parser input.
+	 * @param buff
+	 * 	The characters to parse, or <jk>null</jk> to read them from the pipe.
+	 * 	<br>The array is owned by this reader afterwards and may be modified by it.
+	 * @param len The number of characters in the array to parse.
+	 * @throws IOException
+	 */
+	protected ParserReader(ParserPipe pipe, char[] buff, int len) throws IOException {
 		this.pipe = pipe;
 		if (pipe.isString()) {
 			String in = pipe.getInputAsString();
 			this.r = new CharSequenceReader(in);
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			this.buff = buff != null ? buff : new char[in.length() < 1024 ? in.length() : 1024];
 		} else {
 			Reader _r = pipe.getReader();
 			if (_r instanceof ParserReader)
 				this.r = ((ParserReader)_r).r;
 			else
 				this.r = _r;
-			this.buff = new char[1024];
+			this.buff = buff != null ? buff : new char[1024];
+		}
+		if (buff != null) {
+			this.iEnd = len;
+			this.endReached = true;
 		}
 	}
 
@@ -133,6 +133,8 @@ public abstract class ParserSession extends BeanSession {
 	 * 			{@link Parser#PARSER_inputStreamCharset}).
 	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text (or whatever the encoding specified by
 	 * 			{@link Parser#PARSER_inputStreamCharset}).
+	 * 		<li>{@link java.nio.ByteBuffer} containing UTF-8 encoded text (or whatever the encoding specified by
+	 * 			{@link Parser#PARSER_inputStreamCharset}).
 	 * 		<li>{@link File} containing system encoded text (or whatever the encoding specified by
 	 * 			{@link Parser#PARSER_fileCharset}).
 	 * 	</ul>
@@ -141,6 +143,7 @@ public abstract class ParserSession extends BeanSession {
 	 * 		<li><jk>null</jk>
 	 * 		<li>{@link InputStream}
 	 * 		<li><code><jk>byte</jk>[]</code>
+	 * 		<li>{@link java.nio.ByteBuffer}
 	 * 		<li>{@link File}
 	 * 	</ul>
 	 * @return
@@ -398,6 +401,8 @@ public abstract class ParserSession extends BeanSession {
 	 * 			{@link Parser#PARSER_inputStreamCharset} property value).
 	 * 		<li><code><jk>byte</jk>[]</code> containing UTF-8 encoded text (or charset defined by
 	 * 			{@link Parser#PARSER_inputStreamCharset} property value).
+	 * 		<li>{@link java.nio.ByteBuffer} containing UTF-8 encoded text (or charset defined by
+	 * 			{@link Parser#PARSER_inputStreamCharset} property value).
 	 * 		<li>{@link File} containing system encoded text (or charset defined by
 	 * 			{@link Parser#PARSER_fileCharset} property value).
 	 * 	</ul>
@@ -406,6 +411,7 @@ public abstract class ParserSession extends BeanSession {
 	 * 		<li><jk>null</jk>
 	 * 		<li>{@link InputStream}
 	 * 		<li><code><jk>byte</jk>[]</code>
+	 * 		<li>{@link java.nio.ByteBuffer}
 	 * 		<li>{@link File}
 	 * 	</ul>
 	 * @param type
@@ -633,6 +639,73 @@ public abstract class ParserSession extends BeanSession {
 		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
 	}
 
+	/**
+	 * Returns an iterator over the elements of an array in the specified input.
+	 * 
+	 * <p>
+	 * Unlike {@link #parseIntoCollection(Object, Collection, Type)}, elements are parsed one at a time as the iterator
+	 * is advanced, so arbitrarily large arrays can be processed in constant memory.
+	 * 
+	 * <p>
+	 * The input is not closed until the iterator has been exhausted or closed.
+	 * 
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	ParserSession s = JsonParser.<jsf>DEFAULT</jsf>.createSession();
+	 * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = s.parseIterator(reader, MyBean.<jk>class</jk>)) {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			process(i.next());
+	 * 	}
+	 * </p>
+	 * 
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the elements, or <jk>null</jk> to default to whatever is being parsed.
+	 * @return A new iterator over the array elements.
+	 * @throws ParseException If the input does not start with an array.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	@SuppressWarnings("unchecked")
+	public final <E> ParserIterator<E> parseIterator(Object input, Type elementType) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			return doParseIterator(pipe, (ClassMeta<E>)getClassMeta(elementType));
+		} catch (ParseException e) {
+			pipe.close();
+			throw e;
+		} catch (IOException e) {
+			pipe.close();
+			throw new ParseException(getLastLocation(), "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage()).initCause(e);
+		} catch (UnsupportedOperationException e) {
+			pipe.close();
+			throw e;
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(getLastLocation(), "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage()).initCause(e);
+		}
+	}
+
+	/**
+	 * Implementation method.
+	 * 
+	 * <p>
+	 * Implementations should consume the start of the array and return an iterator that parses the remaining elements
+	 * on demand.
+	 * 
+	 * <p>
+	 * Default implementation throws an {@link UnsupportedOperationException}.
+	 * 
+	 * @param pipe The parser input.
+	 * @param elementType The class type of the elements.
+	 * @return A new iterator over the array elements.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
@@ -15,6 +15,7 @@ package org.apache.juneau.serializer;
 import static org.apache.juneau.internal.IOUtils.*;
 
 import java.io.*;
+import java.nio.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -29,6 +30,7 @@ import org.apache.juneau.internal.*;
  * 	<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
  * 	<li>{@link File} - Output will be written as system-default encoded stream.
  * 	<li>{@link StringBuilder}
+ * 	<li>{@link ByteBuffer} - Output will be written as UTF-8 encoded bytes.
  * </ul>
  * 
  * <p>
@@ -36,7 +38,13 @@ import org.apache.juneau.internal.*;
  * <ul>
  * 	<li>{@link OutputStream}
  * 	<li>{@link File}
+ * 	<li>{@link ByteBuffer}
  * </ul>
+ * 
+ * <p>
+ * {@link ByteBuffer ByteBuffers} (heap or direct) are written in place starting at their current position, and their
+ * positions are advanced past the written bytes.
+ * <br>An {@link IOException} is thrown if the buffer doesn't have enough room for the output.
  */
 public final class SerializerPipe implements Closeable {
 
@@ -67,6 +75,7 @@ public final class SerializerPipe implements Closeable {
 	 * <ul>
 	 * 	<li>{@link OutputStream}
 	 * 	<li>{@link File}
+	 * 	<li>{@link ByteBuffer}
 	 * </ul>
 	 * 
 	 * @return 
@@ -83,6 +92,8 @@ public final class SerializerPipe implements Closeable {
 			outputStream = (OutputStream)output;
 		else if (output instanceof File)
 			outputStream = new BufferedOutputStream(new FileOutputStream((File)output));
+		else if (output instanceof ByteBuffer)
+			outputStream = new ByteBufferOutputStream((ByteBuffer)output);
 		else
 			throw new IOException("Cannot convert object of type "+output.getClass().getName()+" to an OutputStream.");
 
@@ -102,6 +113,8 @@ public final class SerializerPipe implements Closeable {
 	 * 	<li>{@link Writer}
 	 * 	<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
 	 * 	<li>{@link File} - Output will be written as system-default encoded stream.
+	 * 	<li>{@link StringBuilder}
+	 * 	<li>{@link ByteBuffer} - Output will be written as UTF-8 encoded bytes.
 	 * </ul>
 	 * 
 	 * @return 
@@ -122,6 +135,8 @@ public final class SerializerPipe implements Closeable {
 			writer = new OutputStreamWriter(new BufferedOutputStream(new FileOutputStream((File)output)));
 		else if (output instanceof StringBuilder)
 			writer = new StringBuilderWriter((StringBuilder)output);
+		else if (output instanceof ByteBuffer)
+			writer = new OutputStreamWriter(new ByteBufferOutputStream((ByteBuffer)output), UTF8);
 		else
 			throw new IOException("Cannot convert object of type "+output.getClass().getName()+" to a Writer.");
 
@@ -178,11 +178,13 @@ public abstract class SerializerSession extends BeanSession {
 	 * 		<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
 	 * 		<li>{@link File} - Output will be written as system-default encoded stream.
 	 * 		<li>{@link StringBuilder}
+	 * 		<li>{@link java.nio.ByteBuffer} - Output will be written as UTF-8 encoded bytes.
 	 * 	</ul>
 	 * 	<br>For byte-based serializers, this can be any of the following types:
 	 * 	<ul>
 	 * 		<li>{@link OutputStream}
 	 * 		<li>{@link File}
+	 * 		<li>{@link java.nio.ByteBuffer}
 	 * 	</ul>
 	 * @return
 	 * 	A new {@link ParserPipe} wrapper around the specified input object.
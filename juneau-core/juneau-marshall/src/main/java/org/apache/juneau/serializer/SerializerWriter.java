@@ -207,8 +207,7 @@ public class SerializerWriter extends Writer {
 	 * @throws IOException
 	 */
 	public SerializerWriter append(char[] characters) throws IOException {
-		for (char c : characters)
-			append(c);
+		out.write(characters);
 		return this;
 	}
 
@@ -376,6 +375,16 @@ public class SerializerWriter extends Writer {
 		out.write(cbuf, off, len);
 	}
 
+	@Override /* Writer */
+	public void write(String str) throws IOException {
+		out.write(str);
+	}
+
+	@Override /* Writer */
+	public void write(String str, int off, int len) throws IOException {
+		out.write(str, off, len);
+	}
+
 	@Override /* Writer */
 	public void flush() throws IOException {
 		out.flush();
@@ -28,11 +28,15 @@ import org.apache.juneau.parser.*;
  * 	<li><js>'&amp;'</js> -&gt; <js>'\u0001'</js>
  * 	<li><js>'='</js> -&gt; <js>'\u0002'</js>
  * </ul>
+ * 
+ * <p>
+ * String input is decoded up front in a single pass, in place on a character array that then serves as the parse
+ * buffer, so tokens are returned as slices of that array with no further decoding or buffer refills.
  */
 public final class UonReader extends ParserReader {
 
 	private final boolean decodeChars;
-	private final char[] buff;
+	private char[] buff;
 	
 	// Writable properties.
 	private int iCurrent, iEnd;
@@ -46,14 +50,85 @@ public final class UonReader extends ParserReader {
 	 * @throws Exception
 	 */
 	public UonReader(ParserPipe pipe, boolean decodeChars) throws Exception {
-		super(pipe);
+		this(pipe, decodeChars, pipe.isString() ? pipe.getInputAsString().toCharArray() : null);
+	}
+
+	private UonReader(ParserPipe pipe, boolean decodeChars, char[] in) throws Exception {
+		this(pipe, decodeChars, in, in == null ? 0 : decodeChars ? decode(in) : in.length);
+	}
+
+	private UonReader(ParserPipe pipe, boolean decodeChars, char[] in, int len) throws Exception {
+		super(pipe, in, len);
 		this.decodeChars = decodeChars;
-		if (pipe.isString()) {
-			String in = pipe.getInputAsString();
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
-		} else {
-			this.buff = new char[1024];
+	}
+
+	/*
+	 * Decodes the URL-encoded characters in the specified array in place.
+	 * Decoded characters never take up more space than their encoded form, so they can be written behind the read
+	 * position without a second buffer.
+	 * Returns the number of decoded characters.
+	 */
+	private static int decode(char[] b) throws IOException {
+		int len = b.length, i = 0, j = 0;
+		while (i < len) {
+			char c = b[i++];
+			if (c == '+') {
+				b[j++] = ' ';
+			} else if (c == '&') {
+				b[j++] = '\u0001';
+			} else if (c == '=') {
+				b[j++] = '\u0002';
+			} else if (c != '%') {
+				b[j++] = c;
+			} else {
+				int cx = decodeByte(b, i), n;
+				i += 2;
+
+				// 0xxxxxxx
+				if (cx < 128)
+					n = 0;
+				// 10xxxxxx
+				else if (cx < 192)
+					throw new IOException("Invalid hex value for first escape pattern in UTF-8 sequence:  " + cx);
+				// 110xxxxx	10xxxxxx
+				else if (cx < 224)
+					n = 1;
+				// 1110xxxx	10xxxxxx	10xxxxxx
+				else if (cx < 240)
+					n = 2;
+				// 11110xxx	10xxxxxx	10xxxxxx	10xxxxxx
+				else if (cx < 248)
+					n = 3;
+				else
+					throw new IOException("Invalid hex value for first escape pattern in UTF-8 sequence:  " + cx);
+
+				if (n > 0)
+					cx &= (0x3f >> n);
+				for (int k = 0; k < n; k++) {
+					if (i >= len)
+						throw new IOException("Incomplete trailing escape pattern");
+					if (b[i++] != '%')
+						throw new IOException("Did not find expected '%' character in UTF-8 sequence.");
+					cx = (cx << 6) + decodeByte(b, i) - 128;
+					i += 2;
+				}
+
+				if (cx < 0x10000)
+					b[j++] = (char)cx;
+				else {
+					cx -= 0x10000;
+					b[j++] = (char)(0xd800 + (cx >> 10));
+					b[j++] = (char)(0xdc00 + (cx & 0x3ff));
+				}
+			}
 		}
+		return j;
+	}
+
+	private static int decodeByte(char[] b, int i) throws IOException {
+		if (i + 1 >= b.length)
+			throw new IOException("Incomplete trailing escape pattern");
+		return (fromHexChar(b[i]) << 4) + fromHexChar(b[i+1]);
 	}
 
 	@Override /* Reader */
@@ -62,6 +137,9 @@ public final class UonReader extends ParserReader {
 		if (! decodeChars)
 			return super.read(cbuf, off, len);
 
+		if (buff == null)
+			buff = new char[1024];
+
 		// Copy any remainder to the beginning of the buffer.
 		int remainder = iEnd - iCurrent;
 		if (remainder > 0)
@@ -235,7 +235,11 @@ public class UonSerializerSession extends WriterSerializerSession {
 			if (addComma)
 				out.append(',');
 
-			out.cr(indent).appendObject(key, false).append('=');
+			out.cr(indent);
+			if (key == pMeta.getName())
+				out.appendAttr(pMeta.getExtendedMeta(UonBeanPropertyMeta.class), false);
+			else
+				out.appendObject(key, false).append('=');
 
 			serializeAnything(out, value, cMeta, key, pMeta);
 
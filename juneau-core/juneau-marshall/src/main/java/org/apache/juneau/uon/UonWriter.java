@@ -46,6 +46,12 @@ public final class UonWriter extends SerializerWriter {
 
 	private static char[] hexArray = "0123456789ABCDEF".toCharArray();
 
+	// Number of combinations of settings that affect how attribute names are encoded.
+	static final int ATTR_VARIANTS = 16;
+
+	// Identifies the settings that affect how attribute names are encoded.
+	private final int attrVariant;
+
 	/**
 	 * Constructor.
 	 * 
@@ -64,6 +70,7 @@ public final class UonWriter extends SerializerWriter {
 		this.session = session;
 		this.encodeChars = encodeChars;
 		this.plainTextParams = plainTextParams;
+		this.attrVariant = (encodeChars ? 1 : 0) | (trimStrings ? 2 : 0) | (plainTextParams ? 4 : 0);
 	}
 
 	/**
@@ -125,6 +132,31 @@ public final class UonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Serializes the name of the specified bean property as a UON attribute name followed by an equals sign.
+	 * 
+	 * <p>
+	 * Same as <code>appendObject(name, isTopAttrName).append(<js>'='</js>)</code>, except the encoded name is cached
+	 * on the bean property metadata so that it only needs to be computed once.
+	 * 
+	 * @param pMeta The UON metadata of the bean property being serialized.
+	 * @param isTopAttrName If this is a top-level attribute name we're serializing.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public final UonWriter appendAttr(UonBeanPropertyMeta pMeta, boolean isTopAttrName) throws IOException {
+		int variant = attrVariant | (isTopAttrName ? 8 : 0);
+		char[] c = pMeta.getAttr(variant);
+		if (c == null) {
+			StringWriter sw = new StringWriter();
+			new UonWriter(session, sw, false, 0, encodeChars, trimStrings, plainTextParams, null)
+				.appendObject(pMeta.getName(), isTopAttrName).append('=');
+			c = pMeta.setAttr(variant, sw.toString().toCharArray());
+		}
+		out.write(c);
+		return this;
+	}
+
 	/**
 	 * Appends a boolean value to the output.
 	 * 
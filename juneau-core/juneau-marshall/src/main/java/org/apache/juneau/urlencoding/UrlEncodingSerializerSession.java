@@ -242,7 +242,7 @@ public class UrlEncodingSerializerSession extends UonSerializerSession {
 					if (addAmp)
 						out.cr(indent).append('&');
 
-					out.appendObject(key, true).append('=');
+					appendAttr(out, pMeta, key);
 
 					super.serializeAnything(out, i.next(), cMeta.getElementType(), key, pMeta);
 
@@ -252,7 +252,7 @@ public class UrlEncodingSerializerSession extends UonSerializerSession {
 				if (addAmp)
 					out.cr(indent).append('&');
 
-				out.appendObject(key, true).append('=');
+				appendAttr(out, pMeta, key);
 
 				super.serializeAnything(out, value, cMeta, key, pMeta);
 
@@ -262,4 +262,14 @@ public class UrlEncodingSerializerSession extends UonSerializerSession {
 		}
 		return out;
 	}
+
+	/*
+	 * Appends a top-level bean property name followed by an equals sign.
+	 */
+	private static void appendAttr(UonWriter out, BeanPropertyMeta pMeta, String key) throws Exception {
+		if (key == pMeta.getName())
+			out.appendAttr(pMeta.getExtendedMeta(UonBeanPropertyMeta.class), true);
+		else
+			out.appendObject(key, true).append('=');
+	}
 }
@@ -28,6 +28,7 @@ import org.apache.juneau.internal.*;
 public class CalendarUtils {
 
 	private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+	private static final long MILLIS_PER_DAY = 86400000L;
 
 	/**
 	 * Valid conversion formats.
@@ -329,7 +330,7 @@ public class CalendarUtils {
 		SHORT_DT
 	}
 
-	private static ThreadLocal<Map<DateFormatKey,DateFormat>> patternCache = new ThreadLocal<>();
+	private static final ConcurrentHashMap<DateFormatKey,ObjectPool<DateFormat>> formatPools = new ConcurrentHashMap<>();
 
 	static class DateFormatKey {
 		final CalendarUtils.Format format;
@@ -359,7 +360,11 @@ public class CalendarUtils {
 	}
 
 
-	private static DateFormat getFormat(CalendarUtils.Format format, Locale locale, TimeZone timeZone) {
+	/*
+	 * Returns the pool of date formats for the specified format, locale, and time zone.
+	 * DateFormat isn't thread-safe, so instances are borrowed from the pool for the duration of a single format or parse.
+	 */
+	private static ObjectPool<DateFormat> getFormat(final CalendarUtils.Format format, Locale locale, TimeZone timeZone) {
 
 		if (locale == null)
 			locale = Locale.getDefault();
@@ -369,51 +374,68 @@ public class CalendarUtils {
 
 		DateFormatKey key = new DateFormatKey(format, locale, timeZone);
 
-		Map<DateFormatKey,DateFormat> m1 = patternCache.get();
-		if (m1 == null) {
-			m1 = new ConcurrentHashMap<>();
-			patternCache.set(m1);
-		}
+		ObjectPool<DateFormat> pool = formatPools.get(key);
 
-		DateFormat df = m1.get(key);
-
-		if (df == null) {
-			String p = null;
-			switch (format) {
-				case ISO8601_DTL: p = "yyyy-MM-dd'T'HH:mm:ss"; break;
-				case ISO8601_D: p = "yyyy-MM-dd"; break;
-				case TO_STRING: p = "EEE MMM dd HH:mm:ss zzz yyyy"; break;
-				case RFC2822_DT: p = "EEE, dd MMM yyyy HH:mm:ss Z"; break;
-				case RFC2822_DTZ: p = "EEE, dd MMM yyyy HH:mm:ss 'GMT'"; break;
-				case RFC2822_D: p = "dd MMM yyyy"; break;
-				case SIMPLE_DT: p = "yyyy/MM/dd HH:mm:ss"; break;
-				case SIMPLE_D: p = "yyyy/MM/dd"; break;
-				case SIMPLE_T: p = "HH:mm:ss"; break;
-				case FULL_D: df = DateFormat.getDateInstance(DateFormat.FULL, locale); break;
-				case LONG_D: df = DateFormat.getDateInstance(DateFormat.LONG, locale); break;
-				case MEDIUM_D: df = DateFormat.getDateInstance(DateFormat.MEDIUM, locale); break;
-				case SHORT_D: df = DateFormat.getDateInstance(DateFormat.SHORT, locale); break;
-				case FULL_T: df = DateFormat.getTimeInstance(DateFormat.FULL, locale); break;
-				case LONG_T: df = DateFormat.getTimeInstance(DateFormat.LONG, locale); break;
-				case MEDIUM_T: df = DateFormat.getTimeInstance(DateFormat.MEDIUM, locale); break;
-				case SHORT_T: df = DateFormat.getTimeInstance(DateFormat.SHORT, locale); break;
-				case FULL_DT: df = DateFormat.getDateTimeInstance(DateFormat.FULL, DateFormat.FULL, locale); break;
-				case LONG_DT: df = DateFormat.getDateTimeInstance(DateFormat.LONG, DateFormat.LONG, locale); break;
-				case MEDIUM_DT: df = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM, locale); break;
-				case SHORT_DT: df = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale); break;
-				default: return null;
-			}
-			if (p != null) {
-				df = new SimpleDateFormat(p, locale);
-			}
-			if (df != null)
-				df.setTimeZone(timeZone);
-			m1.put(key, df);
+		if (pool == null) {
+			final Locale locale2 = locale;
+			final TimeZone timeZone2 = timeZone;
+			pool = new ObjectPool<DateFormat>(16) {
+				@Override
+				protected DateFormat create() {
+					return createFormat(format, locale2, timeZone2);
+				}
+			};
+			ObjectPool<DateFormat> pool2 = formatPools.putIfAbsent(key, pool);
+			if (pool2 != null)
+				pool = pool2;
 		}
 
+		return pool;
+	}
+
+	private static DateFormat createFormat(CalendarUtils.Format format, Locale locale, TimeZone timeZone) {
+		DateFormat df = null;
+		String p = null;
+		switch (format) {
+			case ISO8601_DTL: p = "yyyy-MM-dd'T'HH:mm:ss"; break;
+			case ISO8601_D: p = "yyyy-MM-dd"; break;
+			case TO_STRING: p = "EEE MMM dd HH:mm:ss zzz yyyy"; break;
+			case RFC2822_DT: p = "EEE, dd MMM yyyy HH:mm:ss Z"; break;
+			case RFC2822_DTZ: p = "EEE, dd MMM yyyy HH:mm:ss 'GMT'"; break;
+			case RFC2822_D: p = "dd MMM yyyy"; break;
+			case SIMPLE_DT: p = "yyyy/MM/dd HH:mm:ss"; break;
+			case SIMPLE_D: p = "yyyy/MM/dd"; break;
+			case SIMPLE_T: p = "HH:mm:ss"; break;
+			case FULL_D: df = DateFormat.getDateInstance(DateFormat.FULL, locale); break;
+			case LONG_D: df = DateFormat.getDateInstance(DateFormat.LONG, locale); break;
+			case MEDIUM_D: df = DateFormat.getDateInstance(DateFormat.MEDIUM, locale); break;
+			case SHORT_D: df = DateFormat.getDateInstance(DateFormat.SHORT, locale); break;
+			case FULL_T: df = DateFormat.getTimeInstance(DateFormat.FULL, locale); break;
+			case LONG_T: df = DateFormat.getTimeInstance(DateFormat.LONG, locale); break;
+			case MEDIUM_T: df = DateFormat.getTimeInstance(DateFormat.MEDIUM, locale); break;
+			case SHORT_T: df = DateFormat.getTimeInstance(DateFormat.SHORT, locale); break;
+			case FULL_DT: df = DateFormat.getDateTimeInstance(DateFormat.FULL, DateFormat.FULL, locale); break;
+			case LONG_DT: df = DateFormat.getDateTimeInstance(DateFormat.LONG, DateFormat.LONG, locale); break;
+			case MEDIUM_DT: df = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM, locale); break;
+			case SHORT_DT: df = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale); break;
+			default: throw new IllegalArgumentException("Format not supported by DateFormat: " + format);
+		}
+		if (p != null)
+			df = new SimpleDateFormat(p, locale);
+		df.setTimeZone(timeZone);
 		return df;
 	}
 
+	private static Date parse(String in, CalendarUtils.Format format, Locale locale, TimeZone timeZone) throws ParseException {
+		ObjectPool<DateFormat> pool = getFormat(format, locale, timeZone);
+		DateFormat df = pool.borrow();
+		try {
+			return df.parse(in);
+		} finally {
+			pool.release(df);
+		}
+	}
+
 	/**
 	 * Converts the specified calendar to a string of the specified format.
 	 * 
@@ -452,25 +474,13 @@ public class CalendarUtils {
 			case SIMPLE_T:
 				return serializeFromDateFormat(c.getTime(), format, locale, timeZone);
 			case ISO8601_DT:
-				return DatatypeConverter.printDateTime(setTimeZone(c, timeZone));
+				return printDateTime(c.getTimeInMillis(), timeZone, false);
 			case ISO8601_DTP:
-				String s = DatatypeConverter.printDateTime(setTimeZone(c, timeZone));
-				return String.format("%s.%03d%s", s.substring(0, 19), c.get(Calendar.MILLISECOND), s.substring(19));
+				return printDateTime(c.getTimeInMillis(), timeZone, true);
 			case ISO8601_DTZ:
-				if (c.getTimeZone().getRawOffset() != 0) {
-					Calendar c2 = Calendar.getInstance(GMT);
-					c2.setTime(c.getTime());
-					c = c2;
-				}
-				return DatatypeConverter.printDateTime(c);
+				return printDateTime(c.getTimeInMillis(), GMT, false);
 			case ISO8601_DTPZ:
-				if (c.getTimeZone().getRawOffset() != 0) {
-					Calendar c2 = Calendar.getInstance(GMT);
-					c2.setTime(c.getTime());
-					c = c2;
-				}
-				s = DatatypeConverter.printDateTime(c);
-				return String.format("%s.%03d%s", s.substring(0, 19), c.get(Calendar.MILLISECOND), s.substring(19));
+				return printDateTime(c.getTimeInMillis(), GMT, true);
 			case RFC2822_DTZ:
 				return serializeFromDateFormat(c.getTime(), format, locale, GMT);
 		default:
@@ -517,27 +527,13 @@ public class CalendarUtils {
 			case SIMPLE_T:
 				return serializeFromDateFormat(d, format, locale, timeZone);
 			case ISO8601_DT:
-				Calendar c = new GregorianCalendar();
-				c.setTime(d);
-				c.setTimeZone(timeZone);
-				return DatatypeConverter.printDateTime(c);
+				return printDateTime(d.getTime(), timeZone, false);
 			case ISO8601_DTP:
-				c = new GregorianCalendar();
-				c.setTime(d);
-				c.setTimeZone(timeZone);
-				String s = DatatypeConverter.printDateTime(setTimeZone(c, timeZone));
-				return String.format("%s.%03d%s", s.substring(0, 19), c.get(Calendar.MILLISECOND), s.substring(19));
+				return printDateTime(d.getTime(), timeZone, true);
 			case ISO8601_DTZ:
-				c = new GregorianCalendar();
-				c.setTime(d);
-				c.setTimeZone(GMT);
-				return DatatypeConverter.printDateTime(c);
+				return printDateTime(d.getTime(), GMT, false);
 			case ISO8601_DTPZ:
-				c = new GregorianCalendar();
-				c.setTime(d);
-				c.setTimeZone(GMT);
-				s = DatatypeConverter.printDateTime(c);
-				return String.format("%s.%03d%s", s.substring(0, 19), c.get(Calendar.MILLISECOND), s.substring(19));
+				return printDateTime(d.getTime(), GMT, true);
 			case RFC2822_DTZ:
 				return serializeFromDateFormat(d, format, locale, GMT);
 		}
@@ -589,14 +585,13 @@ public class CalendarUtils {
 			case SHORT_T:
 			case MEDIUM_DT:
 			case SHORT_DT:
-				d = getFormat(format, locale, GMT).parse(in);
+				d = parse(in, format, locale, GMT);
 				d.setTime(d.getTime() - timeZone.getRawOffset());
 				break;
 
 			// This is always in GMT.
 			case RFC2822_DTZ:
-				DateFormat f  = getFormat(format, locale, GMT);
-				d = f.parse(in);
+				d = parse(in, format, locale, GMT);
 				break;
 
 			// These specify timezones in the strings, so we don't use the specified timezone.
@@ -606,7 +601,7 @@ public class CalendarUtils {
 			case LONG_DT:
 			case LONG_T:
 			case RFC2822_DT:
-				d = getFormat(format, locale, timeZone).parse(in);
+				d = parse(in, format, locale, timeZone);
 				break;
 		}
 		if (d == null)
@@ -660,11 +655,11 @@ public class CalendarUtils {
 			case SIMPLE_D:
 			case SIMPLE_DT:
 			case SIMPLE_T:
-				return getFormat(format, locale, timeZone).parse(in);
+				return parse(in, format, locale, timeZone);
 
 			// This is always in GMT.
 			case RFC2822_DTZ:
-				Date d = getFormat(format, locale, TimeZone.getDefault()).parse(in);
+				Date d = parse(in, format, locale, TimeZone.getDefault());
 				d.setTime(d.getTime() + TimeZone.getDefault().getRawOffset());
 				return d;
 
@@ -675,23 +670,81 @@ public class CalendarUtils {
 			case LONG_DT:
 			case LONG_T:
 			case RFC2822_DT:
-				return getFormat(format, locale, timeZone).parse(in);
+				return parse(in, format, locale, timeZone);
 
 		}
 		return null;
 	}
 
 	private static String serializeFromDateFormat(Date date, CalendarUtils.Format format, Locale locale, TimeZone timeZone) {
-		DateFormat df = getFormat(format, locale, timeZone);
-		String s = df.format(date);
-		return s;
+		ObjectPool<DateFormat> pool = getFormat(format, locale, timeZone);
+		DateFormat df = pool.borrow();
+		try {
+			return df.format(date);
+		} finally {
+			pool.release(df);
+		}
 	}
 
-	private static Calendar setTimeZone(Calendar c, TimeZone tz) {
-		if (tz != null && ! tz.equals(c.getTimeZone())) {
-			c = (Calendar)c.clone();
-			c.setTimeZone(tz);
+	/*
+	 * Formats the specified epoch milliseconds as an ISO8601 date-time in the specified time zone.
+	 * The output is the same as DatatypeConverter.printDateTime(), except milliseconds are always included if
+	 * 'withMillis' is true.
+	 * Dates in the years 1600-9999 are formatted directly without creating Calendar objects.
+	 */
+	private static String printDateTime(long time, TimeZone timeZone, boolean withMillis) {
+		int offset = timeZone.getOffset(time);
+		long local = time + offset;
+		long days = local / MILLIS_PER_DAY;
+		int millisOfDay = (int)(local % MILLIS_PER_DAY);
+		if (millisOfDay < 0) {
+			days--;
+			millisOfDay += MILLIS_PER_DAY;
 		}
-		return c;
+
+		// Convert days since the epoch to a year/month/day in the proleptic Gregorian calendar.
+		long z = days + 719468;
+		long era = (z >= 0 ? z : z - 146096) / 146097;
+		int doe = (int)(z - era * 146097);
+		int yoe = (doe - doe/1460 + doe/36524 - doe/146096) / 365;
+		int doy = doe - (365*yoe + yoe/4 - yoe/100);
+		int mp = (5*doy + 2) / 153;
+		int day = doy - (153*mp + 2)/5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+		if (year < 1600 || year > 9999) {
+			// Around the Julian/Gregorian cutover or outside of 4-digit years, so let Calendar handle it.
+			Calendar c = new GregorianCalendar(timeZone);
+			c.setTimeInMillis(time);
+			String s = DatatypeConverter.printDateTime(c);
+			if (withMillis && c.get(Calendar.MILLISECOND) == 0) {
+				int i = s.indexOf('T') + 9;
+				s = s.substring(0, i) + ".000" + s.substring(i);
+			}
+			return s;
+		}
+
+		int ms = millisOfDay % 1000, secs = millisOfDay / 1000;
+		StringBuilder sb = new StringBuilder(29).append(year).append('-');
+		pad2(sb, month).append('-');
+		pad2(sb, day).append('T');
+		pad2(sb, secs / 3600).append(':');
+		pad2(sb, secs / 60 % 60).append(':');
+		pad2(sb, secs % 60);
+		if (withMillis || ms != 0)
+			pad2(sb.append('.').append(ms / 100), ms % 100);
+		if (offset == 0)
+			return sb.append('Z').toString();
+		sb.append(offset < 0 ? '-' : '+');
+		offset = Math.abs(offset) / 60000;
+		pad2(sb, offset / 60).append(':');
+		return pad2(sb, offset % 60).toString();
+	}
+
+	private static StringBuilder pad2(StringBuilder sb, int i) {
+		if (i < 10)
+			sb.append('0');
+		return sb.append(i);
 	}
 }
@@ -12,9 +12,11 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.xml;
 
+import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.xml.annotation.*;
 
 /**
@@ -26,6 +28,7 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 	private Namespace namespace = null;
 	private XmlFormat xmlFormat = XmlFormat.DEFAULT;
 	private String childName;
+	private final String encodedName;
 
 	/**
 	 * Constructor.
@@ -44,6 +47,12 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 
 		if (namespace == null)
 			namespace = bpm.getBeanMeta().getClassMeta().getExtendedMeta(XmlClassMeta.class).getNamespace();
+
+		try (Writer w = new StringBuilderWriter()) {
+			encodedName = XmlUtils.encodeElementName(w, bpm.getName()).toString();
+		} catch (IOException e) {
+			throw new RuntimeException(e); // Never happens
+		}
 	}
 
 	/**
@@ -87,6 +96,18 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 		return childName;
 	}
 
+	/**
+	 * Returns the name of this bean property encoded as an XML element name.
+	 * 
+	 * <p>
+	 * Computed once so that serializers don't need to re-encode the name every time the property is serialized.
+	 * 
+	 * @return The name of this bean property with invalid XML element name characters encoded.
+	 */
+	protected String getEncodedName() {
+		return encodedName;
+	}
+
 	private void findXmlInfo(Xml xml) {
 		if (xml == null)
 			return;
@@ -15,6 +15,7 @@ package org.apache.juneau.xml;
 import static org.apache.juneau.internal.ReflectionUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
+import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -32,6 +33,10 @@ public class XmlClassMeta extends ClassMetaExtended {
 	private final XmlFormat format;
 	private final String childName;
 
+	// Namespaces reachable from this class through declared types, lazily computed.
+	private volatile Namespace[] reachableNamespaces;
+	private volatile boolean closed, closedSlot, hasDynaProperty;
+
 	/**
 	 * Constructor.
 	 * 
@@ -100,6 +105,118 @@ public class XmlClassMeta extends ClassMetaExtended {
 		return namespace;
 	}
 
+	/**
+	 * Returns the XML namespaces that can be reached from instances of this class through declared types.
+	 * 
+	 * <p>
+	 * Includes the namespaces of this class, of the properties of this bean, and recursively of the declared types of
+	 * bean properties, map values, and collection and array entries.
+	 * <br>Only namespaces with URIs are included.
+	 * 
+	 * <p>
+	 * The result is computed once and cached.
+	 * 
+	 * @return The namespaces reachable from this class.  Never <jk>null</jk>.
+	 */
+	protected Namespace[] getReachableNamespaces() {
+		if (reachableNamespaces == null)
+			findReachableNamespaces();
+		return reachableNamespaces;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if {@link #getReachableNamespaces()} is guaranteed to cover every namespace that can be
+	 * found on instances of this class.
+	 * 
+	 * <p>
+	 * This is <jk>false</jk> when an {@link Object}, abstract, interface, non-final, swapped, delegate, or
+	 * {@link BeanMap} type can be reached from this class, since the namespaces of the values in those slots can only
+	 * be determined at runtime.
+	 * <br>This class itself may be non-final since it's the actual type of the instance being checked.
+	 * 
+	 * @return <jk>true</jk> if the reachable namespaces are known without inspecting instances of this class.
+	 */
+	protected boolean isClosed() {
+		if (reachableNamespaces == null)
+			findReachableNamespaces();
+		return closed;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if {@link #getReachableNamespaces()} is guaranteed to cover every namespace that can be
+	 * found on values of a bean property, map value, or collection entry declared with this class.
+	 * 
+	 * <p>
+	 * Same as {@link #isClosed()}, but also <jk>false</jk> if this class is non-final or swapped, since the values in
+	 * those slots can be subclasses or swapped objects with other namespaces.
+	 * 
+	 * @return <jk>true</jk> if the reachable namespaces are known without inspecting values declared with this class.
+	 */
+	protected boolean isClosedSlot() {
+		if (reachableNamespaces == null)
+			findReachableNamespaces();
+		return closedSlot;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this class is a bean with a dynamic property (e.g. <code><ja>@BeanProperty</ja>(name=<js>"*"</js>)</code>).
+	 * 
+	 * @return <jk>true</jk> if this class is a bean with a dynamic property.
+	 */
+	protected boolean hasDynaProperty() {
+		if (reachableNamespaces == null)
+			findReachableNamespaces();
+		return hasDynaProperty;
+	}
+
+	private void findReachableNamespaces() {
+		Set<Namespace> s = new LinkedHashSet<>();
+		ClassMeta<?> cm = getClassMeta();
+		if (cm.isBean())
+			for (BeanPropertyMeta bpm : cm.getBeanMeta().getPropertyMetas())
+				hasDynaProperty |= bpm.isDyna();
+		boolean b = findReachableNamespaces(cm, true, s, Collections.newSetFromMap(new IdentityHashMap<ClassMeta<?>,Boolean>()));
+		closed = b;
+		closedSlot = b && isFinal(cm);
+		reachableNamespaces = s.toArray(new Namespace[s.size()]);
+	}
+
+	private static boolean findReachableNamespaces(ClassMeta<?> cm, boolean isRoot, Set<Namespace> s, Set<ClassMeta<?>> visited) {
+		if (cm == null)
+			return true;
+		if (cm.isObject() || cm.isAbstract() || cm.isDelegate() || cm.isBeanMap())
+			return false;
+
+		// Declared types can hold subclasses or swapped values with other namespaces.
+		if (! isRoot && ! isFinal(cm))
+			return false;
+		if (! visited.add(cm))
+			return true;
+
+		boolean b = true;
+		Namespace ns = cm.getExtendedMeta(XmlClassMeta.class).getNamespace();
+		if (ns != null && ns.uri != null)
+			s.add(ns);
+
+		if (cm.isBean()) {
+			for (BeanPropertyMeta bpm : cm.getBeanMeta().getPropertyMetas()) {
+				ns = bpm.getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace();
+				if (ns != null && ns.uri != null)
+					s.add(ns);
+				b &= findReachableNamespaces(bpm.getClassMeta(), false, s, visited);
+			}
+		} else if (cm.isMap()) {
+			b &= findReachableNamespaces(cm.getValueType(), false, s, visited);
+		} else if (cm.isCollection() || (cm.isArray() && ! cm.getElementType().isPrimitive())) {
+			b &= findReachableNamespaces(cm.getElementType(), false, s, visited);
+		}
+		return b;
+	}
+
+	private static boolean isFinal(ClassMeta<?> cm) {
+		return ! cm.hasPojoSwaps() && (cm.isPrimitive() || Modifier.isFinal(cm.getInnerClass().getModifiers()));
+	}
+
 	private static Namespace findNamespace(Class<?> c) {
 		if (c == null)
 			return null;
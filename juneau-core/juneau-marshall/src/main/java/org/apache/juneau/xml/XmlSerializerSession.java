@@ -124,6 +124,23 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			namespaces = append(namespaces, ns);
 	}
 
+	/*
+	 * Returns true if all the specified namespaces have already been added to this session.
+	 */
+	private boolean hasNamespaces(Namespace...nss) {
+		for (Namespace ns : nss) {
+			if (ns == defaultNamespace)
+				continue;
+			boolean found = false;
+			for (Namespace n : namespaces)
+				if (n == ns)
+					found = true;
+			if (! found)
+				return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Returns the {@link XmlSerializer#XML_addBeanTypeProperties} setting value for this session.
 	 * 
@@ -173,6 +190,15 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	/**
 	 * Recursively searches for the XML namespaces on the specified POJO and adds them to the serializer context object.
 	 * 
+	 * <p>
+	 * The namespaces reachable through the declared types of each class are computed once and cached on the
+	 * {@link XmlClassMeta}.
+	 * <br>Objects whose reachable namespaces have all already been found are not walked, and the getters of bean
+	 * properties are skipped when nothing new can be found through them, so those getters are only called once during
+	 * serialization.
+	 * <br>Values in {@link Object}, abstract, interface, non-final, and swapped slots are always inspected at runtime,
+	 * so the getters of bean properties declared with those types are still called twice.
+	 * 
 	 * @param o The POJO to check.
 	 * @throws SerializeException
 	 */
@@ -181,7 +207,15 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		aType = push(null, o, null);
 
 		if (aType != null) {
-			Namespace ns = aType.getExtendedMeta(XmlClassMeta.class).getNamespace();
+			XmlClassMeta xcm = aType.getExtendedMeta(XmlClassMeta.class);
+
+			// Don't walk this object if everything reachable from its declared types has already been found.
+			if (xcm.isClosed() && hasNamespaces(xcm.getReachableNamespaces())) {
+				pop();
+				return;
+			}
+
+			Namespace ns = xcm.getNamespace();
 			if (ns != null) {
 				if (ns.uri != null)
 					addNamespace(ns);
@@ -233,7 +267,41 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				for (Object o2 : ((Object[])o))
 					findNsfMappings(o2);
 			}
-			if (bm != null) {
+			if (bm != null && aType.isBean() && ! aType.getExtendedMeta(XmlClassMeta.class).hasDynaProperty()) {
+				boolean trimNulls = isTrimNulls();
+				for (BeanPropertyMeta bpm : bm.getMeta().getPropertyMetas()) {
+
+					Namespace ns = bpm.getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace();
+					if (ns != null && ns.uri == null)
+						ns = null;
+
+					// Don't call the getter if nothing new can be found through this property.
+					XmlClassMeta pxcm = bpm.getClassMeta().getExtendedMeta(XmlClassMeta.class);
+					if ((ns == null || hasNamespaces(ns)) && pxcm.isClosedSlot() && hasNamespaces(pxcm.getReachableNamespaces()))
+						continue;
+
+					// Same handling of nulls and errors as BeanMap.getValues().
+					Object val;
+					try {
+						val = bpm.get(bm, null);
+						if (val == null && trimNulls)
+							continue;
+					} catch (Error e) {
+						throw e;
+					} catch (Throwable x) {
+						val = null;
+					}
+
+					if (ns != null)
+						addNamespace(ns);
+
+					try {
+						findNsfMappings(val);
+					} catch (Throwable x) {
+						// Ignore
+					}
+				}
+			} else if (bm != null) {
 				for (BeanPropertyValue p : bm.getValues(isTrimNulls())) {
 
 					Namespace ns = p.getMeta().getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace();
@@ -400,6 +468,11 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			type = null;
 		}
 		boolean encodeEn = elementName != null;
+		if (encodeEn && pMeta != null && elementName == pMeta.getName()) {
+			// Bean property names are encoded once and cached on the property metadata.
+			en = pMeta.getExtendedMeta(XmlBeanPropertyMeta.class).getEncodedName();
+			encodeEn = false;
+		}
 		String ns = (elementNamespace == null ? null : elementNamespace.name);
 		String dns = null, elementNs = null;
 		if (enableNamespaces) {
@@ -194,26 +194,7 @@ public final class XmlUtils {
 		if (trim)
 			s = s.trim();
 
-		if (needsTextEncoding(s)) {
-			final int len = s.length();
-			for (int i = 0; i < len; i++) {
-				char c = s.charAt(i);
-				if ((i == 0 || i == len-1) && Character.isWhitespace(c) && ! preserveWhitespace)
-					appendPaddedHexChar(w, c);
-				else if (REPLACE_TEXT.contains(c))
-					w.append(REPLACE_TEXT.get(c));
-				else if (c == '_' && isEscapeSequence(s,i))
-					appendPaddedHexChar(w, c);
-				else if (isValidXmlCharacter(c))
-					w.append(c);
-				else
-					appendPaddedHexChar(w, c);
-			}
-		} else {
-			w.append(s);
-		}
-
-		return w;
+		return encode(w, s, REPLACE_TEXT, ! preserveWhitespace);
 	}
 
 	private static final boolean needsTextEncoding(String s) {
@@ -327,40 +308,7 @@ public final class XmlUtils {
 		if (trim)
 			s = s.trim();
 
-		if (needsAttrValueEncoding(s)) {
-			final int len = s.length();
-			for (int i = 0; i < len; i++) {
-				char c = s.charAt(i);
-				if ((i == 0 || i == len-1) && Character.isWhitespace(c))
-					appendPaddedHexChar(w, c);
-				else if (REPLACE_ATTR_VAL.contains(c))
-					w.append(REPLACE_ATTR_VAL.get(c));
-				else if (c == '_' && isEscapeSequence(s,i))
-					appendPaddedHexChar(w, c);
-				else if (isValidXmlCharacter(c))
-					w.append(c);
-				else
-					appendPaddedHexChar(w, c);
-			}
-		} else {
-			w.append(s);
-		}
-
-		return w;
-	}
-
-	private static final boolean needsAttrValueEncoding(String s) {
-		// See if we need to convert the string.
-		// Conversion is somewhat expensive, so make sure we need to do so before hand.
-		final int len = s.length();
-		for (int i = 0; i < len; i++) {
-			char c = s.charAt(i);
-			if ((i == 0 || i == len-1) && Character.isWhitespace(c))
-				return true;
-			if (REPLACE_ATTR_VAL.contains(c) || ! isValidXmlCharacter(c) || (c == '_' && isEscapeSequence(s,i)))
-				return true;
-		}
-		return false;
+		return encode(w, s, REPLACE_ATTR_VAL, true);
 	}
 
 	private static AsciiMap REPLACE_ATTR_VAL = new AsciiMap()
@@ -374,6 +322,33 @@ public final class XmlUtils {
 		.append((char)0x0D, "&#x000d;");
 
 
+	/*
+	 * Encodes element text or attribute values in a single pass.
+	 * Runs of characters that don't need encoding are written to the writer in bulk.
+	 */
+	private static final Writer encode(Writer w, String s, AsciiMap replace, boolean encodeEdgeWhitespace) throws IOException {
+		final int len = s.length();
+		int start = 0;
+		for (int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			boolean edge = (i == 0 || i == len-1) && encodeEdgeWhitespace && Character.isWhitespace(c);
+			if (! (edge || replace.contains(c) || (c == '_' && isEscapeSequence(s,i)) || ! isValidXmlCharacter(c)))
+				continue;
+			if (i > start)
+				w.write(s, start, i - start);
+			start = i + 1;
+			if (! edge && replace.contains(c))
+				w.write(replace.get(c));
+			else
+				appendPaddedHexChar(w, c);
+		}
+		if (start == 0)
+			w.write(s);
+		else if (start < len)
+			w.write(s, start, len - start);
+		return w;
+	}
+
 	//--------------------------------------------------------------------------------
 	// Decode XML text
 	//--------------------------------------------------------------------------------
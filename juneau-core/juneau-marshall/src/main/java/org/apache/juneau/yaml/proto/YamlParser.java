@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.yaml.proto;
 
+import java.lang.reflect.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
@@ -175,6 +177,22 @@ public class YamlParser extends ReaderParser {
 		return new YamlParserBuilder();
 	}
 
+	/**
+	 * Returns an iterator over the documents in a YAML stream using a new session with default session properties.
+	 * 
+	 * <p>
+	 * See {@link YamlParserSession#parseDocuments(Object, Type)} for more information.
+	 * 
+	 * @param <E> The document class type.
+	 * @param input The input.
+	 * @param type The class type of the documents, or <jk>null</jk> to default to whatever is being parsed.
+	 * @return A new iterator over the documents.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public final <E> ParserIterator<E> parseDocuments(Object input, Type type) throws ParseException {
+		return ((YamlParserSession)createSession()).parseDocuments(input, type);
+	}
+
 	@Override /* Parser */
 	public ReaderParserSession createSession(ParserSessionArgs args) {
 		return new YamlParserSession(this, args);
@@ -108,6 +108,107 @@ public final class YamlParserSession extends ReaderParserSession {
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, final ClassMeta<E> elementType) throws Exception {
+		return new ArrayParserIterator<E>(this, pipe, pipe.getParserReader()) {
+
+			@Override /* ArrayParserIterator */
+			protected void skipCommentsAndSpace(ParserReader r) throws Exception {
+				YamlParserSession.this.skipCommentsAndSpace(r);
+			}
+
+			@Override /* ArrayParserIterator */
+			protected void validateEnd(ParserReader r) throws Exception {
+				YamlParserSession.this.validateEnd(r);
+			}
+
+			@Override /* ArrayParserIterator */
+			protected E parseElement(ParserReader r) throws Exception {
+				return parseAnything(elementType, r, getOuter(), null);
+			}
+		}.start("array");
+	}
+
+	/**
+	 * Returns an iterator over the documents in a YAML stream.
+	 * 
+	 * <p>
+	 * Documents are separated by <js>"---"</js> lines and may optionally be terminated by <js>"..."</js> lines.
+	 * A leading <js>"---"</js> before the first document is optional.
+	 * 
+	 * <p>
+	 * Documents are parsed one at a time as the iterator is advanced, so arbitrarily long streams can be processed in
+	 * constant memory.
+	 * The input is not closed until the iterator has been exhausted or closed.
+	 * 
+	 * @param <E> The document class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param type The class type of the documents, or <jk>null</jk> to default to whatever is being parsed.
+	 * @return A new iterator over the documents.
+	 * @throws ParseException If the input could not be opened.
+	 */
+	public <E> ParserIterator<E> parseDocuments(Object input, Type type) throws ParseException {
+		final ParserPipe pipe = createPipe(input);
+		final ClassMeta<E> cm = (ClassMeta<E>)getClassMeta(type);
+		try {
+			final ParserReader r = pipe.getParserReader();
+			return new ParserIterator<E>(this, pipe) {
+				boolean first = true;
+
+				@Override /* ParserIterator */
+				protected boolean advance() throws Exception {
+					if (r == null)
+						return false;
+					skipCommentsAndSpace(r);
+					if (r.peek() == -1)
+						return false;
+					boolean marker = skipMarker(r, '-');
+					if (! first) {
+						if (skipMarker(r, '.'))
+							marker = skipMarker(r, '-');
+						else if (! marker)
+							throw new ParseException(loc(r), "Expected '---' between YAML documents.");
+						if (r.peek() == -1)
+							return false;
+					}
+					first = false;
+					return r.peek() != -1;
+				}
+
+				@Override /* ParserIterator */
+				protected E parseNext() throws Exception {
+					return parseAnything(cm, r, getOuter(), null);
+				}
+			};
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(getLastLocation(), "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage()).initCause(e);
+		}
+	}
+
+	/*
+	 * Consumes a "---" or "..." document marker and any following comments and whitespace.
+	 * Returns false and leaves the reader untouched if the next characters aren't a marker.
+	 */
+	private boolean skipMarker(ParserReader r, char c) throws Exception {
+		int n = 0;
+		while (n < 3 && r.peek() == c) {
+			r.read();
+			n++;
+		}
+		if (n == 3) {
+			int c2 = r.peek();
+			if (c2 == -1 || isWhitespace(c2)) {
+				skipCommentsAndSpace(r);
+				return true;
+			}
+		}
+		for (int i = 0; i < n; i++)
+			r.unread();
+		return false;
+	}
+
 	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
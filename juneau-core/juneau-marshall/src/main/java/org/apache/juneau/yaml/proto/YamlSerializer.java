@@ -328,6 +328,21 @@ public class YamlSerializer extends WriterSerializer {
 	// Entry point methods
 	//--------------------------------------------------------------------------------
 
+	/**
+	 * Serializes a sequence of objects as a YAML stream of <js>"---"</js>-separated documents using a new session with
+	 * default session properties.
+	 * 
+	 * <p>
+	 * See {@link YamlSerializerSession#serializeDocuments(Iterator, Object)} for more information.
+	 * 
+	 * @param documents The objects to serialize.
+	 * @param output The output object.
+	 * @throws SerializeException If a problem occurred trying to convert the output.
+	 */
+	public final void serializeDocuments(Iterator<?> documents, Object output) throws SerializeException {
+		((YamlSerializerSession)createSession()).serializeDocuments(documents, output);
+	}
+
 	@Override /* Serializer */
 	public WriterSerializerSession createSession(SerializerSessionArgs args) {
 		return new YamlSerializerSession(this, args);
@@ -342,4 +357,4 @@ public class YamlSerializer extends WriterSerializer {
 				.append("addBeanTypeProperties", addBeanTypeProperties)
 			);
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
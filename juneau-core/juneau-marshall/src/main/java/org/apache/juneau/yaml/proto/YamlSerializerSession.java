@@ -63,6 +63,39 @@ public class YamlSerializerSession extends WriterSerializerSession {
 		serializeAnything(getYamlWriter(out), o, getExpectedRootType(o), "root", null);
 	}
 
+	/**
+	 * Serializes a sequence of objects as a YAML stream of <js>"---"</js>-separated documents.
+	 * 
+	 * <p>
+	 * Each document is written and flushed to the output as soon as it's pulled from the iterator, so arbitrarily long
+	 * streams can be written without holding them in memory.
+	 * The resulting stream can be read back using {@link YamlParserSession#parseDocuments(Object, java.lang.reflect.Type)}.
+	 * 
+	 * @param documents The objects to serialize.
+	 * @param out The output object.  See {@link #serialize(Object, Object)} for supported output types.
+	 * @throws SerializeException If a problem occurred trying to convert the output.
+	 */
+	public final void serializeDocuments(Iterator<?> documents, Object out) throws SerializeException {
+		try (SerializerPipe pipe = createPipe(out)) {
+			YamlWriter w = getYamlWriter(pipe);
+			while (documents.hasNext()) {
+				Object o = documents.next();
+				w.append("---").append('\n');
+				serializeAnything(w, o, getExpectedRootType(o), "root", null);
+				w.append('\n').flush();
+			}
+		} catch (SerializeException e) {
+			throw e;
+		} catch (StackOverflowError e) {
+			throw new SerializeException(this,
+				"Stack overflow occurred.  This can occur when trying to serialize models containing loops.  It's recommended you use the Serializer.SERIALIZER_detectRecursions setting to help locate the loop.").initCause(e);
+		} catch (Exception e) {
+			throw new SerializeException(this, e);
+		} finally {
+			checkForWarnings();
+		}
+	}
+
 	/*
 	 * Workhorse method.
 	 * Determines the type of object, and then calls the appropriate type-specific serialization method.
@@ -145,6 +178,7 @@ public class YamlSerializerSession extends WriterSerializerSession {
 		m = sort(m);
 
 		int i = indent;
+		out.append('{');
 
 		Iterator mapEntries = m.entrySet().iterator();
 
@@ -154,15 +188,15 @@ public class YamlSerializerSession extends WriterSerializerSession {
 
 			Object key = generalize(e.getKey(), keyType);
 
-			out.attr(toString(key)).append(':').s();
+			out.cr(i).attr(toString(key)).append(':').s(i);
 
 			serializeAnything(out, value, valueType, toString(key), null);
 
 			if (mapEntries.hasNext())
-				out.nl(i);
+				out.append(',').smi(i);
 		}
 
-		out.cre(i-1);
+		out.cre(i-1).append('}');
 
 		return out;
 	}
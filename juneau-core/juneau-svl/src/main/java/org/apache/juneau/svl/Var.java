@@ -124,6 +124,93 @@ public abstract class Var {
 		return true;
 	}
 
+	/**
+	 * Returns whether the value of this variable depends only on its argument and the context objects of the resolver.
+	 * 
+	 * <p>
+	 * The values of constant variables are resolved only once per string when the resolver is built with
+	 * {@link VarResolverBuilder#foldConstants()}.
+	 * <br>Variables whose values depend on session objects (e.g. the HTTP request) must not return <jk>true</jk>.
+	 * 
+	 * <p>
+	 * The default implementation of this method always returns <jk>false</jk>.
+	 * Subclasses can override this method to override the default behavior.
+	 * 
+	 * @return <jk>true</jk> if the value of this variable never changes for a given argument.
+	 */
+	protected boolean isConstant() {
+		return false;
+	}
+
+	/**
+	 * Returns how long values resolved by this variable can be reused.
+	 * 
+	 * <p>
+	 * Values are cached by variable name and argument.
+	 * <br>Values cached with {@link VarCacheMode#TTL} or {@link VarCacheMode#UNTIL_INVALIDATED} are shared by all
+	 * sessions of a resolver, so variables whose values depend on a session object must also identify that object
+	 * through {@link #getCacheScope(VarResolverSession)}.
+	 * 
+	 * <p>
+	 * The default implementation of this method always returns {@link VarCacheMode#NEVER}.
+	 * Subclasses can override this method to override the default behavior.
+	 * 
+	 * @return How long values resolved by this variable can be reused.  Never <jk>null</jk>.
+	 */
+	protected VarCacheMode getCacheMode() {
+		return VarCacheMode.NEVER;
+	}
+
+	/**
+	 * Returns how long values resolved by this variable in the specified session can be reused.
+	 * 
+	 * <p>
+	 * Variables whose values can only be cached safely by some resolvers (e.g. resolvers that are invalidated when the
+	 * data the variable reads from changes) can override this method to decide based on the session.
+	 * 
+	 * <p>
+	 * The default implementation of this method returns {@link #getCacheMode()}.
+	 * 
+	 * @param session The current session.
+	 * @return How long values resolved by this variable can be reused.  Never <jk>null</jk>.
+	 */
+	protected VarCacheMode getCacheMode(VarResolverSession session) {
+		return getCacheMode();
+	}
+
+	/**
+	 * Returns how long values resolved by this variable are cached when {@link #getCacheMode()} returns
+	 * {@link VarCacheMode#TTL}.
+	 * 
+	 * <p>
+	 * The default implementation of this method returns 60 seconds.
+	 * Subclasses can override this method to override the default behavior.
+	 * 
+	 * @return The time-to-live of cached values in milliseconds.
+	 */
+	protected long getCacheTtl() {
+		return 60000;
+	}
+
+	/**
+	 * Returns the object that values resolved by this variable in the specified session are read from.
+	 * 
+	 * <p>
+	 * Values cached with {@link VarCacheMode#TTL} or {@link VarCacheMode#UNTIL_INVALIDATED} are only shared between
+	 * sessions that return the same (identical) object, so that sessions with different session objects (e.g.
+	 * different config files) never see each other's values.
+	 * 
+	 * <p>
+	 * The default implementation of this method returns <jk>null</jk>, meaning the values are shared by all sessions.
+	 * Subclasses can override this method to override the default behavior.
+	 * 
+	 * @param session The current session.
+	 * @return The object that values are read from, or <jk>null</jk> if they don't depend on the session.
+	 */
+	protected Object getCacheScope(VarResolverSession session) {
+		return null;
+	}
+
 	/**
 	 * The method called from {@link VarResolver}.
 	 * 
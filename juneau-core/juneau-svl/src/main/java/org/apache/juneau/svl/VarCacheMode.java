@@ -0,0 +1,46 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+/**
+ * Identifies how long the values resolved by a {@link Var} can be reused.
+ * 
+ * <p>
+ * See {@link Var#getCacheMode()}.
+ */
+public enum VarCacheMode {
+
+	/**
+	 * Resolve the var every time it's encountered.
+	 */
+	NEVER,
+
+	/**
+	 * Reuse values for the lifetime of a {@link VarResolverSession}.
+	 * 
+	 * <p>
+	 * Suitable for vars whose values depend on session objects (e.g. the HTTP request).
+	 */
+	SESSION,
+
+	/**
+	 * Reuse values across all sessions of a {@link VarResolver} until the time returned by {@link Var#getCacheTtl()}
+	 * has elapsed or {@link VarResolver#invalidate()} is called.
+	 */
+	TTL,
+
+	/**
+	 * Reuse values across all sessions of a {@link VarResolver} until {@link VarResolver#invalidate()} is called.
+	 */
+	UNTIL_INVALIDATED;
+}
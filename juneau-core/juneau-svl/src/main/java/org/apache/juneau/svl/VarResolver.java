@@ -125,7 +125,18 @@ public class VarResolver {
 	 * @param contextObjects
 	 */
 	public VarResolver(Class<? extends Var>[] vars, Map<String,Object> contextObjects) {
-		this.ctx = new VarResolverContext(vars, contextObjects);
+		this(vars, contextObjects, false);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param vars The var classes
+	 * @param contextObjects
+	 * @param foldConstants Resolve constant variables only once.  See {@link VarResolverBuilder#foldConstants(boolean)}.
+	 */
+	public VarResolver(Class<? extends Var>[] vars, Map<String,Object> contextObjects, boolean foldConstants) {
+		this.ctx = new VarResolverContext(vars, contextObjects, foldConstants);
 	}
 
 	/**
@@ -136,7 +147,22 @@ public class VarResolver {
 	public VarResolverBuilder builder() {
 		return new VarResolverBuilder()
 			.vars(ctx.getVars())
-			.contextObjects(ctx.getContextObjects());
+			.contextObjects(ctx.getContextObjects())
+			.foldConstants(ctx.isFoldConstants());
+	}
+
+	/**
+	 * Discards all cached var values shared between sessions of this resolver.
+	 * 
+	 * <p>
+	 * Should be called when the data that {@link Var Vars} with a cache mode of {@link VarCacheMode#TTL} or
+	 * {@link VarCacheMode#UNTIL_INVALIDATED} read from has changed.
+	 * 
+	 * @return This object (for method chaining).
+	 */
+	public VarResolver invalidate() {
+		ctx.invalidate();
+		return this;
 	}
 
 	/**
@@ -201,4 +227,4 @@ public class VarResolver {
 	public void resolveTo(String s, Writer w) throws IOException {
 		createSession(null).resolveTo(s, w);
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
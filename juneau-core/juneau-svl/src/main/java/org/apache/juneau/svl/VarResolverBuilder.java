@@ -25,6 +25,7 @@ public class VarResolverBuilder {
 
 	private final List<Class<? extends Var>> vars = new ArrayList<>();
 	private final Map<String,Object> contextObjects = new HashMap<>();
+	private boolean foldConstants;
 
 	/**
 	 * Create a new var resolver using the settings in this builder.
@@ -32,7 +33,7 @@ public class VarResolverBuilder {
 	 * @return A new var resolver.
 	 */
 	public VarResolver build() {
-		return new VarResolver(vars.toArray(new Class[vars.size()]), contextObjects);
+		return new VarResolver(vars.toArray(new Class[vars.size()]), contextObjects, foldConstants);
 	}
 
 	/**
@@ -100,4 +101,35 @@ public class VarResolverBuilder {
 		contextObjects.putAll(map);
 		return this;
 	}
+
+	/**
+	 * Resolve constant variables only once.
+	 * 
+	 * <p>
+	 * Strings are always parsed only once per resolver.
+	 * <br>When this setting is enabled, the values of variables whose {@link Var#isConstant()} method returns
+	 * <jk>true</jk> are also cached with the parsed string, so subsequent resolutions of the same string don't call
+	 * the variable again.
+	 * 
+	 * <p>
+	 * Note that this means that changes to system properties are not visible to strings that have already been
+	 * resolved by this resolver.
+	 * 
+	 * @param value The new value for this setting.
+	 * <br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public VarResolverBuilder foldConstants(boolean value) {
+		this.foldConstants = value;
+		return this;
+	}
+
+	/**
+	 * Shortcut for calling <code>foldConstants(<jk>true</jk>)</code>.
+	 * 
+	 * @return This object (for method chaining).
+	 */
+	public VarResolverBuilder foldConstants() {
+		return foldConstants(true);
+	}
 }
\ No newline at end of file
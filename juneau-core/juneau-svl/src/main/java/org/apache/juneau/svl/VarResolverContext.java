@@ -16,6 +16,9 @@ import static org.apache.juneau.internal.ClassUtils.*;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.internal.*;
 
 /**
  * Configurable properties on the {@link VarResolver} class.
@@ -30,6 +33,10 @@ public class VarResolverContext {
 	private final Class<?>[] vars;
 	private final Map<String,Var> varMap;
 	private final Map<String,Object> contextObjects;
+	private final boolean foldConstants;
+	private final Cache<String,VarTemplate> templates = new Cache<>(false, 1000);
+	private final ConcurrentHashMap<String,CachedResult> results = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
 
 	/**
 	 * Constructor.
@@ -38,6 +45,19 @@ public class VarResolverContext {
 	 * @param contextObjects Read-only context objects.
 	 */
 	public VarResolverContext(Class<? extends Var>[] vars, Map<String,Object> contextObjects) {
+		this(vars, contextObjects, false);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param vars The Var classes used for resolving string variables.
+	 * @param contextObjects Read-only context objects.
+	 * @param foldConstants
+	 * 	Resolve variables whose {@link Var#isConstant()} method returns <jk>true</jk> only once.
+	 * 	<br>See {@link VarResolverBuilder#foldConstants(boolean)}.
+	 */
+	public VarResolverContext(Class<? extends Var>[] vars, Map<String,Object> contextObjects, boolean foldConstants) {
 
 		this.vars = Arrays.copyOf(vars, vars.length);
 
@@ -51,6 +71,7 @@ public class VarResolverContext {
 
 		this.varMap = Collections.unmodifiableMap(m);
 		this.contextObjects = contextObjects == null ? null : Collections.unmodifiableMap(new ConcurrentHashMap<>(contextObjects));
+		this.foldConstants = foldConstants;
 	}
 
 	/**
@@ -89,4 +110,87 @@ public class VarResolverContext {
 	protected Map<String,Object> getContextObjects() {
 		return contextObjects;
 	}
+
+	/**
+	 * Returns whether values of constant variables are resolved only once.
+	 * 
+	 * @return <jk>true</jk> if values of constant variables are resolved only once.
+	 */
+	protected boolean isFoldConstants() {
+		return foldConstants;
+	}
+
+	/**
+	 * Returns the compiled form of the specified string.
+	 * 
+	 * <p>
+	 * Templates are cached by string, so each distinct string is only parsed once.
+	 * 
+	 * @param s The string containing variables.
+	 * @return The compiled template.
+	 */
+	VarTemplate getTemplate(String s) {
+		VarTemplate t = templates.get(s);
+		if (t == null)
+			t = templates.put(s, VarTemplate.compile(s, varMap, foldConstants));
+		return t;
+	}
+
+	/**
+	 * Discards all var values cached with {@link VarCacheMode#TTL} or {@link VarCacheMode#UNTIL_INVALIDATED}.
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+		results.clear();
+	}
+
+	/*
+	 * Returns the cached value for the specified var and argument, or null if it's not cached, has expired, or was
+	 * read from a different scope object.
+	 */
+	String getCachedResult(String key, Object scope) {
+		CachedResult r = results.get(key);
+		if (r == null || r.scope != scope)
+			return null;
+		if (r.expires != 0 && r.expires < System.currentTimeMillis()) {
+			results.remove(key, r);
+			return null;
+		}
+		return r.value;
+	}
+
+	/*
+	 * Returns a stamp to pass to cacheResult() that's captured before resolving a value.
+	 */
+	long getGeneration() {
+		return generation.get();
+	}
+
+	/*
+	 * Caches the value for the specified var and argument.
+	 * The value is discarded if invalidate() was called since the generation was captured, since it may be stale.
+	 */
+	void cacheResult(String key, Object scope, String value, long ttl, long gen) {
+
+		// Prevent OOM in case of DDOS
+		if (results.size() > 1000)
+			results.clear();
+
+		CachedResult r = new CachedResult(scope, value, ttl > 0 ? System.currentTimeMillis() + ttl : 0);
+		results.put(key, r);
+		if (generation.get() != gen)
+			results.remove(key, r);
+	}
+
+	private static final class CachedResult {
+		final Object scope;
+		final String value;
+		final long expires;
+
+		CachedResult(Object scope, String value, long expires) {
+			this.scope = scope;
+			this.value = value;
+			this.expires = expires;
+		}
+	}
 }
@@ -12,13 +12,12 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.svl;
 
-import static org.apache.juneau.internal.StringUtils.*;
-
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 
 /**
  * A var resolver session that combines a {@link VarResolver} with one or more session objects.
@@ -42,6 +41,8 @@ public class VarResolverSession {
 
 	private final VarResolverContext context;
 	private final Map<String,Object> sessionObjects;
+	private StringBuilder buffer;  // Reused by resolve(VarTemplate).
+	private Map<String,String> cache;  // Values of vars with VarCacheMode.SESSION.
 
 	/**
 	 * Constructor.
@@ -57,6 +58,15 @@ public class VarResolverSession {
 		this.sessionObjects = sessionObjects != null ? sessionObjects : new HashMap<String,Object>();
 	}
 
+	/**
+	 * Returns the context of the resolver that created this session.
+	 * 
+	 * @return The context of the resolver that created this session.
+	 */
+	public VarResolverContext getContext() {
+		return context;
+	}
+
 	/**
 	 * Adds a session object to this session.
 	 * 
@@ -86,35 +96,75 @@ public class VarResolverSession {
 		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
 			return s;
 
-		// Special case where value consists of a single variable with no embedded variables (e.g. "$X{...}").
-		// This is a common case, so we want an optimized solution that doesn't involve string builders.
-		if (isSimpleVar(s)) {
-			String var = s.substring(1, s.indexOf('{'));
-			String val = s.substring(s.indexOf('{')+1, s.length()-1);
-			Var v = getVar(var);
-			if (v != null) {
-				try {
-					if (v.streamed) {
-						StringWriter sw = new StringWriter();
-						v.resolveTo(this, sw, val);
-						return sw.toString();
-					}
-					s = v.doResolve(this, val);
-					if (s == null)
-						s = "";
-					return (v.allowRecurse() ? resolve(s) : s);
-				} catch (Exception e) {
-					return '{' + e.getLocalizedMessage() + '}';
-				}
-			}
+		return resolve(context.getTemplate(s));
+	}
+
+	/*
+	 * Resolves a compiled template.
+	 * Uses a builder that's reused between calls, unless this is a nested call made while the builder is in use.
+	 */
+	String resolve(VarTemplate t) {
+		String s = t.getLiteral();
+		if (s != null)
 			return s;
+
+		// Special case where value consists of a single variable (e.g. "$X{...}").
+		// This is a common case, so we want an optimized solution that doesn't involve string builders.
+		if (t.isSingleVar()) {
+			s = t.resolveSingleVar(this);
+			if (s != null)
+				return s;
 		}
 
+		StringBuilder sb = buffer;
+		buffer = null;
+		if (sb == null)
+			sb = new StringBuilder();
 		try {
-			return resolveTo(s, new StringWriter()).toString();
+			t.resolveTo(this, new StringBuilderWriter(sb));
+			return sb.toString();
 		} catch (IOException e) {
 			throw new RuntimeException(e); // Never happens.
+		} finally {
+			sb.setLength(0);
+			buffer = sb;
+		}
+	}
+
+	/*
+	 * Resolves a var, reusing a cached value if the var allows it.
+	 */
+	String resolveVar(Var var, String arg) throws Exception {
+		VarCacheMode m = var.getCacheMode(this);
+		if (m == VarCacheMode.NEVER)
+			return var.doResolve(this, arg);
+
+		String key = var.getName() + '{' + arg + '}';
+		if (m == VarCacheMode.SESSION) {
+			if (cache == null)
+				cache = new HashMap<>();
+			String s = cache.get(key);
+			if (s == null) {
+				s = var.doResolve(this, arg);
+				if (s == null)
+					s = "";
+				cache.put(key, s);
+			}
+			return s;
 		}
+
+		Object scope = var.getCacheScope(this);
+		if (scope != null)
+			key += '@' + Integer.toHexString(System.identityHashCode(scope));
+		String s = context.getCachedResult(key, scope);
+		if (s == null) {
+			long gen = context.getGeneration();
+			s = var.doResolve(this, arg);
+			if (s == null)
+				s = "";
+			context.cacheResult(key, scope, s, m == VarCacheMode.TTL ? var.getCacheTtl() : 0, gen);
+		}
+		return s;
 	}
 
 	/**
@@ -203,44 +253,6 @@ public class VarResolverSession {
 		return false;
 	}
 
-	/*
-	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
-	 * This is a common case, and we can avoid using StringWriters.
-	 */
-	private static boolean isSimpleVar(String s) {
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-		int S4 = 4;    // Found }
-
-		int length = s.length();
-		int state = S1;
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (c == '$') {
-					state = S2;
-				} else {
-					return false;
-				}
-			} else if (state == S2) {
-				if (c == '{') {
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
-					return false;
-				}
-			} else if (state == S3) {
-				if (c == '}')
-					state = S4;
-				else if (c == '{' || c == '$')
-					return false;
-			} else if (state == S4) {
-				return false;
-			}
-		}
-		return state == S4;
-	}
-
 	/**
 	 * Resolves variables in the specified string and sends the output to the specified writer.
 	 * 
@@ -254,110 +266,10 @@ public class VarResolverSession {
 	 * @throws IOException
 	 */
 	public Writer resolveTo(String s, Writer out) throws IOException {
-
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-
-		int state = S1;
-		boolean isInEscape = false;
-		boolean hasInternalVar = false;
-		boolean hasInnerEscapes = false;
-		String varType = null;
-		String varVal = null;
-		int x = 0, x2 = 0;
-		int depth = 0;
-		int length = s.length();
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (isInEscape) {
-					if (c == '\\' || c == '$') {
-						out.append(c);
-					} else {
-						out.append('\\').append(c);
-					}
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-				} else if (c == '$') {
-					x = i;
-					x2 = i;
-					state = S2;
-				} else {
-					out.append(c);
-				}
-			} else if (state == S2) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					hasInnerEscapes = true;
-					isInEscape = true;
-				} else if (c == '{') {
-					varType = s.substring(x+1, i);
-					x = i;
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
-					if (hasInnerEscapes)
-						out.append(unEscapeChars(s.substring(x, i+1), new char[]{'\\','{'}));
-					else
-						out.append(s, x, i+1);
-					x = i + 1;
-					state = S1;
-					hasInnerEscapes = false;
-				}
-			} else if (state == S3) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-					hasInnerEscapes = true;
-				} else if (c == '{') {
-					depth++;
-					hasInternalVar = true;
-				} else if (c == '}') {
-					if (depth > 0) {
-						depth--;
-					} else {
-						varVal = s.substring(x+1, i);
-						Var r = getVar(varType);
-						if (r == null) {
-							if (hasInnerEscapes)
-								out.append(unEscapeChars(s.substring(x2, i+1), new char[]{'\\','$','{','}'}));
-							else
-								out.append(s, x2, i+1);
-							x = i+1;
-						} else {
-							varVal = (hasInternalVar && r.allowNested() ? resolve(varVal) : varVal);
-							try {
-								if (r.streamed)
-									r.resolveTo(this, out, varVal);
-								else {
-									String replacement = r.doResolve(this, varVal);
-									if (replacement == null)
-										replacement = "";
-									// If the replacement also contains variables, replace them now.
-									if (replacement.indexOf('$') != -1 && r.allowRecurse())
-										replacement = resolve(replacement);
-									out.append(replacement);
-								}
-							} catch (Exception e) {
-								out.append('{').append(e.getLocalizedMessage()).append('}');
-							}
-							x = i+1;
-						}
-						state = 1;
-						hasInnerEscapes = false;
-					}
-				}
-			}
-		}
-		if (isInEscape)
-			out.append('\\');
-		else if (state == S2)
-			out.append('$').append(unEscapeChars(s.substring(x+1), new char[]{'{', '\\'}));
-		else if (state == S3)
-			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), new char[]{'\\','$','{','}'}));
+		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
+			out.append(s);
+		else
+			context.getTemplate(s).resolveTo(this, out);
 		return out;
 	}
 
@@ -0,0 +1,265 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A string containing variables that has been parsed into a list of literal segments and variables.
+ * 
+ * <p>
+ * Templates are created once per string by {@link VarResolverContext#getTemplate(String)} and shared by all sessions,
+ * so resolving a string again only involves calling the {@link Var Vars} and appending the literal segments.
+ */
+final class VarTemplate {
+
+	private final Object[] nodes;  // Either String literals or VarNodes.
+
+	private VarTemplate(List<Object> nodes) {
+		this.nodes = nodes.toArray();
+	}
+
+	/**
+	 * Returns the literal value of this template if it doesn't contain any variables.
+	 * 
+	 * @return The literal value, or <jk>null</jk> if this template contains variables.
+	 */
+	String getLiteral() {
+		if (nodes.length == 0)
+			return "";
+		if (nodes.length == 1 && nodes[0] instanceof String)
+			return (String)nodes[0];
+		return null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this template consists of a single variable.
+	 * 
+	 * @return <jk>true</jk> if this template consists of a single variable.
+	 */
+	boolean isSingleVar() {
+		return nodes.length == 1 && nodes[0] instanceof VarNode;
+	}
+
+	/**
+	 * Resolves a template consisting of a single non-streamed variable without using a writer.
+	 * 
+	 * @param session The current session.
+	 * @return The resolved value, or <jk>null</jk> if the variable is streamed.
+	 */
+	String resolveSingleVar(VarResolverSession session) {
+		return ((VarNode)nodes[0]).resolve(session);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if all the variables in this template are constant and folded.
+	 * 
+	 * @return <jk>true</jk> if this template always resolves to the same value.
+	 */
+	boolean isConstant() {
+		for (Object n : nodes)
+			if (n instanceof VarNode && ! ((VarNode)n).foldable)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Resolves this template and sends the output to the specified writer.
+	 * 
+	 * @param session The current session.
+	 * @param out The writer to write to.
+	 * @throws IOException
+	 */
+	void resolveTo(VarResolverSession session, Writer out) throws IOException {
+		for (Object n : nodes) {
+			if (n instanceof String)
+				out.append((String)n);
+			else
+				((VarNode)n).resolveTo(session, out);
+		}
+	}
+
+	/*
+	 * A variable in a template.
+	 */
+	private static final class VarNode {
+		final Var var;
+		final String arg;            // The raw argument.
+		final VarTemplate argTemplate;  // The compiled argument if it contains nested variables.
+		final boolean foldable;
+		volatile String folded;
+
+		VarNode(Var var, String arg, VarTemplate argTemplate, boolean foldConstants) {
+			this.var = var;
+			this.arg = arg;
+			this.argTemplate = argTemplate;
+			this.foldable = foldConstants && var.isConstant() && (argTemplate == null || argTemplate.isConstant());
+		}
+
+		/*
+		 * Returns the resolved value, or null if this is a streamed var that must be written to a writer.
+		 */
+		String resolve(VarResolverSession session) {
+			if (var.streamed)
+				return null;
+			String s = folded;
+			if (s != null)
+				return s;
+			String a = (argTemplate == null ? arg : session.resolve(argTemplate));
+			try {
+				s = session.resolveVar(var, a);
+				if (s == null)
+					s = "";
+				// If the replacement also contains variables, replace them now.
+				if (s.indexOf('$') != -1 && var.allowRecurse())
+					s = session.resolve(s);
+				else if (foldable)
+					folded = s;
+				return s;
+			} catch (Exception e) {
+				return '{' + e.getLocalizedMessage() + '}';
+			}
+		}
+
+		void resolveTo(VarResolverSession session, Writer out) throws IOException {
+			if (! var.streamed) {
+				out.append(resolve(session));
+				return;
+			}
+			String a = (argTemplate == null ? arg : session.resolve(argTemplate));
+			try {
+				var.resolveTo(session, out, a);
+			} catch (Exception e) {
+				out.append('{').append(e.getLocalizedMessage()).append('}');
+			}
+		}
+	}
+
+	/**
+	 * Parses the specified string into a template.
+	 * 
+	 * @param s The string to parse.
+	 * @param vars The vars to look up variable names in.
+	 * @param foldConstants Whether to cache the values of constant variables.
+	 * @return A new template.
+	 */
+	static VarTemplate compile(String s, Map<String,Var> vars, boolean foldConstants) {
+
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+
+		List<Object> nodes = new ArrayList<>();
+		StringBuilder out = new StringBuilder();
+
+		int state = S1;
+		boolean isInEscape = false;
+		boolean hasInternalVar = false;
+		boolean hasInnerEscapes = false;
+		String varType = null;
+		String varVal = null;
+		int x = 0, x2 = 0;
+		int depth = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (isInEscape) {
+					if (c == '\\' || c == '$') {
+						out.append(c);
+					} else {
+						out.append('\\').append(c);
+					}
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+				} else if (c == '$') {
+					x = i;
+					x2 = i;
+					state = S2;
+				} else {
+					out.append(c);
+				}
+			} else if (state == S2) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					hasInnerEscapes = true;
+					isInEscape = true;
+				} else if (c == '{') {
+					varType = s.substring(x+1, i);
+					x = i;
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
+					if (hasInnerEscapes)
+						out.append(unEscapeChars(s.substring(x, i+1), new char[]{'\\','{'}));
+					else
+						out.append(s, x, i+1);
+					x = i + 1;
+					state = S1;
+					hasInnerEscapes = false;
+				}
+			} else if (state == S3) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+					hasInnerEscapes = true;
+				} else if (c == '{') {
+					depth++;
+					hasInternalVar = true;
+				} else if (c == '}') {
+					if (depth > 0) {
+						depth--;
+					} else {
+						varVal = s.substring(x+1, i);
+						Var r = vars.get(varType);
+						if (r == null) {
+							if (hasInnerEscapes)
+								out.append(unEscapeChars(s.substring(x2, i+1), new char[]{'\\','$','{','}'}));
+							else
+								out.append(s, x2, i+1);
+							x = i+1;
+						} else {
+							if (out.length() > 0) {
+								nodes.add(out.toString());
+								out.setLength(0);
+							}
+							VarTemplate t = (hasInternalVar && r.allowNested() ? compile(varVal, vars, foldConstants) : null);
+							if (t != null && t.getLiteral() != null) {
+								varVal = t.getLiteral();
+								t = null;
+							}
+							nodes.add(new VarNode(r, varVal, t, foldConstants));
+							x = i+1;
+						}
+						state = 1;
+						hasInnerEscapes = false;
+					}
+				}
+			}
+		}
+		if (isInEscape)
+			out.append('\\');
+		else if (state == S2)
+			out.append('$').append(unEscapeChars(s.substring(x+1), new char[]{'{', '\\'}));
+		else if (state == S3)
+			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), new char[]{'\\','$','{','}'}));
+		if (out.length() > 0)
+			nodes.add(out.toString());
+		return new VarTemplate(nodes);
+	}
+}
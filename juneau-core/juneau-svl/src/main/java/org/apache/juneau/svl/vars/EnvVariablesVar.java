@@ -52,4 +52,14 @@ public class EnvVariablesVar extends DefaultingVar {
 		// Note that lookup is case-insensitive on windows.
 		return System.getenv(varVal);
 	}
+
+	@Override /* Var */
+	protected boolean isConstant() {
+		return true;
+	}
+
+	@Override /* Var */
+	protected VarCacheMode getCacheMode() {
+		return VarCacheMode.UNTIL_INVALIDATED;
+	}
 }
\ No newline at end of file
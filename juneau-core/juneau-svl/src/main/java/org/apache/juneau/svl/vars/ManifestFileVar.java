@@ -66,4 +66,14 @@ public class ManifestFileVar extends DefaultingVar {
 	public String resolve(VarResolverSession session, String key) {
 		return session.getSessionObject(ManifestFile.class, SESSION_manifest).getString(key);
 	}
-}
+
+	@Override /* Var */
+	protected VarCacheMode getCacheMode() {
+		return VarCacheMode.UNTIL_INVALIDATED;
+	}
+
+	@Override /* Var */
+	protected Object getCacheScope(VarResolverSession session) {
+		return session.getSessionObject(ManifestFile.class, SESSION_manifest);
+	}
+}
\ No newline at end of file
@@ -46,4 +46,10 @@ public class SystemPropertiesVar extends MapVar {
 	public SystemPropertiesVar() {
 		super(NAME, System.getProperties());
 	}
+
+	@Override /* Var */
+	protected boolean isConstant() {
+		// Only takes effect when the resolver is built with foldConstants().
+		return true;
+	}
 }
\ No newline at end of file
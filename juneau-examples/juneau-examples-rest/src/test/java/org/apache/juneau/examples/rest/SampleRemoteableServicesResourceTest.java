@@ -16,6 +16,8 @@ import static org.apache.juneau.xml.XmlSerializer.*;
 import static org.junit.Assert.*;
 
 import java.text.*;
+import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.examples.addressbook.*;
 import org.apache.juneau.rest.client.*;
@@ -29,6 +31,7 @@ public class SampleRemoteableServicesResourceTest extends RestTestcase {
 	static RestClient[] clients;
 
 	private static String path = SamplesMicroservice.getURI().getPath() + "/addressBook/proxy";
+	private static String remoteablePath = SamplesMicroservice.getURI().getPath() + "/remoteable";
 
 	@BeforeClass
 	public static void beforeClass() throws Exception {
@@ -74,4 +77,83 @@ public class SampleRemoteableServicesResourceTest extends RestTestcase {
 			assertEquals(true, p.addresses.get(0).isCurrent);
 		}
 	}
+
+	//====================================================================================================
+	// Multiple calls sent in a single batch request
+	//====================================================================================================
+	@Test
+	public void testBatch() throws Exception {
+		ExecutorService es = Executors.newFixedThreadPool(3);
+		try {
+			for (RestClient client : clients) {
+				RemoteableBatch batch = client.getRemoteableBatch(remoteablePath, 100, 3);
+				final IAddressBook ab = batch.getProxy(IAddressBook.class);
+
+				List<Future<Object>> l = new ArrayList<>();
+				l.add(es.submit(new Callable<Object>() {
+					@Override
+					public Object call() throws Exception {
+						return ab.getPeople();
+					}
+				}));
+				l.add(es.submit(new Callable<Object>() {
+					@Override
+					public Object call() throws Exception {
+						return ab.getAddresses();
+					}
+				}));
+				l.add(es.submit(new Callable<Object>() {
+					@Override
+					public Object call() throws Exception {
+						return ab.findPerson(-1);
+					}
+				}));
+
+				assertTrue(l.get(0).get() instanceof List);
+				assertTrue(l.get(1).get() instanceof List);
+				assertNull(l.get(2).get());
+
+				// A single call is sent once the window elapses.
+				ab.init();
+				assertEquals(2, ab.getPeople().size());
+			}
+		} finally {
+			es.shutdown();
+		}
+	}
+
+	//====================================================================================================
+	// Interrupting the caller that sends the batch still sends it for the other callers.
+	//====================================================================================================
+	@Test
+	public void testBatchLeaderInterrupted() throws Exception {
+		ExecutorService es = Executors.newFixedThreadPool(2);
+		try {
+			RemoteableBatch batch = clients[0].getRemoteableBatch(remoteablePath, 30000, 10);
+			final IAddressBook ab = batch.getProxy(IAddressBook.class);
+			final Thread[] leader = new Thread[1];
+
+			Future<Object> f1 = es.submit(new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					leader[0] = Thread.currentThread();
+					return ab.getPeople();
+				}
+			});
+			Thread.sleep(500);
+			Future<Object> f2 = es.submit(new Callable<Object>() {
+				@Override
+				public Object call() throws Exception {
+					return ab.getAddresses();
+				}
+			});
+			Thread.sleep(500);
+			leader[0].interrupt();
+
+			assertTrue(f2.get(10, TimeUnit.SECONDS) instanceof List);
+			assertTrue(f1.get(10, TimeUnit.SECONDS) instanceof List);
+		} finally {
+			es.shutdownNow();
+		}
+	}
 }
@@ -0,0 +1,240 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.logging.*;
+
+/**
+ * Log handler that queues log records and passes them to another handler in batches from a dedicated thread.
+ * 
+ * <p>
+ * Keeps file I/O off the threads doing the logging.
+ * <br>When the queue is full, the {@link OverflowPolicy} determines whether the logging thread waits for space in
+ * the queue or the record is dropped.
+ * <br>The number of dropped records is logged through the target handler once space becomes available again.
+ * 
+ * <p>
+ * The writer thread takes up to <code>batchSize</code> records off the queue at a time and flushes the target handler
+ * after each batch.
+ * <br>Note that some handlers such as {@link FileHandler} also flush after every record, so batching doesn't reduce
+ * the number of flushes for them.
+ * <br>When this handler is closed, the writer thread writes any queued records and then closes the target handler.
+ * 
+ * <p>
+ * Used by {@link Microservice} to wrap the log file handler when <cc>[Logging]</cc>/<ck>async</ck> is
+ * <jk>true</jk>.
+ */
+public class AsyncLogHandler extends Handler {
+
+	/**
+	 * What to do with a record when the queue is full.
+	 */
+	public static enum OverflowPolicy {
+
+		/** Wait for space in the queue. */
+		BLOCK,
+
+		/** Drop the record. */
+		DROP,
+
+		/** Drop the record if its level is lower than the overflow level, otherwise wait for space in the queue. */
+		DROP_BELOW_LEVEL;
+	}
+
+	private final Handler target;
+	private final BlockingQueue<LogRecord> queue;
+	private final int batchSize;
+	private final OverflowPolicy overflowPolicy;
+	private final int overflowLevel;
+	private final Thread thread;
+	private final AtomicLong dropped = new AtomicLong(), queued = new AtomicLong();
+	private final Object writtenLock = new Object();
+	private long written, droppedReported;
+	private volatile boolean closed;
+
+	/**
+	 * Constructor.
+	 * 
+	 * <p>
+	 * Starts the daemon thread that writes records to the target handler.
+	 * 
+	 * @param target The handler to pass records to.
+	 * @param queueSize The maximum number of records waiting to be written.
+	 * @param batchSize The maximum number of records taken off the queue and passed to the target handler at a time.
+	 * @param overflowPolicy What to do with a record when the queue is full.
+	 * @param overflowLevel
+	 * 	When using {@link OverflowPolicy#DROP_BELOW_LEVEL}, records at this level or above are never dropped.
+	 */
+	public AsyncLogHandler(Handler target, int queueSize, int batchSize, OverflowPolicy overflowPolicy, Level overflowLevel) {
+		this.target = target;
+		this.queue = new ArrayBlockingQueue<>(queueSize);
+		this.batchSize = Math.max(1, batchSize);
+		this.overflowPolicy = overflowPolicy;
+		this.overflowLevel = overflowLevel.intValue();
+		setLevel(target.getLevel());
+		this.thread = new Thread("AsyncLogHandler") {
+			@Override /* Thread */
+			public void run() {
+				AsyncLogHandler.this.run();
+			}
+		};
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override /* Handler */
+	public void publish(LogRecord r) {
+		if (closed || ! isLoggable(r))
+			return;
+
+		// The caller can only be determined on the logging thread.
+		r.getSourceClassName();
+
+		boolean block = overflowPolicy == OverflowPolicy.BLOCK
+			|| (overflowPolicy == OverflowPolicy.DROP_BELOW_LEVEL && r.getLevel().intValue() >= overflowLevel);
+		try {
+			if (block)
+				queue.put(r);
+			else if (! queue.offer(r)) {
+				dropped.incrementAndGet();
+				return;
+			}
+			queued.incrementAndGet();
+		} catch (InterruptedException e) {
+			dropped.incrementAndGet();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Waits up to 5 seconds for all records queued before this call to be written.
+	 */
+	@Override /* Handler */
+	public void flush() {
+		long n = queued.get();
+		long timeout = System.currentTimeMillis() + 5000;
+		synchronized (writtenLock) {
+			try {
+				for (long now = System.currentTimeMillis(); written < n && now < timeout && thread.isAlive(); now = System.currentTimeMillis())
+					writtenLock.wait(timeout - now);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		target.flush();
+	}
+
+	/**
+	 * Stops accepting records and waits up to 5 seconds for the writer thread to write any queued records and close
+	 * the target handler.
+	 * 
+	 * <p>
+	 * If the writer thread is still busy after that, it finishes in the background.
+	 */
+	@Override /* Handler */
+	public void close() throws SecurityException {
+		if (closed)
+			return;
+		closed = true;
+		thread.interrupt();
+		try {
+			thread.join(5000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Returns the number of records waiting to be written.
+	 * 
+	 * @return The number of records waiting to be written.
+	 */
+	public int getQueueDepth() {
+		return queue.size();
+	}
+
+	/**
+	 * Returns the maximum number of records that can wait to be written.
+	 * 
+	 * @return The maximum number of records that can wait to be written.
+	 */
+	public int getQueueCapacity() {
+		return queue.size() + queue.remainingCapacity();
+	}
+
+	/**
+	 * Returns the number of records dropped because the queue was full.
+	 * 
+	 * @return The number of records dropped since this handler was created.
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * Returns the number of records passed to the target handler.
+	 * 
+	 * @return The number of records written since this handler was created.
+	 */
+	public long getWrittenCount() {
+		synchronized (writtenLock) {
+			return written;
+		}
+	}
+
+	private void run() {
+		List<LogRecord> batch = new ArrayList<>(batchSize);
+		try {
+			while (! closed) {
+				try {
+					batch.add(queue.take());
+				} catch (InterruptedException e) {
+					break;  // Closed.
+				}
+				queue.drainTo(batch, batchSize - 1);
+				write(batch);
+				batch.clear();
+			}
+			// Write the records queued before this handler was closed.
+			queue.drainTo(batch);
+			write(batch);
+		} finally {
+			target.close();
+		}
+	}
+
+	private void write(List<LogRecord> batch) {
+		for (LogRecord r : batch) {
+			try {
+				target.publish(r);
+			} catch (Exception e) {
+				reportError(null, e, ErrorManager.WRITE_FAILURE);
+			}
+		}
+		long d = dropped.get();
+		if (d > droppedReported) {
+			LogRecord r = new LogRecord(Level.WARNING, (d - droppedReported) + " log records were dropped because the log queue was full.");
+			r.setLoggerName(AsyncLogHandler.class.getName());
+			target.publish(r);
+			droppedReported = d;
+		}
+		target.flush();
+		synchronized (writtenLock) {
+			written += batch.size();
+			writtenLock.notifyAll();
+		}
+	}
+}
@@ -120,6 +120,8 @@ public abstract class Microservice {
 	private VarResolver vr;
 	private Map<String,ConsoleCommand> consoleCommands;
 	private boolean consoleEnabled = true;
+	private ConfigFileWatcher configFileWatcher;
+	private AsyncLogHandler asyncLogHandler;
 	
 	private String cfPath;
 
@@ -470,6 +472,18 @@ public abstract class Microservice {
 	public Logger getLogger() {
 		return logger;
 	}
+
+	/**
+	 * Returns the handler that writes to the log file asynchronously.
+	 * 
+	 * <p>
+	 * Can be used to monitor the queue depth and the number of dropped log records.
+	 * 
+	 * @return The asynchronous log handler, or <jk>null</jk> if the log file is written synchronously.
+	 */
+	public AsyncLogHandler getAsyncLogHandler() {
+		return asyncLogHandler;
+	}
 	
 	//--------------------------------------------------------------------------------
 	// Abstract lifecycle methods.
@@ -482,6 +496,10 @@ public abstract class Microservice {
 	 * Default implementation simply calls {@link #onStart()}.
 	 * 
 	 * <p>
+	 * Unless <js>"Config/watch"</js> is <jk>false</jk>, the config file is reloaded whenever it's modified on the file
+	 * system and {@link #onConfigChange(ConfigFile, Set)} is called with the changed keys.
+	 * 
+	 * <p>
 	 * Overridden methods MUST call this method FIRST so that the {@link #onStart()} method is called.
 	 * 
 	 * @return This object (for method chaining).
@@ -550,6 +568,7 @@ public abstract class Microservice {
 		}
 
 		vr = createVarResolver().build();
+		cf.addDependentResolver(vr);
 		
 		if (cfPath != null)
 			System.setProperty("juneau.configFile", cfPath);
@@ -586,6 +605,22 @@ public abstract class Microservice {
 			}
 		});
 
+		// --------------------------------------------------------------------------------
+		// Reload the config file when it's modified on the file system.
+		// --------------------------------------------------------------------------------
+		if (cf.getBoolean("Config/watch", true)) {
+			configFileWatcher = new ConfigFileWatcher(cf.getLong("Config/watchDelay", 500)) {
+				@Override /* ConfigFileWatcher */
+				protected void onError(ConfigFile cf, Exception e) {
+					if (logger == null)
+						super.onError(cf, e);
+					else
+						logger.log(Level.WARNING, "Could not reload config file.", e);
+				}
+			};
+			configFileWatcher.watch(cf);
+		}
+
 		consoleEnabled = cf.getBoolean("Console/enabled", true);
 
 		if (cfPath == null) {
@@ -730,6 +765,26 @@ public abstract class Microservice {
 	 * 	<cc># The default level for the console logger.
 	 * 	# Default is WARNING.</cc>
 	 * 	<ck>consoleLevel</ck> = WARNING
+	 * 
+	 * 	<cc># Write to the log file from a separate thread.
+	 * 	# Default is true.</cc>
+	 * 	<ck>async</ck> = true
+	 * 
+	 * 	<cc># The maximum number of log records waiting to be written.
+	 * 	# Default is 10000.</cc>
+	 * 	<ck>queueSize</ck> = 10000
+	 * 
+	 * 	<cc># The maximum number of log records taken off the queue and written at a time.
+	 * 	# Default is 100.</cc>
+	 * 	<ck>batchSize</ck> = 100
+	 * 
+	 * 	<cc># What to do when the queue is full (BLOCK, DROP, DROP_BELOW_LEVEL).
+	 * 	# Default is BLOCK.</cc>
+	 * 	<ck>overflowPolicy</ck> = DROP_BELOW_LEVEL
+	 * 
+	 * 	<cc># Records at this level or above are never dropped when using DROP_BELOW_LEVEL.
+	 * 	# Default is WARNING.</cc>
+	 * 	<ck>overflowLevel</ck> = WARNING
 	 * </p>
 	 * 
 	 * @throws Exception
@@ -752,7 +807,18 @@ public abstract class Microservice {
 			String dateFormat = cf.getString("Logging/dateFormat", "yyyy.MM.dd hh:mm:ss");
 			fh.setFormatter(new LogEntryFormatter(format, dateFormat, useStackTraceHashes));
 			fh.setLevel(cf.getObjectWithDefault("Logging/fileLevel", Level.INFO, Level.class));
-			logger.addHandler(fh);
+			if (cf.getBoolean("Logging/async", true)) {
+				asyncLogHandler = new AsyncLogHandler(
+					fh,
+					cf.getInt("Logging/queueSize", 10000),
+					cf.getInt("Logging/batchSize", 100),
+					cf.getObjectWithDefault("Logging/overflowPolicy", AsyncLogHandler.OverflowPolicy.BLOCK, AsyncLogHandler.OverflowPolicy.class),
+					cf.getObjectWithDefault("Logging/overflowLevel", Level.WARNING, Level.class)
+				);
+				logger.addHandler(asyncLogHandler);
+			} else {
+				logger.addHandler(fh);
+			}
 
 			ConsoleHandler ch = new ConsoleHandler();
 			ch.setLevel(cf.getObjectWithDefault("Logging/consoleLevel", Level.WARNING, Level.class));
@@ -782,7 +848,8 @@ public abstract class Microservice {
 	 * Stop this application.
 	 * 
 	 * <p>
-	 * Default implementation simply calls {@link #onStop()}.
+	 * Default implementation calls {@link #onStop()} and then closes the asynchronous log handler so that queued log
+	 * records are written.
 	 * 
 	 * <p>
 	 * Overridden methods MUST call this method LAST so that the {@link #onStop()} method is called.
@@ -790,7 +857,15 @@ public abstract class Microservice {
 	 * @return This object (for method chaining).
 	 */
 	public Microservice stop() {
+		if (configFileWatcher != null) {
+			configFileWatcher.close();
+			configFileWatcher = null;
+		}
 		onStop();
+		if (asyncLogHandler != null) {
+			logger.removeHandler(asyncLogHandler);
+			asyncLogHandler.close();
+		}
 		return this;
 	}
 
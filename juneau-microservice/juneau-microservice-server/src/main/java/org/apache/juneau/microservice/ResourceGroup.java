@@ -52,7 +52,9 @@ import org.apache.juneau.svl.vars.*;
 		},
 		stylesheet="$C{REST/stylesheet,servlet:/styles/devops.css}"
 	),
-	config="$S{juneau.configFile}"
+	config="$S{juneau.configFile}",
+	parallelInit="$C{REST/parallelInit,false}",
+	preloadClassMetas="$C{REST/preloadClassMetas,false}"
 )
 public abstract class ResourceGroup extends RestServletGroupDefault {
 
@@ -29,6 +29,8 @@ import org.apache.juneau.rest.annotation.*;
 		stylesheet="$C{REST/stylesheet,servlet:/styles/devops.css}"
 	),
 	config="$S{juneau.configFile}",
+	parallelInit="$C{REST/parallelInit,false}",
+	preloadClassMetas="$C{REST/preloadClassMetas,false}",
 	serializers={
 		RdfSerializer.Xml.class,
 		RdfSerializer.XmlAbbrev.class,
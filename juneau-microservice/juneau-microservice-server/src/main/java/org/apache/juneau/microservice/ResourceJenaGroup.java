@@ -54,6 +54,8 @@ import org.apache.juneau.svl.vars.*;
 		stylesheet="$C{REST/stylesheet,servlet:/styles/devops.css}"
 	),
 	config="$S{juneau.configFile}",
+	parallelInit="$C{REST/parallelInit,false}",
+	preloadClassMetas="$C{REST/preloadClassMetas,false}",
 	serializers={
 		RdfSerializer.Xml.class,
 		RdfSerializer.XmlAbbrev.class,
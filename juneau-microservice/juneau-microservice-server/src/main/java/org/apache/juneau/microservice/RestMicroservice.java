@@ -28,6 +28,7 @@ import org.eclipse.jetty.server.*;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.handler.*;
 import org.eclipse.jetty.servlet.*;
+import org.eclipse.jetty.util.thread.*;
 import org.eclipse.jetty.xml.*;
 
 /**
@@ -282,8 +283,33 @@ public class RestMicroservice extends Microservice {
 	 * 	# The resulting available port gets set as the system property "availablePort" which can be referenced in the 
 	 * 	# jetty.xml file as "$S{availablePort}" (assuming resolveVars is enabled).</cc>
 	 * 	<ck>port</ck> = 10000,0,0,0
+	 * 	
+	 * 	<cc># Thread pool settings.</cc>
+	 * 	<ck>minThreads</ck> = 10
+	 * 	<ck>maxThreads</ck> = 200
+	 * 	<ck>threadIdleTimeout</ck> = 60000
+	 * 	
+	 * 	<cc># Use virtual threads for the thread pool.
+	 * 	# Requires Java 21 or later.  Ignored with a warning on older runtimes.
+	 * 	# The number of virtual threads isn't capped, so maxThreads is ignored when this is enabled.</cc>
+	 * 	<ck>virtualThreads</ck> = false
+	 * 	
+	 * 	<cc># Connector settings.
+	 * 	# These are applied to all the server connectors defined in the jetty.xml file.
+	 * 	# Connectors are only rebuilt when acceptors or selectors is set to a value different from the one in the
+	 * 	# jetty.xml file.  '-1' keeps the value from the jetty.xml file.</cc>
+	 * 	<ck>acceptors</ck> = -1
+	 * 	<ck>selectors</ck> = -1
+	 * 	<ck>acceptQueueSize</ck> = 0
+	 * 	<ck>idleTimeout</ck> = 30000
+	 * 	<ck>requestHeaderSize</ck> = 8192
+	 * 	<ck>responseHeaderSize</ck> = 8192
+	 * 	<ck>outputBufferSize</ck> = 32768
 	 * </p>
 	 * 
+	 * <p>
+	 * The thread pool and connector settings are optional and override the values from the jetty.xml file.
+	 * 
 	 * @return The newly-created server.
 	 * @throws Exception
 	 */
@@ -324,12 +350,94 @@ public class RestMicroservice extends Microservice {
 		
 		getLogger().info(xmlConfig);
 		
+		boolean virtualThreads = cf.getBoolean("Jetty/virtualThreads", false);
+		if (virtualThreads && ! VirtualThreadPool.isSupported()) {
+			getLogger().warning("Virtual threads are not supported by this Java runtime.  Using platform threads instead.");
+			virtualThreads = false;
+		}
+		
 		XmlConfiguration config = new XmlConfiguration(new ByteArrayInputStream(xmlConfig.getBytes()));
-		server = (Server)config.configure();
+		if (virtualThreads)
+			server = (Server)config.configure(new Server(new VirtualThreadPool()));
+		else
+			server = (Server)config.configure();
+		
+		configureThreadPool(server, cf);
+		configureConnectors(server, cf);
 		
 		return server;
 	}
 	
+	private static void configureThreadPool(Server server, ConfigFile cf) {
+		if (! (server.getThreadPool() instanceof QueuedThreadPool))
+			return;
+		QueuedThreadPool tp = (QueuedThreadPool)server.getThreadPool();
+		tp.setMaxThreads(cf.getInt("Jetty/maxThreads", tp.getMaxThreads()));
+		tp.setMinThreads(cf.getInt("Jetty/minThreads", tp.getMinThreads()));
+		tp.setIdleTimeout(cf.getInt("Jetty/threadIdleTimeout", tp.getIdleTimeout()));
+	}
+	
+	private static void configureConnectors(Server server, ConfigFile cf) {
+		Connector[] connectors = server.getConnectors();
+		boolean replaced = false;
+		for (int i = 0; i < connectors.length; i++) {
+			if (! (connectors[i] instanceof ServerConnector))
+				continue;
+			ServerConnector c = (ServerConnector)connectors[i];
+			
+			// The number of acceptors and selectors can only be set through the constructor, so the connector is
+			// replaced by a copy when the config file explicitly asks for different counts.
+			int acceptors = cf.getInt("Jetty/acceptors", -1), selectors = cf.getInt("Jetty/selectors", -1);
+			if (acceptors < 0)
+				acceptors = c.getAcceptors();
+			if (selectors <= 0)
+				selectors = c.getSelectorManager().getSelectorCount();
+			if (acceptors != c.getAcceptors() || selectors != c.getSelectorManager().getSelectorCount()) {
+				connectors[i] = c = copyConnector(server, c, acceptors, selectors);
+				replaced = true;
+			}
+			
+			c.setAcceptQueueSize(cf.getInt("Jetty/acceptQueueSize", c.getAcceptQueueSize()));
+			c.setIdleTimeout(cf.getLong("Jetty/idleTimeout", c.getIdleTimeout()));
+			
+			for (ConnectionFactory f : c.getConnectionFactories()) {
+				if (f instanceof HttpConfiguration.ConnectionFactory) {
+					HttpConfiguration hc = ((HttpConfiguration.ConnectionFactory)f).getHttpConfiguration();
+					hc.setRequestHeaderSize(cf.getInt("Jetty/requestHeaderSize", hc.getRequestHeaderSize()));
+					hc.setResponseHeaderSize(cf.getInt("Jetty/responseHeaderSize", hc.getResponseHeaderSize()));
+					hc.setOutputBufferSize(cf.getInt("Jetty/outputBufferSize", hc.getOutputBufferSize()));
+				}
+			}
+		}
+		if (replaced)
+			server.setConnectors(connectors);
+	}
+	
+	private static ServerConnector copyConnector(Server server, ServerConnector c, int acceptors, int selectors) {
+		ServerConnector c2 = new ServerConnector(server, c.getExecutor(), c.getScheduler(), c.getByteBufferPool(), acceptors, selectors, c.getConnectionFactories().toArray(new ConnectionFactory[0]));
+		c2.setName(c.getName());
+		c2.setHost(c.getHost());
+		c2.setPort(c.getPort());
+		c2.setIdleTimeout(c.getIdleTimeout());
+		c2.setAcceptQueueSize(c.getAcceptQueueSize());
+		c2.setReuseAddress(c.getReuseAddress());
+		c2.setInheritChannel(c.isInheritChannel());
+		c2.setSoLingerTime(c.getSoLingerTime());
+		c2.setAcceptorPriorityDelta(c.getAcceptorPriorityDelta());
+		c2.setDefaultProtocol(c.getDefaultProtocol());
+		
+		// Other beans such as connection listeners.
+		for (Object b : c.getBeans()) {
+			if (b == c.getSelectorManager() || c2.contains(b))
+				continue;
+			if (c.isManaged(b))
+				c2.addBean(b, true);
+			else
+				c2.addBean(b);
+		}
+		return c2;
+	}
+	
 	/**
 	 * Adds an arbitrary servlet to this microservice.
 	 * 
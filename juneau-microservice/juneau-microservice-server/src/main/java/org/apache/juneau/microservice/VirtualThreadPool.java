@@ -0,0 +1,93 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice;
+
+import java.lang.reflect.*;
+
+import org.eclipse.jetty.util.thread.*;
+
+/**
+ * A Jetty thread pool whose threads are virtual threads.
+ * 
+ * <p>
+ * Virtual threads are only available on Java 21 and later.
+ * <br>They're looked up through reflection so that this class can still be loaded on older runtimes, where
+ * {@link #isSupported()} returns <jk>false</jk>.
+ * 
+ * <p>
+ * Since virtual threads are cheap to create and to block, the number of threads of this pool isn't capped.
+ * <br>{@link #setMaxThreads(int)} is ignored so that <code>maxThreads</code> settings meant for platform threads in
+ * the jetty.xml or config file don't limit the number of concurrent requests.
+ */
+public class VirtualThreadPool extends QueuedThreadPool {
+
+	private static final Method OF_VIRTUAL, UNSTARTED;
+	static {
+		Method m1 = null, m2 = null;
+		try {
+			m1 = Thread.class.getMethod("ofVirtual");
+			m2 = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+		} catch (Exception e) {
+			m1 = m2 = null;
+		}
+		OF_VIRTUAL = m1;
+		UNSTARTED = m2;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the current runtime supports virtual threads.
+	 * 
+	 * @return <jk>true</jk> if the current runtime supports virtual threads.
+	 */
+	public static boolean isSupported() {
+		return OF_VIRTUAL != null;
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @throws UnsupportedOperationException If the current runtime doesn't support virtual threads.
+	 */
+	public VirtualThreadPool() {
+		if (! isSupported())
+			throw new UnsupportedOperationException("Virtual threads are not supported by this Java runtime.");
+		setName("vtp" + hashCode());
+		super.setMaxThreads(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Ignored.
+	 * 
+	 * <p>
+	 * The number of virtual threads isn't capped.
+	 */
+	@Override /* QueuedThreadPool */
+	public void setMaxThreads(int maxThreads) {}
+
+	@Override /* QueuedThreadPool */
+	protected Thread newThread(Runnable runnable) {
+		try {
+			return (Thread)UNSTARTED.invoke(OF_VIRTUAL.invoke(null), runnable);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Virtual threads are always daemon threads.
+	 */
+	@Override /* QueuedThreadPool */
+	public boolean isDaemon() {
+		return true;
+	}
+}
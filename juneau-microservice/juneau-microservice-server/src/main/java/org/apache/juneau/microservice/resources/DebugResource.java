@@ -16,11 +16,13 @@ import static org.apache.juneau.http.HttpMethodName.*;
 
 import java.io.*;
 
+import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.microservice.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.labels.*;
+import org.eclipse.jetty.util.thread.*;
 
 /**
  * Microservice debug utilities.
@@ -51,10 +53,38 @@ public class DebugResource extends Resource {
 	@RestMethod(name=GET, path="/", description="Show contents of config file.")
 	public ResourceDescription[] getChildren() throws Exception {
 		return new ResourceDescription[] {
-			new ResourceDescription("jetty/dump", "Jetty thread dump")
+			new ResourceDescription("jetty/dump", "Jetty thread dump"),
+			new ResourceDescription("jetty/threadPool", "Jetty thread pool utilization")
 		};
 	}
 
+	/**
+	 * [GET /jetty/threadPool] - Shows the current utilization of the Jetty thread pool.
+	 */
+	@RestMethod(name=GET, path="/jetty/threadPool", description="Shows the current utilization of the Jetty thread pool.")
+	public ObjectMap getJettyThreadPool() {
+		ThreadPool tp = RestMicroservice.getInstance().getServer().getThreadPool();
+		ObjectMap m = new ObjectMap()
+			.append("class", tp.getClass().getName())
+			.append("virtualThreads", tp instanceof VirtualThreadPool)
+			.append("threads", tp.getThreads())
+			.append("idleThreads", tp.getIdleThreads())
+			.append("lowOnThreads", tp.isLowOnThreads());
+		if (tp instanceof QueuedThreadPool) {
+			QueuedThreadPool qtp = (QueuedThreadPool)tp;
+			int busy = qtp.getBusyThreads();
+			m.append("minThreads", qtp.getMinThreads())
+				.append("maxThreads", qtp.getMaxThreads())
+				.append("busyThreads", busy)
+				.append("queueSize", qtp.getQueueSize());
+
+			// Virtual thread pools aren't capped.
+			if (! (tp instanceof VirtualThreadPool))
+				m.append("utilization", (busy * 100 / qtp.getMaxThreads()) + "%");
+		}
+		return m;
+	}
+
 	/**
 	 * [GET /jetty/dump] - Generates and retrieves the jetty thread dump.
 	 */
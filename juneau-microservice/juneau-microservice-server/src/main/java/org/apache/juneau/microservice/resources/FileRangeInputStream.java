@@ -0,0 +1,94 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+
+/**
+ * Input stream that reads one or more byte ranges of a file.
+ * 
+ * <p>
+ * Ranges are read through positional {@link FileChannel} reads into a reusable buffer.
+ * <br>Unlike memory-mapped buffers, nothing holds on to the file once the stream is closed, so log files can be deleted
+ * or rotated while they're being read on all platforms.
+ */
+final class FileRangeInputStream extends InputStream {
+
+	private static final int BUFFER_SIZE = 64*1024;
+
+	private final FileChannel fc;
+	private final Iterator<long[]> ranges;
+	private final ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE);
+	private long pos, end;
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param f The file to read.
+	 * @param ranges The <code>[start,end)</code> byte offsets of the ranges to read, in the order to read them.
+	 * @throws IOException
+	 */
+	FileRangeInputStream(File f, List<long[]> ranges) throws IOException {
+		this.fc = new RandomAccessFile(f, "r").getChannel();
+		this.ranges = ranges.iterator();
+		buf.limit(0);
+	}
+
+	@Override /* InputStream */
+	public int read() throws IOException {
+		if (! ensureBuffer())
+			return -1;
+		return buf.get() & 0xFF;
+	}
+
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		if (! ensureBuffer())
+			return -1;
+		len = Math.min(len, buf.remaining());
+		buf.get(b, off, len);
+		return len;
+	}
+
+	@Override /* InputStream */
+	public void close() throws IOException {
+		fc.close();
+	}
+
+	private boolean ensureBuffer() throws IOException {
+		while (! buf.hasRemaining()) {
+			if (pos >= end) {
+				if (! ranges.hasNext())
+					return false;
+				long[] r = ranges.next();
+				pos = r[0];
+				end = r[1];
+				continue;
+			}
+			buf.clear();
+			buf.limit((int)Math.min(BUFFER_SIZE, end - pos));
+			int n = fc.read(buf, pos);
+			buf.flip();
+			if (n <= 0)
+				end = pos;  // The file was truncated.
+			else
+				pos += n;
+		}
+		return true;
+	}
+}
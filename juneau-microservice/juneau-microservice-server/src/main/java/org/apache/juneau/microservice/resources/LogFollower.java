@@ -0,0 +1,226 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+
+/**
+ * Returns log entries as they're appended to a log file.
+ * 
+ * <p>
+ * Starts at the end of the file and tracks the read position, so only newly appended entries are returned.
+ * <br>Waits for new data using a {@link LogWatcher} on the directory containing the file, and falls back to
+ * checking the file once a second in case notifications are delayed.
+ * <br>Followers created with a shared {@link LogWatcher} share a single registration per directory.
+ * <br>If the file is truncated or replaced (e.g. by log rotation), reading restarts at the beginning of the new file.
+ * 
+ * <p>
+ * Entries are filtered the same way as {@link LogParser}.
+ * <br>Memory use is constant other than the entry being assembled.
+ * Since entries can span multiple lines, an entry is returned once the next entry starts or no new data has been
+ * written for 250ms.
+ * Continuation lines written after that are dropped.
+ * 
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	<jk>try</jk> (LogFollower lf = <jk>new</jk> LogFollower(formatter, file, <jk>null</jk>, <jk>null</jk>, <jk>new</jk> String[]{<js>"SEVERE"</js>})) {
+ * 		<jk>while</jk> (<jk>true</jk>) {
+ * 			LogParser.Entry e = lf.next(10000);
+ * 			<jk>if</jk> (e != <jk>null</jk>)
+ * 				...
+ * 		}
+ * 	}
+ * </p>
+ */
+public final class LogFollower implements Closeable {
+
+	private static final long FLUSH_DELAY = 250, POLL_INTERVAL = 1000;
+
+	private final LogParser parser;
+	private final Path path;
+	private final LogWatcher watcher;
+	private final LogWatcher.Directory dir;
+	private final boolean ownsWatcher;
+	private boolean closed;
+	private final Charset cs = Charset.defaultCharset();
+	private final ByteBuffer buf = ByteBuffer.allocate(65536);
+	private byte[] line = new byte[256];
+	private int lineLength;
+	private long position, lastData;
+	private Object fileKey;
+	private LogParser.Entry pending;  // A matching entry that may still receive continuation lines.
+
+	/**
+	 * Constructor.
+	 * 
+	 * <p>
+	 * The follower uses its own {@link LogWatcher}, which is closed when the follower is closed.
+	 * 
+	 * @param formatter The log entry formatter.
+	 * @param f The log file.
+	 * @param thread Only return log entries with this thread name.
+	 * @param loggers Only return log entries produced by these loggers (simple class names).
+	 * @param severity Only return log entries with the specified severity.
+	 * @throws IOException If the directory containing the file could not be watched.
+	 */
+	public LogFollower(LogEntryFormatter formatter, File f, String thread, String[] loggers, String[] severity) throws IOException {
+		this(formatter, f, thread, loggers, severity, new LogWatcher(), true);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param formatter The log entry formatter.
+	 * @param f The log file.
+	 * @param thread Only return log entries with this thread name.
+	 * @param loggers Only return log entries produced by these loggers (simple class names).
+	 * @param severity Only return log entries with the specified severity.
+	 * @param watcher The watcher to wait for new data with.
+	 * 	<br>It's not closed when the follower is closed.
+	 * @throws IOException If the directory containing the file could not be watched.
+	 */
+	public LogFollower(LogEntryFormatter formatter, File f, String thread, String[] loggers, String[] severity, LogWatcher watcher) throws IOException {
+		this(formatter, f, thread, loggers, severity, watcher, false);
+	}
+
+	private LogFollower(LogEntryFormatter formatter, File f, String thread, String[] loggers, String[] severity, LogWatcher watcher, boolean ownsWatcher) throws IOException {
+		this.parser = new LogParser(formatter, null, null, thread, loggers, severity);
+		this.path = f.getAbsoluteFile().toPath();
+		this.watcher = watcher;
+		this.ownsWatcher = ownsWatcher;
+		try {
+			this.dir = watcher.register(path.getParent());
+		} catch (IOException e) {
+			if (ownsWatcher)
+				watcher.close();
+			throw e;
+		}
+		this.position = f.length();
+		this.fileKey = getFileKey();
+		buf.flip();
+	}
+
+	/**
+	 * Waits for the next matching log entry.
+	 * 
+	 * @param timeout The maximum time to wait in milliseconds.  Use {@link Long#MAX_VALUE} to wait indefinitely.
+	 * @return The next matching log entry, or <jk>null</jk> if none was written before the timeout.
+	 * @throws IOException If the log file could not be read.
+	 * @throws InterruptedException If the current thread was interrupted while waiting.
+	 */
+	public LogParser.Entry next(long timeout) throws IOException, InterruptedException {
+		long start = System.currentTimeMillis();
+		long deadline = (timeout < Long.MAX_VALUE - start ? start + timeout : Long.MAX_VALUE);
+		while (true) {
+			long changes = dir.getChanges();
+			String l = readLine();
+			if (l != null) {
+				LogParser.Entry e = parser.new Entry(l);
+				if (e.isRecord) {
+					LogParser.Entry done = pending;
+					pending = (e.matches() ? e : null);
+					if (done != null)
+						return done;
+				} else if (pending != null) {
+					pending.addText(l);
+				}
+				continue;
+			}
+
+			long now = System.currentTimeMillis();
+			if (pending != null && now - lastData >= FLUSH_DELAY) {
+				LogParser.Entry done = pending;
+				pending = null;
+				return done;
+			}
+			if (now >= deadline)
+				return null;
+
+			dir.await(changes, Math.min(deadline - now, pending == null ? POLL_INTERVAL : FLUSH_DELAY));
+		}
+	}
+
+	@Override /* Closeable */
+	public void close() throws IOException {
+		if (closed)
+			return;
+		closed = true;
+		watcher.unregister(dir);
+		if (ownsWatcher)
+			watcher.close();
+	}
+
+	/*
+	 * Returns the next complete line, or null if no complete line has been written yet.
+	 */
+	private String readLine() throws IOException {
+		while (true) {
+			while (buf.hasRemaining()) {
+				byte c = buf.get();
+				if (c == '\n') {
+					int len = lineLength;
+					lineLength = 0;
+					if (len > 0 && line[len-1] == '\r')
+						len--;
+					return new String(line, 0, len, cs);
+				}
+				if (lineLength == line.length)
+					line = Arrays.copyOf(line, lineLength*2);
+				line[lineLength++] = c;
+			}
+			if (! fill())
+				return null;
+		}
+	}
+
+	/*
+	 * Reads the next chunk of the file into the buffer.
+	 */
+	private boolean fill() throws IOException {
+		buf.clear();
+		try (FileChannel fc = FileChannel.open(path, StandardOpenOption.READ)) {
+			Object k = getFileKey();
+			if (fc.size() < position || (k != null && ! k.equals(fileKey))) {
+				// Truncated or replaced.
+				position = 0;
+				lineLength = 0;
+				fileKey = k;
+			}
+			int n = fc.read(buf, position);
+			if (n <= 0)
+				return false;
+			position += n;
+			lastData = System.currentTimeMillis();
+			return true;
+		} catch (NoSuchFileException e) {
+			// Being rotated.  Wait for the file to be recreated.
+			return false;
+		} finally {
+			buf.flip();
+		}
+	}
+
+	private Object getFileKey() {
+		try {
+			return Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,431 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.text.*;
+import java.util.*;
+import java.util.regex.*;
+import java.util.zip.*;
+
+/**
+ * Sparse index of a log file used by {@link LogParser} to skip the parts of the file that can't contain matching
+ * entries.
+ * 
+ * <p>
+ * The log file is divided into blocks of roughly 256KB that start on log entry boundaries.
+ * <br>For each block, the index records the earliest and latest entry dates and bitmaps of the threads, loggers and
+ * severities of the entries in the block.
+ * <br>Date range queries only read the blocks that overlap the range, and thread, logger and severity filters skip
+ * blocks whose bitmaps don't contain the requested values.
+ * 
+ * <p>
+ * The index is persisted next to the log file in a file with a <js>".idx"</js> suffix and is updated incrementally by
+ * {@link #update()} as the log file grows.
+ * <br>Blocks are appended to the index file as they're completed, so the index file is only written when a block fills up.
+ * <br>It's rebuilt from scratch if the log file is truncated or replaced, or if the log entry format changes.
+ * 
+ * <p>
+ * Log files are read through positional file channel reads so that they're never left open or mapped.
+ * The default charset is assumed to be ASCII-compatible.
+ */
+public final class LogIndex {
+
+	/** The suffix appended to the log file name to get the name of the index file. */
+	public static final String SUFFIX = ".idx";
+
+	private static final int MAGIC = 0x4A4C4931;  // "JLI1"
+	private static final int BLOCK_SIZE = 256*1024;
+	private static final int CHECKSUM_SIZE = 4096;
+
+	private final LogEntryFormatter formatter;
+	private final File logFile, indexFile;
+	private final String formatKey;
+
+	private final Dictionary threads = new Dictionary(), loggers = new Dictionary(), severities = new Dictionary();
+	private final List<Block> blocks = new ArrayList<>();
+	private long indexedLength;
+	private long checksum;
+	private int persistedBlocks;
+	private boolean loaded;
+
+	/**
+	 * Constructor.
+	 * 
+	 * <p>
+	 * The index isn't read or built until {@link #update()} is called.
+	 * 
+	 * @param formatter The formatter used to parse log entries.
+	 * @param logFile The log file.
+	 */
+	public LogIndex(LogEntryFormatter formatter, File logFile) {
+		this.formatter = formatter;
+		this.logFile = logFile;
+		this.indexFile = new File(logFile.getPath() + SUFFIX);
+		DateFormat df = formatter.getDateFormat();
+		this.formatKey = formatter.getLogEntryPattern().pattern() + '\n' + (df instanceof SimpleDateFormat ? ((SimpleDateFormat)df).toPattern() : df.getClass().getName());
+	}
+
+	/**
+	 * Brings this index up to date with the log file.
+	 * 
+	 * <p>
+	 * On the first call, the persisted index is read if it exists.
+	 * <br>Entries appended to the log file since the last update are then indexed and the blocks completed since the last
+	 * update are appended to the index file.
+	 * 
+	 * @return This object (for method chaining).
+	 * @throws IOException If the log file could not be read.
+	 */
+	public synchronized LogIndex update() throws IOException {
+		if (! loaded) {
+			loaded = true;
+			try {
+				read();
+			} catch (IOException e) {
+				// Corrupt or unreadable index.  Rebuild it.
+				delete();
+			}
+		}
+
+		long length = logFile.length();
+		if (length < indexedLength || (indexedLength > 0 && checksum != checksum(Math.min(CHECKSUM_SIZE, indexedLength))))
+			delete();
+
+		if (length == indexedLength)
+			return this;
+
+		// The last block may be incomplete, so index it again.
+		// Blocks read from the index file are always complete.
+		long from = indexedLength;
+		if (blocks.size() > persistedBlocks)
+			from = blocks.remove(blocks.size()-1).offset;
+		scan(from, length);
+		checksum = checksum(Math.min(CHECKSUM_SIZE, indexedLength));
+
+		try {
+			write();
+		} catch (IOException e) {
+			// The log directory may not be writable.  Keep using the in-memory index.
+			indexFile.delete();
+			persistedBlocks = 0;
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the byte ranges of the log file that may contain entries matching the specified filters.
+	 * 
+	 * <p>
+	 * Ranges start on log entry boundaries so that they can be concatenated and parsed as a log file.
+	 * <br>The part of the log file that hasn't been indexed yet is always included.
+	 * 
+	 * @param start Don't return ranges containing only entries before this date.  Can be <jk>null</jk>.
+	 * @param end Don't return ranges containing only entries after this date.  Can be <jk>null</jk>.
+	 * @param thread Only return ranges containing entries with this thread name.  Can be <jk>null</jk>.
+	 * @param loggerFilter Only return ranges containing entries produced by these loggers.  Can be <jk>null</jk>.
+	 * @param severityFilter Only return ranges containing entries with these severities.  Can be <jk>null</jk>.
+	 * @return The <code>[start,end)</code> byte offsets of the matching ranges, in file order.
+	 */
+	public synchronized List<long[]> getRanges(Date start, Date end, String thread, Collection<String> loggerFilter, Collection<String> severityFilter) {
+		long s = (start == null ? Long.MIN_VALUE : start.getTime()), e = (end == null ? Long.MAX_VALUE : end.getTime());
+		BitSet tf = (thread == null ? null : threads.find(Collections.singleton(thread)));
+		BitSet lf = (loggerFilter == null ? null : loggers.find(loggerFilter));
+		BitSet sf = (severityFilter == null ? null : severities.find(severityFilter));
+
+		List<long[]> l = new ArrayList<>();
+		for (int i = 0; i < blocks.size(); i++) {
+			Block b = blocks.get(i);
+			if (b.hasDates() && (b.maxDate < s || b.minDate > e))
+				continue;
+			if ((tf != null && ! tf.intersects(b.threads)) || (lf != null && ! lf.intersects(b.loggers)) || (sf != null && ! sf.intersects(b.severities)))
+				continue;
+			addRange(l, b.offset, i+1 < blocks.size() ? blocks.get(i+1).offset : indexedLength);
+		}
+		long length = logFile.length();
+		if (length > indexedLength)
+			addRange(l, indexedLength, length);
+		return l;
+	}
+
+	/**
+	 * Returns the number of blocks in this index.
+	 * 
+	 * @return The number of blocks in this index.
+	 */
+	public synchronized int getBlockCount() {
+		return blocks.size();
+	}
+
+	/**
+	 * Deletes the persisted index file.
+	 */
+	public synchronized void delete() {
+		clear();
+		indexFile.delete();
+	}
+
+	private static void addRange(List<long[]> l, long start, long end) {
+		if (start >= end)
+			return;
+		if (! l.isEmpty()) {
+			long[] last = l.get(l.size()-1);
+			if (last[1] == start) {
+				last[1] = end;
+				return;
+			}
+		}
+		l.add(new long[]{start, end});
+	}
+
+	private void clear() {
+		threads.clear();
+		loggers.clear();
+		severities.clear();
+		blocks.clear();
+		indexedLength = 0;
+		checksum = 0;
+		persistedBlocks = 0;
+	}
+
+	/*
+	 * Indexes the complete lines between the specified offsets.
+	 */
+	private void scan(long from, long to) throws IOException {
+		Pattern p = formatter.getLogEntryPattern();
+		DateFormat df = (DateFormat)formatter.getDateFormat().clone();
+		Charset cs = Charset.defaultCharset();
+		Block b = null;
+		long pos = from;
+		byte[] buff = new byte[65536], line = new byte[256];
+		int len = 0;
+
+		List<long[]> range = Collections.singletonList(new long[]{from, to});
+		try (InputStream is = new FileRangeInputStream(logFile, range)) {
+			for (int n = is.read(buff); n != -1; n = is.read(buff)) {
+				for (int i = 0; i < n; i++) {
+					byte c = buff[i];
+					if (c != '\n') {
+						if (len == line.length)
+							line = Arrays.copyOf(line, len*2);
+						line[len++] = c;
+						continue;
+					}
+					long lineStart = pos;
+					pos += len + 1;
+					if (len > 0 && line[len-1] == '\r')
+						len--;
+					Matcher m = p.matcher(new String(line, 0, len, cs));
+					len = 0;
+					boolean isRecord = m.matches();
+					if (b == null || (isRecord && lineStart - b.offset >= BLOCK_SIZE)) {
+						b = new Block(lineStart);
+						blocks.add(b);
+					}
+					if (isRecord)
+						b.add(m, df);
+				}
+			}
+		}
+		indexedLength = pos;
+	}
+
+	private void read() throws IOException {
+		if (! indexFile.exists())
+			return;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || ! formatKey.equals(in.readUTF()))
+				return;
+			checksum = in.readLong();
+			while (in.available() > 0) {
+				threads.read(in);
+				loggers.read(in);
+				severities.read(in);
+				Block b = new Block(in.readLong());
+				indexedLength = in.readLong();
+				b.minDate = in.readLong();
+				b.maxDate = in.readLong();
+				b.threads = readBitSet(in);
+				b.loggers = readBitSet(in);
+				b.severities = readBitSet(in);
+				blocks.add(b);
+			}
+		}
+		persistedBlocks = blocks.size();
+		threads.persisted = threads.values.size();
+		loggers.persisted = loggers.values.size();
+		severities.persisted = severities.values.size();
+	}
+
+	/*
+	 * Writes the complete blocks that aren't in the index file yet.
+	 * The index file consists of a header followed by one record per block, so new blocks are simply appended to it.
+	 * Each record starts with the dictionary values added since the previous record.
+	 */
+	private void write() throws IOException {
+		int complete = blocks.size() - 1;
+		if (complete <= persistedBlocks)
+			return;
+		if (persistedBlocks == 0) {
+			threads.persisted = loggers.persisted = severities.persisted = 0;
+			File tmp = new File(indexFile.getPath() + ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+				out.writeInt(MAGIC);
+				out.writeUTF(formatKey);
+				out.writeLong(checksum);
+				writeBlocks(out, complete);
+			}
+			Files.move(tmp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} else {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile, true)))) {
+				writeBlocks(out, complete);
+			}
+		}
+		persistedBlocks = complete;
+	}
+
+	private void writeBlocks(DataOutput out, int to) throws IOException {
+		for (int i = persistedBlocks; i < to; i++) {
+			Block b = blocks.get(i);
+			threads.write(out);
+			loggers.write(out);
+			severities.write(out);
+			out.writeLong(b.offset);
+			out.writeLong(blocks.get(i+1).offset);
+			out.writeLong(b.minDate);
+			out.writeLong(b.maxDate);
+			writeBitSet(out, b.threads);
+			writeBitSet(out, b.loggers);
+			writeBitSet(out, b.severities);
+		}
+	}
+
+	private long checksum(long length) throws IOException {
+		CRC32 crc = new CRC32();
+		byte[] buff = new byte[(int)length];
+		try (DataInputStream in = new DataInputStream(new FileInputStream(logFile))) {
+			in.readFully(buff);
+		} catch (EOFException e) {
+			return -1;
+		}
+		crc.update(buff);
+		return crc.getValue();
+	}
+
+	private static BitSet readBitSet(DataInput in) throws IOException {
+		long[] l = new long[in.readInt()];
+		for (int i = 0; i < l.length; i++)
+			l[i] = in.readLong();
+		return BitSet.valueOf(l);
+	}
+
+	private static void writeBitSet(DataOutput out, BitSet bs) throws IOException {
+		long[] l = bs.toLongArray();
+		out.writeInt(l.length);
+		for (long v : l)
+			out.writeLong(v);
+	}
+
+	/*
+	 * A range of the log file starting on a log entry boundary.
+	 */
+	private final class Block {
+		final long offset;
+		long minDate = Long.MAX_VALUE, maxDate = Long.MIN_VALUE;
+		BitSet threads = new BitSet(), loggers = new BitSet(), severities = new BitSet();
+
+		Block(long offset) {
+			this.offset = offset;
+		}
+
+		boolean hasDates() {
+			return minDate <= maxDate;
+		}
+
+		void add(Matcher m, DateFormat df) {
+			String s = formatter.getField("date", m);
+			if (s != null) {
+				try {
+					long d = df.parse(s).getTime();
+					minDate = Math.min(minDate, d);
+					maxDate = Math.max(maxDate, d);
+				} catch (ParseException e) {
+					// Entries with unparsable dates are never matched by date queries.
+				}
+			}
+			String logger = formatter.getField("logger", m);
+			if (logger != null && logger.indexOf('.') > -1)
+				logger = logger.substring(logger.lastIndexOf('.')+1);
+			set(LogIndex.this.threads, threads, formatter.getField("thread", m));
+			set(LogIndex.this.loggers, loggers, logger);
+			set(LogIndex.this.severities, severities, formatter.getField("level", m));
+		}
+
+		private void set(Dictionary d, BitSet bs, String value) {
+			if (value != null)
+				bs.set(d.getId(value));
+		}
+	}
+
+	/*
+	 * Maps the distinct thread, logger or severity names in the log file to bitmap positions.
+	 */
+	private static final class Dictionary {
+		final List<String> values = new ArrayList<>();
+		final Map<String,Integer> ids = new HashMap<>();
+		int persisted;  // The number of values in the index file.
+
+		int getId(String value) {
+			Integer i = ids.get(value);
+			if (i == null) {
+				i = values.size();
+				values.add(value);
+				ids.put(value, i);
+			}
+			return i;
+		}
+
+		BitSet find(Collection<String> names) {
+			BitSet bs = new BitSet();
+			for (String n : names) {
+				Integer i = ids.get(n);
+				if (i != null)
+					bs.set(i);
+			}
+			return bs;
+		}
+
+		void clear() {
+			values.clear();
+			ids.clear();
+			persisted = 0;
+		}
+
+		void read(DataInput in) throws IOException {
+			int count = in.readInt();
+			for (int i = 0; i < count; i++)
+				getId(in.readUTF());
+		}
+
+		/*
+		 * Writes the values that aren't in the index file yet.
+		 */
+		void write(DataOutput out) throws IOException {
+			out.writeInt(values.size() - persisted);
+			for (; persisted < values.size(); persisted++)
+				out.writeUTF(values.get(persisted));
+		}
+	}
+}
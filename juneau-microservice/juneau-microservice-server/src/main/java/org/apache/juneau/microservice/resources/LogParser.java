@@ -24,6 +24,10 @@ import java.util.regex.*;
  * <p>
  * Provides the capability of returning splices of log files based on dates and filtering based on thread and logger 
  * names.
+ * 
+ * <p>
+ * When a {@link LogIndex} is specified, only the parts of the log file that the index reports as possibly containing
+ * matching entries are read.
  */
 public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.Entry>, Closeable {
 	private BufferedReader br;
@@ -46,15 +50,34 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 	 * @throws IOException
 	 */
 	public LogParser(LogEntryFormatter formatter, File f, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
-		br = new BufferedReader(new InputStreamReader(new FileInputStream(f), Charset.defaultCharset()));
-		this.formatter = formatter;
-		this.start = start;
-		this.end = end;
-		this.threadFilter = thread;
-		if (loggers != null)
-			this.loggerFilter = new HashSet<>(Arrays.asList(loggers));
-		if (severity != null)
-			this.severityFilter = new HashSet<>(Arrays.asList(severity));
+		this(formatter, f, null, start, end, thread, loggers, severity);
+	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param formatter The log entry formatter.
+	 * @param f The log file.
+	 * @param index
+	 * 	The index of the log file.
+	 * 	<br>The index is brought up to date before it's used.
+	 * 	<br>If <jk>null</jk>, the entire log file is read.
+	 * @param start Don't return rows before this date.  If <jk>null</jk>, start from the beginning of the file.
+	 * @param end Don't return rows after this date.  If <jk>null</jk>, go to the end of the file.
+	 * @param thread Only return log entries with this thread name.
+	 * @param loggers Only return log entries produced by these loggers (simple class names).
+	 * @param severity Only return log entries with the specified severity.
+	 * @throws IOException
+	 */
+	public LogParser(LogEntryFormatter formatter, File f, LogIndex index, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
+		this(formatter, start, end, thread, loggers, severity);
+
+		InputStream is;
+		if (index == null)
+			is = new FileInputStream(f);
+		else
+			is = new FileRangeInputStream(f, index.update().getRanges(start, end, thread, loggerFilter, severityFilter));
+		br = new BufferedReader(new InputStreamReader(is, Charset.defaultCharset()));
 
 		// Find the first line.
 		String line;
@@ -65,6 +88,20 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 		}
 	}
 
+	/*
+	 * Constructor for parsers that don't read a file but are only used to create and filter entries.
+	 */
+	LogParser(LogEntryFormatter formatter, Date start, Date end, String thread, String[] loggers, String[] severity) {
+		this.formatter = formatter;
+		this.start = start;
+		this.end = end;
+		this.threadFilter = thread;
+		if (loggers != null)
+			this.loggerFilter = new HashSet<>(Arrays.asList(loggers));
+		if (severity != null)
+			this.severityFilter = new HashSet<>(Arrays.asList(severity));
+	}
+
 	@Override /* Iterator */
 	public boolean hasNext() {
 		return next != null;
@@ -106,7 +143,8 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 
 	@Override /* Closeable */
 	public void close() throws IOException {
-		br.close();
+		if (br != null)
+			br.close();
 	}
 
 	/**
@@ -0,0 +1,147 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Watches the directories containing log files on behalf of {@link LogFollower LogFollowers}.
+ * 
+ * <p>
+ * A single {@link WatchService} and daemon thread are used for all directories, and each directory is registered once
+ * no matter how many followers are waiting on it.
+ * <br>A directory is unregistered when the last follower waiting on it is closed.
+ * 
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	<jk>try</jk> (LogWatcher lw = <jk>new</jk> LogWatcher();
+ * 			LogFollower lf1 = <jk>new</jk> LogFollower(formatter, file1, <jk>null</jk>, <jk>null</jk>, <jk>null</jk>, lw);
+ * 			LogFollower lf2 = <jk>new</jk> LogFollower(formatter, file2, <jk>null</jk>, <jk>null</jk>, <jk>null</jk>, lw)) {
+ * 		...
+ * 	}
+ * </p>
+ */
+public final class LogWatcher implements Closeable {
+
+	private final WatchService watchService;
+	private final Map<Path,Directory> dirs = new HashMap<>();  // Guarded by this.
+
+	/**
+	 * Constructor.
+	 * 
+	 * @throws IOException If the watch service could not be created.
+	 */
+	public LogWatcher() throws IOException {
+		this.watchService = FileSystems.getDefault().newWatchService();
+		Thread t = new Thread("LogWatcher") {
+			@Override /* Thread */
+			public void run() {
+				dispatch();
+			}
+		};
+		t.setDaemon(true);
+		t.start();
+	}
+
+	/**
+	 * Returns the number of directories currently being watched.
+	 * 
+	 * @return The number of directories currently being watched.
+	 */
+	public synchronized int getDirectoryCount() {
+		return dirs.size();
+	}
+
+	@Override /* Closeable */
+	public void close() throws IOException {
+		watchService.close();
+	}
+
+	/*
+	 * Starts watching the specified directory, or adds a user to it if it's already being watched.
+	 */
+	synchronized Directory register(Path dir) throws IOException {
+		Directory d = dirs.get(dir);
+		if (d == null) {
+			d = new Directory(dir, dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY));
+			dirs.put(dir, d);
+		}
+		d.users++;
+		return d;
+	}
+
+	/*
+	 * Removes a user from the specified directory, and stops watching it if it was the last one.
+	 */
+	synchronized void unregister(Directory d) {
+		if (--d.users == 0) {
+			d.key.cancel();
+			dirs.remove(d.path);
+		}
+	}
+
+	private void dispatch() {
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				key.pollEvents();
+				key.reset();
+				Directory d;
+				synchronized (this) {
+					d = dirs.get(key.watchable());
+				}
+				if (d != null)
+					d.changed();
+			}
+		} catch (ClosedWatchServiceException | InterruptedException e) {
+			// Closed.
+		}
+	}
+
+	/*
+	 * A watched directory.
+	 * Followers read the change count before checking their file, and then wait for it to change.
+	 */
+	static final class Directory {
+		final Path path;
+		final WatchKey key;
+		int users;  // Guarded by the watcher.
+		private long changes;
+
+		Directory(Path path, WatchKey key) {
+			this.path = path;
+			this.key = key;
+		}
+
+		synchronized long getChanges() {
+			return changes;
+		}
+
+		synchronized void changed() {
+			changes++;
+			notifyAll();
+		}
+
+		/*
+		 * Waits until the change count is no longer the specified value or the timeout is reached.
+		 */
+		synchronized void await(long changes, long timeout) throws InterruptedException {
+			if (this.changes == changes && timeout > 0)
+				wait(timeout);
+		}
+	}
+}
@@ -22,14 +22,19 @@ import java.io.*;
 import java.net.URI;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.dto.LinkString;
+import org.apache.juneau.html.*;
 import org.apache.juneau.ini.*;
+import org.apache.juneau.json.*;
 import org.apache.juneau.microservice.*;
+import org.apache.juneau.plaintext.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.converters.*;
+import org.apache.juneau.serializer.*;
 import org.apache.juneau.transforms.*;
 
 /**
@@ -54,6 +59,10 @@ public class LogsResource extends Resource {
 
 	private File logDir;
 	private LogEntryFormatter leFormatter;
+	private boolean useIndexes;
+	private long followHeartbeat, followMaxTimeout;
+	private LogWatcher watcher;  // Created by the first FOLLOW request.  Guarded by this.
+	private final ConcurrentHashMap<File,LogIndex> indexes = new ConcurrentHashMap<>();
 
 	private final FileFilter filter = new FileFilter() {
 		@Override /* FileFilter */
@@ -78,6 +87,21 @@ public class LogsResource extends Resource {
 			cf.getString("Logging/dateFormat", "yyyy.MM.dd hh:mm:ss"),
 			cf.getBoolean("Logging/useStackTraceHashes")
 		);
+		useIndexes = cf.getBoolean("Logging/useIndexes", true);
+		followHeartbeat = cf.getInt("Logging/followHeartbeat", 15000);
+		followMaxTimeout = cf.getInt("Logging/followMaxTimeout", 3600000);
+	}
+
+	/**
+	 * Stops watching the log directories of <code>FOLLOW</code> requests.
+	 * 
+	 * @throws Exception
+	 */
+	@RestHook(DESTROY)
+	public synchronized void onDestroy() throws Exception {
+		if (watcher != null)
+			watcher.close();
+		watcher = null;
 	}
 
 	/**
@@ -218,6 +242,111 @@ public class LogsResource extends Resource {
 		return getLogParser(f, startDate, endDate, thread, loggers, severity);
 	}
 
+	/**
+	 * [FOLLOW /*] - Stream log entries as they're appended to a log file.
+	 * 
+	 * <p>
+	 * The response is streamed until the timeout is reached or the client disconnects.
+	 * <br>The format of the entries depends on the <code>Accept</code> header:
+	 * <ul>
+	 * 	<li><js>"text/event-stream"</js> - Server-sent events containing JSON-serialized entries.
+	 * 		<br>Each line of the serialized entry is sent as a separate <code>data:</code> line of the event.
+	 * 	<li>Any other media type supported by this resource other than HTML and plain text - One serialized entry per
+	 * 		line (e.g. <js>"application/json"</js>).
+	 * 	<li>Otherwise - The log lines as they appear in the file.
+	 * </ul>
+	 * 
+	 * <p>
+	 * While no entries are written to server-sent event streams, a comment is sent every
+	 * <js>"Logging/followHeartbeat"</js> milliseconds (15 seconds by default) so that disconnected clients are detected.
+	 * <br>Other formats have no representation that clients would ignore, so disconnected clients are detected when the
+	 * next entry is written.
+	 * 
+	 * <p>
+	 * Requests are limited to <js>"Logging/followMaxTimeout"</js> milliseconds (1 hour by default) so that abandoned
+	 * requests don't hold on to request threads.
+	 * 
+	 * @param req The HTTP request.
+	 * @param res The HTTP response.
+	 * @param path The log file path.
+	 * @param thread Optional thread name filter.  Only show log entries with the specified thread name.  Example: "&amp;thread=pool-33-thread-1".
+	 * @param loggers Optional logger filter.  Only show log entries if they were produced by one of the specified loggers (simple class name).  Example: "&amp;loggers=(LinkIndexService,LinkIndexRestService)".
+	 * @param severity Optional severity filter.  Only show log entries with the specified severity.  Example: "&amp;severity=(ERROR,WARN)".
+	 * @param timeout Optional maximum time in milliseconds to stream entries for.  If not specified or greater than <js>"Logging/followMaxTimeout"</js>, streams until the client disconnects or the maximum is reached.
+	 * @throws Exception
+	 */
+	@RestMethod(
+		name="FOLLOW",
+		path="/*",
+		swagger=@MethodSwagger(
+			responses={@Response(200),@Response(404)}
+		)
+	)
+	public void followFile(RestRequest req, RestResponse res, @PathRemainder String path, @Query("thread") String thread, @Query("loggers") String[] loggers, @Query("severity") String[] severity, @Query("timeout") long timeout) throws Exception {
+
+		File f = getFile(path);
+		if (f.isDirectory())
+			throw new RestException(SC_METHOD_NOT_ALLOWED, "Follow not available on directories");
+
+		SerializerGroup g = res.getSerializerGroup();
+		String accept = req.getHeaders().getString("Accept", "");
+		boolean sse = accept.contains("text/event-stream");
+		SerializerMatch sm = g.getSerializerMatch(sse ? "application/json" : accept);
+		Serializer s = (sm == null ? null : sm.getSerializer());
+		if (sse && s == null)
+			s = JsonSerializer.DEFAULT;
+		else if (s instanceof HtmlSerializer || s instanceof PlainTextSerializer)
+			s = null;
+
+		if (followMaxTimeout > 0 && (timeout <= 0 || timeout > followMaxTimeout))
+			timeout = followMaxTimeout;
+		long start = System.currentTimeMillis();
+		long end = (timeout > 0 && timeout < Long.MAX_VALUE - start ? start + timeout : Long.MAX_VALUE);
+		try (LogFollower lf = new LogFollower(leFormatter, f, thread, loggers, severity, getWatcher())) {
+
+			if (s instanceof OutputStreamSerializer) {
+				OutputStreamSerializer oss = (OutputStreamSerializer)s;
+				res.setContentType(sm.getMediaType().toString());
+				OutputStream os = res.getOutputStream();
+				os.flush();
+				for (long now = start; now < end; now = System.currentTimeMillis()) {
+					LogParser.Entry e = lf.next(end - now);
+					if (e == null)
+						continue;
+					try {
+						os.write(oss.serialize(e));
+						os.flush();
+					} catch (IOException x) {
+						return;  // Client disconnected.
+					}
+				}
+				return;
+			}
+
+			PrintWriter w = res.getDirectWriter(sse ? "text/event-stream" : s == null ? "text/plain" : sm.getMediaType().toString());
+			w.flush();
+			for (long now = start; now < end && ! w.checkError(); now = System.currentTimeMillis()) {
+
+				// Wake up periodically and send a heartbeat so that disconnected SSE clients are detected.
+				LogParser.Entry e = lf.next(sse ? Math.min(end - now, followHeartbeat) : end - now);
+				if (e == null) {
+					if (! sse)
+						continue;
+					w.append(":\n\n");
+				} else if (sse) {
+					for (String l : ((WriterSerializer)s).serialize(e).split("\r\n|\r|\n"))
+						w.append("data: ").append(l).append('\n');
+					w.append('\n');
+				} else if (s != null) {
+					w.append(((WriterSerializer)s).serialize(e)).append('\n');
+				} else {
+					e.append(w);
+				}
+				w.flush();
+			}
+		}
+	}
+
 	/**
 	 * [DOWNLOAD /*] - Download file.
 	 * 
@@ -270,6 +399,12 @@ public class LogsResource extends Resource {
 			if (! f.delete())
 				throw new RestException(SC_FORBIDDEN, "Could not delete file.");
 
+		LogIndex index = indexes.remove(f.getAbsoluteFile());
+		if (index != null)
+			index.delete();
+		else
+			new File(f.getPath() + LogIndex.SUFFIX).delete();
+
 		return new Redirect(path + "/..");
 	}
 
@@ -296,7 +431,7 @@ public class LogsResource extends Resource {
 		public final Object name;
 		public final Long size;
 		@Swap(DateSwap.DateTimeMedium.class) public Date lastModified;
-		public URI view, highlighted, parsed, download, delete;
+		public URI view, highlighted, parsed, follow, download, delete;
 
 		public FileResource(File f, URI uri) throws Exception {
 			this.f = f;
@@ -308,6 +443,7 @@ public class LogsResource extends Resource {
 				this.view = new URI(uri + "?method=VIEW");
 				this.highlighted = new URI(uri + "?method=VIEW&highlight=true");
 				this.parsed = new URI(uri + "?method=PARSE");
+				this.follow = new URI(uri + "?method=FOLLOW");
 				this.download = new URI(uri + "?method=DOWNLOAD");
 				this.delete = new URI(uri + "?method=DELETE");
 			}
@@ -330,6 +466,24 @@ public class LogsResource extends Resource {
 	}
 
 	private LogParser getLogParser(File f, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
-		return new LogParser(leFormatter, f, start, end, thread, loggers, severity);
+		return new LogParser(leFormatter, f, getIndex(f), start, end, thread, loggers, severity);
+	}
+
+	private LogIndex getIndex(File f) {
+		if (! useIndexes)
+			return null;
+		f = f.getAbsoluteFile();
+		LogIndex index = indexes.get(f);
+		if (index == null) {
+			indexes.putIfAbsent(f, new LogIndex(leFormatter, f));
+			index = indexes.get(f);
+		}
+		return index;
+	}
+
+	private synchronized LogWatcher getWatcher() throws IOException {
+		if (watcher == null)
+			watcher = new LogWatcher();
+		return watcher;
 	}
 }
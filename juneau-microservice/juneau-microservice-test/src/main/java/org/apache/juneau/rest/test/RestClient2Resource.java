@@ -35,4 +35,12 @@ public class RestClient2Resource extends RestServletDefault {
 	public Reader test1(RestRequest req) throws Exception {
 		return new StringReader(req.getBody().asString());
 	}
+
+	//====================================================================================================
+	// Echo query parameter
+	//====================================================================================================
+	@RestMethod(name=GET, path="/")
+	public String test2(@Query("echo") String echo) {
+		return echo;
+	}
 }
@@ -0,0 +1,219 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.microservice.AsyncLogHandler.OverflowPolicy.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+import org.apache.juneau.microservice.*;
+import org.junit.*;
+
+/**
+ * Validates the overflow policies and closing of {@link AsyncLogHandler}.
+ */
+public class AsyncLogHandlerTest {
+
+	/*
+	 * Target handler that records messages and blocks in publish() until released, ignoring interrupts like blocking
+	 * file I/O does.
+	 */
+	private static class TestHandler extends Handler {
+		final List<String> messages = Collections.synchronizedList(new ArrayList<String>());
+		final CountDownLatch entered = new CountDownLatch(1), released = new CountDownLatch(1);
+		volatile Thread closedBy;
+
+		TestHandler(boolean blocked) {
+			if (! blocked)
+				released.countDown();
+		}
+
+		@Override /* Handler */
+		public void publish(LogRecord r) {
+			entered.countDown();
+			boolean interrupted = false;
+			while (true) {
+				try {
+					released.await();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted)
+				Thread.currentThread().interrupt();
+			messages.add(r.getMessage());
+		}
+
+		@Override /* Handler */
+		public void flush() {}
+
+		@Override /* Handler */
+		public void close() {
+			closedBy = Thread.currentThread();
+		}
+	}
+
+	private static LogRecord record(Level level, String msg) {
+		return new LogRecord(level, msg);
+	}
+
+	/*
+	 * Publishes a record on a new thread.
+	 */
+	private static Thread publish(final AsyncLogHandler h, final LogRecord r) {
+		Thread t = new Thread() {
+			@Override
+			public void run() {
+				h.publish(r);
+			}
+		};
+		t.start();
+		return t;
+	}
+
+	private static void waitForState(Thread t, Thread.State state) throws Exception {
+		for (int i = 0; i < 500 && t.getState() != state; i++)
+			Thread.sleep(10);
+		assertEquals(state, t.getState());
+	}
+
+	/*
+	 * Publishes a record that the writer thread takes off the queue and then blocks on.
+	 */
+	private static void blockWriter(AsyncLogHandler h, TestHandler th) throws Exception {
+		h.publish(record(Level.INFO, "first"));
+		assertTrue(th.entered.await(5, TimeUnit.SECONDS));
+		assertEquals(0, h.getQueueDepth());
+	}
+
+	//====================================================================================================
+	// BLOCK waits for space in the queue.
+	//====================================================================================================
+	@Test
+	public void testBlock() throws Exception {
+		TestHandler th = new TestHandler(true);
+		AsyncLogHandler h = new AsyncLogHandler(th, 2, 10, BLOCK, Level.WARNING);
+		blockWriter(h, th);
+		h.publish(record(Level.INFO, "a"));
+		h.publish(record(Level.INFO, "b"));
+		Thread t = publish(h, record(Level.INFO, "c"));
+		waitForState(t, Thread.State.WAITING);
+
+		th.released.countDown();
+		t.join(5000);
+		h.flush();
+		assertEquals("[first, a, b, c]", th.messages.toString());
+		assertEquals(0, h.getDroppedCount());
+		assertEquals(4, h.getWrittenCount());
+		h.close();
+	}
+
+	//====================================================================================================
+	// DROP drops records when the queue is full and reports the number of dropped records.
+	//====================================================================================================
+	@Test
+	public void testDrop() throws Exception {
+		TestHandler th = new TestHandler(true);
+		AsyncLogHandler h = new AsyncLogHandler(th, 2, 10, DROP, Level.WARNING);
+		blockWriter(h, th);
+		for (String s : new String[]{"a","b","c","d","e"})
+			h.publish(record(Level.SEVERE, s));
+		assertEquals(2, h.getQueueDepth());
+		assertEquals(2, h.getQueueCapacity());
+		assertEquals(3, h.getDroppedCount());
+
+		th.released.countDown();
+		h.flush();
+		assertEquals("[first, 3 log records were dropped because the log queue was full., a, b]", th.messages.toString());
+		assertEquals(3, h.getWrittenCount());
+		h.close();
+	}
+
+	//====================================================================================================
+	// DROP_BELOW_LEVEL drops records below the overflow level and waits for space for the others.
+	//====================================================================================================
+	@Test
+	public void testDropBelowLevel() throws Exception {
+		TestHandler th = new TestHandler(true);
+		AsyncLogHandler h = new AsyncLogHandler(th, 2, 10, DROP_BELOW_LEVEL, Level.WARNING);
+		blockWriter(h, th);
+		h.publish(record(Level.INFO, "a"));
+		h.publish(record(Level.INFO, "b"));
+		h.publish(record(Level.INFO, "c"));
+		h.publish(record(Level.FINE, "d"));
+		assertEquals(2, h.getDroppedCount());
+		Thread t = publish(h, record(Level.WARNING, "e"));
+		waitForState(t, Thread.State.WAITING);
+
+		th.released.countDown();
+		t.join(5000);
+		h.flush();
+		assertEquals(2, h.getDroppedCount());
+		assertTrue(th.messages.toString(), th.messages.containsAll(Arrays.asList("first", "a", "b", "e")));
+		assertFalse(th.messages.contains("c"));
+		assertFalse(th.messages.contains("d"));
+		h.close();
+	}
+
+	//====================================================================================================
+	// close() writes queued records and closes the target handler from the writer thread.
+	//====================================================================================================
+	@Test
+	public void testClose() throws Exception {
+		TestHandler th = new TestHandler(false);
+		AsyncLogHandler h = new AsyncLogHandler(th, 1000, 10, BLOCK, Level.WARNING);
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			h.publish(record(Level.INFO, "r" + i));
+			expected.add("r" + i);
+		}
+		h.close();
+		assertEquals(expected, th.messages);
+		assertNotNull(th.closedBy);
+		assertNotSame(Thread.currentThread(), th.closedBy);
+
+		// Records published after close are ignored.
+		h.publish(record(Level.INFO, "late"));
+		h.close();
+		assertEquals(500, th.messages.size());
+	}
+
+	//====================================================================================================
+	// close() doesn't write records itself if the writer thread is still busy.
+	//====================================================================================================
+	@Test
+	public void testCloseWithBusyWriter() throws Exception {
+		TestHandler th = new TestHandler(true);
+		AsyncLogHandler h = new AsyncLogHandler(th, 10, 10, BLOCK, Level.WARNING);
+		blockWriter(h, th);
+		h.publish(record(Level.INFO, "a"));
+		h.publish(record(Level.INFO, "b"));
+
+		long t = System.currentTimeMillis();
+		h.close();
+		assertTrue(System.currentTimeMillis() - t >= 4000);
+		assertTrue(th.messages.isEmpty());
+		assertNull(th.closedBy);
+
+		// The writer thread finishes in the background.
+		th.released.countDown();
+		for (int i = 0; i < 500 && th.closedBy == null; i++)
+			Thread.sleep(10);
+		assertEquals("[first, a, b]", th.messages.toString());
+		assertNotNull(th.closedBy);
+	}
+}
@@ -0,0 +1,136 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.microservice.*;
+import org.apache.juneau.rest.client.*;
+import org.eclipse.jetty.io.*;
+import org.eclipse.jetty.server.*;
+import org.eclipse.jetty.util.thread.*;
+import org.junit.*;
+
+/**
+ * Validates the <cs>[Jetty]</cs> settings in <code>juneau-microservice-test.cfg</code> that override the jetty.xml
+ * file, and the <code>/debug/jetty/threadPool</code> method.
+ */
+public class JettyConfigTest extends RestTestcase {
+
+	private static Server getServer() {
+		TestMicroservice.getURI();
+		return TestMicroservice.microservice.getServer();
+	}
+
+	private static ServerConnector getConnector() {
+		Connector[] c = getServer().getConnectors();
+		assertEquals(1, c.length);
+		return (ServerConnector)c[0];
+	}
+
+	//====================================================================================================
+	// Thread pool settings override the jetty.xml values that are set in the config file.
+	//====================================================================================================
+	@Test
+	public void testThreadPool() throws Exception {
+		QueuedThreadPool tp = (QueuedThreadPool)getServer().getThreadPool();
+		assertEquals(QueuedThreadPool.class, tp.getClass());
+		assertEquals(150, tp.getMaxThreads());
+		assertEquals(10, tp.getMinThreads());
+		assertEquals(30000, tp.getIdleTimeout());
+	}
+
+	//====================================================================================================
+	// Connectors are rebuilt with the configured selectors and keep the jetty.xml settings.
+	//====================================================================================================
+	@Test
+	public void testConnector() throws Exception {
+		ServerConnector c = getConnector();
+		assertEquals(2, c.getSelectorManager().getSelectorCount());
+		assertTrue(c.getAcceptors() > 0);
+		assertEquals(TestMicroservice.getURI().getPort(), c.getLocalPort());
+		assertEquals(64, c.getAcceptQueueSize());
+		assertEquals(40000, c.getIdleTimeout());
+		assertSame(getServer().getThreadPool(), c.getExecutor());
+		assertTrue(c.isStarted());
+
+		// The connection listener added in jetty.xml is kept and started.
+		ConnectionStatistics cs = c.getBean(ConnectionStatistics.class);
+		assertNotNull(cs);
+		long total = cs.getConnectionsTotal();
+		RestClient rc = TestMicroservice.client().build();
+		try {
+			rc.doGet("/debug/jetty/threadPool").getResponseAsString();
+		} finally {
+			rc.closeQuietly();
+		}
+		assertTrue(cs.getConnectionsTotal() > total);
+	}
+
+	//====================================================================================================
+	// HTTP settings are applied to the HttpConfiguration of the connector.
+	//====================================================================================================
+	@Test
+	public void testHttpConfiguration() throws Exception {
+		HttpConfiguration hc = getConnector().getConnectionFactory(HttpConnectionFactory.class).getHttpConfiguration();
+		assertEquals(16384, hc.getRequestHeaderSize());
+		assertEquals(8192, hc.getResponseHeaderSize());
+
+		// Headers larger than the Jetty default of 8KB are accepted.
+		char[] c = new char[12000];
+		Arrays.fill(c, 'x');
+		String r = TestMicroservice.DEFAULT_CLIENT.doGet("/debug/jetty/threadPool").header("X-Large", new String(c)).getResponseAsString();
+		assertTrue(r.contains("maxThreads"));
+	}
+
+	//====================================================================================================
+	// GET /debug/jetty/threadPool
+	//====================================================================================================
+	@Test
+	public void testThreadPoolResource() throws Exception {
+		ObjectMap m = TestMicroservice.DEFAULT_CLIENT.doGet("/debug/jetty/threadPool").getResponse(ObjectMap.class);
+		assertEquals(QueuedThreadPool.class.getName(), m.getString("class"));
+		assertEquals(false, m.getBoolean("virtualThreads"));
+		assertEquals(10, (int)m.getInt("minThreads"));
+		assertEquals(150, (int)m.getInt("maxThreads"));
+		assertTrue(m.getInt("threads") >= m.getInt("busyThreads"));
+		assertTrue(m.getInt("busyThreads") > 0);
+		assertTrue(m.getString("utilization").endsWith("%"));
+		assertTrue(m.containsKey("idleThreads"));
+		assertTrue(m.containsKey("queueSize"));
+		assertTrue(m.containsKey("lowOnThreads"));
+	}
+
+	//====================================================================================================
+	// VirtualThreadPool isn't capped by maxThreads.
+	//====================================================================================================
+	@Test
+	public void testVirtualThreadPool() throws Exception {
+		if (! VirtualThreadPool.isSupported()) {
+			try {
+				new VirtualThreadPool();
+				fail();
+			} catch (UnsupportedOperationException e) {
+				// Expected on runtimes older than Java 21.
+			}
+			return;
+		}
+		VirtualThreadPool tp = new VirtualThreadPool();
+		tp.setMaxThreads(100);
+		assertEquals(Integer.MAX_VALUE, tp.getMaxThreads());
+		assertTrue(tp.isDaemon());
+	}
+}
@@ -0,0 +1,242 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.net.*;
+
+import org.apache.juneau.microservice.resources.*;
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+/**
+ * Validates timeouts, heartbeats, shared watchers and disconnect detection of {@link LogFollower} and <code>FOLLOW</code> requests on
+ * {@link LogsResource}.
+ */
+public class LogFollowerTest extends RestTestcase {
+
+	private static final String ENTRY = "[2017.01.01 01:00:00 WARNING] Test entry\n";
+
+	private static File f;
+	private static LogEntryFormatter formatter;
+
+	@BeforeClass
+	public static void beforeClass() throws Exception {
+		File dir = new File("target/logs");
+		dir.mkdirs();
+		f = new File(dir, "followTest.log");
+		try (Writer w = new FileWriter(f)) {
+			w.write(ENTRY);
+		}
+		formatter = new LogEntryFormatter("[{date} {level}] {msg}%n", "yyyy.MM.dd hh:mm:ss", false);
+	}
+
+	@AfterClass
+	public static void afterClass() throws Exception {
+		f.delete();
+	}
+
+	private static void append(final String s, long delay) {
+		final long d = delay;
+		new Thread() {
+			@Override
+			public void run() {
+				try {
+					Thread.sleep(d);
+					try (Writer w = new FileWriter(f, true)) {
+						w.write(s);
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			}
+		}.start();
+	}
+
+	/*
+	 * Returns the number of threads currently serving FOLLOW requests.
+	 * The microservice runs in this JVM.
+	 */
+	private static int getFollowingThreads() {
+		int n = 0;
+		for (StackTraceElement[] st : Thread.getAllStackTraces().values())
+			for (StackTraceElement e : st)
+				if (e.getClassName().equals(LogsResource.class.getName()) && e.getMethodName().equals("followFile"))
+					n++;
+		return n;
+	}
+
+	private static boolean waitForFollowingThreads(int expected, long timeout) throws Exception {
+		long end = System.currentTimeMillis() + timeout;
+		while (System.currentTimeMillis() < end) {
+			if (getFollowingThreads() == expected)
+				return true;
+			Thread.sleep(50);
+		}
+		return false;
+	}
+
+	//====================================================================================================
+	// LogFollower.next(long) returns null once the timeout is reached.
+	//====================================================================================================
+	@Test
+	public void testNextTimeout() throws Exception {
+		try (LogFollower lf = new LogFollower(formatter, f, null, null, null)) {
+			long t = System.currentTimeMillis();
+			assertNull(lf.next(500));
+			t = System.currentTimeMillis() - t;
+			assertTrue("Returned after " + t + "ms", t >= 500 && t < 5000);
+			assertNull(lf.next(0));
+		}
+	}
+
+	//====================================================================================================
+	// LogFollower.next(Long.MAX_VALUE) waits for the next entry.
+	//====================================================================================================
+	@Test
+	public void testNextNoTimeout() throws Exception {
+		try (LogFollower lf = new LogFollower(formatter, f, null, null, null)) {
+			append("[2017.01.01 01:00:01 SEVERE] Appended entry\n", 500);
+			LogParser.Entry e = lf.next(Long.MAX_VALUE);
+			assertNotNull(e);
+			assertEquals("Appended entry", e.getText());
+		}
+	}
+
+	//====================================================================================================
+	// Followers sharing a watcher share the registration of their directory.
+	//====================================================================================================
+	@Test
+	public void testSharedWatcher() throws Exception {
+		try (LogWatcher lw = new LogWatcher()) {
+			LogFollower lf1 = new LogFollower(formatter, f, null, null, null, lw), lf2 = new LogFollower(formatter, f, null, null, null, lw);
+			assertEquals(1, lw.getDirectoryCount());
+			append("[2017.01.01 01:00:03 SEVERE] Shared entry\n", 500);
+			assertEquals("Shared entry", lf1.next(10000).getText());
+			assertEquals("Shared entry", lf2.next(10000).getText());
+			lf1.close();
+			assertEquals(1, lw.getDirectoryCount());
+			lf2.close();
+			lf2.close();
+			assertEquals(0, lw.getDirectoryCount());
+		}
+	}
+
+	//====================================================================================================
+	// FOLLOW requests stop at the timeout and only send heartbeats to server-sent event clients.
+	//====================================================================================================
+	@Test
+	public void testFollowTimeout() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+
+		long t = System.currentTimeMillis();
+		String r = c.doCall("FOLLOW", "/logs/followTest.log?timeout=1000", false).accept("text/plain").getResponseAsString();
+		t = System.currentTimeMillis() - t;
+		assertTrue("Returned after " + t + "ms", t >= 1000 && t < 10000);
+		assertEquals("", r);
+
+		r = c.doCall("FOLLOW", "/logs/followTest.log?timeout=1000", false).accept("text/event-stream").getResponseAsString();
+		assertTrue(r, r.startsWith(":\n\n:\n\n"));
+
+		byte[] b = readBytes(c.doCall("FOLLOW", "/logs/followTest.log?timeout=1000", false).accept("octal/msgpack").getInputStream(), 1024);
+		assertEquals(0, b.length);
+
+		// Timeouts that would overflow are capped like any other.
+		append("[2017.01.01 01:00:02 SEVERE] Followed entry\n", 500);
+		Socket s = follow("/logs/followTest.log?timeout=" + Long.MAX_VALUE, "text/plain");
+		try {
+			BufferedReader br = new BufferedReader(new InputStreamReader(s.getInputStream()));
+			boolean found = false;
+			for (String l = br.readLine(); l != null && ! found; l = br.readLine())
+				found = l.contains("Followed entry");
+			assertTrue(found);
+		} finally {
+			s.close();
+		}
+	}
+
+	//====================================================================================================
+	// FOLLOW requests without a timeout end after "Logging/followMaxTimeout" (5 seconds in the test config).
+	//====================================================================================================
+	@Test
+	public void testFollowMaxTimeout() throws Exception {
+		long t = System.currentTimeMillis();
+		TestMicroservice.DEFAULT_CLIENT.doCall("FOLLOW", "/logs/followTest.log", false).accept("text/plain").getResponseAsString();
+		t = System.currentTimeMillis() - t;
+		assertTrue("Returned after " + t + "ms", t >= 5000 && t < 15000);
+	}
+
+	//====================================================================================================
+	// Each line of a server-sent event is prefixed with "data: ".
+	//====================================================================================================
+	@Test
+	public void testFollowSseFraming() throws Exception {
+		append("[2017.01.01 01:00:04 SEVERE] SSE entry\n", 300);
+		String r = TestMicroservice.DEFAULT_CLIENT.doCall("FOLLOW", "/logs/followTest.log?timeout=1500", false).accept("text/event-stream").getResponseAsString();
+		assertTrue(r, r.contains("\ndata: ") && r.contains("SSE entry"));
+		for (String l : r.split("\n"))
+			assertTrue(l, l.isEmpty() || l.equals(":") || l.startsWith("data: "));
+	}
+
+	//====================================================================================================
+	// FOLLOW requests end when the client disconnects, in all formats.
+	// Server-sent event clients are detected by the heartbeat, and others when the next entry is written.
+	//====================================================================================================
+	@Test
+	public void testFollowDisconnect() throws Exception {
+		String[] accept = {"text/plain", "application/json", "text/event-stream", "octal/msgpack"};
+
+		// Let requests from other tests finish.
+		assertTrue(waitForFollowingThreads(0, 10000));
+
+		Socket[] s = new Socket[accept.length];
+		for (int i = 0; i < accept.length; i++)
+			s[i] = follow("/logs/followTest.log", accept[i]);
+		assertEquals(accept.length, getFollowingThreads());
+
+		for (Socket s2 : s)
+			s2.close();
+		long end = System.currentTimeMillis() + 2500;
+		while (getFollowingThreads() > 0 && System.currentTimeMillis() < end) {
+			try (Writer w = new FileWriter(f, true)) {
+				w.write("[2017.01.01 01:00:05 SEVERE] Disconnect entry\n");
+			}
+			Thread.sleep(100);
+		}
+		assertEquals(0, getFollowingThreads());
+	}
+
+	/*
+	 * Sends a FOLLOW request on a raw socket and reads the response headers.
+	 */
+	private static Socket follow(String path, String accept) throws Exception {
+		URI u = TestMicroservice.getURI();
+		Socket s = new Socket(u.getHost(), u.getPort());
+		s.setSoTimeout(10000);
+		Writer w = new OutputStreamWriter(s.getOutputStream(), "UTF-8");
+		w.write("FOLLOW " + path + " HTTP/1.1\r\nHost: " + u.getHost() + "\r\nAccept: " + accept + "\r\nConnection: close\r\n\r\n");
+		w.flush();
+		InputStream is = s.getInputStream();
+		StringBuilder sb = new StringBuilder();
+		while (! sb.toString().endsWith("\r\n\r\n")) {
+			int c = is.read();
+			if (c == -1)
+				break;
+			sb.append((char)c);
+		}
+		return s;
+	}
+}
@@ -0,0 +1,253 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.text.*;
+import java.util.*;
+
+import org.apache.juneau.microservice.resources.*;
+import org.junit.*;
+
+/**
+ * Validates the byte ranges returned by {@link LogIndex} for date, logger and severity queries.
+ */
+public class LogIndexTest {
+
+	private static final int COUNT = 8192;
+	private static final long BASE = 1500000000000L;
+	private static final String DATE_FORMAT = "yyyy.MM.dd HH:mm:ss";
+
+	private static File dir, f;
+	private static LogEntryFormatter formatter;
+	private static long[] offsets;
+
+	@BeforeClass
+	public static void beforeClass() throws Exception {
+		dir = new File("target/logIndexTest");
+		dir.mkdirs();
+		f = new File(dir, "test.log");
+		formatter = new LogEntryFormatter("[{date} {logger} {level}] {msg}%n", DATE_FORMAT, false);
+		offsets = write(f, 0, COUNT, false);
+	}
+
+	@AfterClass
+	public static void afterClass() throws Exception {
+		for (File f2 : dir.listFiles())
+			f2.delete();
+		dir.delete();
+	}
+
+	/*
+	 * Writes entries 'from' to 'to' and returns the offsets of each entry followed by the file length.
+	 * Entry 'i' is dated 'i' seconds after BASE, the first half is logged by 'Alpha' and the second half by 'Beta', and
+	 * only entry 100 is SEVERE.
+	 */
+	private static long[] write(File f, int from, int to, boolean append) throws Exception {
+		DateFormat df = new SimpleDateFormat(DATE_FORMAT);
+		long[] l = new long[to-from+1];
+		long pos = append ? f.length() : 0;
+		try (Writer w = new OutputStreamWriter(new FileOutputStream(f, append), "US-ASCII")) {
+			for (int i = from; i < to; i++) {
+				String s = "[" + df.format(new Date(BASE + i*1000L)) + " " + (i < COUNT/2 ? "Alpha" : "Beta") + " " + (i == 100 ? "SEVERE" : "INFO") + "] Entry " + i + " ------------------------------------------------------------------------------\n";
+				l[i-from] = pos;
+				pos += s.length();
+				w.write(s);
+			}
+		}
+		l[to-from] = pos;
+		return l;
+	}
+
+	private static LogIndex index() throws Exception {
+		LogIndex i = new LogIndex(formatter, f);
+		i.delete();
+		return i.update();
+	}
+
+	private static boolean contains(List<long[]> ranges, int entry) {
+		for (long[] r : ranges)
+			if (r[0] <= offsets[entry] && offsets[entry+1] <= r[1])
+				return true;
+		return false;
+	}
+
+	private static long size(List<long[]> ranges) {
+		long l = 0;
+		for (long[] r : ranges)
+			l += r[1] - r[0];
+		return l;
+	}
+
+	private static Date date(int entry) {
+		return new Date(BASE + entry*1000L);
+	}
+
+	//====================================================================================================
+	// No filters returns the whole file as a single range.
+	//====================================================================================================
+	@Test
+	public void testNoFilters() throws Exception {
+		LogIndex i = index();
+		assertTrue(i.getBlockCount() > 3);
+		List<long[]> l = i.getRanges(null, null, null, null, null);
+		assertEquals(1, l.size());
+		assertEquals(0, l.get(0)[0]);
+		assertEquals(f.length(), l.get(0)[1]);
+	}
+
+	//====================================================================================================
+	// Date ranges only return the blocks overlapping the range.
+	//====================================================================================================
+	@Test
+	public void testDateRange() throws Exception {
+		LogIndex i = index();
+		List<long[]> l = i.getRanges(date(3000), date(3100), null, null, null);
+		assertEquals(1, l.size());
+		assertTrue(contains(l, 3000));
+		assertTrue(contains(l, 3100));
+		assertFalse(contains(l, 0));
+		assertFalse(contains(l, COUNT-1));
+		assertTrue(size(l) < f.length() / 2);
+
+		// Range spanning a block boundary.
+		l = i.getRanges(date(2000), date(5000), null, null, null);
+		for (int e = 2000; e <= 5000; e++)
+			assertTrue(contains(l, e));
+
+		// Ranges entirely before or after the file.
+		assertTrue(i.getRanges(date(-100), date(-1), null, null, null).isEmpty());
+		assertTrue(i.getRanges(date(COUNT+1), null, null, null, null).isEmpty());
+
+		// Open-ended ranges.
+		l = i.getRanges(date(COUNT-10), null, null, null, null);
+		assertTrue(contains(l, COUNT-1));
+		assertFalse(contains(l, 0));
+		l = i.getRanges(null, date(10), null, null, null);
+		assertTrue(contains(l, 0));
+		assertFalse(contains(l, COUNT-1));
+	}
+
+	//====================================================================================================
+	// Logger and severity filters skip blocks that don't contain the requested values.
+	//====================================================================================================
+	@Test
+	public void testLoggerAndSeverityFilters() throws Exception {
+		LogIndex i = index();
+
+		List<long[]> l = i.getRanges(null, null, null, Arrays.asList("Beta"), null);
+		assertEquals(1, l.size());
+		assertTrue(contains(l, COUNT/2));
+		assertTrue(contains(l, COUNT-1));
+		assertFalse(contains(l, 0));
+
+		l = i.getRanges(null, null, null, null, Arrays.asList("SEVERE"));
+		assertEquals(1, l.size());
+		assertTrue(contains(l, 100));
+		assertFalse(contains(l, COUNT/2));
+		assertFalse(contains(l, COUNT-1));
+
+		// Filters are combined.
+		assertTrue(i.getRanges(null, null, null, Arrays.asList("Beta"), Arrays.asList("SEVERE")).isEmpty());
+		assertTrue(i.getRanges(date(COUNT/2), null, null, null, Arrays.asList("SEVERE")).isEmpty());
+
+		// Unknown values.
+		assertTrue(i.getRanges(null, null, null, Arrays.asList("Gamma"), null).isEmpty());
+		assertTrue(i.getRanges(null, null, null, null, Arrays.asList("FINEST")).isEmpty());
+	}
+
+	//====================================================================================================
+	// The part of the file appended after the last update is always included.
+	//====================================================================================================
+	@Test
+	public void testUnindexedTail() throws Exception {
+		File f2 = new File(dir, "tail.log");
+		long[] o = write(f2, 0, COUNT, false);
+		LogIndex i = new LogIndex(formatter, f2).update();
+		assertTrue(i.getRanges(null, null, null, Arrays.asList("Gamma"), null).isEmpty());
+
+		long[] o2 = write(f2, COUNT, COUNT+10, true);
+		List<long[]> l = i.getRanges(null, null, null, Arrays.asList("Gamma"), null);
+		assertEquals(1, l.size());
+		assertEquals(o[COUNT], l.get(0)[0]);
+		assertEquals(o2[10], l.get(0)[1]);
+
+		// Once indexed, the new entries are filtered like the others.
+		i.update();
+		assertTrue(i.getRanges(null, null, null, Arrays.asList("Gamma"), null).isEmpty());
+		l = i.getRanges(date(COUNT+5), null, null, null, null);
+		assertEquals(o2[10], l.get(l.size()-1)[1]);
+	}
+
+	//====================================================================================================
+	// The persisted index is reused and rebuilt when the log file is replaced.
+	//====================================================================================================
+	@Test
+	public void testPersistedIndex() throws Exception {
+		File f2 = new File(dir, "persist.log");
+		write(f2, 0, COUNT, false);
+		LogIndex i = new LogIndex(formatter, f2).update();
+		assertTrue(new File(f2.getPath() + LogIndex.SUFFIX).exists());
+
+		LogIndex i2 = new LogIndex(formatter, f2).update();
+		assertEquals(i.getBlockCount(), i2.getBlockCount());
+		assertEquals(1, i2.getRanges(null, null, null, null, Arrays.asList("SEVERE")).size());
+		assertTrue(i2.getRanges(null, null, null, null, Arrays.asList("SEVERE")).get(0)[1] < f2.length());
+
+		// Replace the file with a smaller one.
+		long[] o = write(f2, 0, 10, false);
+		i2 = new LogIndex(formatter, f2).update();
+		assertEquals(1, i2.getBlockCount());
+		List<long[]> l = i2.getRanges(null, null, null, null, null);
+		assertEquals(1, l.size());
+		assertEquals(o[10], l.get(0)[1]);
+	}
+
+	//====================================================================================================
+	// Completed blocks are appended to the persisted index instead of rewriting it.
+	//====================================================================================================
+	@Test
+	public void testAppendedIndex() throws Exception {
+		File f2 = new File(dir, "append.log"), idx = new File(f2.getPath() + LogIndex.SUFFIX);
+		write(f2, 0, COUNT, false);
+		LogIndex i = new LogIndex(formatter, f2).update();
+		byte[] b1 = readAll(idx);
+
+		// No new block was completed, so the index file isn't written.
+		write(f2, COUNT, COUNT+10, true);
+		i.update();
+		assertArrayEquals(b1, readAll(idx));
+
+		write(f2, COUNT+10, COUNT*2, true);
+		i.update();
+		byte[] b2 = readAll(idx);
+		assertTrue(b2.length > b1.length);
+		assertArrayEquals(b1, Arrays.copyOf(b2, b1.length));
+
+		LogIndex i2 = new LogIndex(formatter, f2).update();
+		assertEquals(i.getBlockCount(), i2.getBlockCount());
+		for (int e : new int[]{0, 100, COUNT-1, COUNT+5, COUNT*2-1}) {
+			List<long[]> l = i.getRanges(date(e), date(e), null, null, null), l2 = i2.getRanges(date(e), date(e), null, null, null);
+			assertEquals(1, l.size());
+			assertArrayEquals(l.get(0), l2.get(0));
+			assertTrue(l.get(0)[1] - l.get(0)[0] < f2.length() / 4);
+		}
+		assertArrayEquals(i.getRanges(null, null, null, null, Arrays.asList("SEVERE")).get(0), i2.getRanges(null, null, null, null, Arrays.asList("SEVERE")).get(0));
+	}
+
+	private static byte[] readAll(File f) throws Exception {
+		return java.nio.file.Files.readAllBytes(f.toPath());
+	}
+}
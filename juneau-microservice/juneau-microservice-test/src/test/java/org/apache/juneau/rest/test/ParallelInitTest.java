@@ -0,0 +1,293 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+import javax.servlet.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+/**
+ * Validates the {@link RestContext#REST_parallelInit} and {@link RestContext#REST_preloadClassMetas} settings.
+ */
+@SuppressWarnings({"serial","unchecked"})
+public class ParallelInitTest {
+
+	// The pool each resource context was created on, keyed by resource class.
+	static final Map<Class<?>,ForkJoinPool> pools = new ConcurrentHashMap<>();
+
+	/*
+	 * Records the pool the context is being created on.
+	 * Resources whose name ends with a digit wait that many tenths of a second so that they finish in reverse order.
+	 */
+	public static class Recorder extends RestInfoProviderDefault {
+		public Recorder(RestContext context) throws Exception {
+			super(context);
+			Class<?> c = context.getResource().getClass();
+			char ch = c.getSimpleName().charAt(c.getSimpleName().length()-1);
+			if (Character.isDigit(ch))
+				Thread.sleep((ch - '0') * 100);
+			ForkJoinPool p = ForkJoinTask.getPool();
+			if (p != null)
+				pools.put(c, p);
+		}
+	}
+
+	/*
+	 * Delays the creation of the context of the resource it's defined on.
+	 */
+	public static class SlowGuard extends RestGuard {
+		public SlowGuard() throws Exception {
+			Thread.sleep(500);
+		}
+		@Override /* RestGuard */
+		public boolean isRequestAllowed(RestRequest req) {
+			return true;
+		}
+	}
+
+	// The levels the initialization times were logged at, keyed by resource class name.
+	static final Map<String,Level> initTimeLevels = new ConcurrentHashMap<>();
+
+	public static class InitTimeLogger extends RestLoggerDefault {
+		@Override /* RestLogger */
+		public void log(Level level, Throwable cause, String msg, Object...args) {
+			if (msg.startsWith("Initialized resource"))
+				initTimeLevels.put(String.valueOf(args[0]), level);
+		}
+	}
+
+	@RestResource(infoProvider=Recorder.class, logger=InitTimeLogger.class)
+	public static class Base extends RestServlet {}
+
+	@RestResource(path="/a", children={A1.class})
+	public static class A4 extends Base {}
+
+	@RestResource(path="/a1")
+	public static class A1 extends Base {}
+
+	@RestResource(path="/b")
+	public static class B3 extends Base {}
+
+	@RestResource(path="/c")
+	public static class C2 extends Base {}
+
+	@RestResource(path="/d")
+	public static class D1 extends Base {}
+
+	@RestResource(parallelInit="true", children={A4.class,B3.class,C2.class,D1.class})
+	public static class Parallel extends Base {}
+
+	@RestResource(children={A4.class,B3.class,C2.class,D1.class})
+	public static class Sequential extends Base {}
+
+	// Fails after its sibling Bad2 because of the guard.
+	@RestResource(path="/bad1", guards=SlowGuard.class)
+	public static class Bad1 extends Base {
+		@RestMethod(name="GET", path="/")
+		public String get(Thread t) {
+			return null;
+		}
+	}
+
+	@RestResource(path="/bad2")
+	public static class Bad2 extends Base {
+		@RestMethod(name="GET", path="/")
+		public String get(Thread t) {
+			return null;
+		}
+	}
+
+	@RestResource(parallelInit="true", children={B3.class,Bad1.class,Bad2.class})
+	public static class ParallelBad extends Base {}
+
+	@RestResource(children={B3.class,Bad1.class,Bad2.class})
+	public static class SequentialBad extends Base {}
+
+	public static class PreloadBody {
+		public String f;
+	}
+
+	public static class PreloadQuery {
+		public String f;
+	}
+
+	public static class PreloadReturn {
+		public String f;
+	}
+
+	public static class NotPreloadedReturn {
+		public String f;
+	}
+
+	@RestResource(path="/preload", preloadClassMetas="true")
+	public static class Preload extends RestServletDefault {
+		@RestMethod(name="POST", path="/")
+		public PreloadReturn post(@Body PreloadBody b, @Query("q") PreloadQuery q, RestRequest req) {
+			return null;
+		}
+	}
+
+	@RestResource(path="/notPreloaded")
+	public static class NotPreloaded extends RestServletDefault {
+		@RestMethod(name="GET", path="/")
+		public NotPreloadedReturn get() {
+			return null;
+		}
+	}
+
+	private static ServletConfig config() {
+		return new ServletConfig() {
+			@Override /* ServletConfig */
+			public String getServletName() {
+				return "test";
+			}
+			@Override /* ServletConfig */
+			public ServletContext getServletContext() {
+				return null;
+			}
+			@Override /* ServletConfig */
+			public String getInitParameter(String name) {
+				return null;
+			}
+			@Override /* ServletConfig */
+			public Enumeration<String> getInitParameterNames() {
+				return Collections.emptyEnumeration();
+			}
+		};
+	}
+
+	private static RestContext init(RestServlet r) throws Exception {
+		r.init(config());
+		java.lang.reflect.Method m = RestServlet.class.getDeclaredMethod("getContext");
+		m.setAccessible(true);
+		return (RestContext)m.invoke(r);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static Map<Class,ClassMeta> getCache(BeanContext bc) throws Exception {
+		Field f = BeanContext.class.getDeclaredField("cmCache");
+		f.setAccessible(true);
+		return (Map<Class,ClassMeta>)f.get(bc);
+	}
+
+	@Before
+	public void before() {
+		pools.clear();
+		initTimeLevels.clear();
+	}
+
+	//====================================================================================================
+	// Child resources are added in the order they're declared, not the order they finish in.
+	//====================================================================================================
+	@Test
+	public void testDeclarationOrder() throws Exception {
+		RestContext rc = init(new Parallel());
+		assertEquals("[a, b, c, d]", rc.getChildResources().keySet().toString());
+		assertEquals("[a1]", rc.getChildResources().get("a").getChildResources().keySet().toString());
+
+		pools.clear();
+		rc = init(new Sequential());
+		assertEquals("[a, b, c, d]", rc.getChildResources().keySet().toString());
+		assertTrue(pools.isEmpty());
+	}
+
+	//====================================================================================================
+	// Children of children are created on the same pool, and the pool is shut down afterwards.
+	//====================================================================================================
+	@Test
+	public void testSamePool() throws Exception {
+		init(new Parallel());
+		assertFalse(pools.containsKey(Parallel.class));
+		ForkJoinPool p = pools.get(A4.class);
+		assertNotNull(p);
+		for (Class<?> c : new Class<?>[]{A1.class, B3.class, C2.class, D1.class})
+			assertSame(c.getSimpleName(), p, pools.get(c));
+		assertTrue(p.isShutdown());
+	}
+
+	//====================================================================================================
+	// Initialization times are logged at INFO when parallel initialization is enabled and at FINE otherwise.
+	//====================================================================================================
+	@Test
+	public void testInitTimeLogging() throws Exception {
+		init(new Parallel());
+		assertEquals(6, initTimeLevels.size());
+		for (Class<?> c : new Class<?>[]{Parallel.class, A4.class, A1.class, B3.class, C2.class, D1.class})
+			assertEquals(c.getSimpleName(), Level.INFO, initTimeLevels.get(c.getName()));
+
+		initTimeLevels.clear();
+		init(new Sequential());
+		assertEquals(6, initTimeLevels.size());
+		for (Level l : initTimeLevels.values())
+			assertEquals(Level.FINE, l);
+	}
+
+	//====================================================================================================
+	// The exception of the first failing child is rethrown as-is, and the pool is shut down afterwards.
+	//====================================================================================================
+	@Test
+	public void testChildException() throws Exception {
+		Exception expected = null;
+		try {
+			init(new SequentialBad());
+			fail();
+		} catch (ServletException e) {
+			expected = e;
+		}
+		assertTrue(expected.getMessage(), expected.getMessage().contains(Bad1.class.getName()));
+
+		try {
+			init(new ParallelBad());
+			fail();
+		} catch (ServletException e) {
+			assertEquals(expected.getClass(), e.getClass());
+			assertEquals(expected.getMessage(), e.getMessage());
+			assertEquals(expected.getCause().getClass(), e.getCause().getClass());
+			assertEquals(expected.getCause().getMessage(), e.getCause().getMessage());
+		}
+
+		ForkJoinPool p = pools.get(B3.class);
+		assertNotNull(p);
+		assertTrue(p.isShutdown());
+	}
+
+	//====================================================================================================
+	// The return types and annotated parameter types are in the caches of the serializers and parsers.
+	//====================================================================================================
+	@Test
+	public void testPreloadClassMetas() throws Exception {
+		RestContext rc = init(new Preload());
+		for (Serializer s : rc.getSerializers().getSerializers())
+			assertTrue(s.toString(), getCache(s).containsKey(PreloadReturn.class));
+		for (Parser p : rc.getParsers().getParsers()) {
+			assertTrue(p.toString(), getCache(p).containsKey(PreloadBody.class));
+			assertTrue(p.toString(), getCache(p).containsKey(PreloadQuery.class));
+		}
+
+		rc = init(new NotPreloaded());
+		for (Serializer s : rc.getSerializers().getSerializers())
+			assertFalse(s.toString(), getCache(s).containsKey(NotPreloadedReturn.class));
+	}
+}
@@ -15,10 +15,18 @@ package org.apache.juneau.rest.test;
 import static org.apache.juneau.rest.test.TestUtils.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.net.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.regex.*;
 
+import org.apache.http.*;
 import org.apache.http.entity.*;
+import org.apache.http.pool.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
 import org.apache.juneau.rest.client.*;
 import org.junit.*;
 
@@ -108,6 +116,38 @@ public class RestClientTest extends RestTestcase {
 		}
 	}
 
+	//====================================================================================================
+	// captureResponse(int)
+	//====================================================================================================
+	@Test
+	public void testCaptureResponseBounded() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		RestCall rc = c.doPost(URL, new StringEntity("'abcdefgh'")).captureResponse(4);
+		assertEquals("abcdefgh", rc.getResponse(String.class));
+		assertEquals("'abc", rc.getCapturedResponse());
+	}
+
+	//====================================================================================================
+	// getResponseIterator()
+	//====================================================================================================
+	@Test
+	public void testResponseIterator() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		RestCall rc = c.doPost(URL, new StringEntity("[1,2,3]")).captureResponse();
+		List<Integer> l = new ArrayList<>();
+		for (Iterator<Integer> i = rc.getResponseIterator(Integer.class); i.hasNext();)
+			l.add(i.next());
+		assertObjectEquals("[1,2,3]", l);
+		assertEquals("[1,2,3]", rc.getCapturedResponse());
+
+		// Content that isn't read by the iterator still gets piped when the iterator is closed.
+		StringWriter sw = new StringWriter();
+		try (ParserIterator<Integer> i = c.doPost(URL, new StringEntity("[1,2,3]")).pipeTo(sw).getResponseIterator(Integer.class)) {
+			assertEquals(1, i.next().intValue());
+		}
+		assertEquals("[1,2,3]", sw.toString());
+	}
+
 	//====================================================================================================
 	// addResponsePattern()
 	//====================================================================================================
@@ -187,4 +227,180 @@ public class RestClientTest extends RestTestcase {
 			assertEquals(0, e.getResponseCode());
 		}
 	}
+
+	//====================================================================================================
+	// Hedged requests
+	//====================================================================================================
+	@Test
+	public void testHedge() throws Exception {
+		// Primary server accepts connections but never responds.
+		try (ServerSocket ss = new ServerSocket(0)) {
+			RestClient c = TestMicroservice.client()
+				.rootUrl("http://localhost:" + ss.getLocalPort())
+				.hedge(TestMicroservice.getURI(), 50, 0)
+				.pooled()
+				.executorService(Executors.newCachedThreadPool(), true)
+				.build();
+			try {
+				assertEquals("foo", c.doGet(URL).query("echo", "foo").getResponse(String.class));
+
+				// POSTs are only hedged when requested on the call.
+				assertEquals("'bar'", c.doPost(URL, new StringEntity("'bar'")).hedge(TestMicroservice.getURI(), 0).getResponseAsString());
+			} finally {
+				c.closeQuietly();
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Hedged requests on the default executor service.
+	// More concurrent calls than the default executor service can run or queue must all still be hedged.
+	//====================================================================================================
+	@Test
+	public void testHedgeDefaultExecutor() throws Exception {
+		try (ServerSocket ss = new ServerSocket(0)) {
+			final RestClient c = TestMicroservice.client()
+				.rootUrl("http://localhost:" + ss.getLocalPort())
+				.hedge(TestMicroservice.getURI(), 50, 0)
+				.pooled()
+				.setMaxConnTotal(50)
+				.setMaxConnPerRoute(20)
+				.build();
+			ExecutorService es = Executors.newFixedThreadPool(15);
+			try {
+				List<Future<String>> l = new ArrayList<>();
+				for (int i = 0; i < 15; i++) {
+					final String s = "x" + i;
+					l.add(es.submit(new Callable<String>() {
+						@Override
+						public String call() throws Exception {
+							return c.doGet(URL).query("echo", s).getResponse(String.class);
+						}
+					}));
+				}
+				for (int i = 0; i < 15; i++)
+					assertEquals("x" + i, l.get(i).get(10, TimeUnit.SECONDS));
+			} finally {
+				es.shutdownNow();
+				c.closeQuietly();
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Parallel calls
+	//====================================================================================================
+	@Test
+	public void testGetResponses() throws Exception {
+		RestClient c = TestMicroservice.client().pooled().executorService(Executors.newCachedThreadPool(), true).build();
+		try {
+			List<String> l = c.getResponses(String.class,
+				c.doPost(URL, new StringEntity("'a'")),
+				c.doPost(URL, new StringEntity("'b'")),
+				c.doGet(URL).query("echo", "c")
+			);
+			assertObjectEquals("['a','b','c']", l);
+		} finally {
+			c.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// Connection pool settings and statistics
+	//====================================================================================================
+	@Test
+	public void testPoolStats() throws Exception {
+		final AtomicInteger leases = new AtomicInteger();
+		RestClient c = TestMicroservice.client()
+			.setMaxConnTotal(7)
+			.setMaxConnPerRoute(3)
+			.maxConnPerHost(TestMicroservice.getURI().toString(), 5)
+			.validateAfterInactivity(1000)
+			.interceptors(
+				new RestCallInterceptor() {
+					@Override
+					public void onLease(RestCall restCall, long waitMillis) {
+						assertTrue(waitMillis >= 0);
+						leases.incrementAndGet();
+					}
+				}
+			)
+			.build();
+		try {
+			assertEquals(200, c.doPost(URL, new StringEntity("xxx")).run());
+			assertEquals(1, leases.get());
+
+			PoolStats ps = c.getPoolStats();
+			assertEquals(7, ps.getMax());
+			assertEquals(0, ps.getLeased());
+			assertEquals(1, ps.getAvailable());
+
+			Map<?,PoolStats> m = c.getRoutePoolStats();
+			assertEquals(1, m.size());
+			assertEquals(5, m.values().iterator().next().getMax());
+		} finally {
+			c.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// RestCallMetrics
+	//====================================================================================================
+	@Test
+	public void testMetrics() throws Exception {
+		RestCallMetrics metrics = new RestCallMetrics();
+		RestClient c = TestMicroservice.client().interceptors(metrics).build();
+		try {
+			assertEquals("xxx", c.doPost(URL, new StringEntity("xxx")).getResponseAsString());
+			assertEquals("yyy", c.doPost(URL, new StringEntity("'yyy'")).getResponse(String.class));
+
+			Map<String,RestCallMetrics.Stats> m = metrics.getHosts();
+			assertEquals(1, m.size());
+			RestCallMetrics.Stats s = m.values().iterator().next();
+			assertEquals(2, s.getCalls());
+			assertEquals(0, s.getErrors());
+			assertEquals(8, s.getBytesSent());
+			assertEquals(8, s.getBytesReceived());
+			assertEquals(2, s.getTotal().getCount());
+			assertEquals(2, s.getResponse().getCount());
+			assertEquals(2, s.getSerialize().getCount());
+			assertEquals(1, s.getParse().getCount());
+			assertTrue(metrics.getMethods().isEmpty());
+
+			String json = JsonSerializer.DEFAULT_LAX.serialize(metrics);
+			assertTrue(json, json.startsWith("{hosts:{"));
+			assertTrue(json, json.contains("calls:2"));
+
+			metrics.reset();
+			assertTrue(metrics.getHosts().isEmpty());
+		} finally {
+			c.closeQuietly();
+		}
+	}
+
+	//====================================================================================================
+	// Entities are only wrapped for measuring when a RestCallMetrics interceptor is registered.
+	//====================================================================================================
+	@Test
+	public void testMetricsNotRegistered() throws Exception {
+		StringEntity e = new StringEntity("xxx");
+		RestCall rc = TestMicroservice.DEFAULT_CLIENT.doPost(URL, e).connect();
+		try {
+			assertSame(e, ((HttpEntityEnclosingRequest)rc.getRequest()).getEntity());
+			HttpEntity re = rc.getResponse(HttpResponse.class).getEntity();
+			assertFalse(re.getClass().getName().contains("Metered"));
+		} finally {
+			rc.close();
+		}
+
+		RestClient c = TestMicroservice.client().interceptors(new RestCallMetrics()).build();
+		try {
+			rc = c.doPost(URL, new StringEntity("xxx")).connect();
+			assertTrue(((HttpEntityEnclosingRequest)rc.getRequest()).getEntity().getClass().getName().contains("Metered"));
+			HttpEntity re = rc.getResponse(HttpResponse.class).getEntity();
+			assertTrue(re.getClass().getName().contains("Metered"));
+		} finally {
+			c.closeQuietly();
+		}
+	}
 }
@@ -25,6 +25,7 @@ import org.junit.runners.Suite.*;
 @RunWith(Suite.class)
 @SuiteClasses({
 	AcceptCharsetTest.class,
+	AsyncLogHandlerTest.class,
 	BeanContextPropertiesTest.class,
 	CallbackStringsTest.class,
 	CharsetEncodingsTest.class,
@@ -42,8 +43,11 @@ import org.junit.runners.Suite.*;
 	HtmlDocLinksTest.class,
 	InheritanceTest.class,
 	InterfaceProxyTest.class,
+	JettyConfigTest.class,
 	JacocoDummyTest.class,
 	LargePojosTest.class,
+	LogFollowerTest.class,
+	LogIndexTest.class,
 	MessagesTest.class,
 	NlsPropertyTest.class,
 	NlsTest.class,
@@ -52,6 +56,7 @@ import org.junit.runners.Suite.*;
 	OnPreCallTest.class,
 	OptionsWithoutNlsTest.class,
 	OverlappingMethodsTest.class,
+	ParallelInitTest.class,
 	ParamsTest.class,
 	ParsersTest.class,
 	PathsTest.class,
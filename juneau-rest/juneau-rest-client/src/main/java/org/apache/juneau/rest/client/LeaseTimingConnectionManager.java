@@ -0,0 +1,137 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import org.apache.http.*;
+import org.apache.http.conn.*;
+import org.apache.http.conn.routing.*;
+import org.apache.http.protocol.*;
+
+/**
+ * Connection manager wrapper that measures how long callers wait to lease a connection from the underlying manager,
+ * and how long it takes to establish new connections.
+ * 
+ * <p>
+ * Connections are leased and connected on the thread executing the request, so the times of the most recent lease
+ * and connect are kept in thread-locals and picked up by {@link RestCall} after the request has been executed.
+ */
+final class LeaseTimingConnectionManager implements HttpClientConnectionManager {
+
+	private static final ThreadLocal<Long> LEASE_WAIT = new ThreadLocal<>(), CONNECT_TIME = new ThreadLocal<>();
+
+	private final HttpClientConnectionManager inner;
+
+	LeaseTimingConnectionManager(HttpClientConnectionManager inner) {
+		this.inner = inner;
+	}
+
+	/**
+	 * Returns the underlying connection manager.
+	 * 
+	 * @return The underlying connection manager.
+	 */
+	HttpClientConnectionManager getInner() {
+		return inner;
+	}
+
+	/**
+	 * Returns and clears the lease wait time in milliseconds of the last connection leased on the current thread.
+	 * 
+	 * @return The lease wait time in milliseconds, or <code>-1</code> if no connection was leased.
+	 */
+	static long getAndClearLeaseWait() {
+		Long l = LEASE_WAIT.get();
+		if (l == null)
+			return -1;
+		LEASE_WAIT.remove();
+		return l;
+	}
+
+	/**
+	 * Returns and clears the time in nanoseconds it took to establish the last connection on the current thread.
+	 * 
+	 * @return The connect time in nanoseconds, or <code>-1</code> if no new connection was established.
+	 */
+	static long getAndClearConnectTime() {
+		Long l = CONNECT_TIME.get();
+		if (l == null)
+			return -1;
+		CONNECT_TIME.remove();
+		return l;
+	}
+
+	@Override /* HttpClientConnectionManager */
+	public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+		final ConnectionRequest cr = inner.requestConnection(route, state);
+		return new ConnectionRequest() {
+
+			@Override /* ConnectionRequest */
+			public boolean cancel() {
+				return cr.cancel();
+			}
+
+			@Override /* ConnectionRequest */
+			public HttpClientConnection get(long timeout, TimeUnit tunit) throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+				long start = System.nanoTime();
+				try {
+					return cr.get(timeout, tunit);
+				} finally {
+					LEASE_WAIT.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+				}
+			}
+		};
+	}
+
+	@Override /* HttpClientConnectionManager */
+	public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration, TimeUnit timeUnit) {
+		inner.releaseConnection(conn, newState, validDuration, timeUnit);
+	}
+
+	@Override /* HttpClientConnectionManager */
+	public void connect(HttpClientConnection conn, HttpRoute route, int connectTimeout, HttpContext context) throws IOException {
+		long start = System.nanoTime();
+		try {
+			inner.connect(conn, route, connectTimeout, context);
+		} finally {
+			CONNECT_TIME.set(System.nanoTime() - start);
+		}
+	}
+
+	@Override /* HttpClientConnectionManager */
+	public void upgrade(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+		inner.upgrade(conn, route, context);
+	}
+
+	@Override /* HttpClientConnectionManager */
+	public void routeComplete(HttpClientConnection conn, HttpRoute route, HttpContext context) throws IOException {
+		inner.routeComplete(conn, route, context);
+	}
+
+	@Override /* HttpClientConnectionManager */
+	public void closeIdleConnections(long idletime, TimeUnit tunit) {
+		inner.closeIdleConnections(idletime, tunit);
+	}
+
+	@Override /* HttpClientConnectionManager */
+	public void closeExpiredConnections() {
+		inner.closeExpiredConnections();
+	}
+
+	@Override /* HttpClientConnectionManager */
+	public void shutdown() {
+		inner.shutdown();
+	}
+}
@@ -0,0 +1,261 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.internal.ClassUtils.*;
+
+import java.lang.reflect.*;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Collects method calls made against remoteable proxies and sends them together as a single batch request to a
+ * <code>RemoteableServlet</code>.
+ * 
+ * <p>
+ * Calls made against proxies created by {@link #getProxy(Class)} are queued until either the batch window has elapsed
+ * since the first call in the batch, the maximum batch size has been reached, or {@link #flush()} is called.
+ * <br>The calling threads block until the batch has been sent and the results have been received, so batching only
+ * pays off when multiple threads are making calls at the same time.
+ * 
+ * <p>
+ * Instances are created through the {@link RestClient#getRemoteableBatch(Object, long, int)} method.
+ * 
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	RemoteableBatch batch = client.getRemoteableBatch(<js>"http://localhost/remoteable"</js>, 10, 100);
+ * 	IAddressBook ab = batch.getProxy(IAddressBook.<jk>class</jk>);
+ * 
+ * 	<jc>// Calls made from different threads within 10ms of each other are sent in a single request.</jc>
+ * 	List&lt;Person&gt; people = ab.getPeople();
+ * </p>
+ */
+public final class RemoteableBatch {
+
+	private final RestClient client;
+	private final Object restUrl;
+	private final Serializer serializer;
+	private final Parser parser;
+	private final long window;
+	private final int maxSize;
+
+	private volatile long timeout = 60000;
+
+	private final Object lock = new Object();
+	private Batch current;
+
+	RemoteableBatch(RestClient client, Object restUrl, Serializer serializer, Parser parser, long window, int maxSize) {
+		this.client = client;
+		this.restUrl = restUrl;
+		this.serializer = serializer;
+		this.parser = parser;
+		this.window = window;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Creates a new proxy interface whose method calls are sent through this batch.
+	 * 
+	 * @param interfaceClass The interface to create a proxy for.
+	 * @return The new proxy interface.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getProxy(final Class<T> interfaceClass) {
+		return (T)Proxy.newProxyInstance(
+			interfaceClass.getClassLoader(),
+			new Class[] { interfaceClass },
+			new InvocationHandler() {
+				@Override /* InvocationHandler */
+				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+					return RemoteableBatch.this.invoke(interfaceClass, method, args);
+				}
+			}
+		);
+	}
+
+	/**
+	 * Sets the maximum time a call waits for its batch to be sent and its result to be received.
+	 * 
+	 * <p>
+	 * The time is counted after the batch window has elapsed.
+	 * <br>Calls that time out fail with a {@link RestCallException}.
+	 * 
+	 * @param timeout The timeout in milliseconds.  The default is <code>60000</code>.
+	 * @return This object (for method chaining).
+	 */
+	public RemoteableBatch timeout(long timeout) {
+		this.timeout = timeout;
+		return this;
+	}
+
+	/**
+	 * Sends the current batch immediately without waiting for the batch window to elapse.
+	 */
+	public void flush() {
+		synchronized(lock) {
+			if (current != null) {
+				current = null;
+				lock.notifyAll();
+			}
+		}
+	}
+
+	Object invoke(Class<?> interfaceClass, Method method, Object[] args) throws Throwable {
+		Call call = new Call(interfaceClass, method, args);
+		Batch b;
+		boolean leader;
+
+		synchronized(lock) {
+			leader = current == null;
+			if (leader)
+				current = new Batch();
+			b = current;
+			b.calls.add(call);
+			if (b.calls.size() >= maxSize) {
+				current = null;
+				lock.notifyAll();
+			}
+		}
+
+		// The first caller in a batch waits out the window and then sends the batch for everyone.
+		// The batch is always sent, even if the leader is interrupted, since the other callers are waiting on it.
+		if (leader) {
+			try {
+				synchronized(lock) {
+					long end = System.currentTimeMillis() + window;
+					long remaining = window;
+					while (current == b && remaining > 0) {
+						lock.wait(remaining);
+						remaining = end - System.currentTimeMillis();
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				synchronized(lock) {
+					if (current == b)
+						current = null;
+				}
+				b.send();
+			}
+		}
+
+		return call.get(window + timeout);
+	}
+
+	private final class Batch {
+		final List<Call> calls = new ArrayList<>();
+
+		void send() {
+			try {
+				// Body is the list of methods followed by the arguments of all the calls.
+				List<String> methods = new ArrayList<>(calls.size());
+				List<Object> l = new ArrayList<>();
+				l.add(methods);
+				List<Type> types = new ArrayList<>(calls.size() + 1);
+				types.add(ObjectMap.class);
+				for (Call c : calls) {
+					methods.add(c.interfaceClass.getName() + '/' + getMethodSignature(c.method));
+					if (c.args != null)
+						l.addAll(Arrays.asList(c.args));
+					types.add(c.method.getReturnType() == void.class ? Object.class : c.method.getGenericReturnType());
+				}
+
+				RestCall rc = client.doPost(restUrl).serializer(serializer).parser(parser).input(l.toArray());
+				Object[] results;
+				try {
+					results = parser.parseArgs(parser.isReaderParser() ? rc.getReader() : rc.getInputStream(), types.toArray(new Type[types.size()]));
+				} finally {
+					rc.close();
+				}
+
+				if (results == null || results.length != calls.size() + 1)
+					throw new RestCallException("Batch response did not contain the expected number of results.");
+
+				ObjectMap errors = (ObjectMap)results[0];
+				for (int i = 0; i < calls.size(); i++) {
+					ObjectMap e = errors == null ? null : errors.getObjectMap(String.valueOf(i));
+					if (e != null)
+						calls.get(i).fail(calls.get(i).toThrowable(e));
+					else
+						calls.get(i).complete(results[i+1]);
+				}
+
+			} catch (Throwable t) {
+				for (Call c : calls)
+					c.fail(t);
+			}
+		}
+	}
+
+	private static final class Call {
+		final Class<?> interfaceClass;
+		final Method method;
+		final Object[] args;
+		final CountDownLatch latch = new CountDownLatch(1);
+		volatile Object result;
+		volatile Throwable error;
+
+		Call(Class<?> interfaceClass, Method method, Object[] args) {
+			this.interfaceClass = interfaceClass;
+			this.method = method;
+			this.args = args;
+		}
+
+		synchronized void complete(Object v) {
+			if (latch.getCount() == 0)
+				return;
+			if (v == null && method.getReturnType().isPrimitive())
+				v = getPrimitiveDefault(method.getReturnType());
+			result = v;
+			latch.countDown();
+		}
+
+		synchronized void fail(Throwable t) {
+			if (latch.getCount() == 0)
+				return;
+			error = t;
+			latch.countDown();
+		}
+
+		Object get(long timeout) throws Throwable {
+			if (latch.getCount() != 0 && ! latch.await(timeout, TimeUnit.MILLISECONDS))
+				fail(new RestCallException("Timed out waiting for the batch response after " + timeout + "ms."));
+			if (error == null)
+				return result;
+			if (error instanceof RuntimeException || error instanceof Error)
+				throw error;
+			for (Class<?> c : method.getExceptionTypes())
+				if (c.isInstance(error))
+					throw error;
+			throw new RuntimeException(error);
+		}
+
+		// Try to recreate the original exception thrown on the server.
+		Throwable toThrowable(ObjectMap e) {
+			String name = e.getString("exception"), message = e.getString("message");
+			try {
+				Class<?> c = interfaceClass.getClassLoader().loadClass(name);
+				Constructor<?> cc = findPublicConstructor(c, String.class);
+				if (cc != null)
+					return (Throwable)cc.newInstance(message);
+			} catch (Exception e2) {}
+			return new RestCallException(e.getInt("status", 500), message, "POST", null, name);
+		}
+	}
+}
@@ -81,6 +81,14 @@ public final class RestCall extends BeanSession {
 	private int redirectOnPostsTries = 5;
 	private long retryInterval = -1;
 	private RetryOn retryOn;
+	private String hedgeRootUrl;
+	private int hedgeDelay = -1;
+	private MeteredResponseEntity responseEntity;
+
+	// Timings in nanoseconds (lease wait in milliseconds) and sizes read by RestCallMetrics.  -1 means not measured.
+	final long createTime = System.nanoTime();
+	String remoteableMethod;
+	long leaseWait = -1, connectTime = -1, responseTime = -1, serializeTime = -1, parseTime = -1, bytesSent = -1;
 	private boolean ignoreErrors;
 	private boolean byLines = false;
 	private TeeWriter writers = new TeeWriter();
@@ -115,6 +123,9 @@ public final class RestCall extends BeanSession {
 		this.retryInterval = client.retryInterval;
 		this.serializer = client.serializer;
 		this.parser = client.parser;
+		String method = request.getMethod();
+		if (client.hedgeRootUrl != null && (method.equals("GET") || method.equals("HEAD")))
+			this.hedgeRootUrl = client.hedgeRootUrl;
 		uriBuilder = new URIBuilder(uri);
 	}
 
@@ -1088,6 +1099,35 @@ public final class RestCall extends BeanSession {
 
 	}
 
+	/**
+	 * Send a hedged request to an alternate replica of the remote service if this call hasn't received a response
+	 * within the specified time.
+	 * 
+	 * <p>
+	 * The duplicate request is sent to the same path on the alternate root URL.
+	 * <br>The first response received is used and the other request is aborted.
+	 * 
+	 * <p>
+	 * Overrides the {@link RestClientBuilder#hedge(Object, int, int)} setting on the client, and can be used on
+	 * calls other than <code>GET</code> and <code>HEAD</code> as long as the request is safe to send twice.
+	 * 
+	 * @param rootUrl
+	 * 	The root URL of the alternate replica, or <jk>null</jk> to disable hedging on this call.
+	 * 	<br>Usually a <code>String</code> but you can also pass in <code>URI</code> and <code>URL</code> objects as well.
+	 * @param delay
+	 * 	The time in milliseconds to wait for a response before sending the hedged request.
+	 * 	<br><code>-1</code> means use the delay defined on the client.
+	 * @return This object (for method chaining).
+	 * @throws RestCallException If current entity is not repeatable.
+	 */
+	public RestCall hedge(Object rootUrl, int delay) throws RestCallException {
+		if (rootUrl != null && input instanceof HttpEntity && ! ((HttpEntity)input).isRepeatable())
+			throw new RestCallException("Attempt to make call hedged, but entity is not repeatable.");
+		this.hedgeRootUrl = rootUrl == null ? null : nullIfEmpty(rootUrl.toString().replaceAll("\\/$", ""));
+		this.hedgeDelay = delay;
+		return this;
+	}
+
 	/**
 	 * For this call, allow automatic redirects when a 302 or 307 occurs when performing a POST.
 	 * 
@@ -1271,8 +1311,25 @@ public final class RestCall extends BeanSession {
 	 * @return This object (for method chaining).
 	 */
 	public RestCall captureResponse() {
+		return captureResponse(-1);
+	}
+
+	/**
+	 * Same as {@link #captureResponse()} but only keeps the first <code>maxLength</code> characters of the response.
+	 * 
+	 * <p>
+	 * The response is copied into the capture buffer as it's being read, so this can be used to log the beginning of
+	 * large responses without holding the entire response in memory.
+	 * 
+	 * <p>
+	 * This method should only be called once.  Multiple calls to this method are ignored.
+	 * 
+	 * @param maxLength The maximum number of characters to capture, or <code>-1</code> for no limit.
+	 * @return This object (for method chaining).
+	 */
+	public RestCall captureResponse(int maxLength) {
 		if (capturedResponseWriter == null) {
-			capturedResponseWriter = new StringWriter();
+			capturedResponseWriter = new CaptureWriter(maxLength);
 			writers.add(capturedResponseWriter, false);
 		}
 		return this;
@@ -1424,7 +1481,7 @@ public final class RestCall extends BeanSession {
 			if (sc >= 400 && ! ignoreErrors)
 				throw new RestCallException(sc, status.getReasonPhrase(), request.getMethod(), request.getURI(), getResponseAsString()).setHttpResponse(response);
 			if (outputStreams.size() > 0 || writers.size() > 0)
-				getReader();
+				try (Reader r = getReader()) { /* Closing the reader pipes the remaining output. */ }
 			return sc;
 		} catch (RestCallException e) {
 			isFailed = true;
@@ -1480,6 +1537,9 @@ public final class RestCall extends BeanSession {
 
 			request.setURI(uriBuilder.build());
 
+			// Only wrap the entities to measure them if something's collecting the measurements.
+			boolean metered = isMetered();
+
 			if (hasInput || formData != null) {
 
 				if (hasInput && formData != null)
@@ -1501,15 +1561,22 @@ public final class RestCall extends BeanSession {
 				if (retries > 1 && ! entity.isRepeatable())
 					throw new RestCallException("Rest call set to retryable, but entity is not repeatable.");
 
-				((HttpEntityEnclosingRequestBase)request).setEntity(entity);
+				if (hedgeRootUrl != null && ! entity.isRepeatable())
+					throw new RestCallException("Rest call set to hedged, but entity is not repeatable.");
+
+				((HttpEntityEnclosingRequestBase)request).setEntity(metered ? new MeteredRequestEntity(entity) : entity);
 			}
 
 			int sc = 0;
 			while (retries > 0) {
 				retries--;
 				Exception ex = null;
+				LeaseTimingConnectionManager.getAndClearLeaseWait();
+				LeaseTimingConnectionManager.getAndClearConnectTime();
+				long start = System.nanoTime();
 				try {
-					response = client.execute(request);
+					response = executeRequest();
+					responseTime = System.nanoTime() - start;
 					sc = (response == null || response.getStatusLine() == null) ? -1 : response.getStatusLine().getStatusCode();
 				} catch (Exception e) {
 					ex = e;
@@ -1517,6 +1584,11 @@ public final class RestCall extends BeanSession {
 					if (response != null)
 						EntityUtils.consumeQuietly(response.getEntity());
 				}
+				connectTime = LeaseTimingConnectionManager.getAndClearConnectTime();
+				leaseWait = LeaseTimingConnectionManager.getAndClearLeaseWait();
+				if (leaseWait != -1)
+					for (RestCallInterceptor rci : interceptors)
+						rci.onLease(this, leaseWait);
 				if (! retryOn.onResponse(response))
 					retries = 0;
 				if (retries > 0) {
@@ -1531,6 +1603,8 @@ public final class RestCall extends BeanSession {
 					throw ex;
 				}
 			}
+			if (metered && response != null && response.getEntity() != null)
+				response.setEntity(responseEntity = new MeteredResponseEntity(response.getEntity()));
 			for (RestCallInterceptor rci : interceptors)
 				rci.onConnect(this, sc, request, response);
 			if (response == null)
@@ -1569,6 +1643,145 @@ public final class RestCall extends BeanSession {
 		return this;
 	}
 
+	/*
+	 * Executes the request, sending a hedged request to the alternate root URL if a response isn't received in time.
+	 */
+	private HttpResponse executeRequest() throws Exception {
+		long delay = hedgeRootUrl == null ? -1 : hedgeDelay >= 0 ? hedgeDelay : client.getHedgeDelay();
+		long start = System.currentTimeMillis();
+		HttpResponse r = null;
+		if (delay < 0) {
+			r = client.execute(request);
+		} else {
+			Hedge h = new Hedge(RequestBuilder.copy(request).setUri(getHedgeUri()).build());
+			try {
+				h.timer = client.getHedgeScheduler().schedule(h, delay, TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException e) {
+				h = null;
+			}
+			Exception ex = null;
+			try {
+				r = client.execute(request);
+			} catch (Exception e) {
+				ex = e;
+			}
+			if (h != null)
+				r = h.primaryDone(r, ex);
+			else if (ex != null)
+				throw ex;
+		}
+		client.recordLatency(System.currentTimeMillis() - start);
+		return r;
+	}
+
+	/*
+	 * Returns the URI of this request relative to the hedge root URL instead of the client root URL.
+	 */
+	private URI getHedgeUri() throws URISyntaxException {
+		URI u = request.getURI();
+		String s = u.toString();
+		if (client.rootUrl != null && s.startsWith(client.rootUrl))
+			return new URI(hedgeRootUrl + s.substring(client.rootUrl.length()));
+		URI h = new URI(hedgeRootUrl);
+		return new URIBuilder(u).setScheme(h.getScheme()).setHost(h.getHost()).setPort(h.getPort()).build();
+	}
+
+	/*
+	 * Sends the hedged request when the delay scheduled on the client hedge scheduler expires, unless the primary
+	 * request has completed first.
+	 * Whichever request gets a response first aborts the other one.
+	 */
+	private final class Hedge implements Runnable {
+		private final HttpUriRequest hedgeRequest;
+		private boolean sent, finished, primaryDone, hedgeWon;
+		private HttpResponse hedgeResponse;
+		volatile Future<?> timer;
+
+		Hedge(HttpUriRequest hedgeRequest) {
+			this.hedgeRequest = hedgeRequest;
+		}
+
+		/*
+		 * Called on the hedge scheduler thread when the delay expires.
+		 * Hands off the hedged request to the executor service so that the scheduler thread never blocks.
+		 */
+		@Override /* Runnable */
+		public void run() {
+			synchronized(this) {
+				if (primaryDone)
+					return;
+			}
+			Runnable r = new Runnable() {
+				@Override /* Runnable */
+				public void run() {
+					send();
+				}
+			};
+			try {
+				client.getExecutorService(true).execute(r);
+			} catch (RejectedExecutionException e) {
+				// Executor service is saturated, but the hedged request is the one the caller is likely waiting on.
+				Thread t = new Thread(r, "RestClient-hedge");
+				t.setDaemon(true);
+				t.start();
+			}
+		}
+
+		void send() {
+			synchronized(this) {
+				if (primaryDone)
+					return;
+				sent = true;
+			}
+			HttpResponse r = null;
+			try {
+				r = client.execute(hedgeRequest);
+			} catch (Exception e) {
+				// Primary request result is used instead.
+			}
+			synchronized(this) {
+				finished = true;
+				if (r != null) {
+					if (primaryDone) {
+						HttpClientUtils.closeQuietly(r);
+					} else {
+						hedgeWon = true;
+						hedgeResponse = r;
+						request.abort();
+					}
+				}
+				notifyAll();
+			}
+		}
+
+		/*
+		 * Called when the primary request has completed or failed.
+		 * Returns the response to use, waiting for the hedged request if it's still in flight and the primary failed.
+		 */
+		synchronized HttpResponse primaryDone(HttpResponse r, Exception ex) throws Exception {
+			if (timer != null)
+				timer.cancel(false);
+			if (! hedgeWon) {
+				if (r != null || ! sent) {
+					primaryDone = true;
+					notifyAll();
+					if (sent && ! finished)
+						hedgeRequest.abort();
+					if (r == null)
+						throw ex;
+					return r;
+				}
+				while (! finished)
+					wait();
+				if (! hedgeWon)
+					throw ex;
+			}
+			if (r != null)
+				HttpClientUtils.closeQuietly(r);
+			return hedgeResponse;
+		}
+	}
+
 	private void reset() {
 		if (response != null)
 			EntityUtils.consumeQuietly(response.getEntity());
@@ -1592,6 +1805,11 @@ public final class RestCall extends BeanSession {
 	 * If present, automatically handles the <code>charset</code> value in the <code>Content-Type</code> response header.
 	 * 
 	 * <p>
+	 * If the output is being piped to writers (e.g. through {@link #pipeTo(Writer)} or {@link #captureResponse()}),
+	 * the response is copied to them as it's being read.
+	 * <br>Any remaining content is copied when the reader is closed.
+	 * 
+	 * <p>
 	 * <b>IMPORTANT:</b>  It is your responsibility to close this reader once you have finished with it.
 	 * 
 	 * @return
@@ -1616,14 +1834,8 @@ public final class RestCall extends BeanSession {
 		if (cs == null)
 			cs = "UTF-8";
 
-		if (writers.size() > 0) {
-			try (Reader isr = new InputStreamReader(is, cs)) {
-				StringWriter sw = new StringWriter();
-				writers.add(sw, true);
-				IOPipe.create(isr, writers).byLines(byLines).run();
-				return new StringReader(sw.toString());
-			}
-		}
+		if (writers.size() > 0)
+			return new TeeReader(new InputStreamReader(is, cs));
 
 		return new InputStreamReader(is, cs);
 	}
@@ -1700,6 +1912,11 @@ public final class RestCall extends BeanSession {
 	 * wrapped in the encoded stream (e.g. a <code>GZIPInputStream</code>).
 	 * 
 	 * <p>
+	 * If the output is being piped to output streams (e.g. through {@link #pipeTo(OutputStream)}), the response is
+	 * copied to them as it's being read.
+	 * <br>Any remaining content is copied when the input stream is closed.
+	 * 
+	 * <p>
 	 * <b>IMPORTANT:</b>  It is your responsibility to close this reader once you have finished with it.
 	 * 
 	 * @return
@@ -1708,7 +1925,6 @@ public final class RestCall extends BeanSession {
 	 * @throws IOException If an exception occurred while streaming was already occurring.
 	 * @throws IllegalStateException If an attempt is made to read the response more than once.
 	 */
-	@SuppressWarnings("resource")
 	public InputStream getInputStream() throws IOException {
 		if (isClosed)
 			throw new IllegalStateException("Method cannot be called.  Response has already been consumed.");
@@ -1719,13 +1935,8 @@ public final class RestCall extends BeanSession {
 			return null;
 		InputStream is = response.getEntity().getContent();
 
-		if (outputStreams.size() > 0) {
-			ByteArrayInOutStream baios = new ByteArrayInOutStream();
-			outputStreams.add(baios, true);
-			IOPipe.create(is, baios).run();
-			is.close();
-			return baios.getInputStream();
-		}
+		if (outputStreams.size() > 0)
+			return new TeeInputStream(is);
 		return is;
 	}
 
@@ -2034,7 +2245,10 @@ public final class RestCall extends BeanSession {
 				return (T)getInputStream();
 			Parser p = getParser();
 			try (Closeable in = p.isReaderParser() ? getReader() : getInputStream()) {
-				return p.parse(in, type);
+				long start = System.nanoTime();
+				T o = p.parse(in, type);
+				parseTime = System.nanoTime() - start;
+				return o;
 			}
 		} catch (ParseException e) {
 			isFailed = true;
@@ -2047,6 +2261,83 @@ public final class RestCall extends BeanSession {
 		}
 	}
 
+	/**
+	 * Connects to the remote resource and returns an iterator that parses the elements of an array response one at a
+	 * time as they're read from the connection.
+	 * 
+	 * <p>
+	 * Unlike {@link #getResponse(Class)}, the response is never held in memory in its entirety, which makes this
+	 * method suitable for very large array responses.
+	 * <br>Only parsers that support {@link Parser#parseIterator(Object, Type)} can be used (e.g. JSON and MessagePack).
+	 * 
+	 * <p>
+	 * The call is closed once the iterator has been exhausted.
+	 * <br>If you stop iterating early, you must close the iterator yourself.
+	 * 
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = restClient.doGet(url).getResponseIterator(MyBean.<jk>class</jk>)) {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			process(i.next());
+	 * 	}
+	 * </p>
+	 * 
+	 * @param <T> The array element type.
+	 * @param type The array element type.
+	 * @return
+	 * 	An iterator over the elements of the response array.
+	 * 	<br>Parse errors encountered while iterating are thrown as {@link BeanRuntimeException BeanRuntimeExceptions}.
+	 * @throws ParseException If the response does not start with an array.
+	 * @throws IOException If a connection error occurred.
+	 */
+	@SuppressWarnings("resource")
+	public <T> ParserIterator<T> getResponseIterator(Class<T> type) throws IOException, ParseException {
+		try {
+			Parser p = getParser();
+			Object in;
+			if (p.isReaderParser()) {
+				Reader r = getReader();
+				in = r == null ? null : new FilterReader(r) {
+					@Override /* Reader */
+					public void close() throws IOException {
+						try {
+							super.close();
+						} finally {
+							RestCall.this.close();
+						}
+					}
+				};
+			} else {
+				InputStream is = getInputStream();
+				in = is == null ? null : new FilterInputStream(is) {
+					@Override /* InputStream */
+					public void close() throws IOException {
+						try {
+							super.close();
+						} finally {
+							RestCall.this.close();
+						}
+					}
+				};
+			}
+			if (in == null)
+				throw new RestCallException("Response did not contain a body.");
+			return p.parseIterator(in, type);
+		} catch (ParseException e) {
+			isFailed = true;
+			close();
+			throw e;
+		} catch (IOException e) {
+			isFailed = true;
+			close();
+			throw e;
+		} catch (RuntimeException e) {
+			isFailed = true;
+			close();
+			throw e;
+		}
+	}
+
 	BeanContext getBeanContext() throws RestCallException {
 		BeanContext bc = getParser();
 		if (bc == null)
@@ -2133,4 +2424,257 @@ public final class RestCall extends BeanSession {
 		header("Debug", true);
 		return this;
 	}
+
+	/*
+	 * Returns true if one of the interceptors of this call collects the timings and sizes measured by this call.
+	 */
+	private boolean isMetered() {
+		for (RestCallInterceptor i : interceptors)
+			if (i instanceof RestCallMetrics)
+				return true;
+		return false;
+	}
+
+	/*
+	 * Returns the number of bytes in the response body, or -1 if not known.
+	 */
+	long getBytesReceived() {
+		if (responseEntity == null)
+			return -1;
+		long l = responseEntity.getContentLength();
+		return l >= 0 ? l : responseEntity.bytes;
+	}
+
+	/*
+	 * Request entity that measures the time spent and number of bytes written when serializing the request body.
+	 */
+	private final class MeteredRequestEntity extends HttpEntityWrapper {
+
+		MeteredRequestEntity(HttpEntity e) {
+			super(e);
+		}
+
+		@Override /* HttpEntity */
+		public void writeTo(OutputStream os) throws IOException {
+			final long[] count = new long[1];
+			long start = System.nanoTime();
+			wrappedEntity.writeTo(new FilterOutputStream(os) {
+				@Override /* OutputStream */
+				public void write(int b) throws IOException {
+					out.write(b);
+					count[0]++;
+				}
+				@Override /* OutputStream */
+				public void write(byte[] b, int off, int len) throws IOException {
+					out.write(b, off, len);
+					count[0] += len;
+				}
+			});
+			serializeTime = System.nanoTime() - start;
+			bytesSent = count[0];
+		}
+	}
+
+	/*
+	 * Response entity that counts the number of bytes read from the response body.
+	 */
+	private static final class MeteredResponseEntity extends HttpEntityWrapper {
+		long bytes;
+
+		MeteredResponseEntity(HttpEntity e) {
+			super(e);
+		}
+
+		@Override /* HttpEntity */
+		public InputStream getContent() throws IOException {
+			InputStream is = wrappedEntity.getContent();
+			if (is == null)
+				return null;
+			return new FilterInputStream(is) {
+				@Override /* InputStream */
+				public int read() throws IOException {
+					int c = in.read();
+					if (c != -1)
+						bytes++;
+					return c;
+				}
+				@Override /* InputStream */
+				public int read(byte[] b, int off, int len) throws IOException {
+					int i = in.read(b, off, len);
+					if (i > 0)
+						bytes += i;
+					return i;
+				}
+			};
+		}
+
+		@Override /* HttpEntity */
+		public void writeTo(OutputStream os) throws IOException {
+			try (InputStream is = getContent()) {
+				IOUtils.pipe(is, os);
+			}
+		}
+	}
+
+	/*
+	 * Writer used by captureResponse() that stops accumulating output after a maximum length.
+	 */
+	private static final class CaptureWriter extends StringWriter {
+		private final int maxLength;
+
+		CaptureWriter(int maxLength) {
+			this.maxLength = maxLength;
+		}
+
+		@Override /* Writer */
+		public void write(int c) {
+			if (maxLength < 0 || getBuffer().length() < maxLength)
+				super.write(c);
+		}
+
+		@Override /* Writer */
+		public void write(char[] cbuf, int off, int len) {
+			super.write(cbuf, off, available(len));
+		}
+
+		@Override /* Writer */
+		public void write(String str) {
+			super.write(str, 0, available(str.length()));
+		}
+
+		@Override /* Writer */
+		public void write(String str, int off, int len) {
+			super.write(str, off, available(len));
+		}
+
+		private int available(int len) {
+			return maxLength < 0 ? len : Math.max(0, Math.min(len, maxLength - getBuffer().length()));
+		}
+	}
+
+	/*
+	 * Reader that copies the response to the piped writers as it's being read.
+	 * Whatever hasn't been read yet gets copied when the reader is closed.
+	 */
+	private final class TeeReader extends FilterReader {
+		private boolean closed;
+
+		TeeReader(Reader in) {
+			super(in);
+		}
+
+		@Override /* Reader */
+		public int read() throws IOException {
+			int c = in.read();
+			if (c != -1) {
+				writers.write(c);
+				if (byLines && c == '\n')
+					writers.flush();
+			}
+			return c;
+		}
+
+		@Override /* Reader */
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			int i = in.read(cbuf, off, len);
+			if (i > 0) {
+				writers.write(cbuf, off, i);
+				if (byLines)
+					writers.flush();
+			}
+			return i;
+		}
+
+		@Override /* Reader */
+		public long skip(long n) throws IOException {
+			char[] b = new char[(int)Math.min(n, 8192)];
+			long r = n;
+			while (r > 0) {
+				int i = read(b, 0, (int)Math.min(r, b.length));
+				if (i == -1)
+					break;
+				r -= i;
+			}
+			return n - r;
+		}
+
+		@Override /* Reader */
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override /* Reader */
+		public void close() throws IOException {
+			if (closed)
+				return;
+			closed = true;
+			try {
+				char[] b = new char[8192];
+				while (read(b, 0, b.length) != -1) {}
+				writers.flush();
+			} finally {
+				in.close();
+			}
+		}
+	}
+
+	/*
+	 * Input stream that copies the response to the piped output streams as it's being read.
+	 * Whatever hasn't been read yet gets copied when the stream is closed.
+	 */
+	private final class TeeInputStream extends FilterInputStream {
+		private boolean closed;
+
+		TeeInputStream(InputStream in) {
+			super(in);
+		}
+
+		@Override /* InputStream */
+		public int read() throws IOException {
+			int c = in.read();
+			if (c != -1)
+				outputStreams.write(c);
+			return c;
+		}
+
+		@Override /* InputStream */
+		public int read(byte[] b, int off, int len) throws IOException {
+			int i = in.read(b, off, len);
+			if (i > 0)
+				outputStreams.write(b, off, i);
+			return i;
+		}
+
+		@Override /* InputStream */
+		public long skip(long n) throws IOException {
+			byte[] b = new byte[(int)Math.min(n, 8192)];
+			long r = n;
+			while (r > 0) {
+				int i = read(b, 0, (int)Math.min(r, b.length));
+				if (i == -1)
+					break;
+				r -= i;
+			}
+			return n - r;
+		}
+
+		@Override /* InputStream */
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override /* InputStream */
+		public void close() throws IOException {
+			if (closed)
+				return;
+			closed = true;
+			try {
+				byte[] b = new byte[8192];
+				while (read(b, 0, b.length) != -1) {}
+				outputStreams.flush();
+			} finally {
+				in.close();
+			}
+		}
+	}
 }
@@ -40,6 +40,18 @@ public abstract class RestCallInterceptor {
 	 */
 	public void onConnect(RestCall restCall, int statusCode, HttpRequest req, HttpResponse res) {}
 
+	/**
+	 * Called after a connection has been leased from the connection manager created by {@link RestClientBuilder}.
+	 * 
+	 * <p>
+	 * Useful for detecting undersized connection pools.
+	 * <br>Not called when the HTTP client or connection manager was supplied directly to the builder.
+	 * 
+	 * @param restCall The restCall object invoking this method.
+	 * @param waitMillis The number of milliseconds spent waiting for the connection.
+	 */
+	public void onLease(RestCall restCall, long waitMillis) {}
+
 	/**
 	 * Called if retry is going to be attempted.
 	 * 
@@ -0,0 +1,360 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.*;
+
+/**
+ * Interceptor that collects call counts, byte counts, and latency histograms for calls made through a
+ * {@link RestClient}.
+ * 
+ * <p>
+ * Statistics are kept per remote host and per remoteable proxy method, and are broken down into the following phases:
+ * <ul>
+ * 	<li><b>total</b> - Time from the creation of the {@link RestCall} until it's closed.
+ * 	<li><b>lease</b> - Time spent waiting to lease a connection from the connection pool.
+ * 	<li><b>connect</b> - Time spent establishing new connections.
+ * 	<li><b>response</b> - Time from sending the request until the response headers were received
+ * 		(includes the lease, connect, and serialize times).
+ * 	<li><b>serialize</b> - Time spent serializing and writing the request body.
+ * 	<li><b>parse</b> - Time spent parsing the response body in {@link RestCall#getResponse(Class)}.
+ * </ul>
+ * 
+ * <p>
+ * This class and its statistics are beans, so they can be serialized using any Juneau serializer.
+ * 
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode'>
+ * 	RestCallMetrics metrics = <jk>new</jk> RestCallMetrics();
+ * 	RestClient client = RestClient.<jsm>create</jsm>().interceptors(metrics).build();
+ * 
+ * 	<jc>// Make some calls...</jc>
+ * 
+ * 	<jc>// Dump the statistics as JSON.</jc>
+ * 	String json = JsonSerializer.<jsf>DEFAULT_LAX_READABLE</jsf>.serialize(metrics);
+ * </p>
+ * 
+ * <p>
+ * Calls are counted when a response is received.
+ * <br>Phase latencies and byte counts are only recorded for calls that complete successfully.
+ * 
+ * <p>
+ * The request and response bodies are only wrapped to measure them on calls that have one of these interceptors, so
+ * calls made without one don't pay for the measurements.
+ * 
+ * <p>
+ * This class is thread safe.
+ */
+public class RestCallMetrics extends RestCallInterceptor {
+
+	private final ConcurrentHashMap<String,Stats> hosts = new ConcurrentHashMap<>(), methods = new ConcurrentHashMap<>();
+
+	@Override /* RestCallInterceptor */
+	public void onConnect(RestCall restCall, int statusCode, HttpRequest req, HttpResponse res) {
+		for (Stats s : getStats(restCall)) {
+			s.calls.incrementAndGet();
+			if (statusCode >= 400 || statusCode == -1)
+				s.errors.incrementAndGet();
+		}
+	}
+
+	@Override /* RestCallInterceptor */
+	public void onClose(RestCall restCall) {
+		long total = System.nanoTime() - restCall.createTime, bytesReceived = restCall.getBytesReceived();
+		for (Stats s : getStats(restCall)) {
+			s.total.add(total);
+			if (restCall.leaseWait != -1)
+				s.lease.add(TimeUnit.MILLISECONDS.toNanos(restCall.leaseWait));
+			s.connect.add(restCall.connectTime);
+			s.response.add(restCall.responseTime);
+			s.serialize.add(restCall.serializeTime);
+			s.parse.add(restCall.parseTime);
+			if (restCall.bytesSent > 0)
+				s.bytesSent.addAndGet(restCall.bytesSent);
+			if (bytesReceived > 0)
+				s.bytesReceived.addAndGet(bytesReceived);
+		}
+	}
+
+	/**
+	 * Returns the statistics for calls made to each remote host.
+	 * 
+	 * @return The statistics keyed by <js>"host:port"</js>, sorted by key.
+	 */
+	public Map<String,Stats> getHosts() {
+		return new TreeMap<>(hosts);
+	}
+
+	/**
+	 * Returns the statistics for calls made through each remoteable proxy method.
+	 * 
+	 * @return
+	 * 	The statistics keyed by <js>"InterfaceSimpleName.methodSignature"</js>
+	 * 	(e.g. <js>"IAddressBook.getPeople"</js>), sorted by key.
+	 */
+	public Map<String,Stats> getMethods() {
+		return new TreeMap<>(methods);
+	}
+
+	/**
+	 * Clears all statistics.
+	 */
+	public void reset() {
+		hosts.clear();
+		methods.clear();
+	}
+
+	private List<Stats> getStats(RestCall restCall) {
+		List<Stats> l = new ArrayList<>(2);
+		URI uri = restCall.getRequest().getURI();
+		if (uri != null && uri.getHost() != null)
+			l.add(getStats(hosts, uri.getPort() == -1 ? uri.getHost() : uri.getHost() + ':' + uri.getPort()));
+		if (restCall.remoteableMethod != null)
+			l.add(getStats(methods, restCall.remoteableMethod));
+		return l;
+	}
+
+	private static Stats getStats(ConcurrentHashMap<String,Stats> m, String key) {
+		Stats s = m.get(key);
+		if (s == null) {
+			s = new Stats();
+			Stats s2 = m.putIfAbsent(key, s);
+			if (s2 != null)
+				s = s2;
+		}
+		return s;
+	}
+
+	/**
+	 * Statistics for a single host or remoteable method.
+	 */
+	public static final class Stats {
+		final AtomicLong calls = new AtomicLong(), errors = new AtomicLong(), bytesSent = new AtomicLong(),
+			bytesReceived = new AtomicLong();
+		final Histogram total = new Histogram(), lease = new Histogram(), connect = new Histogram(),
+			response = new Histogram(), serialize = new Histogram(), parse = new Histogram();
+
+		Stats() {}
+
+		/**
+		 * Returns the number of responses received.
+		 * 
+		 * @return The number of responses received.
+		 */
+		public long getCalls() {
+			return calls.get();
+		}
+
+		/**
+		 * Returns the number of responses received with a status code of <code>400</code> or greater.
+		 * 
+		 * @return The number of error responses received.
+		 */
+		public long getErrors() {
+			return errors.get();
+		}
+
+		/**
+		 * Returns the total number of bytes sent in request bodies.
+		 * 
+		 * @return The total number of bytes sent in request bodies.
+		 */
+		public long getBytesSent() {
+			return bytesSent.get();
+		}
+
+		/**
+		 * Returns the total number of bytes received in response bodies.
+		 * 
+		 * @return The total number of bytes received in response bodies.
+		 */
+		public long getBytesReceived() {
+			return bytesReceived.get();
+		}
+
+		/**
+		 * Returns the latency histogram of entire calls.
+		 * 
+		 * @return The latency histogram of entire calls.
+		 */
+		public Histogram getTotal() {
+			return total;
+		}
+
+		/**
+		 * Returns the latency histogram of waiting for pooled connections.
+		 * 
+		 * @return The latency histogram of waiting for pooled connections.
+		 */
+		public Histogram getLease() {
+			return lease;
+		}
+
+		/**
+		 * Returns the latency histogram of establishing new connections.
+		 * 
+		 * @return The latency histogram of establishing new connections.
+		 */
+		public Histogram getConnect() {
+			return connect;
+		}
+
+		/**
+		 * Returns the latency histogram of receiving the response headers (time-to-first-byte).
+		 * 
+		 * @return The latency histogram of receiving the response headers.
+		 */
+		public Histogram getResponse() {
+			return response;
+		}
+
+		/**
+		 * Returns the latency histogram of serializing request bodies.
+		 * 
+		 * @return The latency histogram of serializing request bodies.
+		 */
+		public Histogram getSerialize() {
+			return serialize;
+		}
+
+		/**
+		 * Returns the latency histogram of parsing response bodies.
+		 * 
+		 * @return The latency histogram of parsing response bodies.
+		 */
+		public Histogram getParse() {
+			return parse;
+		}
+	}
+
+	/**
+	 * Latency histogram with fixed millisecond buckets.
+	 * 
+	 * <p>
+	 * Percentiles are approximated by the upper bound of the bucket they fall in.
+	 */
+	public static final class Histogram {
+
+		// Bucket upper bounds in milliseconds.  The last bucket holds everything larger.
+		private static final long[] BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000};
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length + 1);
+		private final AtomicLong count = new AtomicLong(), sum = new AtomicLong(), max = new AtomicLong();
+
+		Histogram() {}
+
+		void add(long nanos) {
+			if (nanos < 0)
+				return;
+			long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+			int i = 0;
+			while (i < BOUNDS.length && ms >= BOUNDS[i])
+				i++;
+			buckets.incrementAndGet(i);
+			count.incrementAndGet();
+			sum.addAndGet(nanos);
+			long m;
+			while (nanos > (m = max.get()) && ! max.compareAndSet(m, nanos)) {}
+		}
+
+		/**
+		 * Returns the number of measurements.
+		 * 
+		 * @return The number of measurements.
+		 */
+		public long getCount() {
+			return count.get();
+		}
+
+		/**
+		 * Returns the average latency in milliseconds.
+		 * 
+		 * @return The average latency in milliseconds, or <code>0</code> if there are no measurements.
+		 */
+		public double getAvg() {
+			long c = count.get();
+			return c == 0 ? 0 : sum.get() / c / 1000000d;
+		}
+
+		/**
+		 * Returns the maximum latency in milliseconds.
+		 * 
+		 * @return The maximum latency in milliseconds.
+		 */
+		public double getMax() {
+			return max.get() / 1000000d;
+		}
+
+		/**
+		 * Returns the approximate median latency in milliseconds.
+		 * 
+		 * @return The upper bound of the bucket containing the median, or <code>-1</code> if it's in the last bucket.
+		 */
+		public long getP50() {
+			return percentile(50);
+		}
+
+		/**
+		 * Returns the approximate 90th percentile latency in milliseconds.
+		 * 
+		 * @return The upper bound of the bucket containing the percentile, or <code>-1</code> if it's in the last bucket.
+		 */
+		public long getP90() {
+			return percentile(90);
+		}
+
+		/**
+		 * Returns the approximate 99th percentile latency in milliseconds.
+		 * 
+		 * @return The upper bound of the bucket containing the percentile, or <code>-1</code> if it's in the last bucket.
+		 */
+		public long getP99() {
+			return percentile(99);
+		}
+
+		/**
+		 * Returns the number of measurements in each bucket.
+		 * 
+		 * @return
+		 * 	The number of measurements keyed by the bucket upper bound (e.g. <js>"&lt;5ms"</js>).
+		 * 	<br>Empty buckets are omitted.
+		 */
+		public Map<String,Long> getBuckets() {
+			Map<String,Long> m = new LinkedHashMap<>();
+			for (int i = 0; i < buckets.length(); i++) {
+				long c = buckets.get(i);
+				if (c > 0)
+					m.put(i < BOUNDS.length ? "<" + BOUNDS[i] + "ms" : ">=" + BOUNDS[BOUNDS.length-1] + "ms", c);
+			}
+			return m;
+		}
+
+		private long percentile(int p) {
+			long c = count.get();
+			if (c == 0)
+				return 0;
+			long target = (long)Math.ceil(c * p / 100d), n = 0;
+			for (int i = 0; i < BOUNDS.length; i++) {
+				n += buckets.get(i);
+				if (n >= target)
+					return BOUNDS[i];
+			}
+			return -1;
+		}
+	}
+}
@@ -26,13 +26,18 @@ import java.util.regex.*;
 import org.apache.http.*;
 import org.apache.http.client.methods.*;
 import org.apache.http.client.utils.*;
+import org.apache.http.conn.*;
+import org.apache.http.conn.routing.*;
 import org.apache.http.entity.*;
 import org.apache.http.impl.client.*;
+import org.apache.http.impl.conn.*;
+import org.apache.http.pool.*;
 import org.apache.juneau.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.parser.*;
+import org.apache.juneau.parser.ParseException;
 import org.apache.juneau.remoteable.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.urlencoding.*;
@@ -164,6 +169,81 @@ public class RestClient extends BeanContext {
 	 */
 	public static final String RESTCLIENT_headers = PREFIX + "headers.sms";
 
+	/**
+	 * Configuration property:  Hedged request delay.
+	 * 
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.hedgeDelay.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>-1</code>
+	 * 	<li><b>Methods:</b> 
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#hedge(Object, int, int)}
+	 * 		</ul>
+	 * </ul>
+	 * 
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The time in milliseconds to wait for a response before sending a duplicate request to the
+	 * {@link #RESTCLIENT_hedgeRootUri hedge root URI}.
+	 * <br><code>-1</code> means don't send hedged requests unless {@link #RESTCLIENT_hedgePercentile} is set.
+	 */
+	public static final String RESTCLIENT_hedgeDelay = PREFIX + "hedgeDelay.i";
+
+	/**
+	 * Configuration property:  Hedged request latency percentile.
+	 * 
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.hedgePercentile.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Methods:</b> 
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#hedge(Object, int, int)}
+	 * 		</ul>
+	 * </ul>
+	 * 
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When set to a value between <code>1</code> and <code>99</code>, the hedged request delay is the specified
+	 * percentile of the latencies of the most recent calls made through this client (e.g. <code>95</code> sends
+	 * duplicates for the slowest 5% of calls).
+	 * <br>The {@link #RESTCLIENT_hedgeDelay} value is used until enough calls have been made to compute the percentile.
+	 */
+	public static final String RESTCLIENT_hedgePercentile = PREFIX + "hedgePercentile.i";
+
+	/**
+	 * Configuration property:  Hedged request root URI.
+	 * 
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.hedgeRootUri.s"</js>
+	 * 	<li><b>Data type:</b>  <code>String</code>
+	 * 	<li><b>Default:</b>  <jk>null</jk>
+	 * 	<li><b>Methods:</b> 
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#hedge(Object, int, int)}
+	 * 		</ul>
+	 * </ul>
+	 * 
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The root URI of an alternate replica of the remote service.
+	 * 
+	 * <p>
+	 * When set, <code>GET</code> and <code>HEAD</code> calls that haven't received a response after the
+	 * {@link #RESTCLIENT_hedgeDelay hedge delay} send a duplicate request to the same path on this root.
+	 * <br>The first response received is used, and the other request is aborted.
+	 * <br>The delays are timed on a single daemon thread owned by the client, and only the hedged requests themselves
+	 * are sent using the {@link #RESTCLIENT_executorService executor service} (or on a new thread if the executor
+	 * service rejects them).
+	 * <br>Hedged requests require a pooled connection manager (see {@link RestClientBuilder#pooled()}).
+	 * <br>Trailing slashes are trimmed.
+	 */
+	public static final String RESTCLIENT_hedgeRootUri = PREFIX + "hedgeRootUri.s";
+
 	/**
 	 * Configuration property:  Call interceptors.
 	 * 
@@ -378,14 +458,19 @@ public class RestClient extends BeanContext {
 
 
 	private static final ConcurrentHashMap<Class,HttpPartSerializer> partSerializerCache = new ConcurrentHashMap<>();
+
+	// The number of recent call latencies kept for computing the hedge delay percentile, and the minimum needed.
+	private static final int LATENCY_SAMPLES = 100, MIN_LATENCY_SAMPLES = 20;
 	
 	private final Map<String,String> headers, query;
 	private final HttpClientBuilder httpClientBuilder;
 	private final CloseableHttpClient httpClient;
+	private final HttpClientConnectionManager connectionManager;
 	private final boolean keepHttpClientOpen, debug;
 	private final UrlEncodingSerializer urlEncodingSerializer;  // Used for form posts only.
 	private final HttpPartSerializer partSerializer;
-	private final String rootUrl;
+	private final long[] latencies;
+	private int latencyCount, latencyIndex;
 	private volatile boolean isClosed = false;
 	private final StackTraceElement[] creationStack;
 	private StackTraceElement[] closedStack;
@@ -397,9 +482,12 @@ public class RestClient extends BeanContext {
 	final int retries;
 	final long retryInterval;
 	final RestCallInterceptor[] interceptors;
+	final String rootUrl, hedgeRootUrl;
+	final int hedgeDelay, hedgePercentile;
 
-	// This is lazy-created.
+	// These are lazy-created.
 	private volatile ExecutorService executorService;
+	private volatile ScheduledExecutorService hedgeScheduler;
 	private final boolean executorServiceShutdownOnClose;
 
 	/**
@@ -449,10 +537,12 @@ public class RestClient extends BeanContext {
 	RestClient(
 			PropertyStore ps,
 			HttpClientBuilder httpClientBuilder,
-			CloseableHttpClient httpClient) {
+			CloseableHttpClient httpClient,
+			HttpClientConnectionManager connectionManager) {
 		super(ps);
 		this.httpClientBuilder = httpClientBuilder;
 		this.httpClient = httpClient;
+		this.connectionManager = connectionManager;
 		this.keepHttpClientOpen = getProperty(RESTCLIENT_keepHttpClientOpen, boolean.class, false);
 		this.headers = getMapProperty(RESTCLIENT_headers, String.class);
 		this.query = getMapProperty(RESTCLIENT_query, String.class);
@@ -462,6 +552,10 @@ public class RestClient extends BeanContext {
 		this.debug = getProperty(RESTCLIENT_debug, boolean.class, false);
 		this.executorServiceShutdownOnClose = getProperty(RESTCLIENT_executorServiceShutdownOnClose, boolean.class, false);
 		this.rootUrl = StringUtils.nullIfEmpty(getProperty(RESTCLIENT_rootUri, String.class, "").replaceAll("\\/$", ""));
+		this.hedgeRootUrl = StringUtils.nullIfEmpty(getProperty(RESTCLIENT_hedgeRootUri, String.class, "").replaceAll("\\/$", ""));
+		this.hedgeDelay = getProperty(RESTCLIENT_hedgeDelay, int.class, -1);
+		this.hedgePercentile = getProperty(RESTCLIENT_hedgePercentile, int.class, 0);
+		this.latencies = hedgePercentile > 0 ? new long[LATENCY_SAMPLES] : null;
 		
 		Object o = getProperty(RESTCLIENT_serializer, Object.class, JsonSerializer.class);
 		if (o instanceof Serializer) {
@@ -510,6 +604,8 @@ public class RestClient extends BeanContext {
 			httpClient.close();
 		if (executorService != null && executorServiceShutdownOnClose)
 			executorService.shutdown();
+		if (hedgeScheduler != null)
+			hedgeScheduler.shutdownNow();
 		if (creationStack != null)
 			closedStack = Thread.currentThread().getStackTrace();
 	}
@@ -524,11 +620,49 @@ public class RestClient extends BeanContext {
 				httpClient.close();
 			if (executorService != null && executorServiceShutdownOnClose)
 				executorService.shutdown();
+			if (hedgeScheduler != null)
+				hedgeScheduler.shutdownNow();
 		} catch (Throwable t) {}
 		if (creationStack != null)
 			closedStack = Thread.currentThread().getStackTrace();
 	}
 
+	/**
+	 * Returns the total statistics of the connection pool used by this client.
+	 * 
+	 * <p>
+	 * Pool statistics are only available when the client uses a pooling connection manager (e.g. when
+	 * {@link RestClientBuilder#pooled()} was called).
+	 * 
+	 * @return The connection pool statistics, or <jk>null</jk> if this client does not use a connection pool.
+	 */
+	public PoolStats getPoolStats() {
+		ConnPoolControl<HttpRoute> p = getConnPoolControl();
+		return p == null ? null : p.getTotalStats();
+	}
+
+	/**
+	 * Returns the statistics of the connection pool used by this client for each route that has pooled connections.
+	 * 
+	 * @return
+	 * 	A map of routes to connection pool statistics, or <jk>null</jk> if this client does not use a pooling
+	 * 	connection manager.
+	 */
+	public Map<HttpRoute,PoolStats> getRoutePoolStats() {
+		if (! (connectionManager instanceof PoolingHttpClientConnectionManager))
+			return null;
+		PoolingHttpClientConnectionManager p = (PoolingHttpClientConnectionManager)connectionManager;
+		Map<HttpRoute,PoolStats> m = new LinkedHashMap<>();
+		for (HttpRoute r : p.getRoutes())
+			m.put(r, p.getStats(r));
+		return m;
+	}
+
+	@SuppressWarnings("unchecked")
+	private ConnPoolControl<HttpRoute> getConnPoolControl() {
+		return connectionManager instanceof ConnPoolControl ? (ConnPoolControl<HttpRoute>)connectionManager : null;
+	}
+
 	/**
 	 * Execute the specified request.
 	 * 
@@ -1014,6 +1148,7 @@ public class RestClient extends BeanContext {
 							} else throw new RuntimeException("Unsupported method.");
 
 							rc.serializer(serializer).parser(parser);
+							rc.remoteableMethod = interfaceClass.getSimpleName() + '.' + ClassUtils.getMethodSignature(method);
 
 							for (RemoteMethodArg a : rmm.getPathArgs())
 								rc.path(a.name, args[a.index], a.serializer);
@@ -1110,6 +1245,40 @@ public class RestClient extends BeanContext {
 		}
 	}
 
+	/**
+	 * Creates a new batch for sending multiple remoteable proxy method calls in a single request to a
+	 * <code>RemoteableServlet</code>.
+	 * 
+	 * <p>
+	 * Method calls made through proxies created by {@link RemoteableBatch#getProxy(Class)} are collected for up to
+	 * <code>window</code> milliseconds (or until <code>maxSize</code> calls have been collected) and then POSTed
+	 * together to the servlet root.
+	 * 
+	 * @param restUrl
+	 * 	The URL of the <code>RemoteableServlet</code>.
+	 * 	<br>Can be relative to the {@link RestClientBuilder#rootUrl(Object) rootUrl}.
+	 * @param window The maximum number of milliseconds to wait for additional calls before sending a batch.
+	 * @param maxSize The maximum number of calls to send in a single batch.
+	 * @return A new batch object.
+	 */
+	public RemoteableBatch getRemoteableBatch(Object restUrl, long window, int maxSize) {
+		return getRemoteableBatch(restUrl, window, maxSize, serializer, parser);
+	}
+
+	/**
+	 * Same as {@link #getRemoteableBatch(Object, long, int)} but allows you to override the serializer and parser used.
+	 * 
+	 * @param restUrl The URL of the <code>RemoteableServlet</code>.
+	 * @param window The maximum number of milliseconds to wait for additional calls before sending a batch.
+	 * @param maxSize The maximum number of calls to send in a single batch.
+	 * @param serializer The serializer used to serialize the batch to the body of the HTTP request.
+	 * @param parser The parser used to parse the results from the body of the HTTP response.
+	 * @return A new batch object.
+	 */
+	public RemoteableBatch getRemoteableBatch(Object restUrl, long window, int maxSize, Serializer serializer, Parser parser) {
+		return new RemoteableBatch(this, restUrl, serializer, parser, window, Math.max(1, maxSize));
+	}
+
 	static final String getName(String name1, String name2, BeanPropertyMeta pMeta) {
 		String n = name1.isEmpty() ? name2 : name1;
 		ClassMeta<?> cm = pMeta.getClassMeta();
@@ -1163,6 +1332,104 @@ public class RestClient extends BeanContext {
 		return new URI(s);
 	}
 
+	/**
+	 * Executes the specified calls in parallel and returns the parsed responses.
+	 * 
+	 * <p>
+	 * The first call is executed on the current thread and the others are executed using the
+	 * {@link #RESTCLIENT_executorService executor service}, so the executor service should be configured with enough
+	 * threads to handle the number of calls being made.
+	 * <br>The client must also use a pooled connection manager (see {@link RestClientBuilder#pooled()}).
+	 * 
+	 * <p>
+	 * If any call fails, the calls that haven't completed yet are aborted and the exception is rethrown.
+	 * 
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	List&lt;Person&gt; people = client.getResponses(Person.<jk>class</jk>,
+	 * 		client.doGet(<js>"/people/1"</js>),
+	 * 		client.doGet(<js>"/people/2"</js>),
+	 * 		client.doGet(<js>"/people/3"</js>)
+	 * 	);
+	 * </p>
+	 * 
+	 * @param <T> The class type of the object being created.
+	 * @param type The object type to create.
+	 * @param calls The calls to execute.
+	 * @return The parsed responses in the same order as the calls.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
+	 * @throws IOException If a connection error occurred.
+	 */
+	public <T> List<T> getResponses(Class<T> type, RestCall...calls) throws IOException, ParseException {
+		List<Future<T>> futures = new ArrayList<>(calls.length);
+		List<T> l = new ArrayList<>(calls.length);
+		try {
+			for (int i = 1; i < calls.length; i++)
+				futures.add(calls[i].getResponseFuture(type));
+			if (calls.length > 0)
+				l.add(calls[0].getResponse(type));
+			for (Future<T> f : futures) {
+				try {
+					l.add(f.get());
+				} catch (ExecutionException e) {
+					Throwable t = e.getCause();
+					if (t instanceof IOException)
+						throw (IOException)t;
+					if (t instanceof ParseException)
+						throw (ParseException)t;
+					if (t instanceof RuntimeException)
+						throw (RuntimeException)t;
+					if (t instanceof Error)
+						throw (Error)t;
+					throw new RestCallException((Exception)t);
+				} catch (InterruptedException e) {
+					throw new RestCallException(e);
+				}
+			}
+			return l;
+		} finally {
+			if (l.size() < calls.length) {
+				for (Future<T> f : futures)
+					f.cancel(true);
+				for (RestCall c : calls)
+					c.getRequest().abort();
+			}
+		}
+	}
+
+	/*
+	 * Returns the delay in milliseconds before sending a hedged request, or -1 if requests shouldn't be hedged yet.
+	 */
+	long getHedgeDelay() {
+		if (latencies != null) {
+			long[] l = null;
+			synchronized(latencies) {
+				if (latencyCount >= MIN_LATENCY_SAMPLES)
+					l = Arrays.copyOf(latencies, latencyCount);
+			}
+			if (l != null) {
+				Arrays.sort(l);
+				return l[Math.max(0, (int)Math.ceil(hedgePercentile * l.length / 100d) - 1)];
+			}
+		}
+		return hedgeDelay;
+	}
+
+	/*
+	 * Records the latency of a completed call for computing the hedge delay percentile.
+	 */
+	void recordLatency(long millis) {
+		if (latencies != null) {
+			synchronized(latencies) {
+				latencies[latencyIndex] = millis;
+				latencyIndex = (latencyIndex + 1) % latencies.length;
+				if (latencyCount < latencies.length)
+					latencyCount++;
+			}
+		}
+	}
+
 	ExecutorService getExecutorService(boolean create) {
 		if (executorService != null || ! create)
 			return executorService;
@@ -1173,6 +1440,28 @@ public class RestClient extends BeanContext {
 		}
 	}
 
+	/*
+	 * Returns the scheduler used for timing hedged request delays.
+	 * Uses a single daemon thread since the scheduled tasks only hand off the hedged requests to the executor service.
+	 */
+	ScheduledExecutorService getHedgeScheduler() {
+		if (hedgeScheduler != null)
+			return hedgeScheduler;
+		synchronized(this) {
+			if (hedgeScheduler == null) {
+				hedgeScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+					@Override /* ThreadFactory */
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "RestClient-hedgeScheduler");
+						t.setDaemon(true);
+						return t;
+					}
+				});
+			}
+			return hedgeScheduler;
+		}
+	}
+
 	@Override
 	protected void finalize() throws Throwable {
 		if (! isClosed && ! keepHttpClientOpen) {
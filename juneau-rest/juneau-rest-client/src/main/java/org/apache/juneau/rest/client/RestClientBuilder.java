@@ -71,6 +71,9 @@ public class RestClientBuilder extends BeanContextBuilder {
 	private CloseableHttpClient httpClient;
 	private SSLOpts sslOpts;
 	private boolean pooled;
+	private int maxConnTotal = -1, maxConnPerRoute = -1, validateAfterInactivity = -1;
+	private final Map<HttpRoute,Integer> maxConnPerHost = new LinkedHashMap<>();
+	private HttpClientConnectionManager connectionManager;
 
 	/**
 	 * Constructor.
@@ -87,7 +90,7 @@ public class RestClientBuilder extends BeanContextBuilder {
 			CloseableHttpClient c = httpClient != null ? httpClient : createHttpClient();
 			PropertyStore ps = psb.build();
 
-			return new RestClient(ps, httpClientBuilder, c);
+			return new RestClient(ps, httpClientBuilder, c, httpClient != null ? null : connectionManager);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -113,8 +116,12 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 */
 	protected CloseableHttpClient createHttpClient() throws Exception {
 		// Don't call createConnectionManager() if RestClient.setConnectionManager() was called.
-		if (httpClientConnectionManager == null)
-			httpClientBuilder.setConnectionManager(createConnectionManager());
+		if (httpClientConnectionManager == null) {
+			connectionManager = createConnectionManager();
+			httpClientBuilder.setConnectionManager(new LeaseTimingConnectionManager(connectionManager));
+		} else {
+			connectionManager = httpClientConnectionManager;
+		}
 		return httpClientBuilder.build();
 	}
 
@@ -146,7 +153,9 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * Subclasses can override this method to provide their own connection manager.
 	 * 
 	 * <p>
-	 * The default implementation returns an instance of a {@link PoolingHttpClientConnectionManager}.
+	 * The default implementation returns an instance of a {@link PoolingHttpClientConnectionManager} configured with
+	 * the pool settings on this builder if {@link #pooled()} was called, or a {@link BasicHttpClientConnectionManager}
+	 * otherwise.
 	 * 
 	 * @return The HTTP client builder to use to create the HTTP client.
 	 */
@@ -175,13 +184,31 @@ public class RestClientBuilder extends BeanContextBuilder {
 
 					Registry<ConnectionSocketFactory> r = RegistryBuilder.<ConnectionSocketFactory> create().register("https", sf).build();
 
-					return (pooled ? new PoolingHttpClientConnectionManager(r) : new BasicHttpClientConnectionManager(r));
+					return (pooled ? configurePool(new PoolingHttpClientConnectionManager(r)) : new BasicHttpClientConnectionManager(r));
 				} catch (Throwable t) {}
 			}
 		}
 
 			// Using pooling connection so that this client is threadsafe.
-		return (pooled ? new PoolingHttpClientConnectionManager() : new BasicHttpClientConnectionManager());
+		return (pooled ? configurePool(new PoolingHttpClientConnectionManager()) : new BasicHttpClientConnectionManager());
+	}
+
+	/**
+	 * Applies the pool settings on this builder to the specified connection manager.
+	 * 
+	 * @param cm The connection manager to configure.
+	 * @return The same connection manager.
+	 */
+	protected PoolingHttpClientConnectionManager configurePool(PoolingHttpClientConnectionManager cm) {
+		if (maxConnTotal > 0)
+			cm.setMaxTotal(maxConnTotal);
+		if (maxConnPerRoute > 0)
+			cm.setDefaultMaxPerRoute(maxConnPerRoute);
+		for (Map.Entry<HttpRoute,Integer> e : maxConnPerHost.entrySet())
+			cm.setMaxPerRoute(e.getKey(), e.getValue());
+		if (validateAfterInactivity >= 0)
+			cm.setValidateAfterInactivity(validateAfterInactivity);
+		return cm;
 	}
 
 	/**
@@ -246,6 +273,64 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the maximum number of pooled connections to the specified host.
+	 * 
+	 * <p>
+	 * Overrides the default set by {@link #setMaxConnPerRoute(int)} for a single downstream host.
+	 * <br>Implies {@link #pooled()}.
+	 * 
+	 * @param host The target host (e.g. <js>"http://localhost:10000"</js>).  The path portion is ignored.
+	 * @param max The maximum number of connections to the host.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder maxConnPerHost(String host, int max) {
+		URI u = URI.create(host);
+		String scheme = u.getScheme() == null ? "http" : u.getScheme();
+		boolean secure = "https".equalsIgnoreCase(scheme);
+		int port = u.getPort() > 0 ? u.getPort() : secure ? 443 : 80;
+		maxConnPerHost.put(new HttpRoute(new HttpHost(u.getHost(), port, scheme), null, secure), max);
+		return pooled();
+	}
+
+	/**
+	 * Sets the period of inactivity in milliseconds after which pooled connections are revalidated before being leased.
+	 * 
+	 * <p>
+	 * Implies {@link #pooled()}.
+	 * 
+	 * @param millis The inactivity period in milliseconds.  A non-positive value disables validation.
+	 * @return This object (for method chaining).
+	 * @see PoolingHttpClientConnectionManager#setValidateAfterInactivity(int)
+	 */
+	public RestClientBuilder validateAfterInactivity(int millis) {
+		this.validateAfterInactivity = millis;
+		return pooled();
+	}
+
+	/**
+	 * Sets how long idle connections are kept alive when the server does not specify a <code>Keep-Alive</code> timeout.
+	 * 
+	 * <p>
+	 * The <code>timeout</code> parameter of a <code>Keep-Alive</code> response header always takes precedence.
+	 * 
+	 * @param duration The keep-alive duration.  A non-positive value means connections are kept alive indefinitely.
+	 * @param unit The time unit of the duration.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder keepAlive(long duration, TimeUnit unit) {
+		final long millis = unit.toMillis(duration);
+		return setKeepAliveStrategy(
+			new ConnectionKeepAliveStrategy() {
+				@Override /* ConnectionKeepAliveStrategy */
+				public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+					long l = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+					return l > 0 ? l : millis > 0 ? millis : -1;
+				}
+			}
+		);
+	}
+
 	/**
 	 * Set up this client to use BASIC auth.
 	 * 
@@ -728,6 +813,59 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	/**
+	 * Send hedged requests to an alternate replica of the remote service.
+	 * 
+	 * <p>
+	 * When a <code>GET</code> or <code>HEAD</code> call hasn't received a response after the specified delay, a duplicate
+	 * request is sent to the same path on the alternate root URL.
+	 * <br>The first response received is used and the other request is aborted.
+	 * 
+	 * <p>
+	 * The delays are timed on a separate scheduler thread, and only the hedged requests themselves are sent using the
+	 * {@link #executorService(ExecutorService, boolean) executor service}.
+	 * <br>Hedged requests that the executor service rejects are sent on a new thread instead, so a larger executor
+	 * service is only needed to avoid creating those threads.
+	 * <br>The client must also use a {@link #pooled() pooled} connection manager.
+	 * 
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	<jc>// Send a duplicate request to the backup server for the slowest 5% of calls, 
+	 * 	// or after 100ms until enough calls have been made to know what the slowest 5% is.</jc>
+	 * 	RestClient c = RestClient.<jsm>create</jsm>()
+	 * 		.rootUrl(<js>"http://primary/rest"</js>)
+	 * 		.hedge(<js>"http://backup/rest"</js>, 100, 95)
+	 * 		.pooled()
+	 * 		.executorService(Executors.<jsm>newCachedThreadPool</jsm>(), <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_hedgeRootUri}
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_hedgeDelay}
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_hedgePercentile}
+	 * </ul>
+	 * 
+	 * @param rootUrl
+	 * 	The root URL of the alternate replica.
+	 * 	<br>Usually a <code>String</code> but you can also pass in <code>URI</code> and <code>URL</code> objects as well.
+	 * @param delay
+	 * 	The time in milliseconds to wait for a response before sending the hedged request.
+	 * 	<br><code>-1</code> means only use the <code>percentile</code> setting.
+	 * @param percentile
+	 * 	If between <code>1</code> and <code>99</code>, the delay is instead the specified percentile of the latencies
+	 * 	of recent calls made through this client.
+	 * 	<br><code>0</code> means always use the <code>delay</code> setting.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder hedge(Object rootUrl, int delay, int percentile) {
+		set(RESTCLIENT_hedgeRootUri, rootUrl);
+		set(RESTCLIENT_hedgeDelay, delay);
+		set(RESTCLIENT_hedgePercentile, percentile);
+		return this;
+	}
+
 	/**
 	 * Configuration property:  Request headers.
 	 * 
@@ -2147,23 +2285,35 @@ public class RestClientBuilder extends BeanContextBuilder {
 	}
 
 	/**
+	 * Sets the maximum total number of pooled connections.
+	 * 
+	 * <p>
+	 * Implies {@link #pooled()}.
+	 * 
 	 * @param maxConnTotal
 	 * @return This object (for method chaining).
 	 * @see HttpClientBuilder#setMaxConnTotal(int)
 	 */
 	public RestClientBuilder setMaxConnTotal(int maxConnTotal) {
+		this.maxConnTotal = maxConnTotal;
 		httpClientBuilder.setMaxConnTotal(maxConnTotal);
-		return this;
+		return pooled();
 	}
 
 	/**
+	 * Sets the default maximum number of pooled connections per route.
+	 * 
+	 * <p>
+	 * Implies {@link #pooled()}.
+	 * 
 	 * @param maxConnPerRoute
 	 * @return This object (for method chaining).
 	 * @see HttpClientBuilder#setMaxConnPerRoute(int)
 	 */
 	public RestClientBuilder setMaxConnPerRoute(int maxConnPerRoute) {
+		this.maxConnPerRoute = maxConnPerRoute;
 		httpClientBuilder.setMaxConnPerRoute(maxConnPerRoute);
-		return this;
+		return pooled();
 	}
 
 	/**
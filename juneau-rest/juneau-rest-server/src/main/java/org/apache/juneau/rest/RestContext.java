@@ -25,6 +25,7 @@ import java.nio.charset.*;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
+import java.util.logging.*;
 
 import javax.activation.*;
 import javax.servlet.*;
@@ -1503,6 +1504,77 @@ public final class RestContext extends BeanContext {
 	 */
 	public static final String REST_mimeTypes = PREFIX + "mimeTypes.ss";
 
+	/**
+	 * Configuration property:  Initialize child resources in parallel.
+	 * 
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.parallelInit.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>  
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestResource#parallelInit()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>  
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#parallelInit(boolean)}
+	 * 			<li class='jm'>{@link RestContextBuilder#parallelInit()}
+	 * 		</ul>
+	 * </ul>
+	 * 
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, the contexts of the child resources of this resource are created concurrently on a fork-join pool
+	 * instead of one after the other.
+	 * 
+	 * <p>
+	 * This can significantly reduce the startup time of resources with many children, since creating a context
+	 * involves introspecting all the REST methods of the resource and creating their serializers and parsers.
+	 * 
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	<jc>// Option #1 - Defined via annotation resolving to a config file setting with default value.</jc>
+	 * 	<ja>@RestResource</ja>(parallelInit=<js>"$C{REST/parallelInit,true}"</js>)
+	 * 	<jk>public class</jk> MyResource {
+	 * 
+	 * 		<jc>// Option #2 - Defined via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 * 			
+	 * 			<jc>// Using method on builder.</jc>
+	 * 			builder.parallelInit();
+	 * 
+	 * 			<jc>// Same, but using property.</jc>
+	 * 			builder.set(<jsf>REST_parallelInit</jsf>, <jk>true</jk>);
+	 * 		}
+	 * 
+	 * 		<jc>// Option #3 - Defined via builder passed in through init method.</jc>
+	 * 		<ja>@RestHook</ja>(<jsf>INIT</jsf>)
+	 * 		<jk>public void</jk> init(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 * 			builder.parallelInit();
+	 * 		}
+	 * 	}
+	 * </p>
+	 * 
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		The setting is inherited by all descendant resources, which share the same pool.
+	 * 	<li>
+	 * 		The child resource objects themselves are still instantiated and passed to their {@link HookEvent#INIT}
+	 * 		methods one at a time in the order they're defined.
+	 * 		<br>Only the creation of the {@link RestContext} objects is done concurrently.
+	 * 	<li>
+	 * 		Child resources are still added to {@link RestContext#getChildResources()} in the order they're defined.
+	 * 	<li>
+	 * 		When enabled, the initialization time of each resource is logged at <code>INFO</code> level when the servlet
+	 * 		is initialized.
+	 * 		<br>See {@link RestContext#getInitTime()}.
+	 * </ul>
+	 */
+	public static final String REST_parallelInit = PREFIX + "parallelInit.b";
+	
 	/**
 	 * Configuration property:  Java method parameter resolvers.
 	 * 
@@ -1891,6 +1963,75 @@ public final class RestContext extends BeanContext {
 	 */
 	public static final String REST_path = PREFIX + "path.s";
 
+	/**
+	 * Configuration property:  Preload class metadata.
+	 * 
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.preloadClassMetas.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session-overridable:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>  
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestResource#preloadClassMetas()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>  
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#preloadClassMetas(boolean)}
+	 * 			<li class='jm'>{@link RestContextBuilder#preloadClassMetas()}
+	 * 		</ul>
+	 * </ul>
+	 * 
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, the {@link ClassMeta ClassMetas} (and {@link BeanMeta BeanMetas} for bean classes) of the 
+	 * return types of all the REST methods and of their {@link Body @Body}, {@link FormData @FormData},
+	 * {@link Query @Query}, {@link Header @Header} and {@link Path @Path} parameters are created when the resource is
+	 * initialized, instead of when they're first needed by a request.
+	 * 
+	 * <p>
+	 * They're created in the bean contexts of the method and of all its serializers and parsers.
+	 * <br>This moves the cost of introspecting the bean classes from the first requests to startup.
+	 * 
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode'>
+	 * 	<jc>// Option #1 - Defined via annotation resolving to a config file setting with default value.</jc>
+	 * 	<ja>@RestResource</ja>(preloadClassMetas=<js>"$C{REST/preloadClassMetas,true}"</js>)
+	 * 	<jk>public class</jk> MyResource {
+	 * 
+	 * 		<jc>// Option #2 - Defined via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 * 			
+	 * 			<jc>// Using method on builder.</jc>
+	 * 			builder.preloadClassMetas();
+	 * 
+	 * 			<jc>// Same, but using property.</jc>
+	 * 			builder.set(<jsf>REST_preloadClassMetas</jsf>, <jk>true</jk>);
+	 * 		}
+	 * 
+	 * 		<jc>// Option #3 - Defined via builder passed in through init method.</jc>
+	 * 		<ja>@RestHook</ja>(<jsf>INIT</jsf>)
+	 * 		<jk>public void</jk> init(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 * 			builder.preloadClassMetas();
+	 * 		}
+	 * 	}
+	 * </p>
+	 * 
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		The setting is inherited by all descendant resources.
+	 * 	<li>
+	 * 		Errors creating the class metadata cause the initialization of the resource to fail.
+	 * 	<li>
+	 * 		When enabled, the initialization time of each resource is logged at <code>INFO</code> level when the servlet
+	 * 		is initialized.
+	 * 		<br>See {@link RestContext#getInitTime()}.
+	 * </ul>
+	 */
+	public static final String REST_preloadClassMetas = PREFIX + "preloadClassMetas.b";
+
 	/**
 	 * Configuration property:  Render response stack traces in responses.
 	 * 
@@ -2725,6 +2866,12 @@ public final class RestContext extends BeanContext {
 	private final RestException initException;
 	private final RestContext parentContext;
 	private final RestResourceResolver resourceResolver;
+	private final boolean preloadClassMetas, parallelInit;
+	private final long initTime;
+
+	// The pool used to create the child contexts when parallel initialization is enabled.
+	// Only set while this context is being created.
+	private volatile ForkJoinPool initPool;
 
 	// Lifecycle methods
 	private final Method[]
@@ -2762,6 +2909,9 @@ public final class RestContext extends BeanContext {
 		super(builder.getPropertyStore());
 		
 		RestException _initException = null;
+		long startTime = System.nanoTime();
+		ForkJoinPool _initPool = null;
+		boolean ownsInitPool = false;
 		
 		try {
 			ServletContext servletContext = builder.servletContext;
@@ -2782,6 +2932,15 @@ public final class RestContext extends BeanContext {
 			defaultCharset = getProperty(REST_defaultCharset, String.class, "utf-8");
 			maxInput = getProperty(REST_maxInput, long.class, 100_000_000l);
 			clientVersionHeader = getProperty(REST_clientVersionHeader, String.class, "X-Client-Version");
+			preloadClassMetas = getProperty(REST_preloadClassMetas, boolean.class, false) || (parentContext != null && parentContext.preloadClassMetas);
+			
+			_initPool = (parentContext == null ? null : parentContext.initPool);
+			if (_initPool == null && getProperty(REST_parallelInit, boolean.class, false)) {
+				_initPool = new ForkJoinPool();
+				ownsInitPool = true;
+			}
+			initPool = _initPool;
+			parallelInit = _initPool != null;
 
 			converters = getInstanceArrayProperty(REST_converters, resource, RestConverter.class, new RestConverter[0], true, this);
 			guards = getInstanceArrayProperty(REST_guards, resource, RestGuard.class, new RestGuard[0], true, this);
@@ -2821,6 +2980,7 @@ public final class RestContext extends BeanContext {
 				.build()
 			;
 
+			builder.configFile.addDependentResolver(varResolver);
 			configFile = builder.configFile.getResolving(this.varResolver);
 			
 			properties = builder.properties;
@@ -3056,8 +3216,13 @@ public final class RestContext extends BeanContext {
 				_callRouters.put(crb.getHttpMethodName(), crb.build());
 			this.callRouters = Collections.unmodifiableMap(_callRouters);
 
+			if (preloadClassMetas)
+				for (RestJavaMethod sm : _javaRestMethods.values())
+					sm.preloadClassMetas();
+
 			// Initialize our child resources.
 			resourceResolver = getInstanceProperty(REST_resourceResolver, resource, RestResourceResolver.class, parentContext == null ? RestResourceResolverDefault.class : parentContext.resourceResolver, true, this);
+			List<RestContextBuilder> childBuilders = new ArrayList<>();
 			for (Object o : getArrayProperty(REST_children, Object.class)) {
 				String path = null;
 				Object r = null;
@@ -3090,16 +3255,22 @@ public final class RestContext extends BeanContext {
 				if (r instanceof RestServlet)
 					((RestServlet)r).innerInit(childBuilder);
 				childBuilder.servletContext(servletContext);
-				RestContext rc2 = new RestContext(childBuilder);
-				if (r instanceof RestServlet)
-					((RestServlet)r).setContext(rc2);
-				path = childBuilder.path;
-				childResources.put(path, rc2);
+				if (_initPool == null)
+					addChildResource(r, new RestContext(childBuilder));
+				else
+					childBuilders.add(childBuilder);
 			}
+			
+			// Create the remaining child contexts concurrently and add them in the order they were defined.
+			if (! childBuilders.isEmpty())
+				for (RestContext rc2 : createChildContexts(_initPool, childBuilders))
+					addChildResource(rc2.resource, rc2);
 
 			callHandler = getInstanceProperty(REST_callHandler, resource, RestCallHandler.class, RestCallHandlerDefault.class, true, this);
 			infoProvider = getInstanceProperty(REST_infoProvider, resource, RestInfoProvider.class, RestInfoProviderDefault.class, true, this);
 
+			initTime = (System.nanoTime() - startTime) / 1000000;
+
 		} catch (RestException e) {
 			_initException = e;
 			throw e;
@@ -3108,6 +3279,65 @@ public final class RestContext extends BeanContext {
 			throw e;
 		} finally {
 			initException = _initException;
+			initPool = null;
+			if (ownsInitPool)
+				_initPool.shutdown();
+		}
+	}
+
+	private void addChildResource(Object r, RestContext rc) {
+		if (r instanceof RestServlet)
+			((RestServlet)r).setContext(rc);
+		childResources.put(rc.builder.path, rc);
+	}
+
+	/*
+	 * Creates the contexts of the specified child resources on the specified pool.
+	 * If we're already running in the pool (i.e. we're a child being created concurrently), the tasks are forked
+	 * from the current worker so that it can help run them while waiting.
+	 */
+	private static List<RestContext> createChildContexts(ForkJoinPool pool, List<RestContextBuilder> builders) throws Exception {
+		final List<ChildContextTask> tasks = new ArrayList<>(builders.size());
+		for (RestContextBuilder b : builders)
+			tasks.add(new ChildContextTask(b));
+		if (ForkJoinTask.getPool() == pool) {
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			pool.invoke(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+				@Override /* RecursiveAction */
+				protected void compute() {
+					invokeAll(tasks);
+				}
+			});
+		}
+		List<RestContext> l = new ArrayList<>(tasks.size());
+		for (ChildContextTask t : tasks) {
+			if (t.error != null)
+				throw t.error;
+			l.add(t.join());
+		}
+		return l;
+	}
+
+	private static final class ChildContextTask extends RecursiveTask<RestContext> {
+		private static final long serialVersionUID = 1L;
+
+		private final transient RestContextBuilder builder;
+		transient Exception error;
+
+		ChildContextTask(RestContextBuilder builder) {
+			this.builder = builder;
+		}
+
+		@Override /* RecursiveTask */
+		protected RestContext compute() {
+			try {
+				return new RestContext(builder);
+			} catch (Exception e) {
+				error = e;
+				return null;
+			}
 		}
 	}
 
@@ -3551,6 +3781,40 @@ public final class RestContext extends BeanContext {
 		return logger;
 	}
 
+	/**
+	 * Returns how long it took to create this context.
+	 * 
+	 * <p>
+	 * This includes the time it took to create the contexts of all the child resources.
+	 * 
+	 * <p>
+	 * The initialization times of the resource and its descendants are logged when the servlet is initialized.
+	 * <br>They're logged at <code>INFO</code> level when {@link #REST_parallelInit} or {@link #REST_preloadClassMetas}
+	 * is enabled on the resource, and at <code>FINE</code> level otherwise.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link #REST_parallelInit}
+	 * 	<li class='jf'>{@link #REST_preloadClassMetas}
+	 * </ul>
+	 * 
+	 * @return The initialization time of this resource in milliseconds.
+	 */
+	public long getInitTime() {
+		return initTime;
+	}
+
+	/*
+	 * Logs the initialization times of this resource and all its descendants.
+	 * Logged at INFO when the startup settings are being tuned on the resource so that the effect can be seen.
+	 */
+	void logInitTimes() {
+		Level level = (parallelInit || preloadClassMetas ? Level.INFO : Level.FINE);
+		logger.log(level, "Initialized resource ''{0}'' in {1} ms.", resource.getClass().getName(), String.valueOf(initTime));
+		for (RestContext rc : childResources.values())
+			rc.logInitTimes();
+	}
+
 	/**
 	 * Returns the resource bundle used by this resource.
 	 * 
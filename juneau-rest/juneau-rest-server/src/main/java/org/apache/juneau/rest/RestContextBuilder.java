@@ -238,6 +238,10 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 					renderResponseStackTraces(Boolean.valueOf(vr.resolve(r.renderResponseStackTraces())));
 				if (! r.useStackTraceHashes().isEmpty())
 					useStackTraceHashes(Boolean.valueOf(vr.resolve(r.useStackTraceHashes())));
+				if (! r.parallelInit().isEmpty())
+					parallelInit(Boolean.valueOf(vr.resolve(r.parallelInit())));
+				if (! r.preloadClassMetas().isEmpty())
+					preloadClassMetas(Boolean.valueOf(vr.resolve(r.preloadClassMetas())));
 				if (! r.defaultCharset().isEmpty())
 					defaultCharset(vr.resolve(r.defaultCharset()));
 				if (! r.maxInput().isEmpty())
@@ -1158,6 +1162,43 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return addTo(REST_mimeTypes, values);
 	}
 
+	/**
+	 * Configuration property:  Initialize child resources in parallel.
+	 * 
+	 * <p>
+	 * When enabled, the contexts of the child resources are created concurrently on a fork-join pool.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_parallelInit}
+	 * </ul>
+	 * 
+	 * @param value 
+	 * 	The new value for this setting.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder parallelInit(boolean value) {
+		return set(REST_parallelInit, value);
+	}
+
+	/**
+	 * Configuration property:  Initialize child resources in parallel.
+	 * 
+	 * <p>
+	 * Shortcut for calling <code>parallelInit(<jk>true</jk>)</code>.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_parallelInit}
+	 * </ul>
+	 * 
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder parallelInit() {
+		return set(REST_parallelInit, true);
+	}
+
 	/**
 	 * Configuration property:  Java method parameter resolvers.
 	 * 
@@ -1376,6 +1417,45 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return this;
 	}
 
+	/**
+	 * Configuration property:  Preload class metadata.
+	 * 
+	 * <p>
+	 * When enabled, the class metadata of the return types of the REST methods and of their {@link Body @Body},
+	 * {@link FormData @FormData}, {@link Query @Query}, {@link Header @Header} and {@link Path @Path} parameters is
+	 * created when the resource is initialized instead of on the first request.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_preloadClassMetas}
+	 * </ul>
+	 * 
+	 * @param value 
+	 * 	The new value for this setting.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder preloadClassMetas(boolean value) {
+		return set(REST_preloadClassMetas, value);
+	}
+
+	/**
+	 * Configuration property:  Preload class metadata.
+	 * 
+	 * <p>
+	 * Shortcut for calling <code>preloadClassMetas(<jk>true</jk>)</code>.
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_preloadClassMetas}
+	 * </ul>
+	 * 
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder preloadClassMetas() {
+		return set(REST_preloadClassMetas, true);
+	}
+
 	/**
 	 * Configuration property:  Render response stack traces in responses.
 	 * 
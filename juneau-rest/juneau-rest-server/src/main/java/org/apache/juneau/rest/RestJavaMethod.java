@@ -433,6 +433,41 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 		return true;
 	}
 
+	/**
+	 * Creates the class metadata of the return type and of the parameters annotated with {@link Body},
+	 * {@link FormData}, {@link Query}, {@link Header} or {@link Path} of this method in the bean contexts of this method
+	 * and of its serializers and parsers, so that it doesn't need to be created during the first requests.
+	 */
+	void preloadClassMetas() {
+		List<BeanContext> bcs = new ArrayList<>();
+		bcs.add(beanContext);
+		for (Serializer s : serializers.getSerializers())
+			addIfNewCache(bcs, s);
+		for (Parser p : parsers.getParsers())
+			addIfNewCache(bcs, p);
+
+		List<Type> types = new ArrayList<>();
+		Type[] pt = method.getGenericParameterTypes();
+		Annotation[][] pa = method.getParameterAnnotations();
+		for (int i = 0; i < pt.length; i++)
+			for (Annotation a : pa[i])
+				if (a instanceof Body || a instanceof FormData || a instanceof Query || a instanceof Header || a instanceof Path)
+					types.add(pt[i]);
+		if (method.getReturnType() != void.class)
+			types.add(method.getGenericReturnType());
+
+		for (BeanContext bc : bcs)
+			for (Type t : types)
+				bc.getClassMeta(t);
+	}
+
+	private static void addIfNewCache(List<BeanContext> bcs, BeanContext bc) {
+		for (BeanContext bc2 : bcs)
+			if (bc2.hasSameCache(bc))
+				return;
+		bcs.add(bc);
+	}
+
 	/**
 	 * Workhorse method.
 	 * 
@@ -52,6 +52,7 @@ public abstract class RestServlet extends HttpServlet {
 			if (! isInitialized) {
 				builder.servletContext(this.getServletContext());
 				context = new RestContext(builder);
+				context.logInitTimes();
 				isInitialized = true;
 			}
 			context.postInit();
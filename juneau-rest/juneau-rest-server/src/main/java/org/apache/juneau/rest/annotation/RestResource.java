@@ -562,6 +562,29 @@ public @interface RestResource {
 	 */
 	String[] mimeTypes() default {};
 
+	/**
+	 * Initialize child resources in parallel.
+	 * 
+	 * <p>
+	 * When enabled, the contexts of the child resources are created concurrently on a fork-join pool.
+	 * 
+	 * <p>
+	 * Value can contain any of the following variables:  
+	 * {@link ConfigFileVar $C} 
+	 * {@link CoalesceVar $CO}
+	 * {@link CoalesceAndRecurseVar $CR}
+	 * {@link EnvVariablesVar $E} 
+	 * {@link IfVar $IF}
+	 * {@link SystemPropertiesVar $S}
+	 * {@link SwitchVar $SW}
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_parallelInit}
+	 * </ul>
+	 */
+	String parallelInit() default "";
+
 	/**
 	 * Java method parameter resolvers.
 	 * 
@@ -642,6 +665,31 @@ public @interface RestResource {
 	 */
 	String path() default "";
 
+	/**
+	 * Preload class metadata.
+	 * 
+	 * <p>
+	 * When enabled, the class metadata of the return types of the REST methods and of their {@link Body @Body},
+	 * {@link FormData @FormData}, {@link Query @Query}, {@link Header @Header} and {@link Path @Path} parameters is
+	 * created when the resource is initialized instead of on the first request.
+	 * 
+	 * <p>
+	 * Value can contain any of the following variables:  
+	 * {@link ConfigFileVar $C} 
+	 * {@link CoalesceVar $CO}
+	 * {@link CoalesceAndRecurseVar $CR}
+	 * {@link EnvVariablesVar $E} 
+	 * {@link IfVar $IF}
+	 * {@link SystemPropertiesVar $S}
+	 * {@link SwitchVar $SW}
+	 * 
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_preloadClassMetas}
+	 * </ul>
+	 */
+	String preloadClassMetas() default "";
+
 	/**
 	 * Class-level POJO swaps.
 	 * 
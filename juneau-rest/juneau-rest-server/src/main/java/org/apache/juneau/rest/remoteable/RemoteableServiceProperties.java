@@ -41,4 +41,23 @@ public final class RemoteableServiceProperties {
 	 * Otherwise, all public methods can be executed through the service.
 	 */
 	public static final String REMOTEABLE_includeOnlyRemotableMethods = "RemoteableService.includeOnlyRemoteableMethods";
+
+	/**
+	 * Maximum number of invocations allowed in a single batch request ({@link Integer}, default=<code>1000</code>).
+	 * 
+	 * <p>
+	 * Batch requests containing more invocations than this are rejected with a <code>413</code> status.
+	 */
+	public static final String REMOTEABLE_batchMaxSize = "RemoteableService.batchMaxSize";
+
+	/**
+	 * Number of threads used to execute invocations in a batch request in parallel ({@link Integer},
+	 * default=<code>0</code>).
+	 * 
+	 * <p>
+	 * When <code>0</code>, invocations in a batch are executed serially in the order they were received.
+	 * <br>Otherwise, they're executed on a fixed-size thread pool shared by all batch requests against the servlet.
+	 * <br>Results are always returned in the order the invocations were received.
+	 */
+	public static final String REMOTEABLE_batchThreads = "RemoteableService.batchThreads";
 }
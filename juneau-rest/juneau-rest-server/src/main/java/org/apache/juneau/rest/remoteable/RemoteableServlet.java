@@ -14,7 +14,9 @@ package org.apache.juneau.rest.remoteable;
 
 import static javax.servlet.http.HttpServletResponse.*;
 import static org.apache.juneau.http.HttpMethodName.*;
+import static org.apache.juneau.rest.remoteable.RemoteableServiceProperties.*;
 
+import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -34,6 +36,10 @@ import org.apache.juneau.rest.annotation.*;
  * To implement a remoteable service, developers must simply subclass from this class and implement the
  * {@link #getServiceMap()} method that maps java interfaces to POJO instances.
  * 
+ * <p>
+ * In addition to single method invocations, multiple invocations can be sent together in a single request by
+ * POSTing to the servlet root (see {@link #invokeBatch(RestRequest)}).
+ * 
  * See <a class='doclink' href='package-summary.html#TOC'>org.apache.juneau.rest.remoteable</a> for details.
  */
 @SuppressWarnings("serial")
@@ -41,6 +47,9 @@ public abstract class RemoteableServlet extends RestServletDefault {
 
 	private final Map<String,Class<?>> classNameMap = new ConcurrentHashMap<>();
 
+	// This is lazy-created.
+	private volatile ExecutorService batchExecutor;
+
 	//--------------------------------------------------------------------------------
 	// Abstract methods
 	//--------------------------------------------------------------------------------
@@ -123,11 +132,158 @@ public abstract class RemoteableServlet extends RestServletDefault {
 		return m.invoke(service, params);
 	}
 
+	/**
+	 * [POST /] - Invoke a batch of service methods.
+	 * 
+	 * <p>
+	 * The request body is an array whose first entry is the list of methods to invoke (each in the form
+	 * <js>"javaInterface/javaMethod"</js>) followed by the arguments of all the invocations in order:
+	 * <p class='bcode'>
+	 * 	[
+	 * 		[<js>'org.apache.foo.MyInterface/foo(java.lang.String,int)'</js>,<js>'org.apache.foo.MyInterface/bar'</js>],
+	 * 		<js>'foo'</js>,123
+	 * 	]
+	 * </p>
+	 * 
+	 * <p>
+	 * The response is an array whose first entry is a map of invocation indexes to errors (each containing
+	 * <js>"exception"</js>, <js>"message"</js> and <js>"status"</js> values) followed by the return values of the
+	 * invocations in order.
+	 * <br>A failure of one invocation does not affect the others.
+	 * 
+	 * <p>
+	 * Invocations are executed serially unless {@link RemoteableServiceProperties#REMOTEABLE_batchThreads} is set.
+	 * 
+	 * @param req The HTTP request.
+	 * @return The errors and results from invoking the specified Java methods.
+	 * @throws Exception
+	 */
+	@RestMethod(name=POST, path="/")
+	public Object[] invokeBatch(RestRequest req) throws Exception {
+
+		// Find the parser.
+		ReaderParser p = req.getBody().getReaderParser();
+		if (p == null)
+			throw new RestException(SC_UNSUPPORTED_MEDIA_TYPE, "Could not find parser for media type ''{0}''", req.getHeaders().getContentType());
+
+		// The body is parsed twice:  once to find the methods, and again to parse the arguments into their actual types.
+		String body = req.getBody().asString();
+		ObjectList l = p.parse(body, ObjectList.class);
+		if (l == null || l.isEmpty())
+			return new Object[]{ new ObjectMap() };
+
+		ObjectList calls = l.getObjectList(0);
+		int n = calls.size();
+		int maxSize = getProperties().getInt(REMOTEABLE_batchMaxSize, 1000);
+		if (n > maxSize)
+			throw new RestException(SC_REQUEST_ENTITY_TOO_LARGE, "Batch size ''{0}'' exceeds the maximum of ''{1}''", n, maxSize);
+
+		Map<Class<?>,Object> serviceMap = getServiceMap();
+		final Object[] services = new Object[n];
+		final java.lang.reflect.Method[] methods = new java.lang.reflect.Method[n];
+		List<Type> types = new ArrayList<>();
+		types.add(ObjectList.class);
+		for (int i = 0; i < n; i++) {
+			String s = calls.getString(i);
+			int j = s == null ? -1 : s.indexOf('/');
+			if (j == -1)
+				throw new RestException(SC_BAD_REQUEST, "Invalid batch entry ''{0}''", s);
+			String javaInterface = s.substring(0, j), javaMethod = s.substring(j+1);
+
+			services[i] = serviceMap.get(getInterfaceClass(javaInterface));
+			if (services[i] == null)
+				throw new RestException(SC_NOT_FOUND, "Service not found");
+
+			methods[i] = getMethods(javaInterface).get(javaMethod);
+			if (methods[i] == null)
+				throw new RestException(SC_NOT_FOUND, "Method not found");
+
+			types.addAll(Arrays.asList(methods[i].getGenericParameterTypes()));
+		}
+
+		Object[] args = p.parseArgs(body, types.toArray(new Type[types.size()]));
+
+		final Object[][] params = new Object[n][];
+		for (int i = 0, k = 1; i < n; i++) {
+			params[i] = new Object[methods[i].getParameterTypes().length];
+			for (int j = 0; j < params[i].length; j++)
+				params[i][j] = args[k++];
+		}
+
+		final ObjectMap errors = new ObjectMap();
+		final Object[] results = new Object[n+1];
+		results[0] = errors;
+
+		ExecutorService es = getBatchExecutor();
+		if (es == null || n < 2) {
+			for (int i = 0; i < n; i++)
+				invokeOne(i, services[i], methods[i], params[i], results, errors);
+			return results;
+		}
+
+		List<Future<?>> futures = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			final int i2 = i;
+			futures.add(es.submit(new Runnable() {
+				@Override /* Runnable */
+				public void run() {
+					invokeOne(i2, services[i2], methods[i2], params[i2], results, errors);
+				}
+			}));
+		}
+		for (Future<?> f : futures)
+			f.get();
+		return results;
+	}
+
 
 	//--------------------------------------------------------------------------------
 	// Other methods
 	//--------------------------------------------------------------------------------
 
+	@Override /* GenericServlet */
+	public synchronized void destroy() {
+		if (batchExecutor != null)
+			batchExecutor.shutdown();
+		super.destroy();
+	}
+
+	/**
+	 * Invokes a single entry of a batch request, capturing any error in the errors map.
+	 */
+	static void invokeOne(int i, Object service, java.lang.reflect.Method m, Object[] params, Object[] results, ObjectMap errors) {
+		try {
+			results[i+1] = m.invoke(service, params);
+		} catch (InvocationTargetException e) {
+			addError(errors, i, e.getCause());
+		} catch (Throwable t) {
+			addError(errors, i, t);
+		}
+	}
+
+	private static void addError(ObjectMap errors, int i, Throwable t) {
+		ObjectMap m = new ObjectMap()
+			.append("exception", t.getClass().getName())
+			.append("message", t.getLocalizedMessage())
+			.append("status", t instanceof RestException ? ((RestException)t).getStatus() : SC_INTERNAL_SERVER_ERROR);
+		synchronized(errors) {
+			errors.put(String.valueOf(i), m);
+		}
+	}
+
+	private ExecutorService getBatchExecutor() {
+		if (batchExecutor != null)
+			return batchExecutor;
+		int threads = getProperties().getInt(REMOTEABLE_batchThreads, 0);
+		if (threads <= 0)
+			return null;
+		synchronized(this) {
+			if (batchExecutor == null)
+				batchExecutor = Executors.newFixedThreadPool(threads);
+			return batchExecutor;
+		}
+	}
+
 	private boolean useOnlyAnnotated() {
 		return getProperties().getBoolean(RemoteableServiceProperties.REMOTEABLE_includeOnlyRemotableMethods, false);
 	}
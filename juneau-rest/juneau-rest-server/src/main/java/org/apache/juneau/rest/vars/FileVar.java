@@ -83,4 +83,9 @@ public class FileVar extends DefaultingVar {
 		ReaderResource rr = req.getClasspathReaderResource(key);
 		return (rr == null ? null : rr.toCommentStrippedString());
 	}
+
+	@Override /* Var */
+	protected VarCacheMode getCacheMode() {
+		return VarCacheMode.SESSION;
+	}
 }
\ No newline at end of file
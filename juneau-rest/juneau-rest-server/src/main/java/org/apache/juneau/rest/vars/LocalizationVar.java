@@ -58,4 +58,9 @@ public class LocalizationVar extends MultipartVar {
 		}
 		return "";
 	}
-}
+
+	@Override /* Var */
+	protected VarCacheMode getCacheMode() {
+		return VarCacheMode.SESSION;
+	}
+}
\ No newline at end of file